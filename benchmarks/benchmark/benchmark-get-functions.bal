@@ -17,6 +17,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addQueryFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +141,14 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addQueryFunctions() {
+    functions["benchmarkQueryArrayFused"] = benchmarktypes:benchmarkQueryArrayFused;
+    functions["benchmarkQueryArrayPipeline"] = benchmarktypes:benchmarkQueryArrayPipeline;
+    functions["benchmarkQueryMapFused"] = benchmarktypes:benchmarkQueryMapFused;
+    functions["benchmarkQueryMapPipeline"] = benchmarktypes:benchmarkQueryMapPipeline;
+    functions["benchmarkQueryRangeFused"] = benchmarktypes:benchmarkQueryRangeFused;
+    functions["benchmarkQueryRangePipeline"] = benchmarktypes:benchmarkQueryRangePipeline;
+    functions["benchmarkQueryRecordsWithLimitFused"] = benchmarktypes:benchmarkQueryRecordsWithLimitFused;
+    functions["benchmarkQueryRecordsWithLimitPipeline"] = benchmarktypes:benchmarkQueryRecordsWithLimitPipeline;
+}
@@ -0,0 +1,86 @@
+// Each query is benchmarked twice. Queries producing arrays are desugared to a single loop, while the same query
+// producing a stream is desugared to the lang.query stream pipeline.
+
+type Employee record {|
+    string name;
+    int age;
+    int salary;
+|};
+
+int[] numbers = [];
+map<int> numberMap = {};
+Employee[] employees = [];
+
+function init() {
+    int i = 0;
+    while (i < 1000) {
+        numbers.push(i);
+        numberMap[i.toString()] = i;
+        employees.push({name: "emp" + i.toString(), age: 20 + i % 40, salary: 1000 + i});
+        i = i + 1;
+    }
+}
+
+function consume(stream<int> strm) returns int {
+    int count = 0;
+    record {| int value; |}? v = strm.next();
+    while (v is record {| int value; |}) {
+        count += 1;
+        v = strm.next();
+    }
+    return count;
+}
+
+public function benchmarkQueryArrayFused() {
+    int[] result = from var n in numbers
+                   let int doubled = n * 2
+                   where doubled % 3 == 0
+                   select doubled + 1;
+}
+
+public function benchmarkQueryArrayPipeline() {
+    stream<int> result = stream from var n in numbers
+                         let int doubled = n * 2
+                         where doubled % 3 == 0
+                         select doubled + 1;
+    int count = consume(result);
+}
+
+public function benchmarkQueryMapFused() {
+    int[] result = from var n in numberMap
+                   where n > 500
+                   select n;
+}
+
+public function benchmarkQueryMapPipeline() {
+    stream<int> result = stream from var n in numberMap
+                         where n > 500
+                         select n;
+    int count = consume(result);
+}
+
+public function benchmarkQueryRangeFused() {
+    int[] result = from int i in 0 ..< 1000
+                   select i * i;
+}
+
+public function benchmarkQueryRangePipeline() {
+    stream<int> result = stream from int i in 0 ..< 1000
+                         select i * i;
+    int count = consume(result);
+}
+
+public function benchmarkQueryRecordsWithLimitFused() {
+    int[] result = from var emp in employees
+                   where emp.age > 30
+                   select emp.salary
+                   limit 100;
+}
+
+public function benchmarkQueryRecordsWithLimitPipeline() {
+    stream<int> result = stream from var emp in employees
+                         where emp.age > 30
+                         select emp.salary
+                         limit 100;
+    int count = consume(result);
+}
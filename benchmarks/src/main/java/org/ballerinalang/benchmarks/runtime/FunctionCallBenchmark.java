@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the call heavy code generated for a function which can yield the strand it runs on with the code
+ * generated for a function which never yields. The methods below are written in the shape of the generated methods
+ * of a recursive fibonacci function, with and without the state tracking, resume check and yield checks.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FunctionCallBenchmark {
+
+    @Param({"25"})
+    public long n;
+
+    private Strand strand;
+
+    @Setup
+    public void setup() {
+        strand = new Strand(null);
+        strand.frames = new Object[100];
+    }
+
+    @Benchmark
+    public long yielding() {
+        return fibYielding(strand, n);
+    }
+
+    @Benchmark
+    public long nonYielding() {
+        return fibNonYielding(strand, n);
+    }
+
+    private static long fibYielding(Strand strand, long n) {
+        long left = 0;
+        long right = 0;
+        int state = 0;
+        if (strand.resumeIndex > 0) {
+            FibFrame frame = (FibFrame) strand.frames[--strand.resumeIndex];
+            n = frame.n;
+            left = frame.left;
+            right = frame.right;
+            state = frame.state;
+        }
+
+        if (state == 0) {
+            if (n < 2) {
+                return n;
+            }
+            state = 1;
+        }
+        if (state == 1) {
+            left = fibYielding(strand, n - 1);
+            if (strand.isYielded()) {
+                return yield(strand, n, left, right, state);
+            }
+            state = 2;
+        }
+        right = fibYielding(strand, n - 2);
+        if (strand.isYielded()) {
+            return yield(strand, n, left, right, state);
+        }
+        return left + right;
+    }
+
+    private static long yield(Strand strand, long n, long left, long right, int state) {
+        FibFrame frame = new FibFrame();
+        frame.n = n;
+        frame.left = left;
+        frame.right = right;
+        frame.state = state;
+        strand.frames[strand.resumeIndex++] = frame;
+        return 0;
+    }
+
+    private static long fibNonYielding(Strand strand, long n) {
+        if (n < 2) {
+            return n;
+        }
+        long left = fibNonYielding(strand, n - 1);
+        long right = fibNonYielding(strand, n - 2);
+        return left + right;
+    }
+
+    /**
+     * Frame of {@link #fibYielding}, which holds its local variables while the strand is yielded.
+     */
+    private static class FibFrame {
+        long n;
+        long left;
+        long right;
+        int state;
+    }
+}
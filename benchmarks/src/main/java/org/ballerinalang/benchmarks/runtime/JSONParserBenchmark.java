@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a JSON payload into a record by parsing it directly into the record type, against parsing it as
+ * json and converting the json into the record afterwards.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JSONParserBenchmark {
+
+    private static final int ITEMS = 100;
+    private static final BPackage PKG = new BPackage("bench", "json", "0.1.0");
+
+    BRecordType orderType;
+    String payload;
+
+    @Setup
+    public void setup() {
+        Map<String, BRecordType> recordTypes = new HashMap<>();
+        BRecordType itemType = record("Item", field("id", BTypes.typeInt), field("name", BTypes.typeString),
+                field("price", BTypes.typeFloat), field("quantity", BTypes.typeInt));
+        orderType = record("Order", field("id", BTypes.typeString), field("customer", BTypes.typeString),
+                field("items", new BArrayType(itemType)), field("total", BTypes.typeFloat));
+        recordTypes.put(itemType.getName(), itemType);
+        recordTypes.put(orderType.getName(), orderType);
+        ValueCreator.addValueCreator("bench", "json", "0.1.0", new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordTypes.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+
+        StringBuilder sb = new StringBuilder("{\"id\": \"order-1\", \"customer\": \"Anne\", \"items\": [");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"item ").append(i).append("\", \"price\": ")
+                    .append(i).append(".25, \"quantity\": ").append(i % 7).append('}');
+        }
+        payload = sb.append("], \"total\": 1234.5}").toString();
+    }
+
+    @Benchmark
+    public Object parseIntoRecord() {
+        return JSONParser.parse(payload, orderType);
+    }
+
+    @Benchmark
+    public Object parseAndConvert() {
+        return JSONUtils.convertJSON(JSONParser.parse(payload), orderType);
+    }
+
+    private static BRecordType record(String typeName, BField... fields) {
+        Map<String, BField> fieldMap = new LinkedHashMap<>();
+        for (BField field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return new BRecordType(typeName, PKG, 0, fieldMap, null, true, 0);
+    }
+
+    private static BField field(String name, BType type) {
+        return new BField(type, name, Flags.REQUIRED);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.metrics.BallerinaMetricsObserver;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_METHOD;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_URL;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_PROTOCOL;
+
+/**
+ * Measures the per call cost of observing a resource invocation and a client action invocation, with metrics
+ * enabled and disabled. The calls to {@link ObserveUtils} and the tags are the ones made for an HTTP service and an
+ * HTTP client.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsObserverBenchmark {
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    private Strand strand;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("on".equals(metrics)) {
+            // Set up the same way as the metrics launch listener does, before the observability config is read
+            ConfigRegistry.getInstance().addConfiguration(CONFIG_METRICS_ENABLED, true);
+            DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+            metricProvider.init();
+            DefaultMetricRegistry.setInstance(new MetricRegistry(metricProvider));
+            ObserveUtils.addObserver(new BallerinaMetricsObserver());
+        }
+        strand = new Strand(null);
+    }
+
+    @Benchmark
+    public Strand observeResource() {
+        if (ObserveUtils.isObservabilityEnabled()) {
+            // Created by the listener for each request
+            ObserverContext observerContext = new ObserverContext();
+            observerContext.setConnectorName("http");
+            observerContext.addTag(TAG_KEY_HTTP_METHOD, "GET");
+            observerContext.addTag(TAG_KEY_PROTOCOL, "http");
+            observerContext.addTag(TAG_KEY_HTTP_URL, "/hello/sayHello");
+            ObserveUtils.setObserverContextToCurrentFrame(strand, observerContext);
+        }
+        ObserveUtils.startResourceObservation(strand, "hello", "sayHello");
+        ObserveUtils.getObserverContextOfCurrentFrame(strand)
+                .ifPresent(ctx -> ctx.addTag(TAG_KEY_HTTP_STATUS_CODE, "200"));
+        ObserveUtils.stopObservation(strand);
+        strand.observerContext = null;
+        return strand;
+    }
+
+    @Benchmark
+    public Strand observeAction() {
+        ObserveUtils.startCallableObservation(strand, "http_client", "get");
+        ObserveUtils.getObserverContextOfCurrentFrame(strand).ifPresent(ctx -> {
+            ctx.addTag(TAG_KEY_HTTP_METHOD, "GET");
+            ctx.addTag(TAG_KEY_HTTP_URL, "/backend");
+            ctx.addTag(TAG_KEY_HTTP_STATUS_CODE, "200");
+        });
+        ObserveUtils.stopObservation(strand);
+        return strand;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the shared run queue and the work stealing run queues of the {@link Scheduler} on fan-out/fan-in
+ * strand workloads.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SchedulerBenchmark {
+
+    @Param({"true", "false"})
+    public boolean workStealing;
+
+    @Param({"1000"})
+    public int fanOut;
+
+    @Param({"100"})
+    public int workTokens;
+
+    private Scheduler scheduler;
+    private Thread schedulerThread;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduler = new Scheduler(Runtime.getRuntime().availableProcessors() * 2, true, workStealing);
+        schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        scheduler.poison();
+        schedulerThread.join();
+    }
+
+    /**
+     * Strands are started from a non strand thread and joined from it.
+     */
+    @Benchmark
+    public void externalFanOutFanIn() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(fanOut);
+        Function<Object[], Object> leaf = leaf();
+        for (int i = 0; i < fanOut; i++) {
+            scheduler.schedule(new Object[1], leaf, null, new LatchCallback(latch));
+        }
+        latch.await();
+    }
+
+    /**
+     * A single strand starts all the child strands, as a Ballerina function with many workers or async calls would.
+     */
+    @Benchmark
+    public void strandFanOutFanIn() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(fanOut);
+        Function<Object[], Object> leaf = leaf();
+        Function<Object[], Object> root = params -> {
+            Strand parent = (Strand) params[0];
+            for (int i = 0; i < fanOut; i++) {
+                scheduler.schedule(new Object[1], leaf, parent, new LatchCallback(latch));
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], root, null, null);
+        latch.await();
+    }
+
+    /**
+     * Two level fan-out, where each child strand starts its own set of grand children.
+     */
+    @Benchmark
+    public void nestedFanOutFanIn() throws InterruptedException {
+        int width = (int) Math.sqrt(fanOut);
+        CountDownLatch latch = new CountDownLatch(width * width);
+        Function<Object[], Object> leaf = leaf();
+        Function<Object[], Object> child = params -> {
+            Strand parent = (Strand) params[0];
+            for (int i = 0; i < width; i++) {
+                scheduler.schedule(new Object[1], leaf, parent, new LatchCallback(latch));
+            }
+            return null;
+        };
+        for (int i = 0; i < width; i++) {
+            scheduler.schedule(new Object[1], child, null, null);
+        }
+        latch.await();
+    }
+
+    private Function<Object[], Object> leaf() {
+        return params -> {
+            Blackhole.consumeCPU(workTokens);
+            return null;
+        };
+    }
+
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            latch.countDown();
+        }
+    }
+}
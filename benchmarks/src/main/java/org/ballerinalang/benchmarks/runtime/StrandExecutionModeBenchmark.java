@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.scheduling.BlockingOperationExecutor;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the default mode and the virtual thread mode of the {@link Scheduler} for an I/O bound service. Each
+ * request is handled by its own strand, which calls a backend with a fixed latency through a blocking extern call,
+ * the way a resource function calls a database or a legacy client. The call is either made directly on the strand,
+ * or handed over to the {@link BlockingOperationExecutor}.
+ * <p>
+ * The virtual thread mode needs a JVM that supports virtual threads.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+public class StrandExecutionModeBenchmark {
+
+    private static final int REQUESTS = 1_000;
+    private static final long BACKEND_LATENCY_MILLIS = 2;
+
+    @Param({"default", "virtual"})
+    public String mode;
+
+    @Param({"direct", "executor"})
+    public String call;
+
+    private Scheduler scheduler;
+    private Thread schedulerThread;
+    private Function<Object[], Object> resource;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduler = new Scheduler(Runtime.getRuntime().availableProcessors() * 2, true, true, "virtual".equals(mode));
+        schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.start();
+        resource = "direct".equals(call) ? StrandExecutionModeBenchmark::callDirectly :
+                StrandExecutionModeBenchmark::callThroughExecutor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        scheduler.poison();
+        schedulerThread.join();
+    }
+
+    /**
+     * Handles a burst of concurrent requests, reported in requests per second.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(REQUESTS)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            scheduler.schedule(new Object[1], resource, null, new LatchCallback(latch));
+        }
+        latch.await();
+    }
+
+    private static Object callDirectly(Object[] params) {
+        return callBackend();
+    }
+
+    private static Object callThroughExecutor(Object[] params) {
+        Strand strand = (Strand) params[0];
+        // Resumed with the result of the operation, the same way the generated code of an extern call is
+        if (strand.isBlockedOnExtern()) {
+            strand.blockedOnExtern = false;
+            return strand.returnValue;
+        }
+        return BlockingOperationExecutor.execute(StrandExecutionModeBenchmark::callBackend);
+    }
+
+    private static Object callBackend() {
+        try {
+            Thread.sleep(BACKEND_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Boolean.TRUE;
+    }
+
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            latch.countDown();
+        }
+    }
+}
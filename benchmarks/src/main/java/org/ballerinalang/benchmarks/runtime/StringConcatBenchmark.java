@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending to a {@link BString} in a loop, as done when generating CSV, HTML or log lines, followed by
+ * reading the result once. The copying benchmark builds a new flat string on every append, as a baseline.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StringConcatBenchmark {
+
+    @Param({"100", "10000"})
+    int count;
+
+    BString[] cells;
+    BString[] nonBmpCells;
+    BString separator;
+
+    @Setup
+    public void setup() {
+        cells = new BString[count];
+        nonBmpCells = new BString[count];
+        for (int i = 0; i < count; i++) {
+            cells[i] = StringUtils.fromString("cell-" + i);
+            nonBmpCells[i] = StringUtils.fromString("\uD83D\uDE00-" + i);
+        }
+        separator = StringUtils.fromString(",");
+    }
+
+    @Benchmark
+    public String appendInLoop() {
+        BString result = StringUtils.fromString("");
+        for (BString cell : cells) {
+            result = result.concat(cell).concat(separator);
+        }
+        return result.getValue();
+    }
+
+    @Benchmark
+    public String appendNonBmpInLoop() {
+        BString result = StringUtils.fromString("");
+        for (BString cell : nonBmpCells) {
+            result = result.concat(cell).concat(separator);
+        }
+        return result.getValue();
+    }
+
+    @Benchmark
+    public String appendInLoopByCopying() {
+        BString result = StringUtils.fromString("");
+        for (BString cell : cells) {
+            result = new BmpStringValue(result.getValue() + cell.getValue() + separator.getValue());
+        }
+        return result.getValue();
+    }
+}
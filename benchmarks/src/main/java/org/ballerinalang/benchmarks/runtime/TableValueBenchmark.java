@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the row storage and key index of {@link TableValueImpl}. The rows are created up front, so running with
+ * {@code -prof gc} reports the memory the table itself allocates per row as {@code gc.alloc.rate.norm} of the
+ * {@code build} benchmarks.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TableValueBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    /**
+     * A table with a key sequence over a single int field or over an int and a string field.
+     */
+    @State(Scope.Benchmark)
+    public static class KeyedTable {
+
+        @Param({"int", "composite"})
+        public String keyKind;
+
+        BTableType tableType;
+        MapValueImpl[] rows;
+        Object[] keys;
+        TableValueImpl<Object, Object> table;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            String[] keyFields = "int".equals(keyKind) ? new String[]{"id"} : new String[]{"id", "name"};
+            tableType = new BTableType(new BMapType(BTypes.typeAny), keyFields, false);
+            BTupleType keyType = new BTupleType(Arrays.asList(BTypes.typeInt, BTypes.typeString));
+
+            rows = new MapValueImpl[ROWS];
+            keys = new Object[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                BString name = StringUtils.fromString("name" + i);
+                rows[i] = row(i, name);
+                if (keyFields.length == 1) {
+                    keys[i] = (long) i;
+                } else {
+                    TupleValueImpl key = new TupleValueImpl(keyType);
+                    key.add(0, (long) i);
+                    key.add(1, name);
+                    keys[i] = key;
+                }
+            }
+
+            table = build(tableType, rows);
+        }
+    }
+
+    /**
+     * A table without a key sequence.
+     */
+    @State(Scope.Benchmark)
+    public static class KeylessTable {
+
+        BTableType tableType;
+        MapValueImpl[] rows;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            tableType = new BTableType(new BMapType(BTypes.typeAny), false);
+            rows = new MapValueImpl[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                rows[i] = row(i, StringUtils.fromString("name" + i));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TableValueImpl<Object, Object> build(KeyedTable state) {
+        return build(state.tableType, state.rows);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TableValueImpl<Object, Object> buildKeyless(KeylessTable state) {
+        return build(state.tableType, state.rows);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void get(KeyedTable state, Blackhole blackhole) {
+        for (Object key : state.keys) {
+            blackhole.consume(state.table.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void hasKey(KeyedTable state, Blackhole blackhole) {
+        for (Object key : state.keys) {
+            blackhole.consume(state.table.containsKey(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void put(KeyedTable state, Blackhole blackhole) {
+        for (MapValueImpl row : state.rows) {
+            blackhole.consume(state.table.put(row));
+        }
+    }
+
+    private static TableValueImpl<Object, Object> build(BTableType tableType, MapValueImpl[] rows) {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(tableType);
+        for (MapValueImpl row : rows) {
+            table.add(row);
+        }
+        return table;
+    }
+
+    private static MapValueImpl<BString, Object> row(long id, BString name) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(new BMapType(BTypes.typeAny));
+        row.put(ID, id);
+        row.put(NAME, name);
+        return row;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures subtype checks between structured types in {@link TypeChecker}, which repeat the same pairs of types
+ * over and over in a running program.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TypeCheckerBenchmark {
+
+    private static final BPackage PKG = new BPackage("bench", "types", "0.1.0");
+
+    BRecordType person;
+    BRecordType employee;
+    BType union;
+    BType employeeArray;
+    BType personArray;
+    BType tuple;
+    BType tupleTarget;
+    MapValueImpl<Object, Object> employeeValue;
+    ArrayValueImpl employeeArrayValue;
+
+    @Setup
+    public void setup() {
+        BRecordType address = record("Address", field("street", BTypes.typeString), field("city", BTypes.typeString),
+                field("zip", BTypes.typeInt));
+        person = record("Person", field("name", BTypes.typeString), field("age", BTypes.typeInt),
+                field("address", address));
+        employee = record("Employee", field("name", BTypes.typeString), field("age", BTypes.typeInt),
+                field("address", address), field("salary", BTypes.typeFloat), field("id", BTypes.typeString));
+        union = new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeString, person, BTypes.typeNull));
+        employeeArray = new BArrayType(employee);
+        personArray = new BArrayType(person);
+        tuple = new BTupleType(Arrays.asList(BTypes.typeString, employee, employeeArray));
+        tupleTarget = new BTupleType(Arrays.asList(BTypes.typeString, union, personArray));
+
+        employeeValue = new MapValueImpl<>(employee);
+        MapValueImpl<Object, Object> addressValue = new MapValueImpl<>(address);
+        addressValue.put(StringUtils.fromString("street"), StringUtils.fromString("Main Street"));
+        addressValue.put(StringUtils.fromString("city"), StringUtils.fromString("Colombo"));
+        addressValue.put(StringUtils.fromString("zip"), 10000L);
+        employeeValue.put(StringUtils.fromString("name"), StringUtils.fromString("Anne"));
+        employeeValue.put(StringUtils.fromString("age"), 30L);
+        employeeValue.put(StringUtils.fromString("address"), addressValue);
+        employeeValue.put(StringUtils.fromString("salary"), 1000.0);
+        employeeValue.put(StringUtils.fromString("id"), StringUtils.fromString("E1"));
+        employeeArrayValue = new ArrayValueImpl(new Object[]{employeeValue, employeeValue}, (BArrayType) employeeArray);
+    }
+
+    @Benchmark
+    public boolean recordToRecord() {
+        return TypeChecker.checkIsType(employee, person);
+    }
+
+    @Benchmark
+    public boolean recordToUnion() {
+        return TypeChecker.checkIsType(employee, union);
+    }
+
+    @Benchmark
+    public boolean tupleToTuple() {
+        return TypeChecker.checkIsType(tuple, tupleTarget);
+    }
+
+    @Benchmark
+    public boolean likeRecord() {
+        return TypeChecker.checkIsLikeType(employeeValue, person);
+    }
+
+    @Benchmark
+    public boolean likeArray() {
+        return TypeChecker.checkIsLikeType(employeeArrayValue, personArray);
+    }
+
+    private static BRecordType record(String typeName, BField... fields) {
+        Map<String, BField> fieldMap = new LinkedHashMap<>();
+        for (BField field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return new BRecordType(typeName, PKG, 0, fieldMap, BTypes.typeAnydata, false, 0);
+    }
+
+    private static BField field(String name, BType type) {
+        return new BField(type, name, Flags.REQUIRED);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.scheduling.SPSCWorkerDataChannel;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the locked {@link WorkerDataChannel} and the lock free {@link SPSCWorkerDataChannel} for worker to worker
+ * message passing between two strands. The strand functions resume from where they yielded, the same way the
+ * generated code of a worker does.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+public class WorkerDataChannelBenchmark {
+
+    private static final int MESSAGES = 100_000;
+    private static final int ROUND_TRIPS = 10_000;
+
+    @Param({"locked", "spsc"})
+    public String channelType;
+
+    private Scheduler scheduler;
+    private Thread schedulerThread;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduler = new Scheduler(Runtime.getRuntime().availableProcessors() * 2, true);
+        schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        scheduler.poison();
+        schedulerThread.join();
+    }
+
+    /**
+     * One worker sends a stream of messages that the other worker receives, reported in messages per second.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(MESSAGES)
+    public void throughput() throws InterruptedException {
+        WorkerDataChannel channel = createChannel("w1->w2");
+        CountDownLatch latch = new CountDownLatch(2);
+
+        Function<Object[], Object> sender = params -> {
+            Strand strand = (Strand) params[0];
+            for (long i = 0; i < MESSAGES; i++) {
+                channel.sendData(i, strand);
+            }
+            return null;
+        };
+
+        int[] received = new int[1];
+        Function<Object[], Object> receiver = params -> {
+            Strand strand = (Strand) params[0];
+            while (received[0] < MESSAGES) {
+                if (receive(channel, strand) == null) {
+                    return null;
+                }
+                received[0]++;
+            }
+            return null;
+        };
+
+        scheduler.schedule(new Object[1], receiver, null, new LatchCallback(latch));
+        scheduler.schedule(new Object[1], sender, null, new LatchCallback(latch));
+        latch.await();
+    }
+
+    /**
+     * Two workers pass a message back and forth, reported as the average time of a round trip.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(ROUND_TRIPS)
+    public void pingPongLatency() throws InterruptedException {
+        WorkerDataChannel ping = createChannel("w1->w2");
+        WorkerDataChannel pong = createChannel("w2->w1");
+        CountDownLatch latch = new CountDownLatch(2);
+
+        // Index of the next round trip, and whether its message has already been sent
+        int[] pingState = new int[2];
+        Function<Object[], Object> pinger = params -> {
+            Strand strand = (Strand) params[0];
+            while (pingState[0] < ROUND_TRIPS) {
+                if (pingState[1] == 0) {
+                    ping.sendData((long) pingState[0], strand);
+                    pingState[1] = 1;
+                }
+                if (receive(pong, strand) == null) {
+                    return null;
+                }
+                pingState[1] = 0;
+                pingState[0]++;
+            }
+            return null;
+        };
+
+        int[] pongState = new int[1];
+        Function<Object[], Object> ponger = params -> {
+            Strand strand = (Strand) params[0];
+            while (pongState[0] < ROUND_TRIPS) {
+                Object message = receive(ping, strand);
+                if (message == null) {
+                    return null;
+                }
+                pong.sendData(message, strand);
+                pongState[0]++;
+            }
+            return null;
+        };
+
+        scheduler.schedule(new Object[1], ponger, null, new LatchCallback(latch));
+        scheduler.schedule(new Object[1], pinger, null, new LatchCallback(latch));
+        latch.await();
+    }
+
+    private WorkerDataChannel createChannel(String name) {
+        return "spsc".equals(channelType) ? new SPSCWorkerDataChannel(name) : new WorkerDataChannel(name);
+    }
+
+    /**
+     * Returns the received message, or null if the strand has to yield and retry once it is resumed.
+     */
+    private static Object receive(WorkerDataChannel channel, Strand strand) {
+        try {
+            return channel.tryTakeData(strand);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.stdlib;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentLruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a mixed read/write workload on the cache backing {@code cache:Cache} at 1, 8 and 32 concurrent callers,
+ * against an access ordered map guarded by a single lock, which is how the Ballerina implementation serialises
+ * cache operations.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int CAPACITY = 1000;
+    private static final int KEY_SPACE = 1500;
+    private static final String[] KEYS = new String[KEY_SPACE];
+
+    static {
+        for (int i = 0; i < KEY_SPACE; i++) {
+            KEYS[i] = "key-" + i;
+        }
+    }
+
+    ConcurrentLruCache cache;
+    Map<String, Object> lockedCache;
+
+    @Setup
+    public void setup() {
+        cache = new ConcurrentLruCache(CAPACITY, 0.25, -1);
+        lockedCache = new LinkedHashMap<String, Object>(CAPACITY, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put(KEYS[i], (long) i, -1);
+            lockedCache.put(KEYS[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object concurrentCache1() {
+        return runConcurrent();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object concurrentCache8() {
+        return runConcurrent();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object concurrentCache32() {
+        return runConcurrent();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object lockedCache1() {
+        return runLocked();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object lockedCache8() {
+        return runLocked();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object lockedCache32() {
+        return runLocked();
+    }
+
+    // 90% reads and 10% writes over a key space larger than the capacity.
+    private Object runConcurrent() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String key = KEYS[random.nextInt(KEY_SPACE)];
+        if (random.nextInt(10) == 0) {
+            cache.put(key, key, -1);
+            return key;
+        }
+        return cache.get(key);
+    }
+
+    private Object runLocked() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String key = KEYS[random.nextInt(KEY_SPACE)];
+        synchronized (lockedCache) {
+            if (random.nextInt(10) == 0) {
+                lockedCache.put(key, key);
+                return key;
+            }
+            return lockedCache.get(key);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.stdlib;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.net.grpc.Message;
+import org.ballerinalang.net.grpc.MessageSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding of gRPC messages for a unary call, which handles a single request and response, and
+ * for a streaming call, which handles a sequence of messages of the same type.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GrpcMessageBenchmark {
+
+    private static final int STREAM_LENGTH = 100;
+    private static final BPackage PKG = new BPackage("grpc", "benchmark", "0.1.0");
+
+    Descriptors.Descriptor descriptor;
+    BRecordType recordType;
+    MapValue<BString, Object>[] messages;
+    byte[][] payloads;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.DescriptorProto message = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("Order")
+                .addField(field("id", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, false))
+                .addField(field("name", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                .addField(field("price", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT, false))
+                .addField(field("amount", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, false))
+                .addField(field("paid", 5, DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL, false))
+                .addField(field("tags", 6, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, true))
+                .build();
+        DescriptorProtos.FileDescriptorProto file = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("order.proto")
+                .setSyntax("proto3")
+                .addMessageType(message)
+                .build();
+        descriptor = Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[0])
+                .findMessageTypeByName("Order");
+
+        recordType = new BRecordType("Order", PKG, 0, true, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("price", new BField(BTypes.typeFloat, "price", Flags.REQUIRED));
+        fields.put("amount", new BField(BTypes.typeFloat, "amount", Flags.REQUIRED));
+        fields.put("paid", new BField(BTypes.typeBoolean, "paid", Flags.REQUIRED));
+        fields.put("tags", new BField(new BArrayType(BTypes.typeString), "tags", Flags.REQUIRED));
+        recordType.setFields(fields);
+        ValueCreator.addValueCreator(PKG.getOrg(), PKG.getName(), PKG.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordType);
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+
+        messages = new MapValue[STREAM_LENGTH];
+        payloads = new byte[STREAM_LENGTH][];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            MapValue<BString, Object> order = new MapValueImpl<>(recordType);
+            order.put(StringUtils.fromString("id"), (long) i);
+            order.put(StringUtils.fromString("name"), StringUtils.fromString("order-" + i));
+            order.put(StringUtils.fromString("price"), 2.5 + i);
+            order.put(StringUtils.fromString("amount"), 1000.125 * i);
+            order.put(StringUtils.fromString("paid"), i % 2 == 0);
+            order.put(StringUtils.fromString("tags"), new ArrayValueImpl(new String[]{"express", "gift", "tag" + i}));
+            messages[i] = order;
+            payloads[i] = new Message(descriptor, order).toByteArray();
+        }
+    }
+
+    @Benchmark
+    public Object unaryRoundTrip() throws IOException {
+        byte[] request = new Message(descriptor, messages[0]).toByteArray();
+        return decode(request);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_LENGTH)
+    public void streamingEncode(Blackhole blackhole) {
+        for (MapValue<BString, Object> message : messages) {
+            blackhole.consume(new Message(descriptor, message).toByteArray());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_LENGTH)
+    public void streamingDecode(Blackhole blackhole) throws IOException {
+        for (byte[] payload : payloads) {
+            blackhole.consume(decode(payload));
+        }
+    }
+
+    private Object decode(byte[] payload) throws IOException {
+        return new Message(descriptor.getName(), recordType, CodedInputStream.newInstance(payload),
+                           MessageSchema.of(descriptor)).getbMessage();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(String name, int number,
+                                                               DescriptorProtos.FieldDescriptorProto.Type type,
+                                                               boolean repeated) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(repeated ? DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED :
+                                  DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+}
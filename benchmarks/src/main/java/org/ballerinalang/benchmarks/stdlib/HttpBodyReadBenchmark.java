@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.stdlib;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.mime.util.MimeConstants;
+import org.ballerinalang.mime.util.MimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading request bodies of 1MB up to 1GB into byte arrays and strings. The body is served in slices of
+ * the size the transport hands them over, with and without a known content length, and the aggregating read which
+ * used to back blob payloads is kept as a baseline. Run with the gc profiler ({@code -prof gc}) to compare the
+ * allocated bytes per operation.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HttpBodyReadBenchmark {
+
+    private static final int TRANSPORT_CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * Payload of a binary body.
+     */
+    @State(Scope.Benchmark)
+    public static class BlobPayload {
+
+        @Param({"1048576", "67108864", "1073741824"})
+        public long payloadSize;
+
+        @Param({"true", "false"})
+        public boolean contentLengthKnown;
+    }
+
+    /**
+     * Payload of a text body. Strings take twice the memory of the bytes, hence the smaller upper bound.
+     */
+    @State(Scope.Benchmark)
+    public static class TextPayload {
+
+        @Param({"1048576", "67108864", "268435456"})
+        public long payloadSize;
+
+        @Param({"true", "false"})
+        public boolean contentLengthKnown;
+    }
+
+    @Benchmark
+    public byte[] readBlob(BlobPayload payload) throws IOException {
+        return MimeUtil.getByteArray(new ChunkedBodyStream(payload.payloadSize),
+                                     payload.contentLengthKnown ? payload.payloadSize :
+                                             MimeConstants.NO_CONTENT_LENGTH_FOUND);
+    }
+
+    @Benchmark
+    public byte[] readBlobAggregated(BlobPayload payload) throws IOException {
+        InputStream inputStream = new ChunkedBodyStream(payload.payloadSize);
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[MimeConstants.READABLE_BUFFER_SIZE];
+            for (int len; (len = inputStream.read(buffer)) != -1; ) {
+                output.write(buffer, 0, len);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public BString readText(TextPayload payload) {
+        return StringUtils.getStringFromInputStream(new ChunkedBodyStream(payload.payloadSize),
+                                                    StandardCharsets.UTF_8.name(),
+                                                    payload.contentLengthKnown ? payload.payloadSize : -1);
+    }
+
+    /**
+     * Generates a body of the given size in fixed size slices without holding the whole body in memory.
+     */
+    private static class ChunkedBodyStream extends InputStream {
+
+        private static final byte[] SLICE = new byte[TRANSPORT_CHUNK_SIZE];
+
+        static {
+            Arrays.fill(SLICE, (byte) 'b');
+        }
+
+        private long remaining;
+
+        ChunkedBodyStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 'b';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int length = (int) Math.min(Math.min(len, SLICE.length), remaining);
+            System.arraycopy(SLICE, 0, b, off, length);
+            remaining -= length;
+            return length;
+        }
+    }
+}
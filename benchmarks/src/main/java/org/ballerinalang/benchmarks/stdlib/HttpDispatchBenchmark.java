@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.stdlib;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URITemplateException;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the service base path and the resource of a request path with 10, 100 and 1000 services
+ * registered on a listener. The base path lookup is compared against the linear scan over the base paths sorted by
+ * length, which is how services used to be looked up.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HttpDispatchBenchmark {
+
+    private static final String[] RESOURCES = {
+            "/", "/items", "/items/{id}", "/items/{id}/reviews", "/items/{id}/reviews/{reviewId}", "/search/*"
+    };
+
+    @Param({"10", "100", "1000"})
+    public int services;
+
+    private List<String> sortedBasePaths;
+    private BasePathTrie basePathTrie;
+    private URITemplate<String, Object> uriTemplate;
+    private String[] requestPaths;
+    private int next;
+
+    @Setup
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        sortedBasePaths = new ArrayList<>();
+        for (int i = 0; i < services; i++) {
+            sortedBasePaths.add("/api/v1/service" + i);
+        }
+        sortedBasePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        basePathTrie = new BasePathTrie(sortedBasePaths);
+
+        uriTemplate = new URITemplate<>(new Literal<>(new ResourceElement(), "/"));
+        for (String resource : RESOURCES) {
+            uriTemplate.parse(resource, resource, ResourceElement::new);
+        }
+
+        requestPaths = new String[64];
+        for (int i = 0; i < requestPaths.length; i++) {
+            requestPaths[i] = "/api/v1/service" + (i * 7919 % services) + "/items/" + i + "/reviews";
+        }
+    }
+
+    @Benchmark
+    public String findBasePath() {
+        return basePathTrie.findMostSpecificBasePath(nextRequestPath());
+    }
+
+    @Benchmark
+    public String findBasePathLinearScan() {
+        String requestPath = nextRequestPath();
+        for (String basePath : sortedBasePaths) {
+            if (!requestPath.toLowerCase().contains(basePath.toLowerCase())) {
+                continue;
+            }
+            if (requestPath.length() <= basePath.length() || requestPath.startsWith(basePath.concat("/"))) {
+                return basePath;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String dispatch() {
+        String requestPath = nextRequestPath();
+        String basePath = basePathTrie.findMostSpecificBasePath(requestPath);
+        return uriTemplate.matches(requestPath.substring(basePath.length()), new HttpResourceArguments(), null);
+    }
+
+    private String nextRequestPath() {
+        next = (next + 1) & (requestPaths.length - 1);
+        return requestPaths[next];
+    }
+
+    private static class ResourceElement implements DataElement<String, Object> {
+
+        private String resource;
+
+        @Override
+        public void setData(String data) {
+            this.resource = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.stdlib;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealthMonitor;
+import org.ballerinalang.net.http.resiliency.CircuitHealthMonitor.CircuitState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the per request bookkeeping of the circuit breaker and the round robin load balancer with 256 concurrent
+ * callers, against the same bookkeeping done under a single lock, which is how the Ballerina implementation
+ * serialised outbound requests of resilient clients.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class HttpResiliencyBenchmark {
+
+    private static final int CALLERS = 256;
+    private static final int NO_OF_CLIENTS = 4;
+
+    CircuitHealthMonitor monitor;
+    LockedCircuitHealth lockedHealth;
+    AtomicLong roundRobinCounter;
+    long lockedRoundRobinIndex;
+
+    @Setup
+    public void setup() {
+        long now = System.currentTimeMillis();
+        // Same rolling window as the default http:CircuitBreakerConfig, with a threshold that is never exceeded
+        monitor = new CircuitHealthMonitor(now, 10000, 6, 10, 0.99, 1000);
+        lockedHealth = new LockedCircuitHealth(now, 10000, 6, 10, 0.99);
+        roundRobinCounter = new AtomicLong();
+    }
+
+    @Benchmark
+    @Threads(CALLERS)
+    public CircuitState circuitBreaker() {
+        long now = System.currentTimeMillis();
+        CircuitState state = monitor.updateState(CircuitState.CLOSED, now);
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            monitor.recordFailure(now);
+        } else {
+            monitor.recordSuccess();
+        }
+        return state;
+    }
+
+    @Benchmark
+    @Threads(CALLERS)
+    public boolean lockedCircuitBreaker() {
+        long now = System.currentTimeMillis();
+        boolean open = lockedHealth.updateState(now);
+        lockedHealth.record(now, ThreadLocalRandom.current().nextInt(10) == 0);
+        return open;
+    }
+
+    @Benchmark
+    @Threads(CALLERS)
+    public long roundRobin() {
+        return Math.floorMod(roundRobinCounter.getAndIncrement(), NO_OF_CLIENTS);
+    }
+
+    @Benchmark
+    @Threads(CALLERS)
+    public long lockedRoundRobin() {
+        synchronized (this) {
+            long index = lockedRoundRobinIndex;
+            lockedRoundRobinIndex = index == NO_OF_CLIENTS - 1 ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    /**
+     * Rolling window bookkeeping done under one lock, summing the buckets on every request.
+     */
+    static class LockedCircuitHealth {
+
+        private final long startTime;
+        private final long bucketSizeInMillis;
+        private final double failureThreshold;
+        private final long requestVolumeThreshold;
+        private final long[] bucketIds;
+        private final long[] totalCounts;
+        private final long[] failureCounts;
+
+        LockedCircuitHealth(long startTime, long bucketSizeInMillis, int noOfBuckets, long requestVolumeThreshold,
+                            double failureThreshold) {
+            this.startTime = startTime;
+            this.bucketSizeInMillis = bucketSizeInMillis;
+            this.requestVolumeThreshold = requestVolumeThreshold;
+            this.failureThreshold = failureThreshold;
+            this.bucketIds = new long[noOfBuckets];
+            this.totalCounts = new long[noOfBuckets];
+            this.failureCounts = new long[noOfBuckets];
+        }
+
+        synchronized boolean updateState(long now) {
+            int slot = prepareBucket(now);
+            long total = 0;
+            long failures = 0;
+            for (int i = 0; i < totalCounts.length; i++) {
+                total += totalCounts[i];
+                failures += failureCounts[i];
+            }
+            totalCounts[slot]++;
+            return total >= requestVolumeThreshold && (double) failures / total > failureThreshold;
+        }
+
+        synchronized void record(long now, boolean failure) {
+            int slot = prepareBucket(now);
+            if (failure) {
+                failureCounts[slot]++;
+            }
+        }
+
+        private int prepareBucket(long now) {
+            long bucketId = (now - startTime) / bucketSizeInMillis;
+            int slot = (int) (bucketId % bucketIds.length);
+            if (bucketIds[slot] != bucketId) {
+                bucketIds[slot] = bucketId;
+                totalCounts[slot] = 0;
+                failureCounts[slot] = 0;
+            }
+            return slot;
+        }
+    }
+}
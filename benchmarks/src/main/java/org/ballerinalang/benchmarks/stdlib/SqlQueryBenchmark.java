@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.stdlib;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.values.AbstractObjectValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.StreamValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.sql.Constants;
+import org.ballerinalang.sql.datasource.SQLDatasource;
+import org.ballerinalang.sql.utils.ClientUtils;
+import org.ballerinalang.sql.utils.QueryUtils;
+import org.ballerinalang.sql.utils.RecordItertorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures running a query and reading its result through the sql client natives against an embedded H2 database,
+ * with and without the statement cache of the connection pool.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SqlQueryBenchmark {
+
+    private static final int ROW_COUNT = 100;
+
+    @Param({"0", "32"})
+    public long statementCacheSize;
+
+    @Param({"0", "50"})
+    public int fetchSize;
+
+    ObjectValue client;
+    MapValue<BString, Object> query;
+
+    @Setup
+    public void setup() throws SQLException {
+        ValueCreator.addValueCreator(Constants.SQL_PACKAGE_ID.getOrg(), Constants.SQL_PACKAGE_ID.getName(),
+                Constants.SQL_PACKAGE_ID.getVersion(), new ValueCreator() {
+                    @Override
+                    public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                         Map<String, Object> properties, Object[] args) {
+                        return new NativeObject(objectTypeName);
+                    }
+                });
+
+        MapValue<BString, Object> connectionPool = new MapValueImpl<>();
+        connectionPool.put(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS, 4L);
+        connectionPool.put(Constants.ConnectionPool.MIN_IDLE_CONNECTIONS, 4L);
+        connectionPool.put(Constants.ConnectionPool.STATEMENT_CACHE_SIZE, statementCacheSize);
+        client = new NativeObject("Client");
+        ClientUtils.createClient(client, new SQLDatasource.SQLDatasourceParams()
+                .setUrl("jdbc:h2:mem:sqlQueryBenchmark;DB_CLOSE_DELAY=-1")
+                .setUser("sa")
+                .setPassword("")
+                .setConnectionPool(connectionPool, null)
+                .setFetchSize(fetchSize));
+
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.DATABASE_CLIENT);
+        try (Connection connection = datasource.getSQLConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS Customers");
+                statement.execute("CREATE TABLE Customers (id INTEGER PRIMARY KEY, name VARCHAR(50) NOT NULL, " +
+                        "credit DOUBLE, active BOOLEAN, joined TIMESTAMP)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO Customers VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "customer-" + i);
+                    insert.setDouble(3, i * 10.5);
+                    insert.setBoolean(4, i % 2 == 0);
+                    insert.executeUpdate();
+                }
+            }
+        }
+
+        query = new MapValueImpl<>();
+        query.put(Constants.ParameterizedStingFields.PARTS, new ArrayValueImpl(new BString[]{
+                StringUtils.fromString("SELECT id, name, credit, active, joined FROM Customers WHERE id >= "),
+                StringUtils.fromString("")}));
+        query.put(Constants.ParameterizedStingFields.INSERTIONS, new ArrayValueImpl(new long[]{0}));
+    }
+
+    @TearDown
+    public void tearDown() {
+        ClientUtils.close(client);
+    }
+
+    @Benchmark
+    public void queryAndRead(Blackhole blackhole) {
+        StreamValue stream = QueryUtils.nativeQuery(client, query, null);
+        ObjectValue iterator = stream.getIteratorObj();
+        Object row;
+        while ((row = RecordItertorUtils.nextResult(iterator)) != null) {
+            blackhole.consume(row);
+        }
+        RecordItertorUtils.closeResult(iterator);
+    }
+
+    /**
+     * Object holding the native data of the sql client and its result iterator.
+     */
+    private static class NativeObject extends AbstractObjectValue {
+
+        NativeObject(String typeName) {
+            super(new BObjectType(typeName, Constants.SQL_PACKAGE_ID, 0));
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FutureValue start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            return null;
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+        }
+    }
+}
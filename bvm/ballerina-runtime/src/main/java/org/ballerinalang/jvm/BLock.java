@@ -24,6 +24,9 @@ import java.util.ArrayDeque;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * A lock can be held exclusively by a single strand, or shared by any number of strands when the compiler has
+ * proven that the locked region only reads the guarded variables.
  *
  * @since 1.0.0
  */
@@ -33,39 +36,136 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    private ArrayDeque<Strand> waitingForReadLock;
+
+    private int readers;
+
+    final BLockStore store;
+
     public BLock() {
+        this(null);
+    }
+
+    BLock(BLockStore store) {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.waitingForReadLock = new ArrayDeque<>();
+        this.store = store;
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+    public boolean lock(Strand strand) {
+        boolean acquired = acquire(strand);
+        while (!acquired && strand.blockInPlace()) {
+            acquired = acquire(strand);
+        }
+        return acquired;
+    }
+
+    public boolean lockRead(Strand strand) {
+        boolean acquired = acquireRead(strand);
+        while (!acquired && strand.blockInPlace()) {
+            acquired = acquireRead(strand);
+        }
+        return acquired;
+    }
+
+    private synchronized boolean acquire(Strand strand) {
+        // A writer woken by a release stays at the head of the queue until it acquires the lock, so writers are
+        // served in arrival order.
+        if (lockedBySameContext(strand) ||
+                (isLockFree() && (waitingForLock.isEmpty() || waitingForLock.peekFirst() == strand))) {
+            if (waitingForLock.peekFirst() == strand) {
+                waitingForLock.removeFirst();
+            }
             this.current.offerLast(strand);
+            strand.acquiredLock(this);
+            strand.blockedOnLock = null;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (!this.waitingForLock.contains(strand)) {
+            this.waitingForLock.offerLast(strand);
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        strand.blockedOnLock = this;
+        return false;
+    }
+
+    private synchronized boolean acquireRead(Strand strand) {
+        // New readers queue up behind waiting writers, so that a steady flow of readers cannot starve them. A strand
+        // that already holds the lock is let in, as it would otherwise wait on a writer that waits on it.
+        if (lockedBySameContext(strand) ||
+                (this.current.isEmpty() && (waitingForLock.isEmpty() || strand.holdsLock(this)))) {
+            this.readers++;
+            strand.acquiredLock(this);
+            strand.blockedOnLock = null;
+            return true;
+        }
+
+        this.waitingForReadLock.offerLast(strand);
+
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+        strand.blockedOnLock = this;
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand owner = this.current.removeLast();
+        owner.releasedLock(this);
+        if (isLockFree()) {
+            unblockWaiters();
+        }
+    }
+
+    public synchronized void unlockRead(Strand strand) {
+        this.readers--;
+        strand.releasedLock(this);
+        if (isLockFree()) {
+            unblockWaiters();
+        }
+    }
+
+    /**
+     * Removes a strand that will not retry acquiring this lock, such as a strand that completed with a panic after
+     * it was woken up, from the waiting queues.
+     *
+     * @param strand strand waiting on this lock
+     */
+    public synchronized void cancelWait(Strand strand) {
+        strand.blockedOnLock = null;
+        boolean nextWriter = this.waitingForLock.peekFirst() == strand;
+        this.waitingForLock.remove(strand);
+        this.waitingForReadLock.remove(strand);
+        if (nextWriter && isLockFree()) {
+            unblockWaiters();
+        }
+    }
+
+    private void unblockWaiters() {
+        // The next writer goes first and is left at the head of the queue until it acquires the lock. Readers are
+        // woken only when no writer is waiting.
         if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
+            Strand strand = this.waitingForLock.peekFirst();
+            strand.scheduler.unblockStrand(strand);
+            return;
+        }
+        while (!waitingForReadLock.isEmpty()) {
+            Strand strand = this.waitingForReadLock.removeFirst();
             strand.scheduler.unblockStrand(strand);
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.current.isEmpty() && this.readers == 0;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return !this.current.isEmpty() && this.current.getLast() == ctx;
     }
 }
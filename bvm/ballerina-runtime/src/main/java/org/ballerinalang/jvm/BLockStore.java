@@ -21,6 +21,7 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -40,21 +41,20 @@ public class BLockStore {
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(this));
     }
 
     public BLock getLockFromMap(String lockName) {
         return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
+            return new BLock(this);
         });
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        // Only the locks held by the strand are inspected, rather than every lock in the store.
+        List<BLock> heldLocks = strand.getHeldLocks();
+        for (int i = 0; i < heldLocks.size(); i++) {
+            if (heldLocks.get(i).store == this) {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
@@ -23,6 +23,7 @@ import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.FPValue;
@@ -35,8 +36,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -140,6 +144,67 @@ public class BRuntime {
                              futureResultConsumer, returnValueSupplier);
     }
 
+    /**
+     * Invoke Function Pointer asynchronously given number of times, all at once. Each invocation gets its own strand
+     * group, so that the invocations can run on different scheduler threads. This will block the strand until all the
+     * invocations complete. If any invocation fails, the failure of the invocation with the lowest index is returned
+     * after all of them complete, regardless of the order in which the invocations failed.
+     *
+     * @param func                 Function Pointer to be invoked.
+     * @param noOfIterations       Number of invocations of the function pointer.
+     * @param argsSupplier         Provides the arguments for the invocation with the given index.
+     * @param futureResultConsumer Consumer used to process the result of the invocation with the given index. Called
+     *                             concurrently, from the thread the invocation completed on.
+     * @param returnValueSupplier  Supplier used to set the final return value for the parent function invocation.
+     */
+    public void invokeFunctionPointerAsyncConcurrently(FPValue<?, ?> func, int noOfIterations,
+                                                       IntFunction<Object[]> argsSupplier,
+                                                       ObjIntConsumer<Object> futureResultConsumer,
+                                                       Supplier<Object> returnValueSupplier) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        blockStrand(strand);
+        BType retType = ((BFunctionType) func.getType()).retType;
+        AtomicInteger remaining = new AtomicInteger(noOfIterations);
+        AtomicReferenceArray<ErrorValue> failures = new AtomicReferenceArray<>(noOfIterations);
+        for (int i = 0; i < noOfIterations; i++) {
+            int index = i;
+            AsyncFunctionCallback callback = new AsyncFunctionCallback() {
+                @Override
+                public void notifySuccess() {
+                    futureResultConsumer.accept(getFutureResult(), index);
+                    complete();
+                }
+
+                @Override
+                public void notifyFailure(ErrorValue error) {
+                    failures.set(index, error);
+                    complete();
+                }
+
+                private void complete() {
+                    if (remaining.decrementAndGet() != 0) {
+                        return;
+                    }
+                    for (int i = 0; i < noOfIterations; i++) {
+                        ErrorValue error = failures.get(i);
+                        if (error != null) {
+                            handleRuntimeErrors(error);
+                            return;
+                        }
+                    }
+                    setReturnValues(returnValueSupplier.get());
+                }
+            };
+            FutureValue future = scheduler.createFuture(strand, callback, null, retType);
+            callback.setFuture(future);
+            callback.setStrand(strand);
+            scheduler.schedule(argsSupplier.apply(index), func.getFunction(), future);
+        }
+    }
+
     /**
      * Invoke Object method asynchronously. This will schedule the function and block the strand.
      *
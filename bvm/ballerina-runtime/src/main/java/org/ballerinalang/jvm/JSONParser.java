@@ -18,15 +18,26 @@
 package org.ballerinalang.jvm;
 
 import org.apache.commons.lang3.StringEscapeUtils;
+import org.ballerinalang.jvm.commons.ArrayState;
 import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
 import org.ballerinalang.jvm.values.api.BString;
 
 import java.io.BufferedInputStream;
@@ -37,7 +48,11 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.Iterator;
+
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.CONSTRUCT_FROM_CONVERSION_ERROR;
 
 /**
  * This class represents a JSON parser.
@@ -137,6 +152,58 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Parses the contents in the given {@link InputStream} directly into a value of the given type.
+     *
+     * @param in          input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @param targetType  type of the value to be created
+     * @return value of the target type
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(InputStream in, String charsetName, BType targetType) throws BallerinaException {
+        try {
+            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+        } catch (IOException e) {
+            throw BallerinaErrors.createError("Error in parsing JSON data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the contents in the given string directly into a value of the given type.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(String jsonStr, BType targetType) throws BallerinaException {
+        return parse(new StringReader(jsonStr), targetType);
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} directly into a value of the given type.
+     * <p>
+     * Records, maps, arrays and tuples of the target type are created as the content is read, and numbers are read
+     * into the representation of the expected int, float, decimal or byte type, so there is no intermediate json
+     * value to convert afterwards. Content that does not belong to the target type results in an error with the
+     * {@code ConversionError} reason, which names the path of the offending value.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the target type
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(Reader reader, BType targetType) throws BallerinaException {
+        StateMachine sm = tlStateMachine.get();
+        try {
+            sm.targetType = targetType;
+            return sm.execute(reader);
+        } finally {
+            sm.reset();
+        }
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -169,6 +236,8 @@ public class JSONParser {
         private static final String NULL = "null";
         private static final String TRUE = "true";
         private static final String FALSE = "false";
+        private static final BType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+        private static final BType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
 
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
@@ -214,6 +283,13 @@ public class JSONParser {
         private int column;
         private char currentQuoteChar;
 
+        // Used only when parsing into a target type. The type of each node in the nodes stack is kept in the types
+        // stack, and the number of elements read so far into each list node is kept by its depth.
+        private BType targetType;
+        private BType currentType;
+        private Deque<BType> typesStack;
+        private int[] elementCounts = new int[16];
+
         StateMachine() {
             reset();
         }
@@ -225,6 +301,9 @@ public class JSONParser {
             this.column = 0;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
+            this.targetType = null;
+            this.currentType = null;
+            this.typesStack = new ArrayDeque<>();
         }
 
         private static boolean isWhitespace(char ch) {
@@ -285,23 +364,43 @@ public class JSONParser {
         }
 
         private State finalizeObject() {
+            if (this.targetType != null) {
+                this.validateTypedNode();
+            }
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
 
             Object parentNode = this.nodesStack.pop();
-            if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
+            if (parentNode instanceof MapValueImpl) {
                 ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
                                                                  currentJsonNode);
                 currentJsonNode = parentNode;
+                if (this.targetType != null) {
+                    currentType = typesStack.pop();
+                }
                 return FIELD_END_STATE;
             }
-            ((ArrayValue) parentNode).append(currentJsonNode);
+            if (this.targetType != null) {
+                ((ArrayValue) parentNode).add(this.elementCounts[this.nodesStack.size()]++, currentJsonNode);
+                currentType = typesStack.pop();
+            } else {
+                ((ArrayValue) parentNode).append(currentJsonNode);
+            }
             currentJsonNode = parentNode;
             return ARRAY_ELEMENT_END_STATE;
         }
 
         private State initNewObject() {
+            if (this.targetType != null) {
+                BType type = this.getMatchingType(this.expectedType(), JSON_MAP_TYPE, true);
+                if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    this.pushTypedNode(BallerinaValues.createRecordValue(type.getPackage(), type.getName()), type);
+                } else {
+                    this.pushTypedNode(new MapValueImpl<>(type), type);
+                }
+                return FIRST_FIELD_READY_STATE;
+            }
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -310,6 +409,20 @@ public class JSONParser {
         }
 
         private State initNewArray() {
+            if (this.targetType != null) {
+                BType type = this.getMatchingType(this.expectedType(), JSON_ARRAY_TYPE, true);
+                if (type.getTag() == TypeTags.TUPLE_TAG) {
+                    this.pushTypedNode(new TupleValueImpl((BTupleType) type), type);
+                } else {
+                    this.pushTypedNode(new ArrayValueImpl((BArrayType) type), type);
+                }
+                int depth = this.nodesStack.size();
+                if (depth == this.elementCounts.length) {
+                    this.elementCounts = Arrays.copyOf(this.elementCounts, depth * 2);
+                }
+                this.elementCounts[depth] = 0;
+                return FIRST_ARRAY_ELEMENT_READY_STATE;
+            }
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -317,6 +430,323 @@ public class JSONParser {
             return FIRST_ARRAY_ELEMENT_READY_STATE;
         }
 
+        private void pushTypedNode(Object node, BType type) {
+            if (currentJsonNode != null) {
+                this.nodesStack.push(currentJsonNode);
+                this.typesStack.push(currentType);
+            }
+            currentJsonNode = node;
+            currentType = type;
+        }
+
+        /**
+         * Returns the type expected for the next value: the target type for the document, the type of the current
+         * field of a record or map, or the type of the next member of a list.
+         */
+        private BType expectedType() {
+            if (currentType == null) {
+                return this.targetType;
+            }
+            switch (currentType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    BRecordType recordType = (BRecordType) currentType;
+                    BField field = recordType.getFields().get(this.fieldNames.peek());
+                    if (field != null) {
+                        return field.getFieldType();
+                    }
+                    if (recordType.sealed) {
+                        throw this.typeError("field cannot be added to the closed record '" + recordType + "'", true);
+                    }
+                    return recordType.restFieldType;
+                case TypeTags.MAP_TAG:
+                    return ((BMapType) currentType).getConstrainedType();
+                case TypeTags.ARRAY_TAG:
+                    BArrayType arrayType = (BArrayType) currentType;
+                    if (arrayType.getState() == ArrayState.CLOSED_SEALED &&
+                            this.elementCounts[this.nodesStack.size()] >= arrayType.getSize()) {
+                        throw this.typeError("too many members for '" + arrayType + "'", true);
+                    }
+                    return arrayType.getElementType();
+                default:
+                    BTupleType tupleType = (BTupleType) currentType;
+                    int index = this.elementCounts[this.nodesStack.size()];
+                    if (index < tupleType.getTupleTypes().size()) {
+                        return tupleType.getTupleTypes().get(index);
+                    }
+                    if (tupleType.getRestType() == null) {
+                        throw this.typeError("too many members for '" + tupleType + "'", true);
+                    }
+                    return tupleType.getRestType();
+            }
+        }
+
+        /**
+         * Returns the type a JSON value of the given basic type is read into, when the expected type is the given
+         * type. A json or anydata expected type reads the value as json.
+         */
+        private BType getMatchingType(BType expectedType, BType sourceType) {
+            BType matchingType = null;
+            switch (expectedType.getTag()) {
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                case TypeTags.ANY_TAG:
+                    matchingType = sourceType;
+                    break;
+                case TypeTags.UNION_TAG:
+                    int matchingRank = Integer.MAX_VALUE;
+                    for (BType memberType : ((BUnionType) expectedType).getMemberTypes()) {
+                        BType memberMatchingType = this.getMatchingType(memberType, sourceType, false);
+                        if (memberMatchingType == null) {
+                            continue;
+                        }
+                        int rank = getRank(memberMatchingType.getTag(), sourceType.getTag());
+                        if (rank == 0 && matchingRank == 0 &&
+                                (sourceType == JSON_MAP_TYPE || sourceType == JSON_ARRAY_TYPE)) {
+                            throw this.typeError("ambiguous target type '" + expectedType + "'", true);
+                        }
+                        if (rank < matchingRank) {
+                            matchingType = memberMatchingType;
+                            matchingRank = rank;
+                        }
+                    }
+                    break;
+                default:
+                    if (getRank(expectedType.getTag(), sourceType.getTag()) >= 0) {
+                        matchingType = expectedType;
+                    }
+                    break;
+            }
+            return matchingType;
+        }
+
+        private BType getMatchingType(BType expectedType, BType sourceType, boolean required) {
+            BType matchingType = this.getMatchingType(expectedType, sourceType);
+            if (matchingType == null && required) {
+                throw this.incompatibleValueError(sourceType, expectedType);
+            }
+            return matchingType;
+        }
+
+        /**
+         * Ranks how well a type with the given tag holds a JSON value of the given basic type: 0 for the natural
+         * representation of the value, a higher rank for a numeric conversion and -1 if the type cannot hold it.
+         */
+        private static int getRank(int tag, int sourceTag) {
+            switch (sourceTag) {
+                case TypeTags.INT_TAG:
+                    switch (tag) {
+                        case TypeTags.INT_TAG:
+                        case TypeTags.JSON_TAG:
+                        case TypeTags.ANYDATA_TAG:
+                        case TypeTags.ANY_TAG:
+                            return 0;
+                        case TypeTags.BYTE_TAG:
+                            return 1;
+                        case TypeTags.FLOAT_TAG:
+                            return 2;
+                        case TypeTags.DECIMAL_TAG:
+                            return 3;
+                        default:
+                            return -1;
+                    }
+                case TypeTags.FLOAT_TAG:
+                    switch (tag) {
+                        case TypeTags.FLOAT_TAG:
+                        case TypeTags.JSON_TAG:
+                        case TypeTags.ANYDATA_TAG:
+                        case TypeTags.ANY_TAG:
+                            return 0;
+                        case TypeTags.DECIMAL_TAG:
+                            return 1;
+                        case TypeTags.INT_TAG:
+                            return 2;
+                        default:
+                            return -1;
+                    }
+                case TypeTags.MAP_TAG:
+                    return tag == TypeTags.RECORD_TYPE_TAG || tag == TypeTags.MAP_TAG || tag == TypeTags.JSON_TAG ||
+                            tag == TypeTags.ANYDATA_TAG || tag == TypeTags.ANY_TAG ? 0 : -1;
+                case TypeTags.ARRAY_TAG:
+                    return tag == TypeTags.ARRAY_TAG || tag == TypeTags.TUPLE_TAG || tag == TypeTags.JSON_TAG ||
+                            tag == TypeTags.ANYDATA_TAG || tag == TypeTags.ANY_TAG ? 0 : -1;
+                default:
+                    return tag == sourceTag || tag == TypeTags.JSON_TAG || tag == TypeTags.ANYDATA_TAG ||
+                            tag == TypeTags.ANY_TAG ? 0 : -1;
+            }
+        }
+
+        private void validateTypedNode() {
+            int depth = this.nodesStack.size();
+            switch (currentType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    MapValueImpl<BString, Object> record = (MapValueImpl<BString, Object>) currentJsonNode;
+                    for (BField field : ((BRecordType) currentType).getFields().values()) {
+                        if (Flags.isFlagOn(field.flags, Flags.REQUIRED) &&
+                                !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                            throw this.typeError("missing required field '" + field.getFieldName() + "' of type '" +
+                                    field.getFieldType() + "' in record '" + currentType + "'", false);
+                        }
+                    }
+                    break;
+                case TypeTags.ARRAY_TAG:
+                    BArrayType arrayType = (BArrayType) currentType;
+                    if (arrayType.getState() == ArrayState.CLOSED_SEALED &&
+                            this.elementCounts[depth] < arrayType.getSize()) {
+                        throw this.typeError("too few members for '" + arrayType + "'", false);
+                    }
+                    break;
+                case TypeTags.TUPLE_TAG:
+                    if (this.elementCounts[depth] < ((BTupleType) currentType).getTupleTypes().size()) {
+                        throw this.typeError("too few members for '" + currentType + "'", false);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void processTypedStringValue(ValueType type) {
+            BString str = StringUtils.fromString(this.value());
+            BType expectedType = this.expectedType();
+            this.setTypedValue(type, expectedType, BTypes.typeString, str);
+        }
+
+        private void processTypedNonStringValue(ValueType type) throws JsonParserException {
+            String str = this.value();
+            BType expectedType = this.expectedType();
+            char ch = str.charAt(0);
+            if (ch == 't' && TRUE.equals(str)) {
+                this.setTypedValue(type, expectedType, BTypes.typeBoolean, Boolean.TRUE);
+            } else if (ch == 'f' && FALSE.equals(str)) {
+                this.setTypedValue(type, expectedType, BTypes.typeBoolean, Boolean.FALSE);
+            } else if (ch == 'n' && NULL.equals(str)) {
+                this.setTypedValue(type, expectedType, BTypes.typeNull, null);
+            } else {
+                try {
+                    this.processTypedNumber(type, expectedType, str);
+                } catch (NumberFormatException ignore) {
+                    throw new JsonParserException("unrecognized token '" + str + "'");
+                }
+            }
+        }
+
+        private void processTypedNumber(ValueType type, BType expectedType, String str) {
+            boolean isInt = str.indexOf('.') < 0 && str.indexOf('e') < 0 && str.indexOf('E') < 0;
+            BType sourceType = isInt ? BTypes.typeInt : BTypes.typeFloat;
+            BType matchingType = this.getMatchingType(expectedType, sourceType);
+            if (matchingType == null) {
+                // Singletons and the subtypes of int are checked against the json representation of the number.
+                this.setTypedValue(type, expectedType, sourceType,
+                        isInt ? (Object) Long.parseLong(str) : (Object) Double.parseDouble(str));
+                return;
+            }
+            switch (matchingType.getTag()) {
+                case TypeTags.INT_TAG:
+                    long intValue = isInt ? Long.parseLong(str) : TypeConverter.floatToInt(Double.parseDouble(str));
+                    if (type == ValueType.ARRAY_ELEMENT && this.isPrimitiveList(matchingType)) {
+                        ((ArrayValue) currentJsonNode).add(this.elementCounts[this.nodesStack.size()]++, intValue);
+                    } else {
+                        this.setTypedValue(type, intValue);
+                    }
+                    break;
+                case TypeTags.BYTE_TAG:
+                    long byteValue = Long.parseLong(str);
+                    if (!TypeChecker.isByteLiteral(byteValue)) {
+                        throw this.incompatibleValueError(sourceType, matchingType);
+                    }
+                    if (type == ValueType.ARRAY_ELEMENT && this.isPrimitiveList(matchingType)) {
+                        ((ArrayValue) currentJsonNode).add(this.elementCounts[this.nodesStack.size()]++,
+                                (byte) byteValue);
+                    } else {
+                        this.setTypedValue(type, (int) byteValue);
+                    }
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    double floatValue = Double.parseDouble(str);
+                    if (type == ValueType.ARRAY_ELEMENT && this.isPrimitiveList(matchingType)) {
+                        ((ArrayValue) currentJsonNode).add(this.elementCounts[this.nodesStack.size()]++, floatValue);
+                    } else {
+                        this.setTypedValue(type, floatValue);
+                    }
+                    break;
+                case TypeTags.DECIMAL_TAG:
+                    this.setTypedValue(type, new DecimalValue(str));
+                    break;
+                default:
+                    this.setTypedValue(type, isInt ? (Object) Long.parseLong(str) : (Object) Double.parseDouble(str));
+                    break;
+            }
+        }
+
+        private boolean isPrimitiveList(BType elementType) {
+            return currentType.getTag() == TypeTags.ARRAY_TAG &&
+                    ((BArrayType) currentType).getElementType() == elementType;
+        }
+
+        private void setTypedValue(ValueType type, BType expectedType, BType sourceType, Object value) {
+            if (this.getMatchingType(expectedType, sourceType) == null &&
+                    !(value == null ? expectedType.isNilable() : TypeChecker.checkIsType(value, expectedType))) {
+                throw this.incompatibleValueError(sourceType, expectedType);
+            }
+            this.setTypedValue(type, value);
+        }
+
+        private void setTypedValue(ValueType type, Object value) {
+            switch (type) {
+                case ARRAY_ELEMENT:
+                    ((ArrayValue) this.currentJsonNode).add(this.elementCounts[this.nodesStack.size()]++, value);
+                    break;
+                case FIELD:
+                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
+                            StringUtils.fromString(this.fieldNames.pop()), value);
+                    break;
+                default:
+                    this.currentJsonNode = value;
+                    break;
+            }
+        }
+
+        private ErrorValue incompatibleValueError(BType sourceType, BType expectedType) {
+            return this.typeError(BLangExceptionHelper.getErrorMessage(RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION,
+                    sourceType, expectedType), true);
+        }
+
+        private ErrorValue typeError(String message, boolean nextValue) {
+            return BallerinaErrors.createError(CONSTRUCT_FROM_CONVERSION_ERROR,
+                    message + " at '" + this.path(nextValue) + "'");
+        }
+
+        /**
+         * Returns the path of the current node, or of the value being read into it, in the form
+         * {@code $.orders[2].id}.
+         */
+        private String path(boolean nextValue) {
+            StringBuilder path = new StringBuilder("$");
+            if (currentType == null) {
+                return path.toString();
+            }
+            Iterator<String> names = this.fieldNames.descendingIterator();
+            Iterator<Object> nodes = this.nodesStack.descendingIterator();
+            int depth = 0;
+            while (nodes.hasNext()) {
+                this.appendPathSegment(path, nodes.next(), names, depth++);
+            }
+            if (nextValue) {
+                this.appendPathSegment(path, currentJsonNode, names, depth);
+            }
+            return path.toString();
+        }
+
+        private void appendPathSegment(StringBuilder path, Object node, Iterator<String> names, int depth) {
+            if (node instanceof MapValueImpl) {
+                if (names.hasNext()) {
+                    path.append('.').append(names.next());
+                }
+            } else {
+                path.append('[').append(this.elementCounts[depth]).append(']');
+            }
+        }
+
         /**
          * A specific state in the JSON parsing state machine.
          */
@@ -654,8 +1084,12 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        if (sm.targetType != null) {
+                            sm.processTypedStringValue(ValueType.FIELD);
+                        } else {
+                            ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
+                                    StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        }
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -687,7 +1121,11 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(sm.value());
+                        if (sm.targetType != null) {
+                            sm.processTypedStringValue(ValueType.ARRAY_ELEMENT);
+                        } else {
+                            ((ArrayValue) sm.currentJsonNode).append(sm.value());
+                        }
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -799,7 +1237,11 @@ public class JSONParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = sm.value();
+                        if (sm.targetType != null) {
+                            sm.processTypedStringValue(ValueType.VALUE);
+                        } else {
+                            sm.currentJsonNode = sm.value();
+                        }
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -823,6 +1265,10 @@ public class JSONParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
+            if (this.targetType != null) {
+                this.processTypedNonStringValue(type);
+                return;
+            }
             String str = value();
             if (str.indexOf('.') >= 0) {
                 try {
@@ -21,8 +21,6 @@ import org.ballerinalang.jvm.values.BmpStringValue;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
 import org.ballerinalang.jvm.values.api.BString;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -43,6 +41,9 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
  */
 public class StringUtils {
 
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int MAX_PREALLOCATED_STRING_LENGTH = 64 * 1024;
+
     /**
      * Check whether two strings are equal in value.
      * 
@@ -67,37 +68,46 @@ public class StringUtils {
      * @return Converted string
      */
     public static BString getStringFromInputStream(InputStream in) {
-        BufferedInputStream bis = new BufferedInputStream(in);
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        String result;
         try {
-            int data;
-            while ((data = bis.read()) != -1) {
-                bos.write(data);
-            }
-            result = bos.toString();
+            return StringUtils.fromString(readString(new InputStreamReader(in, Charset.defaultCharset()), -1));
         } catch (IOException ioe) {
             throw new BallerinaException("Error occurred when reading input stream", ioe);
-        } finally {
-            try {
-                bos.close();
-            } catch (IOException ignored) {
-            }
         }
-        return StringUtils.fromString(result);
     }
 
     public static BString getStringFromInputStream(InputStream inputStream, String charset) {
-        StringBuilder textBuilder = new StringBuilder();
+        return getStringFromInputStream(inputStream, charset, -1);
+    }
+
+    /**
+     * Convert input stream to String using the given charset. The stream is decoded in chunks as it is read, and
+     * the expected byte length, when known, is used to size the resulting string up front.
+     *
+     * @param inputStream Input stream to be converted to string
+     * @param charset     Charset of the content
+     * @param sizeHint    Expected length of the content in bytes or a negative value if not known
+     * @return Converted string
+     */
+    public static BString getStringFromInputStream(InputStream inputStream, String charset, long sizeHint) {
         try (Reader reader = new InputStreamReader(inputStream, Charset.forName(charset))) {
-            int character;
-            while ((character = reader.read()) != -1) {
-                textBuilder.append((char) character);
-            }
+            return StringUtils.fromString(readString(reader, sizeHint));
         } catch (IOException e) {
             throw new BallerinaException("Error occurred when reading input stream with the charset" + charset, e);
         }
-        return StringUtils.fromString(textBuilder.toString());
+    }
+
+    private static String readString(Reader reader, long sizeHint) throws IOException {
+        // A charset never decodes to more chars than there are bytes, so the hint is an upper bound for the
+        // capacity. It comes from the sender, hence only a small capacity is reserved upfront and the builder
+        // grows as the data arrives.
+        int capacity = sizeHint > 0 ? (int) Math.min(sizeHint, MAX_PREALLOCATED_STRING_LENGTH) : READ_BUFFER_SIZE;
+        StringBuilder textBuilder = new StringBuilder(capacity);
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int length;
+        while ((length = reader.read(buffer)) != -1) {
+            textBuilder.append(buffer, 0, length);
+        }
+        return textBuilder.toString();
     }
 
     public static String getStringAt(String s, long index) {
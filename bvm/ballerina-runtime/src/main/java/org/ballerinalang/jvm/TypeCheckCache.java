@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of subtype checks between two types, keyed on the identity of the types.
+ * <p>
+ * Entries live in a direct mapped table: an entry replaces whatever entry was in its slot before, so the cache never
+ * grows beyond its size. Entries are immutable, which lets strands read and replace them concurrently without locks.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private final Entry[] entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache holding up to the given number of entries, rounded up to a power of two.
+     *
+     * @param size maximum number of entries
+     */
+    public TypeCheckCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the cached result, or null if the pair is not cached
+     */
+    public Boolean get(BType sourceType, BType targetType) {
+        Entry entry = entries[slot(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param result     result of the check
+     */
+    public void put(BType sourceType, BType targetType, boolean result) {
+        entries[slot(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return entries.length;
+    }
+
+    /**
+     * Removes all entries and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    private int slot(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static class Entry {
+
+        final BType sourceType;
+        final BType targetType;
+        final boolean result;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
@@ -95,6 +95,10 @@ import static org.ballerinalang.jvm.util.BLangConstants.UNSIGNED8_MAX_VALUE;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    public static final String TYPE_CHECK_CACHE_SIZE_PROP = "ballerina.typecheck.cache.size";
+    private static final TypeCheckCache TYPE_CHECK_CACHE =
+            new TypeCheckCache(Integer.getInteger(TYPE_CHECK_CACHE_SIZE_PROP, 4096));
+
     public static Object checkCast(Object sourceVal, BType targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -634,11 +638,30 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                // Only checks that start afresh are cached, as the result of a nested check may rely on the
+                // assumptions made for the types still being resolved.
+                Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+                if (cachedResult != null) {
+                    return cachedResult;
+                }
+                boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+                TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+                return result;
         }
     }
 
+    /**
+     * Returns the cache of subtype checks between structured types.
+     *
+     * @return the type check cache
+     */
+    public static TypeCheckCache getTypeCheckCache() {
+        return TYPE_CHECK_CACHE;
+    }
+
     // Private methods
 
     private static boolean checkTypeDescType(BType sourceType, BTypedescType targetType,
@@ -1128,7 +1151,7 @@ public class TypeChecker {
                 !isInSameVisibilityRegion(Optional.ofNullable(lhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), Optional.ofNullable(rhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), lhsField.flags, rhsField.flags) ||
-                    !checkIsType(rhsField.type, lhsField.type, new ArrayList<>())) {
+                    !checkIsType(rhsField.type, lhsField.type)) {
                 return false;
             }
         }
@@ -1202,12 +1225,12 @@ public class TypeChecker {
         }
 
         for (int i = 0; i < source.paramTypes.length; i++) {
-            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i], new ArrayList<>())) {
+            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i])) {
                 return false;
             }
         }
 
-        return checkIsType(source.retType, targetType.retType, new ArrayList<>());
+        return checkIsType(source.retType, targetType.retType);
     }
 
     private static boolean checkIsServiceType(BType sourceType) {
@@ -1367,7 +1390,7 @@ public class TypeChecker {
     private static boolean checkIsLikeType(Object sourceValue, BType targetType, List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion) {
         BType sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -1645,7 +1668,7 @@ public class TypeChecker {
         for (int i = 0; i < bound; i++) {
             BType elementType = getArrayElementType(source, i);
             if (BTypes.isValueType(elementType)) {
-                if (!checkIsType(elementType, targetType.getTupleTypes().get(i), new ArrayList<>())) {
+                if (!checkIsType(elementType, targetType.getTupleTypes().get(i))) {
                     return false;
                 }
             } else {
@@ -1731,7 +1754,7 @@ public class TypeChecker {
         if (source.getType().getTag() == TypeTags.ARRAY_TAG) {
             BType sourceElementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(sourceElementType)) {
-                boolean isType = checkIsType(sourceElementType, targetTypeElementType, new ArrayList<>());
+                boolean isType = checkIsType(sourceElementType, targetTypeElementType);
 
                 if (isType || !allowNumericConversion || !isNumericType(sourceElementType)) {
                     return isType;
@@ -1794,7 +1817,7 @@ public class TypeChecker {
             ArrayValue source = (ArrayValue) sourceValue;
             BType elementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(elementType)) {
-                return checkIsType(elementType, targetType, new ArrayList<>());
+                return checkIsType(elementType, targetType);
             }
 
             Object[] arrayValues = source.getValues();
@@ -63,6 +63,7 @@ public class ObservabilityConstants {
     public static final String CONFIG_TABLE_OBSERVABILITY = "b7a.observability";
     public static final String CONFIG_TABLE_METRICS = CONFIG_TABLE_OBSERVABILITY + ".metrics";
     public static final String CONFIG_TABLE_TRACING = CONFIG_TABLE_OBSERVABILITY + ".tracing";
+    public static final String CONFIG_TABLE_PROFILER = CONFIG_TABLE_OBSERVABILITY + ".profiler";
 
     // Observability Configs
     public static final String CONFIG_OBSERVABILITY_ENABLED = CONFIG_TABLE_OBSERVABILITY + ".enabled";
@@ -72,4 +73,7 @@ public class ObservabilityConstants {
 
     // Tracing Configs
     public static final String CONFIG_TRACING_ENABLED = CONFIG_TABLE_TRACING + ".enabled";
+
+    // Profiler Configs
+    public static final String CONFIG_PROFILER_ENABLED = CONFIG_TABLE_PROFILER + ".enabled";
 }
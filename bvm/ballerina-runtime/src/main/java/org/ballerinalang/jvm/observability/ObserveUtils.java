@@ -90,7 +90,9 @@ public class ObserveUtils {
         observerContext.setResourceName(resourceName);
         observerContext.setServer();
         observerContext.setStarted();
-        observers.forEach(observer -> observer.startServerObservation(strand.observerContext));
+        for (BallerinaObserver observer : observers) {
+            observer.startServerObservation(observerContext);
+        }
         strand.setProperty(ObservabilityConstants.SERVICE_NAME, serviceName);
     }
 
@@ -105,9 +107,13 @@ public class ObserveUtils {
         }
         ObserverContext observerContext = strand.observerContext;
         if (observerContext.isServer()) {
-            observers.forEach(observer -> observer.stopServerObservation(observerContext));
+            for (BallerinaObserver observer : observers) {
+                observer.stopServerObservation(observerContext);
+            }
         } else {
-            observers.forEach(observer -> observer.stopClientObservation(observerContext));
+            for (BallerinaObserver observer : observers) {
+                observer.stopClientObservation(observerContext);
+            }
             setObserverContextToCurrentFrame(strand, observerContext.getParent());
         }
         observerContext.setFinished();
@@ -151,7 +157,9 @@ public class ObserveUtils {
         newObContext.setConnectorName(connectorName);
         newObContext.setActionName(actionName);
         strand.observerContext = newObContext;
-        observers.forEach(observer -> observer.startClientObservation(newObContext));
+        for (BallerinaObserver observer : observers) {
+            observer.startClientObservation(newObContext);
+        }
     }
 
     /**
@@ -17,6 +17,9 @@
  */
 package org.ballerinalang.jvm.observability;
 
+import org.ballerinalang.jvm.observability.metrics.MetricHandles;
+import org.ballerinalang.jvm.observability.tracer.TailSampledTrace;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,6 +58,16 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    private MetricHandles metricHandles;
+
+    private long startTime;
+
+    private boolean samplingDecided;
+
+    private boolean sampled;
+
+    private TailSampledTrace tailSampledTrace;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
@@ -147,4 +160,41 @@ public class ObserverContext {
     public void setSystemSpan(boolean userSpan) {
         isSystemSpan = userSpan;
     }
+
+    public MetricHandles getMetricHandles() {
+        return metricHandles;
+    }
+
+    public void setMetricHandles(MetricHandles metricHandles) {
+        this.metricHandles = metricHandles;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    public boolean isSamplingDecided() {
+        return samplingDecided;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+        this.samplingDecided = true;
+    }
+
+    public TailSampledTrace getTailSampledTrace() {
+        return tailSampledTrace;
+    }
+
+    public void setTailSampledTrace(TailSampledTrace tailSampledTrace) {
+        this.tailSampledTrace = tailSampledTrace;
+    }
 }
@@ -18,6 +18,10 @@
 package org.ballerinalang.jvm.observability;
 
 import org.ballerinalang.jvm.observability.tracer.BSpan;
+import org.ballerinalang.jvm.observability.tracer.TailSampledTrace;
+import org.ballerinalang.jvm.observability.tracer.TailSampler;
+import org.ballerinalang.jvm.observability.tracer.TraceManager;
+import org.ballerinalang.jvm.observability.tracer.TraceSampler;
 import org.ballerinalang.jvm.values.ErrorValue;
 
 import java.util.HashMap;
@@ -51,7 +55,13 @@ public class TracingUtils {
      * @param isClient        true if the starting span is a client
      */
     public static void startObservation(ObserverContext observerContext, boolean isClient) {
+        if (!sample(observerContext, isClient)) {
+            return;
+        }
         BSpan span = new BSpan(observerContext, isClient);
+        if (observerContext.getTailSampledTrace() != null) {
+            span.setStartTimestamp();
+        }
         span.setConnectorName(observerContext.getServiceName() != null ?
                 observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE);
 
@@ -105,7 +115,54 @@ public class TracingUtils {
                 span.logError(logProps);
             }
             span.addTags(observerContext.getTags());
-            span.finishSpan();
+            TailSampledTrace tailSampledTrace = observerContext.getTailSampledTrace();
+            if (tailSampledTrace == null) {
+                span.finishSpan();
+            } else if (tailSampledTrace.isRoot(observerContext)) {
+                tailSampledTrace.finishTrace(span);
+            } else {
+                tailSampledTrace.finishSpan(span);
+            }
+        }
+    }
+
+    /**
+     * Decides whether the span of an {@link ObserverContext} is recorded. The decision is taken once per trace,
+     * when its root span is started, and is inherited by the rest of the spans of the trace.
+     *
+     * @param observerContext context of the starting span
+     * @param isClient        true if the starting span is a client
+     * @return true if the span should be recorded
+     */
+    private static boolean sample(ObserverContext observerContext, boolean isClient) {
+        ObserverContext parent = observerContext.getParent();
+        if (parent != null && parent.isSamplingDecided()) {
+            observerContext.setSampled(parent.isSampled());
+            observerContext.setTailSampledTrace(parent.getTailSampledTrace());
+            return parent.isSampled();
+        }
+        boolean sampled;
+        if (!isClient && hasRemoteParent(observerContext)) {
+            // The remote parent is only propagated if it is recorded, so the trace is recorded here as well
+            sampled = true;
+        } else {
+            sampled = TraceSampler.getInstance().sample();
+        }
+        observerContext.setSampled(sampled);
+        TailSampler tailSampler = TailSampler.getInstance();
+        if (sampled && tailSampler != null) {
+            observerContext.setTailSampledTrace(tailSampler.newTrace(observerContext));
+        }
+        return sampled;
+    }
+
+    private static boolean hasRemoteParent(ObserverContext observerContext) {
+        Map<String, String> httpHeaders = (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+        if (httpHeaders == null || httpHeaders.isEmpty()) {
+            return false;
         }
+        String serviceName = observerContext.getServiceName() != null ?
+                observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE;
+        return TraceManager.getInstance().hasSpanContext(httpHeaders, serviceName);
     }
 }
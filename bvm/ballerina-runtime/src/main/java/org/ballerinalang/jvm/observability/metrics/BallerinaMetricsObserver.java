@@ -22,9 +22,10 @@ import org.ballerinalang.jvm.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.PROPERTY_ERROR;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE;
@@ -34,7 +35,6 @@ import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
-    private static final String PROPERTY_START_TIME = "_observation_start_time_";
     private static final String TAG_KEY_SERVICE = "service";
     private static final String TAG_KEY_RESOURCE = "resource";
     private static final String TAG_KEY_ACTION = "action";
@@ -58,17 +58,29 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    private static final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, MetricHandles>>>
+            resourceMetricHandles = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, MetricHandles>> actionMetricHandles =
+            new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        startObservation(observerContext, mainTags);
+        String serviceName = observerContext.getServiceName();
+        String resourceName = observerContext.getResourceName();
+        String[] mainTags = {TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, resourceName};
+        ConcurrentMap<String, MetricHandles> handlesOfService = null;
+        if (serviceName != null) {
+            handlesOfService = getHandlesOf(getHandlesOf(resourceMetricHandles, observerContext.getConnectorName()),
+                    serviceName);
+        }
+        startObservation(observerContext, handlesOfService, resourceName, mainTags);
     }
 
     @Override
     public void startClientObservation(ObserverContext observerContext) {
         String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        startObservation(observerContext, mainTags);
+        startObservation(observerContext, getHandlesOf(actionMetricHandles, observerContext.getConnectorName()),
+                observerContext.getActionName(), mainTags);
     }
 
     @Override
@@ -77,9 +89,7 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        stopObservation(observerContext, mainTags);
+        stopObservation(observerContext);
     }
 
     @Override
@@ -88,98 +98,76 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        stopObservation(observerContext, mainTags);
+        stopObservation(observerContext);
     }
 
-    private void startObservation(ObserverContext observerContext, String[] mainTags) {
-        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
+    private void startObservation(ObserverContext observerContext, ConcurrentMap<String, MetricHandles> handles,
+                                  String name, String[] mainTags) {
+        observerContext.setStartTime(System.nanoTime());
         String connectorName = observerContext.getConnectorName();
-        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(mainTagSet, mainTags);
-            getInprogressGauge(connectorName, mainTagSet).increment();
+            MetricHandles metricHandles = handles != null && name != null ? handles.get(name) : null;
+            if (metricHandles == null) {
+                // Tags are validated (both key and value should not be null) when the handles are created
+                metricHandles = new MetricHandles(metricRegistry, responseTimeStatisticConfigs, connectorName,
+                        mainTags);
+                MetricHandles existing = handles.putIfAbsent(name, metricHandles);
+                if (existing != null) {
+                    metricHandles = existing;
+                }
+            }
+            observerContext.setMetricHandles(metricHandles);
+            metricHandles.getInprogressGauge().increment();
         } catch (RuntimeException e) {
-            handleError(connectorName, mainTagSet, e);
+            handleError(connectorName, Arrays.asList(mainTags), e);
         }
     }
 
-    private void stopObservation(ObserverContext observerContext, String[] mainTags) {
+    private void stopObservation(ObserverContext observerContext) {
+        MetricHandles metricHandles = observerContext.getMetricHandles();
+        if (metricHandles == null) {
+            // The metrics could not be resolved when the observation started, and the error is already reported
+            return;
+        }
         // Connector name must be a part of the metric name to make sure that every metric is unique with
         // the combination of name and tags.
         String connectorName = observerContext.getConnectorName();
         Map<String, String> tags = observerContext.getTags();
-        Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.length);
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(allTags, observerContext.getTags());
-            Tags.tags(allTags, mainTags);
-            Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
-            Tags.tags(mainTagSet, mainTags);
-            Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
-            long duration = System.nanoTime() - startTime;
-            getInprogressGauge(connectorName, mainTagSet).decrement();
-            metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds", "Response Time",
-                    allTags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId(connectorName + "_requests_total",
-                    "Total number of requests", allTags)).increment();
+            long duration = System.nanoTime() - observerContext.getStartTime();
+            metricHandles.getInprogressGauge().decrement();
+            MetricHandles.TaggedMetrics taggedMetrics = metricHandles.getTaggedMetrics(tags);
+            taggedMetrics.getResponseTimeGauge().setValue(duration / 1E9);
+            taggedMetrics.getRequestsCounter().increment();
             // Check HTTP status code
             String statusCode = tags.get(TAG_KEY_HTTP_STATUS_CODE);
             if (statusCode != null) {
-                int httpStatusCode = Integer.parseInt(statusCode);
-                if (httpStatusCode > 0) {
-                    incrementHttpStatusCodeCounters(httpStatusCode, connectorName, mainTagSet);
+                Counter statusCodeCounter = metricHandles.getHttpStatusCodeCounter(Integer.parseInt(statusCode));
+                if (statusCodeCounter != null) {
+                    statusCodeCounter.increment();
                 }
             }
             Boolean error = (Boolean) observerContext.getProperty(PROPERTY_ERROR);
             if (error != null && error) {
-                metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
-                        "Total number of failed requests", allTags)).increment();
+                taggedMetrics.getFailedRequestsCounter().increment();
             }
         } catch (RuntimeException e) {
-            handleError(connectorName, allTags, e);
+            handleError(connectorName, metricHandles.getMainTags(), e);
         }
     }
 
-    private Gauge getInprogressGauge(String connectorName, Set<Tag> tags) {
-        return metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
-                "Inprogress Requests", tags));
-    }
-
-    private void incrementHttpStatusCodeCounters(int statusCode, String connectorName, Set<Tag> tags) {
-        metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                "Total number of requests that resulted in HTTP 1xx informational responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                "Total number of requests that resulted in HTTP 2xx successful responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                "Total number of requests that resulted in HTTP 3xx redirections", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                "Total number of requests that resulted in HTTP 4xx client errors", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                "Total number of requests that resulted in HTTP 5xx server errors", tags)).register();
-
-        if (statusCode >= 100 && statusCode < 200) {
-            metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                    "Total number of requests that resulted in HTTP 1xx informational responses", tags))
-                    .increment();
-        } else if (statusCode < 300) {
-            metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                    "Total number of requests that resulted in HTTP 2xx successful responses", tags))
-                    .increment();
-        } else if (statusCode < 400) {
-            metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                    "Total number of requests that resulted in HTTP 3xx redirections", tags)).increment();
-        } else if (statusCode < 500) {
-            metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                    "Total number of requests that resulted in HTTP 4xx client errors", tags)).increment();
-        } else if (statusCode < 600) {
-            metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                    "Total number of requests that resulted in HTTP 5xx server errors", tags)).increment();
+    private static <T> ConcurrentMap<String, T> getHandlesOf(ConcurrentMap<String, ConcurrentMap<String, T>> handles,
+                                                             String name) {
+        // Connector name is not set for all observations, and such observations share the same handles
+        String key = String.valueOf(name);
+        ConcurrentMap<String, T> handlesOfName = handles.get(key);
+        if (handlesOfName == null) {
+            handlesOfName = handles.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
         }
+        return handlesOfName;
     }
 
-    private void handleError(String connectorName, Set<Tag> tags, RuntimeException e) {
+    private void handleError(String connectorName, Object tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + connectorName + " with tags " + tags +
                 ": " + e.getMessage());
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.metrics;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metrics of a single resource or action, resolved from the {@link MetricRegistry} once and reused for every
+ * observation of it afterwards.
+ * <p>
+ * The in progress gauge and the HTTP status code counters only depend on the main tags, so they are bound when the
+ * handles are created. The response time gauge and the request counters also depend on the tags added to the
+ * observer context during the call, so they are bound per distinct tag map the first time it is seen.
+ *
+ * @since 2.0.0
+ */
+public class MetricHandles {
+
+    /**
+     * Upper bound for the distinct tag maps kept per resource or action. Calls with tag maps seen after the bound is
+     * reached are still recorded, but their metrics are looked up from the registry each time.
+     */
+    static final int MAX_TAGGED_METRICS = 1024;
+
+    private final MetricRegistry metricRegistry;
+    private final StatisticConfig[] responseTimeStatisticConfigs;
+    private final String connectorName;
+    private final Set<Tag> mainTags;
+    private final Gauge inprogressGauge;
+    private final ConcurrentMap<Map<String, String>, TaggedMetrics> taggedMetrics = new ConcurrentHashMap<>();
+    private volatile Counter[] httpStatusCodeCounters;
+
+    public MetricHandles(MetricRegistry metricRegistry, StatisticConfig[] responseTimeStatisticConfigs,
+                         String connectorName, String... mainTags) {
+        this.metricRegistry = metricRegistry;
+        this.responseTimeStatisticConfigs = responseTimeStatisticConfigs;
+        this.connectorName = connectorName;
+        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
+        // Tags are validated (both key and value should not be null)
+        Tags.tags(mainTagSet, mainTags);
+        this.mainTags = mainTagSet;
+        this.inprogressGauge = metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
+                "Inprogress Requests", mainTagSet));
+    }
+
+    public Set<Tag> getMainTags() {
+        return mainTags;
+    }
+
+    public Gauge getInprogressGauge() {
+        return inprogressGauge;
+    }
+
+    /**
+     * Returns the metrics for the given observer context tags. The map is only copied when it has not been seen
+     * before, so the tags of the current call can be passed in without copying them.
+     *
+     * @param tags the tags of the observer context
+     * @return the metrics bound to the main tags together with the given tags
+     */
+    public TaggedMetrics getTaggedMetrics(Map<String, String> tags) {
+        TaggedMetrics metrics = taggedMetrics.get(tags);
+        if (metrics != null) {
+            return metrics;
+        }
+        metrics = new TaggedMetrics(tags);
+        if (taggedMetrics.size() >= MAX_TAGGED_METRICS) {
+            return metrics;
+        }
+        TaggedMetrics existing = taggedMetrics.putIfAbsent(new HashMap<>(tags), metrics);
+        return existing != null ? existing : metrics;
+    }
+
+    /**
+     * Returns the counter for the class of the given HTTP status code, or {@code null} if it is not a valid status
+     * code. All the status code counters are registered together so that each of them is reported.
+     *
+     * @param statusCode the HTTP status code
+     * @return the counter for the class of the status code
+     */
+    public Counter getHttpStatusCodeCounter(int statusCode) {
+        if (statusCode < 100 || statusCode >= 600) {
+            return null;
+        }
+        Counter[] counters = httpStatusCodeCounters;
+        if (counters == null) {
+            counters = new Counter[]{
+                    statusCodeCounter("1XX", "HTTP 1xx informational responses"),
+                    statusCodeCounter("2XX", "HTTP 2xx successful responses"),
+                    statusCodeCounter("3XX", "HTTP 3xx redirections"),
+                    statusCodeCounter("4XX", "HTTP 4xx client errors"),
+                    statusCodeCounter("5XX", "HTTP 5xx server errors")
+            };
+            httpStatusCodeCounters = counters;
+        }
+        return counters[statusCode / 100 - 1];
+    }
+
+    private Counter statusCodeCounter(String statusCodeClass, String description) {
+        return metricRegistry.counter(new MetricId(connectorName + "_" + statusCodeClass + "_requests_total",
+                "Total number of requests that resulted in " + description, mainTags));
+    }
+
+    /**
+     * Metrics bound to the main tags together with the tags of the observer context.
+     */
+    public class TaggedMetrics {
+
+        private final Set<Tag> allTags;
+        private final Gauge responseTimeGauge;
+        private final Counter requestsCounter;
+        private volatile Counter failedRequestsCounter;
+
+        TaggedMetrics(Map<String, String> tags) {
+            Set<Tag> allTagSet = new HashSet<>(tags.size() + mainTags.size());
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(allTagSet, tags);
+            allTagSet.addAll(mainTags);
+            this.allTags = allTagSet;
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds",
+                    "Response Time", allTagSet), responseTimeStatisticConfigs);
+            this.requestsCounter = metricRegistry.counter(new MetricId(connectorName + "_requests_total",
+                    "Total number of requests", allTagSet));
+        }
+
+        public Set<Tag> getAllTags() {
+            return allTags;
+        }
+
+        public Gauge getResponseTimeGauge() {
+            return responseTimeGauge;
+        }
+
+        public Counter getRequestsCounter() {
+            return requestsCounter;
+        }
+
+        public Counter getFailedRequestsCounter() {
+            Counter counter = failedRequestsCounter;
+            if (counter == null) {
+                counter = metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
+                        "Total number of failed requests", allTags));
+                failedRequestsCounter = counter;
+            }
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.profiler;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.launch.LaunchListener;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_PROFILER_ENABLED;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_TABLE_PROFILER;
+
+/**
+ * Listen to Launcher events and start the strand profiler.
+ *
+ * @since 2.0.0
+ */
+public class ProfilerLaunchListener implements LaunchListener {
+
+    private static final PrintStream consoleError = System.err;
+    private static final String PROFILER_INTERVAL_MS = CONFIG_TABLE_PROFILER + ".interval.ms";
+    private static final String PROFILER_OUTPUT = CONFIG_TABLE_PROFILER + ".output";
+    private static final String DEFAULT_PROFILER_INTERVAL_MS = "100";
+    private static final String METRIC_PREFIX = "ballerina_scheduler_";
+
+    @Override
+    public void beforeRunProgram(boolean service) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (StrandProfiler.isEnabled() || !configRegistry.getAsBoolean(CONFIG_PROFILER_ENABLED)) {
+            return;
+        }
+        long intervalMillis;
+        try {
+            intervalMillis = Long.parseLong(configRegistry.getConfigOrDefault(PROFILER_INTERVAL_MS,
+                    DEFAULT_PROFILER_INTERVAL_MS));
+        } catch (NumberFormatException e) {
+            consoleError.println("error: error in observability profiler configurations: " + e.getMessage());
+            return;
+        }
+        StrandProfiler profiler = StrandProfiler.getInstance();
+        profiler.start(intervalMillis);
+        registerSchedulerMetrics(profiler);
+
+        String output = configRegistry.getConfigOrDefault(PROFILER_OUTPUT, null);
+        if (output != null) {
+            // Services run until the process is stopped, so the profile is written out on shutdown
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writeProfile(profiler, output)));
+        }
+    }
+
+    @Override
+    public void afterRunProgram(boolean service) {
+    }
+
+    private void registerSchedulerMetrics(StrandProfiler profiler) {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            return;
+        }
+        PolledGauge.builder(METRIC_PREFIX + "queue_depth", profiler, StrandProfiler::getQueueDepth)
+                .description("Strand groups waiting for a worker thread").register();
+        PolledGauge.builder(METRIC_PREFIX + "live_strands", profiler, StrandProfiler::getLiveStrandCount)
+                .description("Strands which are not done").register();
+        PolledGauge.builder(METRIC_PREFIX + "blocked_strands", profiler, StrandProfiler::getBlockedStrandCount)
+                .description("Strands which were blocked at the last sample").register();
+        for (StrandActivity activity : StrandActivity.values()) {
+            PolledGauge.builder(METRIC_PREFIX + "strands", profiler, p -> p.getStrandCount(activity))
+                    .description("Strands in each activity at the last sample")
+                    .tag("activity", activity.name().toLowerCase(Locale.ENGLISH)).register();
+        }
+    }
+
+    private static void writeProfile(StrandProfiler profiler, String output) {
+        profiler.stop();
+        try (Writer writer = Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            profiler.writeCollapsedStacks(writer);
+        } catch (IOException e) {
+            consoleError.println("error: error writing the strand profile to " + output + ": " + e.getMessage());
+        }
+    }
+}
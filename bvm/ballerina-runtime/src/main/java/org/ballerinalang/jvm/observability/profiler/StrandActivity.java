@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.profiler;
+
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+
+/**
+ * What a strand was doing when it was sampled by the {@link StrandProfiler}. This refines the {@link State} of the
+ * strand with the reason it is blocked.
+ *
+ * @since 2.0.0
+ */
+public enum StrandActivity {
+
+    /**
+     * Running on a thread.
+     */
+    RUNNING,
+    /**
+     * Ready to run, and waiting for a worker thread.
+     */
+    QUEUED,
+    /**
+     * Yielded, and about to be rescheduled.
+     */
+    YIELDED,
+    /**
+     * Blocked on sending to, receiving from or flushing a worker channel.
+     */
+    WAITING_ON_WORKER,
+    /**
+     * Blocked on acquiring a lock.
+     */
+    WAITING_ON_LOCK,
+    /**
+     * Blocked on waiting for other strands to complete.
+     */
+    WAITING_ON_FUTURE,
+    /**
+     * Blocked on an extern function which completes asynchronously.
+     */
+    BLOCKED_ON_EXTERN;
+
+    /**
+     * Returns the activity of the given strand, or null if the strand is done.
+     *
+     * @param strand the strand
+     * @return the activity of the strand
+     */
+    public static StrandActivity of(Strand strand) {
+        State state = strand.getState();
+        if (state == State.DONE) {
+            return null;
+        }
+        if (strand.isBlockedOnExtern()) {
+            return BLOCKED_ON_EXTERN;
+        }
+        if (strand.isBlockedOn()) {
+            return WAITING_ON_FUTURE;
+        }
+        if (strand.isBlocked()) {
+            return strand.isBlockedOnLock() ? WAITING_ON_LOCK : WAITING_ON_WORKER;
+        }
+        if (strand.getThread() != null) {
+            return RUNNING;
+        }
+        return state == State.YIELD ? YIELDED : QUEUED;
+    }
+
+    /**
+     * Returns true if the strand is blocked with this activity.
+     *
+     * @return true if the activity is a blocked one
+     */
+    public boolean isBlocked() {
+        return this != RUNNING && this != QUEUED && this != YIELDED;
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.profiler;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BLANG_SRC_FILE_SUFFIX;
+
+/**
+ * Sampling profiler which periodically records what each live strand is doing, and the Ballerina function it is in.
+ * <p>
+ * The function stack of a strand which is running is taken from the stack trace of its thread, keeping only the
+ * frames of Ballerina functions. The function stack of a strand which has yielded is taken from the frames it saved
+ * when yielding. The samples are aggregated into a histogram per function and per {@link StrandActivity}, and into
+ * collapsed stacks, which can be rendered as a flame graph.
+ * <p>
+ * Strands are only tracked by schedulers created while the profiler is enabled, and schedulers are tracked until
+ * they shut down.
+ *
+ * @since 2.0.0
+ */
+public class StrandProfiler {
+
+    private static final StrandProfiler instance = new StrandProfiler();
+    private static final String FRAME_CLASS_SUFFIX = "Frame";
+    private static final String STACK_SEPARATOR = ";";
+    private static final int MAX_STACK_DEPTH = 128;
+
+    private static volatile boolean enabled;
+
+    private final Set<Scheduler> schedulers = ConcurrentHashMap.newKeySet();
+    private final Set<Strand> strands = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService samplerExecutor;
+
+    // Aggregated samples, guarded by this profiler
+    private final Map<String, long[]> functionSamples = new HashMap<>();
+    private final Map<String, Long> collapsedStacks = new HashMap<>();
+    private final long[] activitySamples = new long[StrandActivity.values().length];
+    private volatile long[] lastActivityCounts = new long[StrandActivity.values().length];
+
+    private StrandProfiler() {
+    }
+
+    public static StrandProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Checks whether strands are being tracked for profiling.
+     *
+     * @return true if the profiler is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables tracking of the strands of the schedulers created from now on, without sampling them periodically.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables the profiler. Sampling is stopped and the schedulers and strands tracked so far are released, the
+     * samples taken so far are kept.
+     */
+    public static void disable() {
+        enabled = false;
+        instance.stop();
+        instance.schedulers.clear();
+        instance.strands.clear();
+    }
+
+    /**
+     * Enables the profiler, and samples the strands periodically on a daemon thread.
+     *
+     * @param intervalMillis interval between two samples in milliseconds
+     */
+    public synchronized void start(long intervalMillis) {
+        enable();
+        if (samplerExecutor != null) {
+            return;
+        }
+        samplerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jbal-strand-profiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        samplerExecutor.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling the strands periodically. The strands are still tracked, and the samples taken so far are kept.
+     */
+    public synchronized void stop() {
+        if (samplerExecutor != null) {
+            samplerExecutor.shutdownNow();
+            samplerExecutor = null;
+        }
+    }
+
+    public void addScheduler(Scheduler scheduler) {
+        if (enabled) {
+            schedulers.add(scheduler);
+        }
+    }
+
+    public void removeScheduler(Scheduler scheduler) {
+        schedulers.remove(scheduler);
+    }
+
+    public void addStrand(Strand strand) {
+        // Schedulers created while the profiler was enabled keep reporting strands after it is disabled
+        if (enabled) {
+            strands.add(strand);
+        }
+    }
+
+    public void removeStrand(Strand strand) {
+        strands.remove(strand);
+    }
+
+    /**
+     * Records the activity and the function stack of each live strand once.
+     */
+    public synchronized void sample() {
+        long[] activityCounts = new long[StrandActivity.values().length];
+        for (Strand strand : strands) {
+            StrandActivity activity = StrandActivity.of(strand);
+            if (activity == null) {
+                continue;
+            }
+            Optional<List<String>> stack = getFunctionStack(strand);
+            if (!stack.isPresent()) {
+                // The strand moved to another thread while its stack trace was taken
+                continue;
+            }
+            activityCounts[activity.ordinal()]++;
+            record(activity, stack.get());
+        }
+        for (int i = 0; i < activityCounts.length; i++) {
+            activitySamples[i] += activityCounts[i];
+        }
+        lastActivityCounts = activityCounts;
+    }
+
+    private void record(StrandActivity activity, List<String> stack) {
+        String function = stack.isEmpty() ? "" : stripLineNumber(stack.get(0));
+        functionSamples.computeIfAbsent(function, k -> new long[StrandActivity.values().length])[activity.ordinal()]++;
+
+        // Collapsed stacks start from the outermost frame, with the activity as the root
+        StringBuilder collapsedStack = new StringBuilder(activity.name());
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            collapsedStack.append(STACK_SEPARATOR).append(stack.get(i));
+        }
+        collapsedStacks.merge(collapsedStack.toString(), 1L, Long::sum);
+    }
+
+    /**
+     * Returns the Ballerina function stack of the given strand, starting from the innermost function.
+     */
+    private static Optional<List<String>> getFunctionStack(Strand strand) {
+        Thread thread = strand.getThread();
+        if (thread != null) {
+            StackTraceElement[] stackTrace = thread.getStackTrace();
+            if (strand.getThread() != thread) {
+                return Optional.empty();
+            }
+            List<String> stack = new ArrayList<>();
+            for (int i = 0; i < stackTrace.length && stack.size() < MAX_STACK_DEPTH; i++) {
+                Optional<StackTraceElement> element = BallerinaErrors.filterStackTraceElement(stackTrace[i], i);
+                element.ifPresent(stackTraceElement -> stack.add(getFunctionName(stackTraceElement)));
+            }
+            return Optional.of(stack);
+        }
+
+        Object[] frames = strand.frames;
+        if (frames == null) {
+            return Optional.of(Collections.emptyList());
+        }
+        int depth = Math.min(Math.min(strand.resumeIndex, frames.length), MAX_STACK_DEPTH);
+        List<String> stack = new ArrayList<>(depth);
+        // Frames are saved starting from the innermost function when a strand yields
+        for (int i = 0; i < depth; i++) {
+            Object frame = frames[i];
+            if (frame != null) {
+                stack.add(getFunctionName(frame.getClass()));
+            }
+        }
+        return Optional.of(stack);
+    }
+
+    private static String getFunctionName(StackTraceElement stackTraceElement) {
+        String className = stackTraceElement.getClassName();
+        String fileName = stackTraceElement.getFileName();
+        if (fileName != null) {
+            // Module level functions are in a class per source file
+            String fileClassName = "." + fileName.replace(BLANG_SRC_FILE_SUFFIX, "").replace("/", "-");
+            if (className.endsWith(fileClassName)) {
+                className = className.substring(0, className.length() - fileClassName.length());
+            }
+        }
+        String functionName = className + ":" + stackTraceElement.getMethodName();
+        int lineNumber = stackTraceElement.getLineNumber();
+        if (lineNumber < 0) {
+            return functionName;
+        }
+        // Running strands are sampled at the line they are executing
+        return functionName + ":" + lineNumber;
+    }
+
+    /**
+     * Returns the function of a stack frame name, so that samples taken at different lines of a function are
+     * counted together in the function histogram.
+     */
+    private static String stripLineNumber(String frameName) {
+        int lineStart = frameName.lastIndexOf(':') + 1;
+        if (lineStart == 0 || frameName.indexOf(':') == lineStart - 1) {
+            return frameName;
+        }
+        return frameName.substring(0, lineStart - 1);
+    }
+
+    private static String getFunctionName(Class<?> frameClass) {
+        String className = frameClass.getName();
+        if (className.endsWith(FRAME_CLASS_SUFFIX)) {
+            className = className.substring(0, className.length() - FRAME_CLASS_SUFFIX.length());
+        }
+        int packageEnd = className.lastIndexOf('.');
+        if (packageEnd < 0) {
+            return className;
+        }
+        return className.substring(0, packageEnd) + ":" + className.substring(packageEnd + 1);
+    }
+
+    /**
+     * Returns the number of samples taken in each activity, for each innermost Ballerina function.
+     *
+     * @return samples per function and activity
+     */
+    public synchronized Map<String, Map<StrandActivity, Long>> getFunctionHistogram() {
+        Map<String, Map<StrandActivity, Long>> histogram = new HashMap<>();
+        functionSamples.forEach((function, samples) -> histogram.put(function, toActivityMap(samples)));
+        return histogram;
+    }
+
+    /**
+     * Returns the number of samples taken in each activity.
+     *
+     * @return samples per activity
+     */
+    public synchronized Map<StrandActivity, Long> getActivityHistogram() {
+        return toActivityMap(activitySamples);
+    }
+
+    /**
+     * Writes the samples as collapsed stacks, one line per distinct stack followed by the number of samples of it.
+     * The root of each stack is the activity of the strand. This is the input format of flame graph tools.
+     *
+     * @param writer writer to write the stacks to
+     * @throws IOException if the stacks cannot be written
+     */
+    public synchronized void writeCollapsedStacks(Writer writer) throws IOException {
+        for (Map.Entry<String, Long> stack : collapsedStacks.entrySet()) {
+            writer.write(stack.getKey());
+            writer.write(' ');
+            writer.write(String.valueOf(stack.getValue()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Discards the samples taken so far.
+     */
+    public synchronized void reset() {
+        functionSamples.clear();
+        collapsedStacks.clear();
+        for (int i = 0; i < activitySamples.length; i++) {
+            activitySamples[i] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of strands in the given activity at the last sample.
+     *
+     * @param activity the activity
+     * @return number of strands
+     */
+    public long getStrandCount(StrandActivity activity) {
+        return lastActivityCounts[activity.ordinal()];
+    }
+
+    /**
+     * Returns the number of strands which were blocked at the last sample.
+     *
+     * @return number of blocked strands
+     */
+    public long getBlockedStrandCount() {
+        long[] activityCounts = lastActivityCounts;
+        long blocked = 0;
+        for (StrandActivity activity : StrandActivity.values()) {
+            if (activity.isBlocked()) {
+                blocked += activityCounts[activity.ordinal()];
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * Returns the number of strands which are not done.
+     *
+     * @return number of live strands
+     */
+    public int getLiveStrandCount() {
+        return strands.size();
+    }
+
+    /**
+     * Returns the number of strand groups waiting for a worker thread, across all the profiled schedulers.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        int queueDepth = 0;
+        for (Scheduler scheduler : schedulers) {
+            queueDepth += scheduler.getQueueDepth();
+        }
+        return queueDepth;
+    }
+
+    private static Map<StrandActivity, Long> toActivityMap(long[] samples) {
+        Map<StrandActivity, Long> activityMap = new EnumMap<>(StrandActivity.class);
+        for (StrandActivity activity : StrandActivity.values()) {
+            if (samples[activity.ordinal()] > 0) {
+                activityMap.put(activity, samples[activity.ordinal()]);
+            }
+        }
+        return activityMap;
+    }
+}
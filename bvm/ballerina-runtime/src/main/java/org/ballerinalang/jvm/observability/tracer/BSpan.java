@@ -24,6 +24,7 @@ import org.ballerinalang.jvm.observability.ObserverContext;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_ACTION_NAME;
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_CONNECTOR_NAME;
@@ -65,6 +66,17 @@ public class BSpan {
      * Open tracer specific span.
      */
     private Span span;
+    /**
+     * Start and finish timestamps, only set if the span is started and finished with explicit timestamps.
+     */
+    private long startTimestampMicros;
+    private long startNanoTime;
+    private long finishTimestampMicros;
+    private long durationNanos;
+    /**
+     * Whether an error was logged to the span.
+     */
+    private boolean error;
 
     public BSpan(ObserverContext observerContext, boolean isClientContext) {
         this.properties = new HashMap<>();
@@ -88,6 +100,7 @@ public class BSpan {
     }
 
     public void logError(Map<String, Object> fields) {
+        error = true;
         addTags(Collections.singletonMap(TAG_KEY_STR_ERROR, TAG_STR_TRUE));
         manager.log(this, fields);
 
@@ -150,6 +163,39 @@ public class BSpan {
         this.span = span;
     }
 
+    public boolean isError() {
+        return error;
+    }
+
+    /**
+     * Sets the start time of the span to the current time, instead of leaving it to the tracer.
+     */
+    public void setStartTimestamp() {
+        startNanoTime = System.nanoTime();
+        startTimestampMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+
+    /**
+     * Sets the finish time of a span started with an explicit timestamp to the current time, so that it can be
+     * finished later on.
+     */
+    public void setFinishTimestamp() {
+        durationNanos = System.nanoTime() - startNanoTime;
+        finishTimestampMicros = startTimestampMicros + TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    }
+
+    public long getStartTimestampMicros() {
+        return startTimestampMicros;
+    }
+
+    public long getFinishTimestampMicros() {
+        return finishTimestampMicros;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
     public Map<String, String> getTraceContext() {
         return manager.extractTraceContext(span, connectorName);
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.jvm.observability.ObserverContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spans of a single trace held by the {@link TailSampler} until the root span of the trace finishes.
+ * <p>
+ * The spans are started with explicit timestamps, so that they keep their actual start and finish times when they
+ * are finished after the trace is kept.
+ *
+ * @since 2.0.0
+ */
+public class TailSampledTrace {
+
+    private final TailSampler sampler;
+    private final ObserverContext rootContext;
+    private List<BSpan> spans = new ArrayList<>();
+    private boolean error;
+    private boolean decided;
+    private boolean kept;
+
+    TailSampledTrace(TailSampler sampler, ObserverContext rootContext) {
+        this.sampler = sampler;
+        this.rootContext = rootContext;
+    }
+
+    public boolean isRoot(ObserverContext observerContext) {
+        return observerContext == rootContext;
+    }
+
+    /**
+     * Finishes a span of the trace other than the root span. The span is reported right away if the trace is
+     * already kept, and held until the root span finishes otherwise. A span with an error logged to it marks the
+     * whole trace to be kept.
+     *
+     * @param span span to be finished
+     */
+    public synchronized void finishSpan(BSpan span) {
+        span.setFinishTimestamp();
+        error |= span.isError();
+        if (decided) {
+            if (kept) {
+                span.finishSpan();
+            }
+            return;
+        }
+        if (sampler.reserve()) {
+            spans.add(span);
+        }
+    }
+
+    /**
+     * Finishes the root span of the trace, and decides whether the trace is kept.
+     *
+     * @param rootSpan root span of the trace
+     * @return true if the trace is kept
+     */
+    public synchronized boolean finishTrace(BSpan rootSpan) {
+        rootSpan.setFinishTimestamp();
+        error |= rootSpan.isError();
+        decided = true;
+        kept = error || sampler.isSlow(rootSpan.getDurationNanos());
+        if (kept) {
+            for (BSpan span : spans) {
+                span.finishSpan();
+            }
+            rootSpan.finishSpan();
+        }
+        sampler.release(spans.size());
+        spans = null;
+        return kept;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.ObserverContext;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_TAIL_SAMPLING_LATENCY_THRESHOLD_MS;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_TAIL_SAMPLING_MAX_BUFFER_SPANS;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_ENABLED_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_LATENCY_THRESHOLD_MS_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_MAX_BUFFER_SPANS_CONFIG;
+
+/**
+ * {@code TailSampler} keeps the spans of a trace in memory until its root span finishes, and reports them only if
+ * the trace had an error or its root span took longer than the latency threshold.
+ * <p>
+ * The number of spans held across all the traces is bounded. Spans which do not fit are dropped, unless their trace
+ * is already known to be kept.
+ *
+ * @since 2.0.0
+ */
+public class TailSampler {
+
+    private static final PrintStream consoleError = System.err;
+    private static final TailSampler instance = fromConfig(ConfigRegistry.getInstance());
+
+    private final long latencyThresholdNanos;
+    private final int maxBufferedSpans;
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+
+    public TailSampler(long latencyThresholdMillis, int maxBufferedSpans) {
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.maxBufferedSpans = maxBufferedSpans;
+    }
+
+    /**
+     * Returns the tail sampler, or null if tail sampling is not enabled.
+     *
+     * @return the tail sampler
+     */
+    public static TailSampler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts buffering a new trace.
+     *
+     * @param rootContext observer context of the root span of the trace
+     * @return the buffer of the trace
+     */
+    public TailSampledTrace newTrace(ObserverContext rootContext) {
+        return new TailSampledTrace(this, rootContext);
+    }
+
+    public int getBufferedSpans() {
+        return bufferedSpans.get();
+    }
+
+    boolean isSlow(long durationNanos) {
+        return durationNanos >= latencyThresholdNanos;
+    }
+
+    boolean reserve() {
+        while (true) {
+            int buffered = bufferedSpans.get();
+            if (buffered >= maxBufferedSpans) {
+                return false;
+            }
+            if (bufferedSpans.compareAndSet(buffered, buffered + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(int spans) {
+        bufferedSpans.addAndGet(-spans);
+    }
+
+    private static TailSampler fromConfig(ConfigRegistry configRegistry) {
+        if (!configRegistry.getAsBoolean(TAIL_SAMPLING_ENABLED_CONFIG)) {
+            return null;
+        }
+        try {
+            long latencyThresholdMillis = Long.parseLong(configRegistry.getConfigOrDefault(
+                    TAIL_SAMPLING_LATENCY_THRESHOLD_MS_CONFIG,
+                    String.valueOf(DEFAULT_TAIL_SAMPLING_LATENCY_THRESHOLD_MS)));
+            int maxBufferedSpans = Integer.parseInt(configRegistry.getConfigOrDefault(
+                    TAIL_SAMPLING_MAX_BUFFER_SPANS_CONFIG, String.valueOf(DEFAULT_TAIL_SAMPLING_MAX_BUFFER_SPANS)));
+            return new TailSampler(latencyThresholdMillis, maxBufferedSpans);
+        } catch (NumberFormatException e) {
+            consoleError.println("error: error in observability tracing tail sampling configurations: " +
+                    e.getMessage() + ". Tail sampling is disabled");
+            return null;
+        }
+    }
+}
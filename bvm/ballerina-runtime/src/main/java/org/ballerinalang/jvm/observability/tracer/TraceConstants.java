@@ -51,4 +51,20 @@ public class TraceConstants {
     public static final String JAEGER = "jaeger";
     public static final String TRACER_NAME_CONFIG = CONFIG_TABLE_TRACING + ".name";
 
+    public static final String SAMPLER_TYPE_CONFIG = CONFIG_TABLE_TRACING + ".sampler.type";
+    public static final String SAMPLER_PARAM_CONFIG = CONFIG_TABLE_TRACING + ".sampler.param";
+    public static final String TAIL_SAMPLING_ENABLED_CONFIG = CONFIG_TABLE_TRACING + ".tail.enabled";
+    public static final String TAIL_SAMPLING_LATENCY_THRESHOLD_MS_CONFIG =
+            CONFIG_TABLE_TRACING + ".tail.latency.threshold.ms";
+    public static final String TAIL_SAMPLING_MAX_BUFFER_SPANS_CONFIG = CONFIG_TABLE_TRACING + ".tail.max.buffer.spans";
+
+    public static final String SAMPLER_TYPE_CONST = "const";
+    public static final String SAMPLER_TYPE_PROBABILISTIC = "probabilistic";
+    public static final String SAMPLER_TYPE_RATE_LIMITING = "ratelimiting";
+
+    static final String DEFAULT_SAMPLER_TYPE = SAMPLER_TYPE_CONST;
+    static final int DEFAULT_SAMPLER_PARAM = 1;
+    static final int DEFAULT_TAIL_SAMPLING_LATENCY_THRESHOLD_MS = 1000;
+    static final int DEFAULT_TAIL_SAMPLING_MAX_BUFFER_SPANS = 10000;
+
 }
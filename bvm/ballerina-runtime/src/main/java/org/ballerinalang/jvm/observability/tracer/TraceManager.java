@@ -53,10 +53,11 @@ public class TraceManager {
 
             Span span;
             if (parentBSpan != null) {
-                span = startSpan(resource, parentBSpan.getSpan(), activeBSpan.getTags(), service, false);
+                span = startSpan(resource, parentBSpan.getSpan(), activeBSpan.getTags(), service, false,
+                        activeBSpan.getStartTimestampMicros());
             } else {
                 span = startSpan(resource, extractSpanContext(activeBSpan.getProperties(), service),
-                        activeBSpan.getTags(), service, true);
+                        activeBSpan.getTags(), service, true, activeBSpan.getStartTimestampMicros());
             }
 
             activeBSpan.setSpan(span);
@@ -64,7 +65,12 @@ public class TraceManager {
     }
 
     public void finishSpan(BSpan bSpan) {
-        bSpan.getSpan().finish();
+        long finishTimestampMicros = bSpan.getFinishTimestampMicros();
+        if (finishTimestampMicros > 0) {
+            bSpan.getSpan().finish(finishTimestampMicros);
+        } else {
+            bSpan.getSpan().finish();
+        }
     }
 
     public void log(BSpan bSpan, Map<String, Object> fields) {
@@ -85,8 +91,20 @@ public class TraceManager {
         return carrierMap;
     }
 
+    /**
+     * Checks whether the given trace context carries the span context of a remote parent span.
+     *
+     * @param traceContext trace context propagated to the service
+     * @param serviceName  name of the service
+     * @return true if the trace context has a span context
+     */
+    public boolean hasSpanContext(Map<String, String> traceContext, String serviceName) {
+        return extractSpanContext(traceContext, serviceName) != null;
+    }
+
     private Span startSpan(String spanName, Object spanContextMap,
-                           Map<String, String> tags, String serviceName, boolean isParent) {
+                           Map<String, String> tags, String serviceName, boolean isParent,
+                           long startTimestampMicros) {
         Tracer tracer = tracerStore.getTracer(serviceName);
         Tracer.SpanBuilder spanBuilder = tracer.buildSpan(spanName);
 
@@ -101,6 +119,9 @@ public class TraceManager {
                 spanBuilder = spanBuilder.asChildOf((Span) spanContextMap);
             }
         }
+        if (startTimestampMicros > 0) {
+            spanBuilder = spanBuilder.withStartTimestamp(startTimestampMicros);
+        }
         return spanBuilder.start();
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_SAMPLER_PARAM;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_SAMPLER_TYPE;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_PARAM_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_CONST;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_PROBABILISTIC;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_RATE_LIMITING;
+
+/**
+ * {@code TraceSampler} decides whether a trace is recorded, when its root span is started. The decision is taken
+ * before any span is created, so that the requests which are not sampled do not pay for creating and reporting
+ * spans.
+ *
+ * @since 2.0.0
+ */
+public abstract class TraceSampler {
+
+    private static final PrintStream consoleError = System.err;
+    private static final TraceSampler instance = fromConfig(ConfigRegistry.getInstance());
+
+    public static TraceSampler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Decides whether a new trace is recorded.
+     *
+     * @return true if the trace should be recorded
+     */
+    public abstract boolean sample();
+
+    /**
+     * Creates a sampler of the given type.
+     *
+     * @param type  one of {@code const}, {@code probabilistic} or {@code ratelimiting}
+     * @param param 0 or 1 to record none or all traces for {@code const}, the probability of recording a trace for
+     *              {@code probabilistic}, and the number of traces recorded per second for {@code ratelimiting}
+     * @return the sampler
+     */
+    public static TraceSampler create(String type, double param) {
+        switch (type) {
+            case SAMPLER_TYPE_CONST:
+                return new ConstSampler(param != 0);
+            case SAMPLER_TYPE_PROBABILISTIC:
+                if (param < 0 || param > 1) {
+                    throw new IllegalArgumentException("sampling probability must be between 0 and 1: " + param);
+                }
+                return new ProbabilisticSampler(param);
+            case SAMPLER_TYPE_RATE_LIMITING:
+                if (param < 0) {
+                    throw new IllegalArgumentException("traces per second must not be negative: " + param);
+                }
+                return new RateLimitingSampler(param);
+            default:
+                throw new IllegalArgumentException("unknown sampler type: " + type);
+        }
+    }
+
+    private static TraceSampler fromConfig(ConfigRegistry configRegistry) {
+        String type = configRegistry.getConfigOrDefault(SAMPLER_TYPE_CONFIG, DEFAULT_SAMPLER_TYPE);
+        try {
+            double param = Double.parseDouble(configRegistry.getConfigOrDefault(SAMPLER_PARAM_CONFIG,
+                    String.valueOf(DEFAULT_SAMPLER_PARAM)));
+            return create(type, param);
+        } catch (IllegalArgumentException e) {
+            consoleError.println("error: error in observability tracing sampler configurations: " + e.getMessage() +
+                    ". Defaulted to sampling all traces");
+            return new ConstSampler(true);
+        }
+    }
+
+    /**
+     * Records either all or none of the traces.
+     */
+    private static class ConstSampler extends TraceSampler {
+
+        private final boolean decision;
+
+        ConstSampler(boolean decision) {
+            this.decision = decision;
+        }
+
+        @Override
+        public boolean sample() {
+            return decision;
+        }
+    }
+
+    /**
+     * Records each trace with a fixed probability.
+     */
+    private static class ProbabilisticSampler extends TraceSampler {
+
+        private final double probability;
+
+        ProbabilisticSampler(double probability) {
+            this.probability = probability;
+        }
+
+        @Override
+        public boolean sample() {
+            return ThreadLocalRandom.current().nextDouble() < probability;
+        }
+    }
+
+    /**
+     * Records at most a fixed number of traces per second, allowing a burst of up to one second worth of traces.
+     * The earliest time the next trace can be recorded at is advanced by the interval between two traces each time
+     * a trace is recorded, which keeps the sampler free of locks.
+     */
+    private static class RateLimitingSampler extends TraceSampler {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong nextSampleNanos;
+
+        RateLimitingSampler(double tracesPerSecond) {
+            this.intervalNanos = tracesPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond) :
+                    Long.MAX_VALUE;
+            this.burstNanos = Math.max(TimeUnit.SECONDS.toNanos(1) - intervalNanos, 0);
+            this.nextSampleNanos = new AtomicLong(System.nanoTime());
+        }
+
+        @Override
+        public boolean sample() {
+            if (intervalNanos == Long.MAX_VALUE) {
+                return false;
+            }
+            long now = System.nanoTime();
+            while (true) {
+                long next = nextSampleNanos.get();
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                // Time that was not used while no trace was recorded does not add to the burst
+                if (nextSampleNanos.compareAndSet(next, (next - now < 0 ? now : next) + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.util.BLangConstants;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.System.err;
+
+/**
+ * Runs the blocking operations of extern functions, such as JDBC calls or file system access, on a bounded pool of
+ * threads separate from the strand workers of the {@link Scheduler}.
+ * <p>
+ * The calling strand yields while its operation is queued and running, and is resumed with the result of the
+ * operation, so a slow operation does not hold a strand worker. When the queue is full the operation runs on the
+ * calling thread, which slows down the callers instead of failing them. In the virtual thread mode of the scheduler
+ * the operation always runs on the calling thread, since a blocked strand only blocks its own virtual thread.
+ * <p>
+ * The pool has 64 threads by default, which can be changed with the BALLERINA_BLOCKING_POOL_SIZE environment
+ * variable. The queue holds 1024 operations by default, which can be changed with BALLERINA_BLOCKING_QUEUE_SIZE.
+ *
+ * @since 2.0.0
+ */
+public class BlockingOperationExecutor {
+
+    static final String METRIC_QUEUE_DEPTH = "blocking_operations_queue_depth";
+    static final String METRIC_ACTIVE = "blocking_operations_active";
+    static final String METRIC_COMPLETED = "blocking_operations_total";
+    static final String METRIC_WAIT_TIME = "blocking_operations_wait_time_nanoseconds_total";
+
+    private static final int DEFAULT_POOL_SIZE = 64;
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    private static final LongAdder completed = new LongAdder();
+    private static final LongAdder waitTimeNanos = new LongAdder();
+
+    private BlockingOperationExecutor() {
+    }
+
+    /**
+     * A blocking operation, which computes the return value of an extern function.
+     */
+    @FunctionalInterface
+    public interface BlockingOperation {
+
+        /**
+         * Runs the operation. An exception thrown from here is returned as an error value, hence only extern
+         * functions which can return an error should throw.
+         *
+         * @return the return value of the extern function
+         * @throws Exception if the operation fails
+         */
+        Object run() throws Exception;
+    }
+
+    /**
+     * Runs the given operation for the extern function being executed by the current strand. If the current thread
+     * is a strand worker, the strand yields and is resumed with the result, and this method returns null. Otherwise,
+     * or in the virtual thread mode, the operation runs on the current thread, and its result is returned.
+     *
+     * @param operation the blocking operation
+     * @return the result of the operation when it runs on the current thread, else null
+     */
+    public static Object execute(BlockingOperation operation) {
+        Strand strand = getStrand();
+        if (strand == null || strand.scheduler.isVirtualThreadMode()) {
+            return run(operation);
+        }
+        NonBlockingCallback callback = new NonBlockingCallback(strand);
+        long queuedAt = System.nanoTime();
+        Runnable task = () -> {
+            waitTimeNanos.add(System.nanoTime() - queuedAt);
+            callback.setReturnValues(run(operation));
+            completed.increment();
+            callback.notifySuccess();
+        };
+        try {
+            Holder.EXECUTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+        return null;
+    }
+
+    public static int getQueueDepth() {
+        return Holder.EXECUTOR.getQueue().size();
+    }
+
+    public static int getActiveCount() {
+        return Holder.EXECUTOR.getActiveCount();
+    }
+
+    public static long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public static long getTotalWaitTimeNanos() {
+        return waitTimeNanos.sum();
+    }
+
+    private static Object run(BlockingOperation operation) {
+        try {
+            return operation.run();
+        } catch (ErrorValue error) {
+            return error;
+        } catch (Throwable t) {
+            String message = t.getMessage();
+            return BallerinaErrors.createError(message == null ? t.getClass().getName() : message);
+        }
+    }
+
+    private static Strand getStrand() {
+        try {
+            return Scheduler.getStrand();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static int getSize(String envVariable, int defaultSize) {
+        String size = System.getenv(envVariable);
+        if (size == null) {
+            return defaultSize;
+        }
+        try {
+            return Integer.parseInt(size);
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" + envVariable + ", " +
+                    e.getMessage());
+            return defaultSize;
+        }
+    }
+
+    private static void registerMetrics(ThreadPoolExecutor executor) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        PolledGauge.builder(METRIC_QUEUE_DEPTH, executor, pool -> pool.getQueue().size())
+                .description("Number of blocking operations waiting for a thread").register(registry);
+        PolledGauge.builder(METRIC_ACTIVE, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of blocking operations being run").register(registry);
+        PolledGauge.builder(METRIC_COMPLETED, completed, LongAdder::doubleValue)
+                .description("Number of blocking operations completed").register(registry);
+        PolledGauge.builder(METRIC_WAIT_TIME, waitTimeNanos, LongAdder::doubleValue)
+                .description("Total time blocking operations waited in the queue").register(registry);
+    }
+
+    /**
+     * Creates the thread pool on first use.
+     */
+    private static class Holder {
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            int poolSize = getSize(BLangConstants.BALLERINA_BLOCKING_POOL_SIZE_ENV_VAR, DEFAULT_POOL_SIZE);
+            int queueSize = getSize(BLangConstants.BALLERINA_BLOCKING_QUEUE_SIZE_ENV_VAR, DEFAULT_QUEUE_SIZE);
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(queueSize), runnable -> {
+                        Thread thread = new Thread(runnable, "jbal-blocking-io-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            registerMetrics(executor);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked up by the scheduler worker threads.
+ *
+ * @since 2.0.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Makes the given group available for execution. Implementations may prefer the queue of the calling
+     * worker thread, if the caller is one.
+     *
+     * @param group group that is ready to run
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Blocks until a group is available for the given worker and returns it.
+     *
+     * @param workerId index of the worker thread that is taking the group
+     * @return next group to be executed by the worker
+     * @throws InterruptedException if the worker thread is interrupted while waiting
+     */
+    ItemGroup take(int workerId) throws InterruptedException;
+
+    /**
+     * Returns the approximate number of groups waiting to be executed.
+     *
+     * @return number of runnable groups
+     */
+    int size();
+}
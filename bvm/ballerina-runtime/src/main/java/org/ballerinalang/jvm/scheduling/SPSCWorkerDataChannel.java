@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
+import static org.ballerinalang.jvm.scheduling.State.RUNNABLE;
+
+/**
+ * Lock free {@link WorkerDataChannel} for channels that have a single sending strand and a single receiving strand.
+ * The compiler picks it for channels that are only used with asynchronous sends, for which sending and receiving
+ * never take a lock.
+ * <p>
+ * Sender side errors and panics are queued after the data, so that the receiver picks them once all the data sent
+ * before the failure has been received. Sync sends, flushes and receiver side failures, which need the two sides to
+ * coordinate, are supported as well. The receiver counts the results it has taken, and a sender waiting for the
+ * receiver to catch up publishes itself with a compare-and-set, in the same way a waiting receiver does.
+ *
+ * @since 2.0.0
+ */
+public class SPSCWorkerDataChannel extends WorkerDataChannel {
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private final AtomicReference<Strand> syncSender = new AtomicReference<>();
+    private final AtomicReference<Strand> flushSender = new AtomicReference<>();
+    private final SPSCQueue queue = new SPSCQueue();
+
+    // Written by the receiving strand only.
+    private volatile long received;
+    private volatile FailedResult receiverFailure;
+    private volatile long flushTarget;
+
+    // Accessed by the sending strand only.
+    private long sent;
+    private long syncTarget = -1;
+
+    public SPSCWorkerDataChannel(String channelName) {
+        super(channelName);
+    }
+
+    @Override
+    public void sendData(Object data, Strand sender) {
+        queue.offer(new WorkerResult(data));
+        sent++;
+        notifyReceiver();
+    }
+
+    @Override
+    public Object syncSendData(Object data, Strand strand) throws Throwable {
+        Object result = putSyncData(data, strand);
+        while (strand.blockInPlace()) {
+            result = putSyncData(data, strand);
+        }
+        return result;
+    }
+
+    private Object putSyncData(Object data, Strand strand) throws Throwable {
+        if (syncTarget < 0) {
+            // This is a new message, not a reschedule
+            FailedResult failure = receiverFailure;
+            if (failure != null) {
+                return getValue(failure);
+            }
+            queue.offer(new WorkerResult(data, true));
+            syncTarget = ++sent;
+            notifyReceiver();
+        }
+
+        while (true) {
+            if (received >= syncTarget) {
+                syncTarget = -1;
+                return null;
+            }
+            FailedResult failure = receiverFailure;
+            if (failure != null) {
+                syncTarget = -1;
+                return getValue(failure);
+            }
+
+            // Same as the receiver, publish the waiting sender before checking again.
+            strand.setState(BLOCK_AND_YIELD);
+            syncSender.set(strand);
+            if ((received < syncTarget && receiverFailure == null) || !syncSender.compareAndSet(strand, null)) {
+                // Either the receiver has not caught up yet, or it has already picked the sender to unblock it.
+                return null;
+            }
+            strand.setState(RUNNABLE);
+        }
+    }
+
+    @Override
+    protected Object takeData(Strand strand) throws Throwable {
+        WorkerResult result = queue.poll();
+        if (result != null) {
+            return received(result);
+        }
+
+        // Publish the receiver before checking the queue again, so that a concurrent sender either sees the receiver
+        // and unblocks it, or the data it sent is visible to the second check.
+        strand.setState(BLOCK_AND_YIELD);
+        receiver.set(strand);
+        if (queue.isEmpty() || !receiver.compareAndSet(strand, null)) {
+            // Either nothing to receive yet, or the sender has already picked the receiver to unblock it.
+            return null;
+        }
+
+        strand.setState(RUNNABLE);
+        return received(queue.poll());
+    }
+
+    @Override
+    public void setSendError(ErrorValue error) {
+        queue.offer(new FailedResult(error, null));
+        notifyReceiver();
+    }
+
+    @Override
+    public void setSendPanic(Throwable panic) {
+        queue.offer(new FailedResult(null, panic));
+        notifyReceiver();
+    }
+
+    @Override
+    public void setReceiveError(ErrorValue error) {
+        receiverFailed(new FailedResult(error, null));
+    }
+
+    @Override
+    public void setReceiverPanic(Throwable panic) {
+        receiverFailed(new FailedResult(null, panic));
+    }
+
+    @Override
+    public ErrorValue flushChannel(Strand strand) throws Throwable {
+        FailedResult failure = receiverFailure;
+        if (failure != null) {
+            return (ErrorValue) getValue(failure);
+        }
+        long target = sent;
+        if (received < target) {
+            flushTarget = target;
+            flushSender.set(strand);
+            if ((received < target && receiverFailure == null) || !flushSender.compareAndSet(strand, null)) {
+                // The receiver completes the flush once it has taken all the data sent so far.
+                return null;
+            }
+            failure = receiverFailure;
+            if (failure != null) {
+                return (ErrorValue) getValue(failure);
+            }
+        }
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
+        return null;
+    }
+
+    @Override
+    public void removeFlushWait() {
+        flushSender.set(null);
+    }
+
+    private Object received(WorkerResult result) throws Throwable {
+        received = received + 1;
+        notifySenders(null);
+        return getValue(result);
+    }
+
+    private void receiverFailed(FailedResult failure) {
+        receiverFailure = failure;
+        notifySenders(failure);
+    }
+
+    private void notifyReceiver() {
+        if (receiver.get() == null) {
+            return;
+        }
+        Strand waiting = receiver.getAndSet(null);
+        if (waiting != null) {
+            waiting.scheduler.unblockStrand(waiting);
+        }
+    }
+
+    private void notifySenders(FailedResult failure) {
+        if (syncSender.get() != null) {
+            // The sync sender checks whether its message has been received once it is resumed.
+            Strand waiting = syncSender.getAndSet(null);
+            if (waiting != null) {
+                waiting.scheduler.unblockStrand(waiting);
+            }
+        }
+        if (flushSender.get() != null && (failure != null || received >= flushTarget)) {
+            Strand waiting = flushSender.getAndSet(null);
+            if (waiting != null) {
+                completeFlush(waiting, failure);
+            }
+        }
+    }
+
+    private static void completeFlush(Strand flushStrand, FailedResult failure) {
+        Strand.FlushDetail flushDetail = flushStrand.flushDetail;
+        flushDetail.flushLock.lock();
+        try {
+            if (failure != null && failure.panic != null) {
+                flushDetail.panic = failure.panic;
+                if (flushStrand.isBlocked()) {
+                    flushStrand.scheduler.unblockStrand(flushStrand);
+                }
+            } else if (failure != null) {
+                if (flushStrand.isBlocked()) {
+                    flushDetail.result = (ErrorValue) failure.value;
+                    flushStrand.scheduler.unblockStrand(flushStrand);
+                }
+            } else {
+                flushDetail.flushedCount++;
+                // Will continue if this is a sync wait, will try to flush again if blocked on flush
+                if (flushDetail.flushedCount == flushDetail.flushChannels.length && flushStrand.isBlocked()) {
+                    flushStrand.scheduler.unblockStrand(flushStrand);
+                }
+            }
+        } finally {
+            flushDetail.flushLock.unlock();
+        }
+    }
+
+    private static Object getValue(WorkerResult result) throws Throwable {
+        if (result instanceof FailedResult) {
+            FailedResult failure = (FailedResult) result;
+            if (failure.panic != null) {
+                throw failure.panic;
+            }
+            return failure.value;
+        }
+        return result.value;
+    }
+
+    /**
+     * Sender side error or panic, queued after the data sent by the failed sender, or a receiver side failure.
+     */
+    private static class FailedResult extends WorkerResult {
+
+        private final Throwable panic;
+
+        FailedResult(ErrorValue error, Throwable panic) {
+            super(error);
+            this.panic = panic;
+        }
+    }
+
+    /**
+     * Unbounded single producer single consumer linked queue.
+     */
+    private static class SPSCQueue {
+
+        private Node head;
+        private Node tail;
+
+        SPSCQueue() {
+            Node stub = new Node(null);
+            this.head = stub;
+            this.tail = stub;
+        }
+
+        /**
+         * Only called by the sending strand.
+         */
+        void offer(WorkerResult value) {
+            Node node = new Node(value);
+            tail.next = node;
+            tail = node;
+        }
+
+        /**
+         * Only called by the receiving strand.
+         */
+        WorkerResult poll() {
+            Node next = head.next;
+            if (next == null) {
+                return null;
+            }
+            WorkerResult value = next.value;
+            next.value = null;
+            head = next;
+            return value;
+        }
+
+        /**
+         * Only called by the receiving strand.
+         */
+        boolean isEmpty() {
+            return head.next == null;
+        }
+    }
+
+    private static class Node {
+
+        WorkerResult value;
+        volatile Node next;
+
+        Node(WorkerResult value) {
+            this.value = value;
+        }
+    }
+}
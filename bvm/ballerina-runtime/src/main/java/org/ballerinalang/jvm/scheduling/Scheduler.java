@@ -17,6 +17,7 @@
 package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.observability.profiler.StrandProfiler;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.util.BLangConstants;
@@ -29,14 +30,17 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -44,13 +48,20 @@ import static org.ballerinalang.jvm.scheduling.ItemGroup.POISON_PILL;
 
 /**
  * Strand scheduler for JBallerina.
+ * <p>
+ * By default the strands are run by a fixed number of worker threads, and a strand that has to block yields its
+ * worker thread and is resumed from its saved frames once it is unblocked. In the virtual thread mode each strand
+ * runs on its own virtual thread instead, and blocks that thread in place, so worker interactions, waits and locks
+ * do not unwind the strand's frames, and a blocking extern call does not hold a worker thread that other strands
+ * need. The frames are still used for extern functions that complete asynchronously, since those return before
+ * their result is available.
  *
  * @since 0.995.0
  */
 public class Scheduler {
 
 
-    private PrintStream err = System.err;
+    private static final PrintStream err = System.err;
     /**
      * Scheduler does not get killed if the immortal value is true. Specific to services.
      */
@@ -58,7 +69,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -66,6 +77,32 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * Work stealing is used unless the BALLERINA_SCHEDULER_SHARED_QUEUE system variable is set to true.
+     */
+    private static boolean sharedQueueConf =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_SCHEDULER_SHARED_QUEUE_ENV_VAR));
+
+    /**
+     * Each strand runs on its own virtual thread if the BALLERINA_SCHEDULER_VIRTUAL_THREADS system variable is set to
+     * true and the JVM supports virtual threads.
+     */
+    private static boolean virtualThreadsConf =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_SCHEDULER_VIRTUAL_THREADS_ENV_VAR));
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    /**
+     * Creates the threads of the strands in the virtual thread mode, null in the default mode.
+     */
+    private final ThreadFactory strandThreadFactory;
+
+    /**
+     * Strands scheduled in the virtual thread mode before the scheduler is started.
+     */
+    private final List<SchedulerItem> pendingItems = new ArrayList<>();
+    private boolean started;
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -76,6 +113,11 @@ public class Scheduler {
 
     private Semaphore mainBlockSem;
 
+    /**
+     * Whether the strands of this scheduler are tracked by the {@link StrandProfiler}.
+     */
+    private final boolean profiled = StrandProfiler.isEnabled();
+
     public Scheduler(boolean immortal) {
         try {
             if (poolSizeConf != null) {
@@ -88,11 +130,131 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.strandThreadFactory = getConfiguredThreadFactory();
+        this.runnableList = createRunnableQueue(numThreads, !sharedQueueConf, strandThreadFactory);
+        this.mainBlockSem = strandThreadFactory != null ? new Semaphore(0) : null;
+        if (profiled) {
+            StrandProfiler.getInstance().addScheduler(this);
+        }
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, !sharedQueueConf);
+    }
+
+    /**
+     * Creates a scheduler with the given queue model.
+     *
+     * @param numThreads   number of worker threads
+     * @param immortal     whether the scheduler should keep running after all the strands are done
+     * @param workStealing whether each worker should have its own run queue, instead of a single shared queue
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
+        this(numThreads, immortal, workStealing, getConfiguredThreadFactory());
+    }
+
+    /**
+     * Creates a scheduler with the given execution mode.
+     *
+     * @param numThreads     number of worker threads, unused in the virtual thread mode
+     * @param immortal       whether the scheduler should keep running after all the strands are done
+     * @param workStealing   whether each worker should have its own run queue, instead of a single shared queue
+     * @param virtualThreads whether each strand should run on its own virtual thread
+     * @throws UnsupportedOperationException if virtual threads are requested but not supported by the JVM
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing, boolean virtualThreads) {
+        this(numThreads, immortal, workStealing, virtualThreads ? getVirtualThreadFactory() : null);
+    }
+
+    private Scheduler(int numThreads, boolean immortal, boolean workStealing, ThreadFactory strandThreadFactory) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.strandThreadFactory = strandThreadFactory;
+        this.runnableList = createRunnableQueue(numThreads, workStealing, strandThreadFactory);
+        this.mainBlockSem = strandThreadFactory != null ? new Semaphore(0) : null;
+        if (profiled) {
+            StrandProfiler.getInstance().addScheduler(this);
+        }
+    }
+
+    /**
+     * Returns the approximate number of strand groups waiting for a worker thread. Always zero in the virtual thread
+     * mode, where each strand has its own thread.
+     *
+     * @return number of runnable strand groups
+     */
+    public int getQueueDepth() {
+        return runnableList != null ? runnableList.size() : 0;
+    }
+
+    /**
+     * Returns the number of worker threads of the scheduler.
+     *
+     * @return number of worker threads
+     */
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    /**
+     * Checks whether the strands of this scheduler run on their own virtual threads.
+     *
+     * @return true in the virtual thread mode
+     */
+    public boolean isVirtualThreadMode() {
+        return strandThreadFactory != null;
+    }
+
+    /**
+     * Checks whether the JVM supports virtual threads, which are needed for the virtual thread mode.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        // Virtual threads are looked up reflectively, since the runtime is built for older JVMs as well.
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "jbal-strand-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory getVirtualThreadFactory() {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("virtual threads are not supported by this JVM");
+        }
+        return VIRTUAL_THREAD_FACTORY;
+    }
+
+    private static ThreadFactory getConfiguredThreadFactory() {
+        if (!virtualThreadsConf) {
+            return null;
+        }
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            // Log and continue with the default mode
+            err.println("ballerina: virtual threads are not supported by this JVM, ignoring system variable:" +
+                    BLangConstants.BALLERINA_SCHEDULER_VIRTUAL_THREADS_ENV_VAR);
+        }
+        return VIRTUAL_THREAD_FACTORY;
+    }
+
+    private static RunnableQueue createRunnableQueue(int numThreads, boolean workStealing,
+                                                     ThreadFactory strandThreadFactory) {
+        if (strandThreadFactory != null) {
+            // Strands are started on their own threads, without a run queue
+            return null;
+        }
+        if (workStealing) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        return new SharedRunnableQueue();
     }
 
     public static Strand getStrand() {
@@ -136,6 +298,10 @@ public class Scheduler {
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
         future.strand.strandGroup = parent.strandGroup;
+        if (strandThreadFactory != null) {
+            startStrand(item);
+            return future;
+        }
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
             runnableList.add(future.strand.strandGroup);
@@ -179,6 +345,18 @@ public class Scheduler {
         return schedule(params, function, parent, future);
     }
 
+    /**
+     * Add a task to the runnable list in a new strand group, which will eventually be executed by the Scheduler.
+     *
+     * @param params   - parameters to be passed to the function
+     * @param function - function to be executed
+     * @param future   - future created for the task with {@link #createFuture}
+     * @return - Reference to the scheduled task
+     */
+    public FutureValue schedule(Object[] params, Function function, FutureValue future) {
+        return schedule(params, function, null, future);
+    }
+
     private FutureValue schedule(Object[] params, Function function, Strand parent, FutureValue future) {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
@@ -186,6 +364,10 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
+        if (strandThreadFactory != null) {
+            startStrand(item);
+            return future;
+        }
         group.scheduled.set(true);
         runnableList.add(group);
         return future;
@@ -209,17 +391,26 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
+        if (strandThreadFactory != null) {
+            startStrand(item);
+            return future;
+        }
         group.scheduled.set(true);
         runnableList.add(group);
         return future;
     }
 
     public void start() {
+        if (strandThreadFactory != null) {
+            startStrands();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i;
+            new Thread(() -> this.runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -227,12 +418,152 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Starts the strands scheduled so far on their own threads, and blocks until the scheduler is stopped, in the
+     * virtual thread mode.
+     */
+    private void startStrands() {
+        List<SchedulerItem> items;
+        synchronized (pendingItems) {
+            started = true;
+            items = new ArrayList<>(pendingItems);
+            pendingItems.clear();
+        }
+        items.forEach(this::startStrand);
+        try {
+            this.mainBlockSem.acquire();
+        } catch (InterruptedException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+        synchronized (pendingItems) {
+            started = false;
+        }
+    }
+
+    private void startStrand(SchedulerItem item) {
+        synchronized (pendingItems) {
+            if (!started) {
+                pendingItems.add(item);
+                return;
+            }
+        }
+        Thread thread = strandThreadFactory.newThread(() -> runStrandSafely(item));
+        item.thread = thread;
+        thread.start();
+    }
+
+    private void runStrandSafely(SchedulerItem item) {
+        try {
+            runStrand(item);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    /**
+     * Executes the given strand on the current thread, in the virtual thread mode. The strands of a group take turns
+     * to run, as they do on a single worker thread in the default mode.
+     */
+    private void runStrand(SchedulerItem item) {
+        Strand strand = item.future.strand;
+        ReentrantLock groupLock = strand.strandGroup.lock;
+        groupLock.lock();
+        try {
+            while (true) {
+                Object result = null;
+                Throwable panic = null;
+                try {
+                    strandHolder.get().strand = strand;
+                    if (profiled) {
+                        strand.thread = Thread.currentThread();
+                    }
+                    result = item.execute();
+                } catch (Throwable e) {
+                    panic = createError(e);
+                    notifyChannels(item, panic);
+
+                    if (!(panic instanceof ErrorValue)) {
+                        RuntimeUtils.printCrashLog(panic);
+                    }
+                } finally {
+                    strandHolder.get().strand = null;
+                    if (profiled) {
+                        strand.thread = null;
+                    }
+                }
+
+                if (item.isYielded()) {
+                    if (panic == null) {
+                        // Yielded from an operation that cannot block in place, such as an extern call that
+                        // completes asynchronously. The strand resumes from its frames once it is unblocked.
+                        park(strand);
+                        continue;
+                    }
+                    // Please refer #18763.
+                    RuntimeUtils.printCrashLog(panic);
+                    item.setState(State.RUNNABLE);
+                }
+                postProcess(item, result, panic);
+                return;
+            }
+        } finally {
+            groupLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks the current thread until the given strand is unblocked, in the virtual thread mode. The other strands of
+     * its group can run in the meantime.
+     *
+     * @param strand the blocked strand, which runs on the current thread
+     */
+    void park(Strand strand) {
+        if (strand.isBlockedOn()) {
+            WaitContext waitContext = strand.waitContext;
+            waitContext.lock();
+            waitContext.intermediate = false;
+            if (waitContext.runnable) {
+                waitContext.completed = true;
+                strand.setState(State.YIELD);
+            }
+            waitContext.unLock();
+        }
+
+        ReentrantLock groupLock = strand.strandGroup.lock;
+        groupLock.unlock();
+        try {
+            strand.lock();
+            while (strand.isBlocked()) {
+                strand.unlock();
+                LockSupport.park(this);
+                strand.lock();
+            }
+            strand.setState(State.RUNNABLE);
+            strand.unlock();
+        } finally {
+            groupLock.lock();
+        }
+    }
+
+    /**
+     * Wakes up the thread of the given strand if it is blocked, in the virtual thread mode.
+     */
+    private void wake(SchedulerItem item) {
+        Strand strand = item.future.strand;
+        strand.lock();
+        if (strand.isYielded()) {
+            strand.setState(State.YIELD);
+        }
+        strand.unlock();
+        LockSupport.unpark(item.thread);
+    }
+
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -241,12 +572,12 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
         while (true) {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runnableList.take(workerId);
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -264,6 +595,9 @@ public class Scheduler {
 
                 try {
                     strandHolder.get().strand = item.future.strand;
+                    if (profiled) {
+                        item.future.strand.thread = Thread.currentThread();
+                    }
                     result = item.execute();
                 } catch (Throwable e) {
                     panic = createError(e);
@@ -279,6 +613,9 @@ public class Scheduler {
                     }
                 } finally {
                     strandHolder.get().strand = null;
+                    if (profiled) {
+                        item.future.strand.thread = null;
+                    }
                 }
 
                 postProcess(item, result, panic);
@@ -358,12 +695,10 @@ public class Scheduler {
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.size() == 0;
+                    assert runnableList == null || runnableList.size() == 0;
 
                     if (!immortal) {
-                        for (int i = 0; i < numThreads; i++) {
-                            runnableList.add(POISON_PILL);
-                        }
+                        poison();
                     }
                 }
                 break;
@@ -382,6 +717,10 @@ public class Scheduler {
     }
 
     public void unblockStrand(Strand strand) {
+        if (strandThreadFactory != null) {
+            wake(strand.schedulerItem);
+            return;
+        }
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
@@ -395,6 +734,13 @@ public class Scheduler {
     }
 
     private void cleanUp(Strand justCompleted) {
+        if (justCompleted.blockedOnLock != null) {
+            // The strand was woken up to retry a lock, but completed without retrying, e.g. due to cancellation.
+            justCompleted.blockedOnLock.cancelWait(justCompleted);
+        }
+        if (profiled) {
+            StrandProfiler.getInstance().removeStrand(justCompleted);
+        }
         justCompleted.scheduler = null;
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
@@ -405,13 +751,7 @@ public class Scheduler {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
 
         for (ChannelDetails details: channels) {
-            WorkerDataChannel wdChannel;
-
-            if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
-            } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
-            }
+            WorkerDataChannel wdChannel = item.future.strand.getWorkerDataChannel(details);
 
             if (details.send) {
                 wdChannel.setSendPanic(panic);
@@ -422,6 +762,10 @@ public class Scheduler {
     }
 
     private void reschedule(SchedulerItem item) {
+        if (strandThreadFactory != null) {
+            wake(item);
+            return;
+        }
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
@@ -445,10 +789,20 @@ public class Scheduler {
         }
         FutureValue future = new FutureValue(newStrand, callback, constraint);
         future.strand.frames = new Object[100];
+        if (profiled) {
+            StrandProfiler.getInstance().addStrand(newStrand);
+        }
         return future;
     }
 
     public void poison() {
+        if (profiled) {
+            StrandProfiler.getInstance().removeScheduler(this);
+        }
+        if (strandThreadFactory != null) {
+            mainBlockSem.release();
+            return;
+        }
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
         }
@@ -465,6 +819,10 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    /**
+     * Thread the item runs on, in the virtual thread mode.
+     */
+    Thread thread;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -520,6 +878,11 @@ class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Held by the item of the group that is running, in the virtual thread mode.
+     */
+    final ReentrantLock lock = new ReentrantLock();
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
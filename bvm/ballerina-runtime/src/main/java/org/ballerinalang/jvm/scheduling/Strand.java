@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.BLock;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -28,6 +29,7 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,6 +59,7 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    public BLock blockedOnLock;
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
@@ -72,6 +75,11 @@ public class Strand {
     public TransactionLocalContext transactionLocalContext;
     private State state;
     private final ReentrantLock strandLock;
+    private ArrayList<BLock> heldLocks;
+    /**
+     * Thread this strand is running on, only tracked while the strand profiler is enabled.
+     */
+    volatile Thread thread;
 
     public Strand(Scheduler scheduler) {
         this.scheduler = scheduler;
@@ -124,6 +132,14 @@ public class Strand {
     }
 
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
+        ErrorValue result = flush(channels);
+        while (blockInPlace()) {
+            result = flush(channels);
+        }
+        return result;
+    }
+
+    private ErrorValue flush(ChannelDetails[] channels) throws Throwable {
         try {
             if (flushDetail == null) {
                 this.flushDetail = new FlushDetail(channels);
@@ -173,6 +189,13 @@ public class Strand {
     }
 
     public void handleWaitMultiple(Map<String, FutureValue> keyValues, MapValue target) throws Throwable {
+        waitMultiple(keyValues, target);
+        while (blockInPlace()) {
+            waitMultiple(keyValues, target);
+        }
+    }
+
+    private void waitMultiple(Map<String, FutureValue> keyValues, MapValue target) throws Throwable {
         WaitContext ctx = new WaitMultipleContext(this.schedulerItem);
         ctx.waitCount.set(keyValues.size());
         ctx.lock();
@@ -208,6 +231,14 @@ public class Strand {
     }
 
     public WaitResult handleWaitAny(List<FutureValue> futures) throws Throwable {
+        WaitResult result = waitAny(futures);
+        while (blockInPlace()) {
+            result = waitAny(futures);
+        }
+        return result;
+    }
+
+    private WaitResult waitAny(List<FutureValue> futures) throws Throwable {
         WaitResult waitResult = new WaitResult(false, null);
         WaitContext ctx = new WaitAnyContext(this.schedulerItem);
         ctx.lock();
@@ -261,14 +292,12 @@ public class Strand {
         }
     }
 
-    private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
-        WorkerDataChannel dataChannel;
-        if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
-        } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+    WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
+        WDChannels channels = channel.channelInSameStrand ? this.wdChannels : this.parent.wdChannels;
+        if (channel.isSPSC) {
+            return channels.getSPSCWorkerDataChannel(channel.name);
         }
-        return dataChannel;
+        return channels.getWorkerDataChannel(channel.name);
     }
 
     public void setState(State state) {
@@ -297,6 +326,69 @@ public class Strand {
         return blockedOnExtern;
     }
 
+    public boolean isBlockedOnLock() {
+        return blockedOnLock != null;
+    }
+
+    /**
+     * Returns the thread this strand is running on, if the strand profiler is enabled.
+     *
+     * @return the thread, or null if the strand is not running or is not profiled
+     */
+    public Thread getThread() {
+        return thread;
+    }
+
+    /**
+     * Blocks the thread of this strand until the strand is unblocked, if the strand has been blocked by the last
+     * operation and runs on its own virtual thread. In the default mode the strand yields to the scheduler instead,
+     * and retries the operation once it is resumed.
+     *
+     * @return true if the strand was blocked, in which case the operation has to be retried
+     */
+    public boolean blockInPlace() {
+        if (!this.isYielded() || this.scheduler == null || !this.scheduler.isVirtualThreadMode()) {
+            return false;
+        }
+        this.scheduler.park(this);
+        return true;
+    }
+
+    /**
+     * Records that this strand acquired the given lock. Reentrant acquisitions are recorded once per acquisition.
+     *
+     * @param lock acquired lock
+     */
+    public void acquiredLock(BLock lock) {
+        if (this.heldLocks == null) {
+            this.heldLocks = new ArrayList<>(2);
+        }
+        this.heldLocks.add(lock);
+    }
+
+    /**
+     * Records that this strand released the given lock. Locks are released in the reverse order of acquisition,
+     * so the lookup starts from the most recently acquired lock.
+     *
+     * @param lock released lock
+     */
+    public void releasedLock(BLock lock) {
+        for (int i = this.heldLocks.size() - 1; i >= 0; i--) {
+            if (this.heldLocks.get(i) == lock) {
+                this.heldLocks.remove(i);
+                return;
+            }
+        }
+    }
+
+    public boolean holdsLock(BLock lock) {
+        return this.heldLocks != null && this.heldLocks.contains(lock);
+    }
+
+    public List<BLock> getHeldLocks() {
+        return this.heldLocks == null ? Collections.emptyList() : this.heldLocks;
+    }
+
     public void lock() {
         this.strandLock.lock();
     }
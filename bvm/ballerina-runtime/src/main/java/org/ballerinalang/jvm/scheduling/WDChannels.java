@@ -19,6 +19,7 @@ package org.ballerinalang.jvm.scheduling;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This represents a worker data channel holder that is created for each strand to hold channels required.
@@ -28,6 +29,7 @@ import java.util.Map;
 public class WDChannels {
 
     private Map<String, WorkerDataChannel> wDChannels;
+    private final Map<String, WorkerDataChannel> spscChannels = new ConcurrentHashMap<>();
 
     //TODO try to generalize this to a normal data channel, in that case we won't need these classes.
     public WDChannels() {
@@ -44,4 +46,19 @@ public class WDChannels {
         }
         return channel;
     }
+
+    /**
+     * Returns the lock free channel with the given name. These are kept apart from the other channels, since a
+     * channel with the same name may be used differently by functions of another module running on the same strand.
+     *
+     * @param name name of the channel
+     * @return single producer single consumer data channel
+     */
+    public WorkerDataChannel getSPSCWorkerDataChannel(String name) {
+        WorkerDataChannel channel = this.spscChannels.get(name);
+        if (channel == null) {
+            channel = this.spscChannels.computeIfAbsent(name, SPSCWorkerDataChannel::new);
+        }
+        return channel;
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunnableQueue} that keeps a separate deque per worker thread. Groups made runnable by a worker thread
+ * (new strands, yields and strands woken up via {@link Scheduler#unblockStrand(Strand)}) are queued on the
+ * worker's own deque, while groups submitted from non worker threads go to a shared submission queue. A worker
+ * that runs out of local work polls the submission queue and then steals from the other workers. So that workers
+ * which keep feeding their own deques do not starve the submission queue, a worker also polls it first on every
+ * {@value #SUBMISSION_POLL_INTERVAL}th take.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    // A prime, as used by Go and Tokio, so that the interval does not line up with periodic local work.
+    static final int SUBMISSION_POLL_INTERVAL = 61;
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<ItemGroup> submissionQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final LongAdder queued = new LongAdder();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workers = new Worker[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workers[i] = new Worker();
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        queued.increment();
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            worker.deque.offerLast(group);
+        } else {
+            submissionQueue.offer(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            worker = workers[workerId];
+            worker.thread = Thread.currentThread();
+            currentWorker.set(worker);
+        }
+
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+
+            // Announce that this worker is about to park, and check the queues once more before parking. Any
+            // group added after this point will see the worker in the idle queue and unpark it.
+            worker.idle.set(true);
+            idleCount.incrementAndGet();
+            if (worker.inIdleQueue.compareAndSet(false, true)) {
+                idleWorkers.offer(worker);
+            }
+
+            group = poll(worker);
+            if (group != null) {
+                if (worker.idle.compareAndSet(true, false)) {
+                    idleCount.decrementAndGet();
+                } else {
+                    // Some other thread has already used its wake up signal on this worker, pass it on.
+                    signalWork();
+                }
+                return group;
+            }
+
+            while (worker.idle.get()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    if (worker.idle.compareAndSet(true, false)) {
+                        idleCount.decrementAndGet();
+                    }
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) queued.sum();
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group = null;
+        if (++worker.polls % SUBMISSION_POLL_INTERVAL == 0) {
+            group = submissionQueue.poll();
+        }
+        if (group == null) {
+            group = worker.deque.pollFirst();
+        }
+        if (group == null) {
+            group = submissionQueue.poll();
+        }
+        if (group == null) {
+            group = steal(worker);
+        }
+        if (group != null) {
+            queued.decrement();
+        }
+        return group;
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int numWorkers = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers[(start + i) % numWorkers];
+            if (victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalWork() {
+        if (idleCount.get() == 0) {
+            return;
+        }
+        Worker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.inIdleQueue.set(false);
+            if (worker.idle.compareAndSet(true, false)) {
+                idleCount.decrementAndGet();
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Per worker thread state of the work stealing queue.
+     */
+    private static class Worker {
+        final ConcurrentLinkedDeque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+        final AtomicBoolean idle = new AtomicBoolean(false);
+        final AtomicBoolean inIdleQueue = new AtomicBoolean(false);
+        volatile Thread thread;
+        // Only accessed by the worker thread.
+        int polls;
+    }
+}
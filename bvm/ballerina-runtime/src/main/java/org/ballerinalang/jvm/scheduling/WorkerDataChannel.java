@@ -93,6 +93,14 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public Object syncSendData(Object data, Strand strand) throws Throwable {
+        Object result = putSyncData(data, strand);
+        while (strand.blockInPlace()) {
+            result = putSyncData(data, strand);
+        }
+        return result;
+    }
+
+    private Object putSyncData(Object data, Strand strand) throws Throwable {
         try {
             acquireChannelLock();
             if (!reschedule) {
@@ -135,8 +143,24 @@ public class WorkerDataChannel {
         }
     }
     
-    @SuppressWarnings("rawtypes")
+    /**
+     * Takes the next data from the channel. If there is no data yet, the strand is blocked, and null is returned in
+     * the default mode for the strand to retry once it is resumed.
+     *
+     * @param strand - receiving strand
+     * @return received data
+     * @throws Throwable panic of the sender
+     */
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object result = takeData(strand);
+        while (strand.blockInPlace()) {
+            result = takeData(strand);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("rawtypes")
+    protected Object takeData(Strand strand) throws Throwable {
         try {
             acquireChannelLock();
             WorkerResult result = this.channel.peek();
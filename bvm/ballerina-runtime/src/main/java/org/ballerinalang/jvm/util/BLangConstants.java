@@ -93,6 +93,10 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_SHARED_QUEUE_ENV_VAR = "BALLERINA_SCHEDULER_SHARED_QUEUE";
+    public static final String BALLERINA_SCHEDULER_VIRTUAL_THREADS_ENV_VAR = "BALLERINA_SCHEDULER_VIRTUAL_THREADS";
+    public static final String BALLERINA_BLOCKING_POOL_SIZE_ENV_VAR = "BALLERINA_BLOCKING_POOL_SIZE";
+    public static final String BALLERINA_BLOCKING_QUEUE_SIZE_ENV_VAR = "BALLERINA_BLOCKING_QUEUE_SIZE";
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final BPackage BALLERINA_RUNTIME_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX,
@@ -86,6 +86,7 @@ public class BallerinaErrorReasons {
             getModulePrefixedReason(TABLE_LANG_LIB, "CyclicValueReferenceError");
     public static final String TABLE_HAS_A_VALUE_FOR_KEY_ERROR = getModulePrefixedReason(TABLE_LANG_LIB,
             "KeyConstraintViolation");
+    public static final String TABLE_INDEX_ERROR = getModulePrefixedReason(TABLE_LANG_LIB, "IndexError");
     public static final String VALUE_INCONSISTENT_WITH_TABLE_TYPE_ERROR = getModulePrefixedReason(TABLE_LANG_LIB,
             "ValueInconsistentError");
     public static final String ILLEGAL_LIST_INSERTION_ERROR = getModulePrefixedReason(ARRAY_LANG_LIB,
@@ -31,6 +31,7 @@ import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
 import org.ballerinalang.jvm.values.api.BArray;
 import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
@@ -664,6 +665,79 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return copy;
     }
 
+    /**
+     * Sort the members in ascending order, in place. Members of simple basic types are sorted within their backing
+     * array, without boxing them. Arrays with at least {@link ArrayUtils#PARALLEL_SORT_THRESHOLD} members are sorted
+     * in parallel, on the common fork join pool.
+     *
+     * @return false if the members are not all of the same ordered type, in which case the array is left unchanged
+     */
+    public boolean sort() {
+        handleImmutableArrayValue();
+        boolean parallel = size >= ArrayUtils.PARALLEL_SORT_THRESHOLD;
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                if (parallel) {
+                    Arrays.parallelSort(intValues, 0, size);
+                } else {
+                    Arrays.sort(intValues, 0, size);
+                }
+                return true;
+            case TypeTags.FLOAT_TAG:
+                if (parallel) {
+                    Arrays.parallelSort(floatValues, 0, size);
+                } else {
+                    Arrays.sort(floatValues, 0, size);
+                }
+                return true;
+            case TypeTags.BYTE_TAG:
+                // Bytes are unsigned, so they are counted rather than sorted as Java bytes.
+                int[] byteCounts = new int[256];
+                for (int i = 0; i < size; i++) {
+                    byteCounts[Byte.toUnsignedInt(byteValues[i])]++;
+                }
+                for (int value = 0, i = 0; value < byteCounts.length; value++) {
+                    Arrays.fill(byteValues, i, i + byteCounts[value], (byte) value);
+                    i += byteCounts[value];
+                }
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                int falseCount = 0;
+                for (int i = 0; i < size; i++) {
+                    if (!booleanValues[i]) {
+                        falseCount++;
+                    }
+                }
+                Arrays.fill(booleanValues, 0, falseCount, false);
+                Arrays.fill(booleanValues, falseCount, size, true);
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                if (parallel) {
+                    Arrays.parallelSort(bStringValues, 0, size, ArrayUtils::compareStrings);
+                } else {
+                    Arrays.sort(bStringValues, 0, size, ArrayUtils::compareStrings);
+                }
+                return true;
+            default:
+                if (!ArrayUtils.isOrdered(refValues, size)) {
+                    return false;
+                }
+                if (parallel) {
+                    Arrays.parallelSort(refValues, 0, size, ArrayUtils::compareOrdered);
+                } else {
+                    Arrays.sort(refValues, 0, size, ArrayUtils::compareOrdered);
+                }
+                return true;
+        }
+    }
+
     /**
      * Return a subarray starting from `startIndex` (inclusive) to `endIndex` (exclusive).
      *
@@ -27,6 +27,7 @@
      public String name;
      public boolean channelInSameStrand;
      public boolean send;
+     public boolean isSPSC;
 
      public ChannelDetails(String name, boolean channelInSameStrand, boolean send) {
          this.name = name;
@@ -34,6 +35,11 @@
          this.send = send;
      }
 
+     public ChannelDetails(String name, boolean channelInSameStrand, boolean send, boolean isSPSC) {
+         this(name, channelInSameStrand, send);
+         this.isSPSC = isSPSC;
+     }
+
      @Override
      public String toString() {
          return name;
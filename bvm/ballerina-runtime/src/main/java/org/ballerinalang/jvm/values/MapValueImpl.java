@@ -39,6 +39,8 @@ import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -48,8 +50,12 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.jvm.JSONUtils.mergeJson;
@@ -66,6 +72,10 @@ import static org.ballerinalang.jvm.values.ReadOnlyUtils.handleInvalidUpdate;
  * A map cannot contain duplicate keys; each key can map to at most one value.
  * </p>
  * <p>
+ * Maps constrained to int, float or boolean keep their entries unboxed in a {@link PrimitiveMapStorage} instead of
+ * the inherited hash table.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  * @see MapValue
@@ -83,6 +93,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BType type;
     private final Map<String, Object> nativeData = new HashMap<>();
     private BType iteratorNextReturnType;
+    private PrimitiveMapStorage<K, V> primitiveStorage;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -92,11 +103,13 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     public MapValueImpl(BType type) {
         super();
         this.type = type;
+        this.primitiveStorage = PrimitiveMapStorage.create(type);
     }
 
     public MapValueImpl(BType type, MappingInitialValueEntry[] initialValues) {
         super();
         this.type = type;
+        this.primitiveStorage = PrimitiveMapStorage.create(type);
         populateInitialValues(initialValues);
     }
 
@@ -133,6 +146,23 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return (ArrayValue) get(key);
     }
 
+    @Override
+    public V get(Object key) {
+        if (primitiveStorage != null) {
+            return primitiveStorage.get(key);
+        }
+        return super.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        if (primitiveStorage != null) {
+            V value = primitiveStorage.get(key);
+            return value != null ? value : defaultValue;
+        }
+        return super.getOrDefault(key, defaultValue);
+    }
+
     public long getDefaultableIntValue(BString key) {
         if (get(key) != null) {
             return getIntValue(key);
@@ -266,6 +296,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     public void clear() {
         validateFreezeStatus();
+        if (primitiveStorage != null) {
+            primitiveStorage.clear();
+            return;
+        }
         super.clear();
     }
 
@@ -284,9 +318,20 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public boolean containsKey(Object key) {
+        if (primitiveStorage != null) {
+            return primitiveStorage.containsKey(key);
+        }
         return super.containsKey(key);
     }
 
+    @Override
+    public boolean containsValue(Object value) {
+        if (primitiveStorage != null) {
+            return primitiveStorage.containsValue(value);
+        }
+        return super.containsValue(value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -329,6 +374,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     @Override
     public V remove(Object key) {
         validateFreezeStatus();
+        if (primitiveStorage != null) {
+            return primitiveStorage.remove(key);
+        }
         return super.remove(key);
     }
 
@@ -339,7 +387,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @SuppressWarnings("unchecked")
     public K[] getKeys() {
-        Set<K> keys = super.keySet();
+        Set<K> keys = keySet();
         return (K[]) (keys.toArray(new BString[keys.size()]));
     }
 
@@ -349,7 +397,94 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return values as an array
      */
     public Collection<V> values() {
-        return super.values();
+        if (primitiveStorage == null) {
+            return super.values();
+        }
+
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                PrimitiveMapStorage<K, V> storage = primitiveStorage;
+                return storage != null ? storage.valueIterator() : MapValueImpl.super.values().iterator();
+            }
+
+            @Override
+            public int size() {
+                return MapValueImpl.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        if (primitiveStorage == null) {
+            return super.keySet();
+        }
+
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                PrimitiveMapStorage<K, V> storage = primitiveStorage;
+                return storage != null ? storage.keyIterator() : MapValueImpl.super.keySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return MapValueImpl.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (primitiveStorage == null) {
+            return super.entrySet();
+        }
+
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                PrimitiveMapStorage<K, V> storage = primitiveStorage;
+                return storage != null ? storage.entryIterator() : MapValueImpl.super.entrySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return MapValueImpl.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                Object key = entry.getKey();
+                return containsKey(key) && Objects.equals(get(key), entry.getValue());
+            }
+        };
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (primitiveStorage == null) {
+            super.forEach(action);
+            return;
+        }
+
+        for (Map.Entry<K, V> entry : entrySet()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
     }
 
     /**
@@ -359,6 +494,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public int size() {
+        if (primitiveStorage != null) {
+            return primitiveStorage.size();
+        }
         return super.size();
     }
 
@@ -560,9 +698,110 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * common behaviors such as error handling.
      */
     protected V putValue(K key, V value) {
+        if (primitiveStorage != null) {
+            if (primitiveStorage.accepts(key, value)) {
+                return primitiveStorage.put(key, value);
+            }
+            inflatePrimitiveStorage();
+        }
         return super.put(key, value);
     }
 
+    /**
+     * Moves the entries of the unboxed storage to the default storage. This is done when a value that does not have
+     * an unboxed representation is added, and before any of the less frequently used bulk or functional map
+     * operations, which are then served by the default storage.
+     */
+    private void inflatePrimitiveStorage() {
+        PrimitiveMapStorage<K, V> storage = primitiveStorage;
+        if (storage == null) {
+            return;
+        }
+
+        primitiveStorage = null;
+        Iterator<Map.Entry<K, V>> iterator = storage.entryIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            super.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        inflatePrimitiveStorage();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        inflatePrimitiveStorage();
+        super.putAll(m);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        inflatePrimitiveStorage();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        inflatePrimitiveStorage();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        inflatePrimitiveStorage();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        inflatePrimitiveStorage();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        inflatePrimitiveStorage();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        inflatePrimitiveStorage();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        inflatePrimitiveStorage();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        inflatePrimitiveStorage();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object clone() {
+        MapValueImpl<K, V> clone = (MapValueImpl<K, V>) super.clone();
+        if (primitiveStorage != null) {
+            // The default storage of the clone got populated from the entries of this map.
+            clone.clearDefaultStorage();
+            clone.primitiveStorage = primitiveStorage.copy();
+        }
+        return clone;
+    }
+
+    private void clearDefaultStorage() {
+        super.clear();
+    }
+
     private Object merge(MapValueImpl v2, boolean checkMergeability) {
         if (checkMergeability) {
             ErrorValue errorIfUnmergeable = JSONUtils.getErrorIfUnmergeable(this, v2, new ArrayList<>());
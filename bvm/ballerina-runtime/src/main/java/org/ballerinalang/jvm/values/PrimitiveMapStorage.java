@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeTags;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Insertion ordered, open addressing storage for maps constrained to int, float or boolean values. Entries are kept
+ * in parallel arrays in insertion order and values are stored unboxed, in the same way {@link ArrayValueImpl} keeps
+ * {@code long[]}, {@code double[]} and {@code boolean[]} storage. A separate hash index maps keys to entry positions
+ * using linear probing.
+ * </p>
+ * <p>
+ * Removed entries leave a {@code null} key behind, which keeps probe sequences intact until the next rebuild.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this storage
+ * @param <V> the boxed type of the values
+ * @since 2.0.0
+ */
+final class PrimitiveMapStorage<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int valueTag;
+    private Object[] keys;
+    private int[] hashes;
+    private long[] intValues;
+    private double[] floatValues;
+    private boolean[] booleanValues;
+
+    // Hash index holding entry position + 1 of each key, where 0 marks an empty slot.
+    private int[] index;
+    private int used;
+    private int size;
+    private int modCount;
+
+    private PrimitiveMapStorage(int valueTag, int capacity) {
+        this.valueTag = valueTag;
+        init(capacity);
+    }
+
+    private PrimitiveMapStorage(PrimitiveMapStorage<K, V> other) {
+        this.valueTag = other.valueTag;
+        this.keys = other.keys.clone();
+        this.hashes = other.hashes.clone();
+        this.intValues = other.intValues == null ? null : other.intValues.clone();
+        this.floatValues = other.floatValues == null ? null : other.floatValues.clone();
+        this.booleanValues = other.booleanValues == null ? null : other.booleanValues.clone();
+        this.index = other.index.clone();
+        this.used = other.used;
+        this.size = other.size;
+    }
+
+    /**
+     * Creates a storage for the given map type if its constraint has an unboxed representation.
+     *
+     * @param type type of the map
+     * @param <K>  the type of keys
+     * @param <V>  the boxed type of the values
+     * @return the storage, or null if the map should use the default storage
+     */
+    static <K, V> PrimitiveMapStorage<K, V> create(BType type) {
+        if (type == null || type.getTag() != TypeTags.MAP_TAG) {
+            return null;
+        }
+
+        switch (((BMapType) type).getConstrainedType().getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                return new PrimitiveMapStorage<>(TypeTags.INT_TAG, INITIAL_CAPACITY);
+            case TypeTags.FLOAT_TAG:
+                return new PrimitiveMapStorage<>(TypeTags.FLOAT_TAG, INITIAL_CAPACITY);
+            case TypeTags.BOOLEAN_TAG:
+                return new PrimitiveMapStorage<>(TypeTags.BOOLEAN_TAG, INITIAL_CAPACITY);
+            default:
+                return null;
+        }
+    }
+
+    PrimitiveMapStorage<K, V> copy() {
+        return new PrimitiveMapStorage<>(this);
+    }
+
+    /**
+     * Checks whether the given entry can be stored without boxing. Anything else has to go to the default storage.
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     * @return true if the entry can be stored
+     */
+    boolean accepts(Object key, Object value) {
+        return key != null && acceptsValue(value);
+    }
+
+    private boolean acceptsValue(Object value) {
+        switch (valueTag) {
+            case TypeTags.INT_TAG:
+                return value instanceof Long;
+            case TypeTags.FLOAT_TAG:
+                return value instanceof Double;
+            default:
+                return value instanceof Boolean;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    V get(Object key) {
+        int pos = find(key);
+        return pos < 0 ? null : valueAt(pos);
+    }
+
+    boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    boolean containsValue(Object value) {
+        if (!acceptsValue(value)) {
+            return false;
+        }
+
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != null && valueAt(pos).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    V put(K key, V value) {
+        int hash = hash(key);
+        int pos = find(key, hash);
+        if (pos >= 0) {
+            V oldValue = valueAt(pos);
+            setValueAt(pos, value);
+            return oldValue;
+        }
+
+        if (used == keys.length) {
+            // Compact in place when at least half of the entries are removed ones, grow otherwise.
+            rebuild(size >= keys.length >> 1 ? keys.length << 1 : keys.length);
+        }
+
+        pos = used++;
+        keys[pos] = key;
+        hashes[pos] = hash;
+        setValueAt(pos, value);
+        addToIndex(hash, pos);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    V remove(Object key) {
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+
+        V oldValue = valueAt(pos);
+        removeAt(pos);
+        return oldValue;
+    }
+
+    void clear() {
+        if (used == 0) {
+            return;
+        }
+
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(index, 0);
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over snapshots of the entries. The entries do not change when the map is modified later,
+     * which matches the entries of the default storage.
+     *
+     * @return the entry iterator
+     */
+    Iterator<Map.Entry<K, V>> entryIterator() {
+        PositionIterator iterator = new PositionIterator();
+        return new Iterator<Map.Entry<K, V>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map.Entry<K, V> next() {
+                int pos = iterator.nextPosition();
+                return new AbstractMap.SimpleImmutableEntry<>((K) keys[pos], valueAt(pos));
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    Iterator<K> keyIterator() {
+        PositionIterator iterator = new PositionIterator();
+        return new Iterator<K>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public K next() {
+                return (K) keys[iterator.nextPosition()];
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    Iterator<V> valueIterator() {
+        PositionIterator iterator = new PositionIterator();
+        return new Iterator<V>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public V next() {
+                return valueAt(iterator.nextPosition());
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    private void init(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity << 1];
+        switch (valueTag) {
+            case TypeTags.INT_TAG:
+                intValues = new long[capacity];
+                break;
+            case TypeTags.FLOAT_TAG:
+                floatValues = new double[capacity];
+                break;
+            default:
+                booleanValues = new boolean[capacity];
+                break;
+        }
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        long[] oldIntValues = intValues;
+        double[] oldFloatValues = floatValues;
+        boolean[] oldBooleanValues = booleanValues;
+        int oldUsed = used;
+
+        init(capacity);
+        used = 0;
+        for (int oldPos = 0; oldPos < oldUsed; oldPos++) {
+            if (oldKeys[oldPos] == null) {
+                continue;
+            }
+
+            int pos = used++;
+            keys[pos] = oldKeys[oldPos];
+            hashes[pos] = oldHashes[oldPos];
+            switch (valueTag) {
+                case TypeTags.INT_TAG:
+                    intValues[pos] = oldIntValues[oldPos];
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    floatValues[pos] = oldFloatValues[oldPos];
+                    break;
+                default:
+                    booleanValues[pos] = oldBooleanValues[oldPos];
+                    break;
+            }
+            addToIndex(hashes[pos], pos);
+        }
+    }
+
+    private void addToIndex(int hash, int pos) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        return find(key, hash(key));
+    }
+
+    private int find(Object key, int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = index[slot]) != 0) {
+            int pos = entry - 1;
+            if (hashes[pos] == hash) {
+                Object candidate = keys[pos];
+                if (candidate != null && (candidate == key || candidate.equals(key))) {
+                    return pos;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int pos) {
+        keys[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int pos) {
+        switch (valueTag) {
+            case TypeTags.INT_TAG:
+                return (V) Long.valueOf(intValues[pos]);
+            case TypeTags.FLOAT_TAG:
+                return (V) Double.valueOf(floatValues[pos]);
+            default:
+                return (V) Boolean.valueOf(booleanValues[pos]);
+        }
+    }
+
+    private void setValueAt(int pos, Object value) {
+        switch (valueTag) {
+            case TypeTags.INT_TAG:
+                intValues[pos] = (Long) value;
+                break;
+            case TypeTags.FLOAT_TAG:
+                floatValues[pos] = (Double) value;
+                break;
+            default:
+                booleanValues[pos] = (Boolean) value;
+                break;
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Iterates the positions of the live entries in insertion order.
+     */
+    private final class PositionIterator {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        private PositionIterator() {
+            skipRemoved();
+        }
+
+        boolean hasNext() {
+            return next < used;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            skipRemoved();
+            return last;
+        }
+
+        void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int removedPos = last;
+            last = -1;
+            removeAt(removedPos);
+            // Removing the last entry resets the storage, so there is nothing left to iterate.
+            if (size == 0) {
+                next = 0;
+            }
+            expectedModCount = modCount;
+        }
+
+        private void skipRemoved() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+    }
+}
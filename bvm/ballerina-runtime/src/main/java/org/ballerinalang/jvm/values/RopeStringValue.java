@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings. The concatenated string is built lazily, when
+ * its contents are first needed, so that appending to a string in a loop takes linear rather than quadratic time.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations whose result has at most this many chars are done eagerly, as copying a short string is cheaper
+     * than keeping a rope node for it.
+     */
+    static final int FLAT_CONCAT_LIMIT = 256;
+
+    private volatile BString left;
+    private volatile BString right;
+    private volatile StringValue flat;
+    private final int charLength;
+    private final int surrogateCount;
+
+    private RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.charLength = getCharLength(left) + getCharLength(right);
+        this.surrogateCount = getSurrogateCount(left) + getSurrogateCount(right);
+    }
+
+    /**
+     * Concatenates two strings, deferring the copy if the result is long.
+     *
+     * @param lhs string to append to
+     * @param rhs string to append
+     * @return concatenated string
+     */
+    static BString concat(BString lhs, BString rhs) {
+        if (rhs.length() == 0) {
+            return lhs;
+        }
+        if (lhs.length() == 0) {
+            return rhs;
+        }
+        RopeStringValue rope = new RopeStringValue(lhs, rhs);
+        if (rope.charLength > FLAT_CONCAT_LIMIT) {
+            return rope;
+        }
+        if (rope.surrogateCount == 0) {
+            return new BmpStringValue(lhs.getValue() + rhs.getValue());
+        }
+        return rope.flatten();
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charLength - surrogateCount;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return flatten().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private StringValue flatten() {
+        StringValue value = flat;
+        if (value != null) {
+            return value;
+        }
+        synchronized (this) {
+            value = flat;
+            if (value == null) {
+                value = build();
+                flat = value;
+                // The parts are released only after the flat value is published, so that a concurrent flatten of an
+                // enclosing rope that sees them cleared can always read the flat value instead.
+                left = null;
+                right = null;
+            }
+        }
+        return value;
+    }
+
+    private StringValue build() {
+        StringBuilder builder = new StringBuilder(charLength);
+        int[] surrogates = new int[surrogateCount];
+        int surrogateIndex = 0;
+
+        // Ropes built in a loop are deeply nested, so the parts are visited with an explicit stack.
+        Deque<BString> parts = new ArrayDeque<>();
+        parts.push(right);
+        parts.push(left);
+        while (!parts.isEmpty()) {
+            BString part = parts.pop();
+            if (part instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) part;
+                BString ropeLeft = rope.left;
+                BString ropeRight = rope.right;
+                if (ropeLeft != null && ropeRight != null) {
+                    parts.push(ropeRight);
+                    parts.push(ropeLeft);
+                    continue;
+                }
+                part = rope.flat;
+            }
+            String partValue = part.getValue();
+            int codePointOffset = builder.length() - surrogateIndex;
+            if (part instanceof NonBmpStringValue) {
+                for (int surrogate : ((NonBmpStringValue) part).getSurrogates()) {
+                    surrogates[surrogateIndex++] = codePointOffset + surrogate;
+                }
+            } else if (!(part instanceof BmpStringValue)) {
+                int codePoint = 0;
+                for (int i = 0; i < partValue.length(); i++, codePoint++) {
+                    if (isSurrogatePair(partValue, i)) {
+                        surrogates[surrogateIndex++] = codePointOffset + codePoint;
+                        i++;
+                    }
+                }
+            }
+            builder.append(partValue);
+        }
+
+        if (surrogateCount == 0) {
+            return new BmpStringValue(builder.toString());
+        }
+        return new NonBmpStringValue(builder.toString(), surrogates);
+    }
+
+    private static int getCharLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.length() + getSurrogateCount(str);
+    }
+
+    private static int getSurrogateCount(BString str) {
+        if (str instanceof BmpStringValue) {
+            return 0;
+        } else if (str instanceof NonBmpStringValue) {
+            return ((NonBmpStringValue) str).getSurrogateCount();
+        } else if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).surrogateCount;
+        }
+        String value = str.getValue();
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (isSurrogatePair(value, i)) {
+                count++;
+                i++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length() &&
+                Character.isLowSurrogate(value.charAt(index + 1));
+    }
+}
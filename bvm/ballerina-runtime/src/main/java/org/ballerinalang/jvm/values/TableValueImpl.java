@@ -29,31 +29,40 @@ import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
+import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.TABLE_HAS_A_VALUE_FOR_KEY_ERROR;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.TABLE_INDEX_ERROR;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.TABLE_KEY_NOT_FOUND_ERROR;
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are kept in a dense array in insertion order. Tables with a key sequence also keep an open addressing hash
+ * index over the key fields, which maps the hash of a key to the position of its row. Keys are hashed and compared
+ * straight from the key fields of the rows, so lookups do not allocate key wrappers.
+ * <p>
+ * Secondary hash indexes can be added over other readonly fields of the rows with {@link #addIndex(BString)}. They
+ * are kept up to date as rows are added, replaced and removed, and are used by {@link #lookup(BString, Object)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -62,19 +71,30 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.TABLE_
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_CAPACITY = 8;
+
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // Rows in insertion order. A removed row leaves a null behind until the rows are compacted.
+    private Object[] rows;
+    private long[] rowHashes;
+    // Key of each row, kept alongside the rows of tables keyed by a single field.
+    private Object[] rowKeys;
+    private int used;
+    private int size;
+
+    // Incremented whenever row positions change, so that iterators can find their position again.
+    private int compactions;
+
+    // Hash index over the key fields holding row position + 1, where 0 marks an empty slot.
+    private int[] index;
+
+    // Secondary indexes added through addIndex, null until the first one is added.
+    private List<SecondaryIndex> secondaryIndexes;
 
     private boolean nextKeySupported;
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
@@ -83,13 +103,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rows = new Object[INITIAL_CAPACITY];
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rowHashes = new long[INITIAL_CAPACITY];
+            if (this.fieldNames.length == 1) {
+                this.rowKeys = new Object[INITIAL_CAPACITY];
+            }
+            this.index = new int[INITIAL_CAPACITY << 1];
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -115,7 +136,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -133,10 +154,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             clone.fieldNames = fieldNames;
         }
 
-        IteratorValue itr = getIterator();
-        while (itr.hasNext()) {
-            TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            Object value = tupleValue.get(1);
+        for (int pos = 0; pos < used; pos++) {
+            Object value = rows[pos];
+            if (value == null) {
+                continue;
+            }
             value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
             clone.add((V) value);
         }
@@ -201,23 +223,116 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int pos = 0; pos < used; pos++) {
+            V value = (V) rows[pos];
+            if (value != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) valueHolder.getKey(value), value));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new RowIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(rows, 0, used, null);
+        if (index != null) {
+            Arrays.fill(index, 0);
+        }
+        used = 0;
+        size = 0;
+        compactions++;
+        rebuildSecondaryIndexes();
+    }
+
+    /**
+     * Adds a secondary hash index over the given field of the rows. The field has to be readonly, so that the
+     * index cannot go stale through updates to the rows. Adding an index that already exists has no effect.
+     *
+     * @param fieldName name of the field to index
+     */
+    public void addIndex(BString fieldName) {
+        if (findSecondaryIndex(fieldName) != null) {
+            return;
+        }
+
+        BType constraintType = type.getConstrainedType();
+        if (!constraintType.isReadOnly()) {
+            if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                throw BallerinaErrors.createError(TABLE_INDEX_ERROR, "cannot add an index over field '" +
+                        fieldName + "' of a mutable row type '" + constraintType + "'");
+            }
+            BField field = ((BRecordType) constraintType).getFields().get(fieldName.getValue());
+            if (field == null) {
+                throw BallerinaErrors.createError(TABLE_INDEX_ERROR, "cannot add an index over field '" +
+                        fieldName + "': no such field in row type '" + constraintType + "'");
+            }
+            if (!Flags.isFlagOn(field.flags, Flags.READONLY)) {
+                throw BallerinaErrors.createError(TABLE_INDEX_ERROR, "cannot add an index over field '" +
+                        fieldName + "': field is not readonly");
+            }
+        }
+
+        SecondaryIndex secondaryIndex = new SecondaryIndex(fieldName);
+        secondaryIndex.rebuild();
+        if (secondaryIndexes == null) {
+            secondaryIndexes = new ArrayList<>(1);
+        }
+        secondaryIndexes.add(secondaryIndex);
+    }
+
+    /**
+     * Checks whether the table has a secondary index over the given field.
+     *
+     * @param fieldName name of the field
+     * @return true if {@link #addIndex(BString)} was called for the field
+     */
+    public boolean hasIndex(BString fieldName) {
+        return findSecondaryIndex(fieldName) != null;
+    }
+
+    /**
+     * Returns the rows whose given field is equal to the given value, in insertion order. Probes the secondary
+     * index over the field if there is one, and scans the rows otherwise.
+     *
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return list of matching rows
+     */
+    public List<V> lookup(BString fieldName, Object value) {
+        List<V> matches = new ArrayList<>();
+        SecondaryIndex secondaryIndex = findSecondaryIndex(fieldName);
+        if (secondaryIndex == null) {
+            for (int pos = 0; pos < used; pos++) {
+                Object row = rows[pos];
+                if (row != null && isKeyEqual(value, ((MapValue) row).get(fieldName))) {
+                    matches.add((V) row);
+                }
+            }
+            return matches;
+        }
+
+        int[] positions = secondaryIndex.find(value);
+        for (int position : positions) {
+            matches.add((V) rows[position]);
+        }
+        return matches;
     }
 
     @Override
@@ -242,7 +357,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -269,17 +384,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (index == null) {
+            return (K[]) new Object[]{};
+        }
+
+        Object[] keys = new Object[size];
+        int i = 0;
+        for (int pos = 0; pos < used; pos++) {
+            if (rows[pos] != null) {
+                keys[i++] = valueHolder.getKey((V) rows[pos]);
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -294,15 +420,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr) {
         StringJoiner sj = new StringJoiner("\n");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(struct.getValue().toString());
+        for (V value : values()) {
+            sj.add(value.toString());
         }
         return sj.toString();
     }
@@ -330,40 +450,284 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private void appendRow(Object row, Object key, long hash) {
+        if (used == rows.length) {
+            growRows();
+        }
+
+        int pos = used++;
+        rows[pos] = row;
+        if (index != null) {
+            rowHashes[pos] = hash;
+            if (rowKeys != null) {
+                rowKeys[pos] = key;
+            }
+            addToIndex(hash, pos);
+        }
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.add(pos);
+            }
+        }
+        size++;
+    }
+
+    private void replaceRow(int pos, Object row) {
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.remove(pos);
+            }
+        }
+        rows[pos] = row;
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.add(pos);
+            }
+        }
+    }
 
-        TableIterator() {
-            this.cursor = 0;
+    private Object removeRow(int pos) {
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.remove(pos);
+            }
         }
+        Object row = rows[pos];
+        rows[pos] = null;
+        if (rowKeys != null) {
+            rowKeys[pos] = null;
+        }
+        size--;
+        return row;
+    }
+
+    private void growRows() {
+        if (index == null) {
+            // Rows of a keyless table are never removed, so there is nothing to compact.
+            rows = Arrays.copyOf(rows, rows.length << 1);
+            rebuildSecondaryIndexes();
+            return;
+        }
+
+        // Compact in place when at least half of the rows are removed ones, grow otherwise.
+        int capacity = size >= rows.length >> 1 ? rows.length << 1 : rows.length;
+        Object[] oldRows = rows;
+        long[] oldHashes = rowHashes;
+        Object[] oldKeys = rowKeys;
+        int oldUsed = used;
+
+        rows = new Object[capacity];
+        rowHashes = new long[capacity];
+        rowKeys = oldKeys == null ? null : new Object[capacity];
+        index = new int[capacity << 1];
+        used = 0;
+        for (int oldPos = 0; oldPos < oldUsed; oldPos++) {
+            if (oldRows[oldPos] == null) {
+                continue;
+            }
+            int pos = used++;
+            rows[pos] = oldRows[oldPos];
+            rowHashes[pos] = oldHashes[oldPos];
+            if (oldKeys != null) {
+                rowKeys[pos] = oldKeys[oldPos];
+            }
+            addToIndex(rowHashes[pos], pos);
+        }
+        if (used != oldUsed) {
+            compactions++;
+        }
+        rebuildSecondaryIndexes();
+    }
+
+    private SecondaryIndex findSecondaryIndex(BString fieldName) {
+        if (secondaryIndexes == null) {
+            return null;
+        }
+        for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+            if (secondaryIndex.fieldName.getValue().equals(fieldName.getValue())) {
+                return secondaryIndex;
+            }
+        }
+        return null;
+    }
+
+    private void rebuildSecondaryIndexes() {
+        if (secondaryIndexes == null) {
+            return;
+        }
+        for (SecondaryIndex secondaryIndex : secondaryIndexes) {
+            secondaryIndex.rebuild();
+        }
+    }
+
+    private void addToIndex(long hash, int pos) {
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    private static long hashKey(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        // Same hash as TableUtils#hash, without boxing it for simple values.
+        return key instanceof RefValue ? TableUtils.hash(key, null) : key.hashCode();
+    }
+
+    private static boolean isKeyEqual(Object lhs, Object rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (lhs instanceof Long || lhs instanceof BString || lhs instanceof Boolean) {
+            return lhs.equals(rhs);
+        }
+        return TypeChecker.isEqual(lhs, rhs);
+    }
+
+    /**
+     * Hash index over a single field of the rows. Each bucket holds the position + 1 of the latest row hashed into
+     * it, and the rows of a bucket are chained through their positions.
+     */
+    private class SecondaryIndex {
+
+        private final BString fieldName;
+        private int[] buckets;
+        private int[] next;
+        private long[] hashes;
+
+        SecondaryIndex(BString fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        void rebuild() {
+            buckets = new int[rows.length];
+            next = new int[rows.length];
+            hashes = new long[rows.length];
+            for (int pos = 0; pos < used; pos++) {
+                if (rows[pos] != null) {
+                    add(pos);
+                }
+            }
+        }
+
+        void add(int pos) {
+            long hash = hashKey(((MapValue) rows[pos]).get(fieldName));
+            int bucket = spread(hash) & (buckets.length - 1);
+            hashes[pos] = hash;
+            next[pos] = buckets[bucket];
+            buckets[bucket] = pos + 1;
+        }
+
+        void remove(int pos) {
+            int bucket = spread(hashes[pos]) & (buckets.length - 1);
+            if (buckets[bucket] == pos + 1) {
+                buckets[bucket] = next[pos];
+                return;
+            }
+            for (int entry = buckets[bucket]; entry != 0; entry = next[entry - 1]) {
+                if (next[entry - 1] == pos + 1) {
+                    next[entry - 1] = next[pos];
+                    return;
+                }
+            }
+        }
+
+        int[] find(Object value) {
+            long hash = hashKey(value);
+            int[] positions = new int[INITIAL_CAPACITY];
+            int count = 0;
+            for (int entry = buckets[spread(hash) & (buckets.length - 1)]; entry != 0; entry = next[entry - 1]) {
+                int pos = entry - 1;
+                if (hashes[pos] == hash && isKeyEqual(value, ((MapValue) rows[pos]).get(fieldName))) {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, count << 1);
+                    }
+                    positions[count++] = pos;
+                }
+            }
+            // Chains run from the latest row to the earliest, while callers expect insertion order.
+            positions = Arrays.copyOf(positions, count);
+            Arrays.sort(positions);
+            return positions;
+        }
+    }
+
+    /**
+     * Iterates the rows of the table in insertion order. Positions are re-resolved if the rows get compacted while
+     * iterating.
+     */
+    private class RowIterator implements Iterator<V> {
+        int cursor;
+        int visited;
+        Object lastRow;
+        int expectedCompactions = compactions;
 
         @Override
-        public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<BType> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
+        public boolean hasNext() {
+            sync();
+            return cursor < used;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastRow = rows[cursor++];
+            visited++;
+            return (V) lastRow;
+        }
+
+        private void sync() {
+            if (expectedCompactions != compactions) {
+                expectedCompactions = compactions;
+                cursor = resumePosition();
+            }
+            while (cursor < used && rows[cursor] == null) {
                 cursor++;
-                return next();
             }
         }
 
+        private int resumePosition() {
+            for (int pos = 0; pos < used; pos++) {
+                if (rows[pos] == lastRow) {
+                    return pos + 1;
+                }
+            }
+            return Math.min(visited, used);
+        }
+    }
+
+    private class TableIterator implements IteratorValue {
+        private final RowIterator rowIterator = new RowIterator();
+
+        @Override
+        public Object next() {
+            V value = rowIterator.next();
+            Object key = valueHolder.getKey(value);
+
+            List<BType> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
+        }
+
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+           return rowIterator.hasNext();
         }
     }
 
@@ -382,11 +746,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V putData(V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            appendRow(data, null, 0);
+            return null;
         }
 
         public V remove(K key) {
@@ -400,141 +761,216 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         public BType getKeyType() {
             throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "keys are not defined");
         }
+
+        // A keyless table uses the row itself as the key of its entries.
+        public Object getKey(V data) {
+            return data;
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
-        private DefaultKeyWrapper keyWrapper;
+        private final BString[] keyFields;
         private BType keyType;
 
         public KeyHashValueHolder() {
             super();
+            keyFields = new BString[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                keyFields[i] = StringUtils.fromString(fieldNames[i]);
+            }
+
             if (fieldNames.length > 1) {
-                keyWrapper = new MultiKeyWrapper();
-            } else {
-                keyWrapper = new DefaultKeyWrapper();
+                List<BType> keyTypes = new ArrayList<>();
+                BType constraintType = type.getConstrainedType();
+                if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    BRecordType recordType = (BRecordType) constraintType;
+                    Arrays.stream(fieldNames).forEach(field -> keyTypes.add(recordType.getFields().get(field).type));
+                } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+                    BMapType mapType = (BMapType) constraintType;
+                    Arrays.stream(fieldNames).forEach(field -> keyTypes.add(mapType.getConstrainedType()));
+                }
+                keyType = new BTupleType(keyTypes);
+            } else if (fieldNames.length == 1) {
+                keyType = getTableConstraintField(type.getConstrainedType(), fieldNames[0]);
+                if (keyType != null && keyType.getTag() == TypeTags.INT_TAG) {
+                    nextKeySupported = true;
+                }
             }
         }
 
         public void addData(V data) {
             MapValue dataMap = (MapValue) data;
-            K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = hashRowKey(dataMap);
 
-            if (containsKey((K) key)) {
+            if (findRow(dataMap, hash) >= 0) {
                 throw BallerinaErrors.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR, "A value found for key '" +
-                        key + "'");
-            }
-
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
-                maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
+                        getKey(data) + "'");
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            updateMaxIntKey(dataMap);
+            appendRow(data, getSingleKey(dataMap), hash);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int pos = findKey(key, hashKeyValue(key));
+            return pos < 0 ? null : (V) rows[pos];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            MapValue dataMap = (MapValue) data;
+            if (!isRowKey(key, dataMap)) {
                 throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "The key '" +
                         key + "' not found in value " + data.toString());
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            return putData(data);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
-            K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            long hash = hashRowKey(dataMap);
+            int pos = findRow(dataMap, hash);
+            if (pos >= 0) {
+                V previous = (V) rows[pos];
+                replaceRow(pos, data);
+                if (rowKeys != null) {
+                    rowKeys[pos] = getSingleKey(dataMap);
+                }
+                return previous;
+            }
+
+            updateMaxIntKey(dataMap);
+            appendRow(data, getSingleKey(dataMap), hash);
+            return null;
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            int pos = findKey(key, hashKeyValue(key));
+            return pos < 0 ? null : (V) removeRow(pos);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findKey(key, hashKeyValue(key)) >= 0;
         }
 
         public BType getKeyType() {
             return keyType;
         }
 
-        private class DefaultKeyWrapper {
+        public Object getKey(V data) {
+            MapValue dataMap = (MapValue) data;
+            if (keyFields.length == 1) {
+                return dataMap.get(keyFields[0]);
+            }
+
+            TupleValueImpl arr = (TupleValueImpl) BValueCreator.createTupleValue((BTupleType) keyType);
+            for (int i = 0; i < keyFields.length; i++) {
+                arr.add(i, dataMap.get(keyFields[i]));
+            }
+            return arr;
+        }
 
-            public DefaultKeyWrapper() {
-                if (fieldNames.length == 1) {
-                    keyType = getTableConstraintField(type.getConstrainedType(), fieldNames[0]);
-                    if (keyType != null && keyType.getTag() == TypeTags.INT_TAG) {
-                        nextKeySupported = true;
-                    }
-                }
+        private Object getSingleKey(MapValue data) {
+            return keyFields.length == 1 ? data.get(keyFields[0]) : null;
+        }
+
+        private void updateMaxIntKey(MapValue data) {
+            if (!nextKeySupported) {
+                return;
             }
 
-            public K wrapKey(MapValue data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+            long intKey = (Long) data.get(keyFields[0]);
+            if (size == 0 || maxIntKey < intKey) {
+                maxIntKey = intKey;
             }
         }
 
-        private class MultiKeyWrapper extends DefaultKeyWrapper {
+        // Hashes of a key and of the key fields of its row match the hash TableUtils#hash gives for the key.
+        private long hashRowKey(MapValue data) {
+            if (keyFields.length == 1) {
+                return hashKey(data.get(keyFields[0]));
+            }
 
-            public MultiKeyWrapper() {
-                super();
-                List<BType> keyTypes = new ArrayList<>();
-                BType constraintType = type.getConstrainedType();
-                if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                    BRecordType recordType = (BRecordType) constraintType;
-                    Arrays.stream(fieldNames).forEach(field -> keyTypes.add(recordType.getFields().get(field).type));
-                } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
-                    BMapType mapType = (BMapType) constraintType;
-                    Arrays.stream(fieldNames).forEach(field -> keyTypes.add(mapType.getConstrainedType()));
+            long result = 0;
+            for (BString keyField : keyFields) {
+                result = 31 * result + hashKey(data.get(keyField));
+            }
+            return result;
+        }
+
+        private long hashKeyValue(Object key) {
+            if (keyFields.length == 1) {
+                return hashKey(key);
+            }
+
+            if (!(key instanceof ArrayValue)) {
+                return hashKey(key);
+            }
+            ArrayValue keyValues = (ArrayValue) key;
+            long result = 0;
+            for (int i = 0; i < keyValues.size(); i++) {
+                result = 31 * result + hashKey(keyValues.get(i));
+            }
+            return result;
+        }
+
+        private boolean isRowKey(Object key, MapValue data) {
+            if (keyFields.length == 1) {
+                return isKeyEqual(key, data.get(keyFields[0]));
+            }
+
+            if (!(key instanceof ArrayValue) || ((ArrayValue) key).size() != keyFields.length) {
+                return false;
+            }
+            ArrayValue keyValues = (ArrayValue) key;
+            for (int i = 0; i < keyFields.length; i++) {
+                if (!isKeyEqual(keyValues.get(i), data.get(keyFields[i]))) {
+                    return false;
                 }
-                keyType = new BTupleType(keyTypes);
             }
+            return true;
+        }
 
-            public K wrapKey(MapValue data) {
-                TupleValueImpl arr = (TupleValueImpl) BValueCreator
-                        .createTupleValue((BTupleType) keyType);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+        private boolean hasSameKey(MapValue data, MapValue other) {
+            for (BString keyField : keyFields) {
+                if (!isKeyEqual(data.get(keyField), other.get(keyField))) {
+                    return false;
                 }
-                return (K) arr;
             }
+            return true;
         }
-    }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
+        private int findKey(Object key, long hash) {
+            int mask = index.length - 1;
+            int slot = spread(hash) & mask;
+            int entry;
+            while ((entry = index[slot]) != 0) {
+                int pos = entry - 1;
+                if (rowHashes[pos] == hash && rows[pos] != null && (rowKeys != null ?
+                        isKeyEqual(key, rowKeys[pos]) : isRowKey(key, (MapValue) rows[pos]))) {
+                    return pos;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int findRow(MapValue data, long hash) {
+            if (rowKeys != null) {
+                return findKey(data.get(keyFields[0]), hash);
+            }
+
+            int mask = index.length - 1;
+            int slot = spread(hash) & mask;
+            int entry;
+            while ((entry = index[slot]) != 0) {
+                int pos = entry - 1;
+                if (rowHashes[pos] == hash && rows[pos] != null && hasSameKey(data, (MapValue) rows[pos])) {
+                    return pos;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
         }
     }
 
@@ -554,7 +990,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return false;
         }
 
-        if (this.entrySet().size() != tableValue.entrySet().size()) {
+        if (this.size() != tableValue.size()) {
             return false;
         }
 
@@ -22,7 +22,9 @@ import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.api.BString;
 
 import static java.lang.String.format;
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
@@ -36,6 +38,17 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
  */
 public class ArrayUtils {
 
+    // Arrays with fewer members are sorted on the calling thread, since splitting them costs more than it saves.
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final int NOT_ORDERED = 0;
+    private static final int INT = 1;
+    private static final int BYTE = 2;
+    private static final int FLOAT = 3;
+    private static final int DECIMAL = 4;
+    private static final int STRING = 5;
+    private static final int BOOLEAN = 6;
+
     @Deprecated
     public static void add(ArrayValue arr, int elemTypeTag, long index, Object value) {
         switch (elemTypeTag) {
@@ -76,6 +89,110 @@ public class ArrayUtils {
         }
     }
 
+    /**
+     * Returns whether the first {@code size} values can be compared with {@link #compareOrdered}, that is whether
+     * they are all ints, all bytes, all floats, all decimals, all strings or all booleans.
+     *
+     * @param values values to check
+     * @param size   number of values to check
+     * @return true if the values are of the same ordered type
+     */
+    public static boolean isOrdered(Object[] values, int size) {
+        if (size == 0) {
+            return true;
+        }
+        int kind = getOrderedKind(values[0]);
+        if (kind == NOT_ORDERED) {
+            return false;
+        }
+        for (int i = 1; i < size; i++) {
+            if (getOrderedKind(values[i]) != kind) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two values of the same ordered type in ascending order. Floats are ordered as by
+     * {@link Double#compare}, so NaN is ordered after all other floats, and strings are ordered by their code points.
+     *
+     * @param lhs value to compare
+     * @param rhs value to compare with
+     * @return a negative integer, zero or a positive integer as {@code lhs} is less than, equal to or greater than
+     * {@code rhs}
+     */
+    public static int compareOrdered(Object lhs, Object rhs) {
+        switch (getOrderedKind(lhs)) {
+            case INT:
+                return Long.compare((Long) lhs, (Long) rhs);
+            case BYTE:
+                return Integer.compare((Integer) lhs, (Integer) rhs);
+            case FLOAT:
+                return Double.compare((Double) lhs, (Double) rhs);
+            case DECIMAL:
+                return ((DecimalValue) lhs).value().compareTo(((DecimalValue) rhs).value());
+            case STRING:
+                return compareStrings((BString) lhs, (BString) rhs);
+            case BOOLEAN:
+                return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+            default:
+                throw new IllegalArgumentException("values of type '" + lhs.getClass().getName()
+                        + "' are not ordered");
+        }
+    }
+
+    /**
+     * Compares two strings by their code points. Unlike {@link String#compareTo}, which compares UTF-16 code units,
+     * this orders characters outside the basic multilingual plane after all characters within it.
+     *
+     * @param lhs string to compare
+     * @param rhs string to compare with
+     * @return a negative integer, zero or a positive integer as {@code lhs} is less than, equal to or greater than
+     * {@code rhs}
+     */
+    public static int compareStrings(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar != rhsChar) {
+                return toCodePointOrder(lhsChar) - toCodePointOrder(rhsChar);
+            }
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    // Moves surrogates above the other code units, so that code units compare in the order of their code points.
+    private static int toCodePointOrder(char c) {
+        if (c >= '\uE000') {
+            return c - 0x800;
+        }
+        if (c >= '\uD800') {
+            return c + 0x2000;
+        }
+        return c;
+    }
+
+    private static int getOrderedKind(Object value) {
+        if (value instanceof Long) {
+            return INT;
+        } else if (value instanceof Integer) {
+            return BYTE;
+        } else if (value instanceof Double) {
+            return FLOAT;
+        } else if (value instanceof DecimalValue) {
+            return DECIMAL;
+        } else if (value instanceof BString) {
+            return STRING;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        return NOT_ORDERED;
+    }
+
     public static ErrorValue createOpNotSupportedError(BType type, String op) {
         return BallerinaErrors.createError(getModulePrefixedReason(ARRAY_LANG_LIB, OPERATION_NOT_SUPPORTED_IDENTIFIER),
                                            format("%s not supported on type '%s'", op, type.getQualifiedName()));
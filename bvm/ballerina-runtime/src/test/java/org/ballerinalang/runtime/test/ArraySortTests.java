@@ -0,0 +1,119 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test cases for sorting {@link ArrayValueImpl} members without a comparator.
+ */
+public class ArraySortTests {
+
+    @Test
+    void testSortInts() {
+        ArrayValueImpl arr = new ArrayValueImpl(new long[]{5, -3, 9, 0, 5, Long.MIN_VALUE});
+        Assert.assertTrue(arr.sort());
+        Assert.assertEquals(arr.getLongArray(), new long[]{Long.MIN_VALUE, -3, 0, 5, 5, 9});
+    }
+
+    @Test
+    void testSortFloats() {
+        ArrayValueImpl arr = new ArrayValueImpl(new double[]{2.5, Double.NaN, -1.0, Double.POSITIVE_INFINITY, 0.0});
+        Assert.assertTrue(arr.sort());
+        Assert.assertEquals(arr.getFloat(0), -1.0);
+        Assert.assertEquals(arr.getFloat(1), 0.0);
+        Assert.assertEquals(arr.getFloat(2), 2.5);
+        Assert.assertEquals(arr.getFloat(3), Double.POSITIVE_INFINITY);
+        Assert.assertTrue(Double.isNaN(arr.getFloat(4)));
+    }
+
+    @Test
+    void testSortBytesAsUnsigned() {
+        ArrayValueImpl arr = new ArrayValueImpl(new byte[]{(byte) 200, 3, (byte) 255, 0, (byte) 128, 3});
+        Assert.assertTrue(arr.sort());
+        Assert.assertEquals(arr.getBytes(), new byte[]{0, 3, 3, (byte) 128, (byte) 200, (byte) 255});
+    }
+
+    @Test
+    void testSortBooleans() {
+        ArrayValueImpl arr = new ArrayValueImpl(new boolean[]{true, false, true, false, false});
+        Assert.assertTrue(arr.sort());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(arr.getBoolean(i), i >= 3);
+        }
+    }
+
+    @Test
+    void testSortStringsByCodePoint() {
+        // U+1F47D is encoded as a surrogate pair, which sorts before U+FF21 in UTF-16 order.
+        ArrayValueImpl arr = new ArrayValueImpl(new String[]{"\uD83D\uDC7D", "\uFF21", "b", "B", ""});
+        Assert.assertTrue(arr.sort());
+        Assert.assertEquals(arr.getStringArray(), new String[]{"", "B", "b", "\uFF21", "\uD83D\uDC7D"});
+    }
+
+    @Test
+    void testSortDecimals() {
+        ArrayValueImpl arr = new ArrayValueImpl(new BArrayType(BTypes.typeDecimal));
+        arr.add(0, new DecimalValue("1.5"));
+        arr.add(1, new DecimalValue("-2.25"));
+        arr.add(2, new DecimalValue("100"));
+        Assert.assertTrue(arr.sort());
+        Assert.assertEquals(arr.get(0).toString(), "-2.25");
+        Assert.assertEquals(arr.get(1).toString(), "1.5");
+        Assert.assertEquals(arr.get(2).toString(), "100");
+    }
+
+    @Test
+    void testSortMixedTypesIsNotSupported() {
+        ArrayValueImpl arr = new ArrayValueImpl(new BArrayType(
+                new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeString))));
+        arr.add(0, (Object) 3L);
+        arr.add(1, (Object) StringUtils.fromString("two"));
+        arr.add(2, (Object) 1L);
+        Assert.assertFalse(arr.sort());
+        Assert.assertEquals(arr.get(0), 3L);
+        Assert.assertEquals(arr.get(2), 1L);
+    }
+
+    @Test
+    void testParallelSort() {
+        int size = ArrayUtils.PARALLEL_SORT_THRESHOLD * 4 + 1;
+        Random random = new Random(42);
+        long[] ints = new long[size];
+        BString[] strings = new BString[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextLong();
+            strings[i] = StringUtils.fromString(Integer.toString(random.nextInt()));
+        }
+
+        ArrayValueImpl intArr = new ArrayValueImpl(ints.clone());
+        Assert.assertTrue(intArr.sort());
+        Arrays.sort(ints);
+        Assert.assertEquals(intArr.getLongArray(), ints);
+
+        ArrayValueImpl stringArr = new ArrayValueImpl(strings.clone());
+        Assert.assertTrue(stringArr.sort());
+        for (int i = 1; i < size; i++) {
+            Assert.assertTrue(ArrayUtils.compareStrings(stringArr.getBString(i - 1), stringArr.getBString(i)) <= 0);
+        }
+    }
+
+    @Test
+    void testCompareStrings() {
+        Assert.assertTrue(ArrayUtils.compareStrings(StringUtils.fromString("abc"), StringUtils.fromString("abd")) < 0);
+        Assert.assertTrue(ArrayUtils.compareStrings(StringUtils.fromString("ab"), StringUtils.fromString("abc")) < 0);
+        Assert.assertEquals(ArrayUtils.compareStrings(StringUtils.fromString("ab"), StringUtils.fromString("ab")), 0);
+        Assert.assertTrue(ArrayUtils.compareStrings(StringUtils.fromString("\uD83D\uDC7D"),
+                                                    StringUtils.fromString("\uFF21")) > 0);
+    }
+}
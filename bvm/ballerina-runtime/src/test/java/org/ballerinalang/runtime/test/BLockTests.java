@@ -0,0 +1,157 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BLockStore;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock} read and write modes and the held lock tracking of {@link Strand}.
+ */
+public class BLockTests {
+
+    private final Scheduler scheduler = new Scheduler(1, false);
+    private final Function<Object[], Object> noop = params -> null;
+
+    @Test
+    void testReadersShareLock() {
+        BLock lock = new BLock();
+        Strand first = new Strand(scheduler);
+        Strand second = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockRead(first));
+        Assert.assertTrue(lock.lockRead(second));
+        Assert.assertTrue(first.holdsLock(lock));
+        Assert.assertTrue(second.holdsLock(lock));
+
+        lock.unlockRead(first);
+        lock.unlockRead(second);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertFalse(first.holdsLock(lock));
+        Assert.assertFalse(second.holdsLock(lock));
+    }
+
+    @Test
+    void testWriterWaitsForReaders() {
+        BLock lock = new BLock();
+        Strand reader = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockRead(reader));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertFalse(writer.holdsLock(lock));
+    }
+
+    @Test
+    void testWaitingWriterIsNotStarvedByReaders() {
+        BLock lock = new BLock();
+        Strand reader = newStrand();
+        Strand writer = newStrand();
+        Strand otherWriter = newStrand();
+        Strand lateReader = newStrand();
+
+        Assert.assertTrue(lock.lockRead(reader));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertTrue(writer.isBlockedOnLock());
+        // Readers arriving after a writer wait for it, even though the lock is only held for reading
+        Assert.assertFalse(lock.lockRead(lateReader));
+        Assert.assertFalse(lock.lock(otherWriter));
+
+        lock.unlockRead(reader);
+        Assert.assertEquals(writer.getState(), State.YIELD);
+        Assert.assertEquals(lateReader.getState(), State.BLOCK_AND_YIELD);
+        // The woken writer keeps its place ahead of the writer that arrived later
+        Assert.assertFalse(lock.lock(otherWriter));
+        Assert.assertFalse(lock.lockRead(lateReader));
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertFalse(writer.isBlockedOnLock());
+
+        lock.unlock();
+        Assert.assertEquals(otherWriter.getState(), State.YIELD);
+        Assert.assertEquals(lateReader.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertTrue(lock.lock(otherWriter));
+        lock.unlock();
+        Assert.assertEquals(lateReader.getState(), State.YIELD);
+        Assert.assertTrue(lock.lockRead(lateReader));
+        lock.unlockRead(lateReader);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testReaderHoldingLockIsNotQueuedBehindWriter() {
+        BLock lock = new BLock();
+        Strand reader = newStrand();
+        Strand writer = newStrand();
+
+        Assert.assertTrue(lock.lockRead(reader));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertTrue(lock.lockRead(reader));
+        lock.unlockRead(reader);
+        lock.unlockRead(reader);
+        Assert.assertEquals(writer.getState(), State.YIELD);
+    }
+
+    @Test
+    void testCancelledWaiterIsRemovedFromQueue() {
+        BLock lock = new BLock();
+        Strand reader = newStrand();
+        Strand writer = newStrand();
+        Strand otherWriter = newStrand();
+
+        Assert.assertTrue(lock.lockRead(reader));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertFalse(lock.lock(otherWriter));
+        lock.unlockRead(reader);
+
+        // The woken writer completes without retrying, so the next writer is woken in its place
+        lock.cancelWait(writer);
+        Assert.assertFalse(writer.isBlockedOnLock());
+        Assert.assertEquals(otherWriter.getState(), State.YIELD);
+        Assert.assertTrue(lock.lock(otherWriter));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testWriterIsReentrant() {
+        BLock lock = new BLock();
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockRead(writer));
+        Assert.assertEquals(writer.getHeldLocks().size(), 3);
+
+        lock.unlockRead(writer);
+        lock.unlock();
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(writer.getHeldLocks().isEmpty());
+    }
+
+    @Test
+    void testPanicIfInLockChecksHeldLocksOfStore() {
+        BLockStore store = new BLockStore();
+        BLockStore otherStore = new BLockStore();
+        Strand strand = new Strand(scheduler);
+
+        store.panicIfInLock("lock0", strand);
+        Assert.assertTrue(otherStore.getLockFromMap("lock0").lock(strand));
+        store.panicIfInLock("lock0", strand);
+
+        Assert.assertTrue(store.getLockFromMap("lock1").lockRead(strand));
+        Assert.assertThrows(ErrorValue.class, () -> store.panicIfInLock("lock0", strand));
+    }
+
+    private Strand newStrand() {
+        // Scheduled, but never run, so that the lock can unblock it
+        return scheduler.schedule(new Object[1], noop, null, null).strand;
+    }
+}
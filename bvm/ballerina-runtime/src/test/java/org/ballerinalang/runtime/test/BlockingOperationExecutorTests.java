@@ -0,0 +1,75 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.BlockingOperationExecutor;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Test cases for running blocking operations through {@link BlockingOperationExecutor}.
+ */
+public class BlockingOperationExecutorTests {
+
+    @Test
+    void testRunsInlineOutsideStrand() {
+        Thread caller = Thread.currentThread();
+        Object result = BlockingOperationExecutor.execute(() -> Thread.currentThread() == caller);
+        Assert.assertEquals(result, true);
+    }
+
+    @Test
+    void testExceptionIsReturnedAsError() {
+        Object result = BlockingOperationExecutor.execute(() -> {
+            throw new IllegalStateException("connection refused");
+        });
+        Assert.assertTrue(result instanceof ErrorValue);
+        Assert.assertEquals(((ErrorValue) result).getReason().getValue(), "connection refused");
+    }
+
+    @Test
+    void testStrandWorkerIsReleased() throws InterruptedException {
+        int strands = 4;
+        // A single strand worker runs all the strands, which only works if blocked strands release it.
+        Scheduler scheduler = new Scheduler(1, false);
+        CountDownLatch allStarted = new CountDownLatch(strands);
+        ConcurrentHashMap<Object, Object> results = new ConcurrentHashMap<>();
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (strand.isBlockedOnExtern()) {
+                // Resumed with the result of the operation, as the generated code does.
+                strand.blockedOnExtern = false;
+                results.put(strand, strand.returnValue);
+                return null;
+            }
+            BlockingOperationExecutor.execute(() -> {
+                allStarted.countDown();
+                if (!allStarted.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("operations did not run concurrently");
+                }
+                return Thread.currentThread().getName();
+            });
+            return null;
+        };
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[1], function, null, null);
+        }
+
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(30));
+
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler should stop after all strands are done");
+        Assert.assertEquals(results.size(), strands);
+        for (Object result : results.values()) {
+            Assert.assertTrue(result.toString().startsWith("jbal-blocking-io-"), result.toString());
+        }
+        Assert.assertTrue(BlockingOperationExecutor.getCompletedCount() >= strands);
+    }
+}
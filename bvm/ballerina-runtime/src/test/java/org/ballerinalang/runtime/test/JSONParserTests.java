@@ -0,0 +1,165 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for parsing JSON content directly into a value of a target type with {@link JSONParser}.
+ */
+public class JSONParserTests {
+
+    private static final BPackage PKG = new BPackage("test", "json", "0.1.0");
+    private static final Map<String, BRecordType> RECORD_TYPES = new HashMap<>();
+
+    private BRecordType addressType;
+    private BRecordType personType;
+
+    @BeforeClass
+    void setup() {
+        addressType = record("Address", true, field("city", BTypes.typeString),
+                field("zip", new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull))));
+        personType = record("Person", false, field("name", BTypes.typeString), field("age", BTypes.typeInt),
+                field("score", BTypes.typeFloat), field("price", BTypes.typeDecimal), field("address", addressType),
+                field("codes", new BArrayType(BTypes.typeInt)), field("flags", new BArrayType(BTypes.typeByte)),
+                field("pair", new BTupleType(Arrays.asList(BTypes.typeString, BTypes.typeFloat))));
+        ValueCreator.addValueCreator("test", "json", "0.1.0", new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(RECORD_TYPES.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testParseRecord() {
+        String json = "{\"name\": \"Anne\", \"age\": 30, \"score\": 4, \"price\": 10.15, " +
+                "\"address\": {\"city\": \"Colombo\", \"zip\": null}, \"codes\": [1, 2, 3], \"flags\": [0, 255], " +
+                "\"pair\": [\"x\", 1.5], \"nickname\": \"Annie\", \"tags\": [\"a\", 1]}";
+        MapValueImpl<BString, Object> person = (MapValueImpl<BString, Object>) JSONParser.parse(json, personType);
+
+        Assert.assertSame(person.getType(), personType);
+        Assert.assertEquals(person.get(key("name")), StringUtils.fromString("Anne"));
+        Assert.assertEquals(person.get(key("age")), 30L);
+        Assert.assertEquals(person.get(key("score")), 4.0);
+        Assert.assertEquals(person.get(key("price")), new DecimalValue("10.15"));
+
+        MapValueImpl<BString, Object> address = (MapValueImpl<BString, Object>) person.get(key("address"));
+        Assert.assertSame(address.getType(), addressType);
+        Assert.assertTrue(address.containsKey(key("zip")));
+        Assert.assertNull(address.get(key("zip")));
+
+        ArrayValue codes = (ArrayValue) person.get(key("codes"));
+        Assert.assertEquals(codes.getType().getTag(), new BArrayType(BTypes.typeInt).getTag());
+        Assert.assertEquals(codes.size(), 3);
+        Assert.assertEquals(codes.getInt(2), 3L);
+        Assert.assertEquals(((ArrayValue) person.get(key("flags"))).getByte(1), (byte) 255);
+        Assert.assertEquals(((ArrayValue) person.get(key("pair"))).get(1), 1.5);
+
+        // Rest fields of an open record are read as json.
+        Assert.assertEquals(person.get(key("nickname")), StringUtils.fromString("Annie"));
+        ArrayValue tags = (ArrayValue) person.get(key("tags"));
+        Assert.assertEquals(tags.get(0), StringUtils.fromString("a"));
+        Assert.assertEquals(tags.get(1), 1L);
+    }
+
+    @Test
+    void testParseList() {
+        BType type = new BArrayType(new BMapType(BTypes.typeFloat));
+        ArrayValue list = (ArrayValue) JSONParser.parse("[{\"a\": 1}, {\"b\": 2.5, \"c\": -3e2}]", type);
+        Assert.assertSame(list.getType(), type);
+        Assert.assertEquals(list.size(), 2);
+        Assert.assertEquals(((MapValueImpl<?, ?>) list.get(0)).get(key("a")), 1.0);
+        Assert.assertEquals(((MapValueImpl<?, ?>) list.get(1)).get(key("c")), -300.0);
+    }
+
+    @Test
+    void testParseAsJson() {
+        String json = "{\"a\": [1, \"b\", true, null, {\"c\": 2.5}]}";
+        Object value = JSONParser.parse(json, BTypes.typeJSON);
+        Assert.assertEquals(value.toString(), JSONParser.parse(json).toString());
+    }
+
+    @Test
+    void testTypeMismatch() {
+        assertConversionError("{\"name\": \"Anne\", \"age\": \"30\"}",
+                "'string' value cannot be converted to 'int' at '$.age'");
+        assertConversionError("{\"name\": \"Anne\", \"age\": 30, \"address\": {\"city\": 10}}",
+                "'int' value cannot be converted to 'string' at '$.address.city'");
+        assertConversionError("{\"name\": \"Anne\", \"age\": 30, \"codes\": [1, 2.5, true]}",
+                "'boolean' value cannot be converted to 'int' at '$.codes[2]'");
+        assertConversionError("{\"name\": \"Anne\", \"age\": 30, \"flags\": [256]}",
+                "'int' value cannot be converted to 'byte' at '$.flags[0]'");
+        assertConversionError("{\"name\": \"Anne\", \"age\": 30, \"pair\": [\"x\", 1, 2]}",
+                "too many members for '[string,float]' at '$.pair[2]'");
+    }
+
+    @Test
+    void testRecordFields() {
+        assertConversionError("{\"name\": \"Anne\"}", "missing required field 'age' of type 'int' in record " +
+                "'json:Person' at '$'");
+        assertConversionError("{\"name\": \"Anne\", \"age\": 30, \"address\": {\"city\": \"Colombo\", \"street\": 1}}",
+                "field cannot be added to the closed record 'json:Address' at '$.address.street'");
+    }
+
+    private void assertConversionError(String json, String message) {
+        try {
+            JSONParser.parse(json, personType);
+            Assert.fail("expected a conversion error");
+        } catch (ErrorValue e) {
+            Assert.assertTrue(e.getReason().getValue().endsWith("ConversionError"), e.toString());
+            Assert.assertTrue(e.toString().contains(message), e.toString());
+        }
+    }
+
+    private static BString key(String name) {
+        return StringUtils.fromString(name);
+    }
+
+    private static BField field(String name, BType type) {
+        return new BField(type, name, Flags.REQUIRED);
+    }
+
+    private static BRecordType record(String name, boolean sealed, BField... fields) {
+        Map<String, BField> fieldMap = new LinkedHashMap<>();
+        for (BField field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        BRecordType type = new BRecordType(name, PKG, 0, fieldMap, sealed ? null : BTypes.typeJSON, sealed, 0);
+        RECORD_TYPES.put(name, type);
+        return type;
+    }
+}
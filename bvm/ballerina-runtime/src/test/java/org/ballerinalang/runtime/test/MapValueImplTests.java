@@ -0,0 +1,136 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link MapValueImpl} with unboxed storage for int, float and boolean constrained maps.
+ */
+public class MapValueImplTests {
+
+    @Test
+    void testIntMapKeepsInsertionOrder() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        for (int i = 0; i < 100; i++) {
+            map.put(key(i), (long) i);
+        }
+        map.put(key(5), 500L);
+        map.remove(key(3));
+        map.put(key(3), 3L);
+
+        Assert.assertEquals(map.size(), 100);
+        Assert.assertEquals(map.get(key(5)), 500L);
+        Assert.assertEquals(map.getIntValue(key(99)), Long.valueOf(99));
+        Assert.assertNull(map.get(key(100)));
+
+        List<String> keys = new ArrayList<>();
+        for (BString key : map.getKeys()) {
+            keys.add(key.getValue());
+        }
+        Assert.assertEquals(keys.get(2), "k2");
+        Assert.assertEquals(keys.get(3), "k4");
+        Assert.assertEquals(keys.get(99), "k3");
+    }
+
+    @Test
+    void testRemoveAndCompact() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeFloat));
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                map.put(key(i), i + 0.5);
+            }
+            for (int i = 0; i < 50; i += 2) {
+                Assert.assertEquals(map.remove(key(i)), i + 0.5);
+            }
+        }
+
+        Assert.assertEquals(map.size(), 25);
+        Assert.assertTrue(map.containsKey(key(1)));
+        Assert.assertFalse(map.containsKey(key(0)));
+        Assert.assertTrue(map.containsValue(1.5));
+        Assert.assertFalse(map.containsValue(0.5));
+
+        Iterator<Map.Entry<BString, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().getValue().equals("k1")) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(map.size(), 24);
+        Assert.assertFalse(map.containsKey(key(1)));
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testEntriesAreSnapshots() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeBoolean));
+        map.put(key(0), true);
+        map.put(key(1), false);
+
+        Map.Entry<BString, Object> entry = map.entrySet().iterator().next();
+        map.put(key(0), false);
+        Assert.assertEquals(entry.getValue(), true);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> entry.setValue(false));
+        Assert.assertEquals(new ArrayList<>(map.values()), Arrays.asList(false, false));
+    }
+
+    @Test
+    void testRemoveWhileIterating() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        for (int i = 0; i < 4; i++) {
+            map.put(key(i), (long) i);
+        }
+
+        IteratorValue iterator = map.getIterator();
+        List<Object> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            TupleValueImpl next = (TupleValueImpl) iterator.next();
+            values.add(next.get(1));
+            if (values.size() == 1) {
+                map.remove(key(1));
+            } else if (values.size() == 3) {
+                map.clear();
+            }
+        }
+        Assert.assertEquals(values, Arrays.asList(0L, 1L, 2L, 3L));
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testEqualityAcrossStorage() {
+        MapValueImpl<BString, Object> unboxed = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        MapValueImpl<BString, Object> boxed = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        unboxed.put(key(0), 1L);
+        unboxed.put(key(1), 2L);
+        boxed.put(key(0), 1L);
+        boxed.put(key(1), 2L);
+
+        // A value without an unboxed representation moves the map to the default storage.
+        boxed.put(key(2), "two");
+        boxed.remove(key(2));
+
+        Assert.assertEquals(unboxed, boxed);
+        Assert.assertEquals(boxed.get(key(1)), 2L);
+        Assert.assertEquals(unboxed.copy(new HashMap<>()), boxed);
+    }
+
+    private static BString key(int i) {
+        return StringUtils.fromString("k" + i);
+    }
+}
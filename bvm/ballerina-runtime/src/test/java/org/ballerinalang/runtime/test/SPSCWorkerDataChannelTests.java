@@ -0,0 +1,128 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.SPSCWorkerDataChannel;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.values.ChannelDetails;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+
+/**
+ * Test cases for the lock free {@link SPSCWorkerDataChannel}.
+ */
+public class SPSCWorkerDataChannelTests {
+
+    private static final String CHANNEL = "w1->w2";
+
+    private final Scheduler scheduler = new Scheduler(1, false);
+    private final Function<Object[], Object> noop = params -> null;
+
+    @Test
+    void testSenderPanicIsReceivedAfterData() throws Throwable {
+        WorkerDataChannel channel = new SPSCWorkerDataChannel(CHANNEL);
+        Strand sender = newStrand();
+        Strand receiver = newStrand();
+        ErrorValue panic = BallerinaErrors.createError("sender panicked");
+
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        channel.setSendPanic(panic);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+        Assert.assertThrows(ErrorValue.class, () -> channel.tryTakeData(receiver));
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+        channel.sendData(3L, sender);
+        Assert.assertEquals(receiver.getState(), State.YIELD);
+        receiver.setState(State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), 3L);
+    }
+
+    @Test
+    void testSyncSendWaitsForReceiver() throws Throwable {
+        WorkerDataChannel channel = new SPSCWorkerDataChannel(CHANNEL);
+        Strand sender = newStrand();
+        Strand receiver = newStrand();
+
+        Assert.assertNull(channel.syncSendData(1L, sender));
+        Assert.assertEquals(sender.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(sender.getState(), State.YIELD);
+
+        // The sender retries the sync send once it is resumed, which completes it
+        sender.setState(State.RUNNABLE);
+        Assert.assertNull(channel.syncSendData(1L, sender));
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+
+        Assert.assertNull(channel.syncSendData(2L, sender));
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+    }
+
+    @Test
+    void testReceiverPanicUnblocksSyncSender() throws Throwable {
+        WorkerDataChannel channel = new SPSCWorkerDataChannel(CHANNEL);
+        Strand sender = newStrand();
+        ErrorValue panic = BallerinaErrors.createError("receiver panicked");
+
+        Assert.assertNull(channel.syncSendData(1L, sender));
+        channel.setReceiverPanic(panic);
+        Assert.assertEquals(sender.getState(), State.YIELD);
+        sender.setState(State.RUNNABLE);
+        Assert.assertThrows(ErrorValue.class, () -> channel.syncSendData(1L, sender));
+    }
+
+    @Test
+    void testFlushWaitsForReceiver() throws Throwable {
+        Strand sender = newStrand();
+        Strand receiver = newStrand();
+        ChannelDetails[] channels = {new ChannelDetails(CHANNEL, true, true, true)};
+        WorkerDataChannel channel = sender.wdChannels.getSPSCWorkerDataChannel(CHANNEL);
+
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        Assert.assertNull(sender.handleFlush(channels));
+        Assert.assertEquals(sender.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(sender.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+        Assert.assertEquals(sender.getState(), State.YIELD);
+
+        sender.setState(State.RUNNABLE);
+        Assert.assertNull(sender.handleFlush(channels));
+        Assert.assertFalse(sender.flushDetail.inProgress);
+
+        // Nothing left to receive, so the next flush completes right away
+        Assert.assertNull(sender.handleFlush(channels));
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+    }
+
+    @Test
+    void testFlushReturnsReceiverError() throws Throwable {
+        Strand sender = newStrand();
+        ChannelDetails[] channels = {new ChannelDetails(CHANNEL, true, true, true)};
+        WorkerDataChannel channel = sender.wdChannels.getSPSCWorkerDataChannel(CHANNEL);
+        ErrorValue error = BallerinaErrors.createError("receiver failed");
+
+        channel.sendData(1L, sender);
+        Assert.assertNull(sender.handleFlush(channels));
+        channel.setReceiveError(error);
+        Assert.assertEquals(sender.getState(), State.YIELD);
+        sender.setState(State.RUNNABLE);
+        Assert.assertSame(sender.handleFlush(channels), error);
+
+        // Later sends fail with the receiver error as well
+        Assert.assertSame(channel.syncSendData(2L, sender), error);
+    }
+
+    private Strand newStrand() {
+        // Scheduled, but never run, so that the channel can unblock it
+        return scheduler.schedule(new Object[1], noop, null, null).strand;
+    }
+}
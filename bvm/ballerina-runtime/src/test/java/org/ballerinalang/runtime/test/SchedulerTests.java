@@ -0,0 +1,207 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} run queue models and the virtual thread mode.
+ */
+public class SchedulerTests {
+
+    @DataProvider(name = "queueModels")
+    public Object[][] queueModels() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    @Test(dataProvider = "queueModels")
+    void testFanOutFanIn(boolean workStealing) throws InterruptedException {
+        testFanOutFanIn(new Scheduler(4, false, workStealing));
+    }
+
+    @Test
+    void testSubmissionsRunWhileWorkersAreBusy() throws InterruptedException {
+        Scheduler scheduler = new Scheduler(1, false, true);
+        AtomicBoolean submittedRan = new AtomicBoolean();
+        AtomicInteger producerRuns = new AtomicInteger();
+        int maxProducerRuns = 1_000_000;
+
+        // Keeps the only worker busy by scheduling its successor, which queues it on the worker's own deque
+        AtomicReference<Function<Object[], Object>> producer = new AtomicReference<>();
+        producer.set(params -> {
+            if (!submittedRan.get() && producerRuns.incrementAndGet() < maxProducerRuns) {
+                scheduler.schedule(new Object[1], producer.get(), null, null);
+            }
+            return null;
+        });
+        scheduler.schedule(new Object[1], producer.get(), null, null);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        while (producerRuns.get() < 1000) {
+            Thread.yield();
+        }
+
+        Function<Object[], Object> submitted = params -> {
+            submittedRan.set(true);
+            return null;
+        };
+        scheduler.schedule(new Object[1], submitted, null, null);
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(30));
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler should stop after all strands are done");
+        Assert.assertTrue(submittedRan.get());
+        Assert.assertTrue(producerRuns.get() < maxProducerRuns, "submitted strand ran only after the producer");
+    }
+
+    @Test
+    void testFanOutFanInOnVirtualThreads() throws InterruptedException {
+        testFanOutFanIn(createVirtualThreadScheduler());
+    }
+
+    private void testFanOutFanIn(Scheduler scheduler) throws InterruptedException {
+        int fanOut = 500;
+
+        AtomicInteger executed = new AtomicInteger();
+        Function<Object[], Object> leaf = params -> executed.incrementAndGet();
+        Function<Object[], Object> child = params -> {
+            executed.incrementAndGet();
+            scheduler.schedule(new Object[1], leaf, (Strand) params[0], null);
+            return null;
+        };
+        Function<Object[], Object> root = params -> {
+            for (int i = 0; i < fanOut; i++) {
+                scheduler.schedule(new Object[1], child, (Strand) params[0], null);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], root, null, null);
+
+        runToCompletion(scheduler);
+        Assert.assertEquals(executed.get(), fanOut * 2);
+    }
+
+    @Test
+    void testReceiveBlocksInPlaceOnVirtualThreads() throws InterruptedException {
+        Scheduler scheduler = createVirtualThreadScheduler();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+
+        // The functions are not resumable, hence a strand that yields instead of blocking in place would run twice
+        AtomicInteger receiverRuns = new AtomicInteger();
+        Object[] received = new Object[1];
+        Function<Object[], Object> receiver = params -> {
+            receiverRuns.incrementAndGet();
+            try {
+                received[0] = channel.tryTakeData((Strand) params[0]);
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+            return null;
+        };
+        Function<Object[], Object> sender = params -> {
+            sleep(100);
+            channel.sendData(42L, (Strand) params[0]);
+            return null;
+        };
+        scheduler.schedule(new Object[1], receiver, null, null);
+        scheduler.schedule(new Object[1], sender, null, null);
+
+        runToCompletion(scheduler);
+        Assert.assertEquals(receiverRuns.get(), 1);
+        Assert.assertEquals(received[0], 42L);
+    }
+
+    @Test
+    void testLockBlocksInPlaceOnVirtualThreads() throws InterruptedException {
+        Scheduler scheduler = createVirtualThreadScheduler();
+        BLock lock = new BLock();
+        CountDownLatch locked = new CountDownLatch(1);
+
+        Function<Object[], Object> holder = params -> {
+            Assert.assertTrue(lock.lock((Strand) params[0]));
+            locked.countDown();
+            sleep(100);
+            lock.unlock();
+            return null;
+        };
+        AtomicInteger waiterRuns = new AtomicInteger();
+        Function<Object[], Object> waiter = params -> {
+            waiterRuns.incrementAndGet();
+            try {
+                locked.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            boolean acquired = lock.lock((Strand) params[0]);
+            lock.unlock();
+            return acquired;
+        };
+        scheduler.schedule(new Object[1], holder, null, null);
+        FutureValue waiterFuture = scheduler.schedule(new Object[1], waiter, null, null);
+
+        runToCompletion(scheduler);
+        Assert.assertEquals(waiterRuns.get(), 1);
+        Assert.assertEquals(waiterFuture.result, true);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testWaitBlocksInPlaceOnVirtualThreads() throws InterruptedException {
+        Scheduler scheduler = createVirtualThreadScheduler();
+        Function<Object[], Object> slow = params -> {
+            sleep(100);
+            return 7L;
+        };
+        FutureValue slowFuture = scheduler.schedule(new Object[1], slow, null, null);
+
+        AtomicInteger waiterRuns = new AtomicInteger();
+        Function<Object[], Object> waiter = params -> {
+            waiterRuns.incrementAndGet();
+            try {
+                return ((Strand) params[0]).handleWaitAny(Collections.singletonList(slowFuture)).result;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+        FutureValue waiterFuture = scheduler.schedule(new Object[1], waiter, null, null);
+
+        runToCompletion(scheduler);
+        Assert.assertEquals(waiterRuns.get(), 1);
+        Assert.assertEquals(waiterFuture.result, 7L);
+    }
+
+    private static Scheduler createVirtualThreadScheduler() {
+        if (!Scheduler.isVirtualThreadsSupported()) {
+            throw new SkipException("virtual threads are not supported by this JVM");
+        }
+        return new Scheduler(4, false, true, true);
+    }
+
+    private static void runToCompletion(Scheduler scheduler) throws InterruptedException {
+        // A non immortal scheduler stops once all the strands are done
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(30));
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler should stop after all strands are done");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
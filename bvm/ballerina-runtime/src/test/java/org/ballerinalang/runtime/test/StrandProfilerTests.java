@@ -0,0 +1,178 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.observability.profiler.StrandActivity;
+import org.ballerinalang.jvm.observability.profiler.StrandProfiler;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for sampling strands with the {@link StrandProfiler}.
+ */
+public class StrandProfilerTests {
+
+    @AfterClass
+    void disableProfiler() {
+        StrandProfiler.disable();
+    }
+
+    @Test
+    void testSampleStrandActivities() throws Throwable {
+        StrandProfiler.enable();
+        StrandProfiler profiler = StrandProfiler.getInstance();
+        profiler.reset();
+        int liveStrands = profiler.getLiveStrandCount();
+
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        WorkerDataChannel channel = new WorkerDataChannel("w1->w2");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Function<Object[], Object> holder = params -> {
+            Assert.assertTrue(lock.lock((Strand) params[0]));
+            locked.countDown();
+            await(release);
+            lock.unlock();
+            return null;
+        };
+        // The functions are not resumable, so they start over when the strand is resumed
+        Function<Object[], Object> waiter = params -> {
+            await(locked);
+            if (lock.lock((Strand) params[0])) {
+                lock.unlock();
+            }
+            return null;
+        };
+        Function<Object[], Object> receiver = params -> {
+            Strand strand = (Strand) params[0];
+            strand.resumeIndex = 0;
+            try {
+                Object data = channel.tryTakeData(strand);
+                if (data == null) {
+                    // Save a frame as a generated function does when it yields
+                    strand.frames[strand.resumeIndex++] = new ReceiverFrame();
+                }
+                return data;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+        FutureValue holderFuture = scheduler.schedule(new Object[1], holder, null, null);
+        FutureValue waiterFuture = scheduler.schedule(new Object[1], waiter, null, null);
+        FutureValue receiverFuture = scheduler.schedule(new Object[1], receiver, null, null);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        awaitActivity(holderFuture.strand, StrandActivity.RUNNING);
+        awaitActivity(waiterFuture.strand, StrandActivity.WAITING_ON_LOCK);
+        awaitActivity(receiverFuture.strand, StrandActivity.WAITING_ON_WORKER);
+        profiler.sample();
+
+        Assert.assertEquals(profiler.getLiveStrandCount(), liveStrands + 3);
+        Assert.assertEquals(profiler.getStrandCount(StrandActivity.RUNNING), 1);
+        Assert.assertEquals(profiler.getStrandCount(StrandActivity.WAITING_ON_LOCK), 1);
+        Assert.assertEquals(profiler.getStrandCount(StrandActivity.WAITING_ON_WORKER), 1);
+        Assert.assertEquals(profiler.getBlockedStrandCount(), 2);
+        Map<StrandActivity, Long> activities = profiler.getActivityHistogram();
+        Assert.assertEquals(activities.get(StrandActivity.WAITING_ON_LOCK), Long.valueOf(1));
+
+        String function = "org.ballerinalang.runtime.test:StrandProfilerTests$Receiver";
+        Assert.assertEquals(profiler.getFunctionHistogram().get(function).get(StrandActivity.WAITING_ON_WORKER),
+                Long.valueOf(1));
+        StringWriter collapsedStacks = new StringWriter();
+        profiler.writeCollapsedStacks(collapsedStacks);
+        Assert.assertTrue(collapsedStacks.toString().contains("WAITING_ON_WORKER;" + function + " 1\n"),
+                collapsedStacks.toString());
+
+        release.countDown();
+        Function<Object[], Object> sender = params -> {
+            channel.sendData(42L, (Strand) params[0]);
+            return null;
+        };
+        scheduler.schedule(new Object[1], sender, null, null);
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(30));
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler should stop after all strands are done");
+        Assert.assertEquals(receiverFuture.result, 42L);
+        Assert.assertEquals(profiler.getLiveStrandCount(), liveStrands);
+    }
+
+    @Test
+    void testStrandPanickingWhileWaitingOnLockIsReleased() throws Throwable {
+        StrandProfiler.enable();
+        StrandProfiler profiler = StrandProfiler.getInstance();
+        int liveStrands = profiler.getLiveStrandCount();
+
+        Scheduler scheduler = new Scheduler(2, false);
+        BLock lock = new BLock();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Function<Object[], Object> holder = params -> {
+            Assert.assertTrue(lock.lock((Strand) params[0]));
+            locked.countDown();
+            await(release);
+            lock.unlock();
+            return null;
+        };
+        Function<Object[], Object> waiter = params -> {
+            await(locked);
+            if (runs.getAndIncrement() > 0) {
+                // Woken up to retry the lock, but panics before retrying as a cancelled strand does
+                throw BallerinaErrors.createError("cancelled");
+            }
+            lock.lock((Strand) params[0]);
+            return null;
+        };
+        scheduler.schedule(new Object[1], holder, null, null);
+        FutureValue waiterFuture = scheduler.schedule(new Object[1], waiter, null, null);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        awaitActivity(waiterFuture.strand, StrandActivity.WAITING_ON_LOCK);
+        release.countDown();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(30));
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler should stop after all strands are done");
+        Assert.assertNotNull(waiterFuture.panic);
+        Assert.assertFalse(waiterFuture.strand.isBlockedOnLock());
+        Assert.assertNotEquals(StrandActivity.of(waiterFuture.strand), StrandActivity.WAITING_ON_LOCK);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(profiler.getLiveStrandCount(), liveStrands);
+    }
+
+    private static void awaitActivity(Strand strand, StrandActivity activity) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (StrandActivity.of(strand) != activity) {
+            Assert.assertTrue(System.nanoTime() < deadline, "strand did not reach " + activity);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stands in for a frame class generated for a function named {@code Receiver}.
+     */
+    private static class ReceiverFrame {
+    }
+}
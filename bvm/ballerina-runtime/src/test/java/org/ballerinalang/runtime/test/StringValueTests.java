@@ -1,6 +1,10 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.RopeStringValue;
+import org.ballerinalang.jvm.values.api.BString;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +44,107 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            str = str.concat(StringUtils.fromString(Integer.toString(i % 10)));
+            expected.append(i % 10);
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 100000);
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+    }
+
+    @Test
+    void testShortConcatIsFlat() {
+        BString str = StringUtils.fromString("foo").concat(StringUtils.fromString("bar"));
+        Assert.assertTrue(str instanceof BmpStringValue);
+        Assert.assertEquals(str.getValue(), "foobar");
+    }
+
+    @Test
+    void testConcatTracksSurrogates() {
+        BString str = SUBJECT;
+        String expected = UNICODE_STR;
+        for (int i = 0; i < 50; i++) {
+            str = str.concat(StringUtils.fromString("ab")).concat(SUBJECT);
+            expected = expected + "ab" + UNICODE_STR;
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 51 * 16 + 50 * 2);
+        Assert.assertEquals(str.getCodePoint(16), 'a');
+        Assert.assertEquals(str.getCodePoint(18 + 1), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(str.length() - 2), 0x1F47D);
+        Assert.assertEquals(str.getValue(), expected);
+        Assert.assertEquals(str.substring(16, 20).getValue(), "abC\uD83D\uDEF8");
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("ab"), 0), Long.valueOf(16));
+    }
+
+    @Test
+    void testConcatWithOtherStringImplementation() {
+        BString other = new PlainString(UNICODE_STR);
+        BString str = SUBJECT;
+        String expected = UNICODE_STR;
+        for (int i = 0; i < 20; i++) {
+            str = str.concat(other);
+            expected = expected + UNICODE_STR;
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 21 * 16);
+        Assert.assertEquals(str.getCodePoint(16 + 14), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(16 + 15), 'r');
+        Assert.assertEquals(str.getValue(), expected);
+    }
+
+    /**
+     * A {@link BString} that is not one of the runtime's string values.
+     */
+    private static class PlainString implements BString {
+
+        private final String value;
+
+        PlainString(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int getCodePoint(int index) {
+            return value.codePointAt(value.offsetByCodePoints(0, index));
+        }
+
+        @Override
+        public int length() {
+            return value.codePointCount(0, value.length());
+        }
+
+        @Override
+        public BString concat(BString str) {
+            return new PlainString(value + str.getValue());
+        }
+
+        @Override
+        public Long indexOf(BString str, int fromIndex) {
+            return (long) value.indexOf(str.getValue(), fromIndex);
+        }
+
+        @Override
+        public Long lastIndexOf(BString str, int fromIndex) {
+            return (long) value.lastIndexOf(str.getValue(), fromIndex);
+        }
+
+        @Override
+        public BString substring(int beginIndex, int endIndex) {
+            return new PlainString(value.substring(beginIndex, endIndex));
+        }
+    }
+
 }
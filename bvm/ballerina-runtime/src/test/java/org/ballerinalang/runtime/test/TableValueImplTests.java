@@ -0,0 +1,177 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableValueImpl} row storage, key index and secondary indexes.
+ */
+public class TableValueImplTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    void testKeyedTable() {
+        TableValueImpl<Object, Object> table =
+                new TableValueImpl<>(new BTableType(new BMapType(BTypes.typeInt), new String[]{"id"}, false));
+        for (long i = 0; i < 1000; i++) {
+            table.add(row(i, i * 10));
+        }
+
+        Assert.assertEquals(table.size(), 1000);
+        Assert.assertTrue(table.containsKey(500L));
+        Assert.assertFalse(table.containsKey(1000L));
+        Assert.assertEquals(((MapValueImpl) table.get(999L)).get(NAME), 9990L);
+        Assert.assertEquals(table.getNextKey(), 1000L);
+        Assert.assertThrows(ErrorValue.class, () -> table.add(row(5, 0)));
+
+        table.put(row(5, -1));
+        Assert.assertEquals(((MapValueImpl) table.get(5L)).get(NAME), -1L);
+        Assert.assertEquals(table.size(), 1000);
+        Assert.assertThrows(ErrorValue.class, () -> table.put(6L, row(5, 0)));
+
+        Assert.assertNotNull(table.remove(0L));
+        Assert.assertNull(table.remove(0L));
+        Assert.assertEquals(table.size(), 999);
+        Assert.assertEquals(table.getKeys()[0], 1L);
+        Assert.assertEquals(table.getKeys()[4], 5L);
+    }
+
+    @Test
+    void testRemoveWhileIterating() {
+        TableValueImpl<Object, Object> table =
+                new TableValueImpl<>(new BTableType(new BMapType(BTypes.typeInt), new String[]{"id"}, false));
+        for (long i = 0; i < 64; i++) {
+            table.add(row(i, i));
+        }
+
+        List<Object> keys = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            Object key = ((TupleValueImpl) iterator.next()).get(0);
+            keys.add(key);
+            if ((Long) key < 60) {
+                table.remove(key);
+            }
+        }
+        Assert.assertEquals(keys.size(), 64);
+        Assert.assertEquals(table.size(), 4);
+
+        // Re-adding reuses the space of the removed rows and keeps the insertion order.
+        for (long i = 0; i < 60; i++) {
+            table.add(row(i, i));
+        }
+        Assert.assertEquals(table.size(), 64);
+        Assert.assertEquals(Arrays.asList(table.getKeys()).subList(0, 5), Arrays.asList(60L, 61L, 62L, 63L, 0L));
+    }
+
+    @Test
+    void testCompositeKey() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(
+                new BTableType(new BMapType(BTypes.typeAny), new String[]{"id", "name"}, false));
+        for (long i = 0; i < 100; i++) {
+            MapValueImpl<BString, Object> row = new MapValueImpl<>(new BMapType(BTypes.typeAny));
+            row.put(ID, i);
+            row.put(NAME, StringUtils.fromString("n" + i));
+            table.add(row);
+        }
+
+        Assert.assertTrue(table.containsKey(key(42, "n42")));
+        Assert.assertFalse(table.containsKey(key(42, "n43")));
+        Assert.assertEquals(((MapValueImpl) table.get(key(7, "n7"))).get(ID), 7L);
+        Assert.assertTrue(TypeChecker.isEqual(table.getKeys()[3], key(3, "n3")));
+    }
+
+    @Test
+    void testKeylessTable() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(
+                new BTableType(new BMapType(BTypes.typeInt), false));
+        for (long i = 0; i < 100; i++) {
+            table.add(row(1, i));
+        }
+
+        Assert.assertEquals(table.size(), 100);
+        Assert.assertEquals(table.values().size(), 100);
+        Assert.assertFalse(table.containsKey(1L));
+        Assert.assertEquals(table.getKeys().length, 0);
+    }
+
+    @Test
+    void testSecondaryIndex() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(
+                new BTableType(new BMapType(BTypes.typeInt, true), new String[]{"id"}, false));
+        table.addIndex(NAME);
+        for (long i = 0; i < 100; i++) {
+            table.add(row(i, i % 10));
+        }
+
+        Assert.assertTrue(table.hasIndex(NAME));
+        Assert.assertFalse(table.hasIndex(ID));
+        Assert.assertEquals(ids(table.lookup(NAME, 3L)), Arrays.asList(3L, 13L, 23L, 33L, 43L, 53L, 63L, 73L, 83L,
+                93L));
+        Assert.assertTrue(table.lookup(NAME, 10L).isEmpty());
+
+        // The index follows replaced and removed rows, including through compactions.
+        table.put(row(13, 4));
+        for (long i = 20; i < 100; i++) {
+            table.remove(i);
+        }
+        for (long i = 100; i < 110; i++) {
+            table.add(row(i, 3));
+        }
+        Assert.assertEquals(ids(table.lookup(NAME, 3L)), Arrays.asList(3L, 100L, 101L, 102L, 103L, 104L, 105L,
+                106L, 107L, 108L, 109L));
+        Assert.assertEquals(ids(table.lookup(NAME, 4L)), Arrays.asList(4L, 13L, 14L));
+        Assert.assertEquals(ids(table.lookup(ID, 5L)), Arrays.asList(5L));
+
+        table.clear();
+        Assert.assertTrue(table.lookup(NAME, 3L).isEmpty());
+    }
+
+    @Test
+    void testIndexOverMutableField() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(
+                new BTableType(new BMapType(BTypes.typeInt), new String[]{"id"}, false));
+        Assert.assertThrows(ErrorValue.class, () -> table.addIndex(NAME));
+        Assert.assertFalse(table.hasIndex(NAME));
+    }
+
+    private static List<Object> ids(List<Object> rows) {
+        List<Object> ids = new ArrayList<>();
+        for (Object row : rows) {
+            ids.add(((MapValueImpl) row).get(ID));
+        }
+        return ids;
+    }
+
+    private static MapValueImpl<BString, Object> row(long id, long value) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        row.put(ID, id);
+        row.put(NAME, value);
+        return row;
+    }
+
+    private static TupleValueImpl key(long id, String name) {
+        TupleValueImpl key = new TupleValueImpl(new BTupleType(Arrays.asList(BTypes.typeInt, BTypes.typeString)));
+        key.add(0, id);
+        key.add(1, StringUtils.fromString(name));
+        return key;
+    }
+}
@@ -0,0 +1,146 @@
+package org.ballerinalang.runtime.test;
+
+import io.opentracing.Span;
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.tracer.BSpan;
+import org.ballerinalang.jvm.observability.tracer.TailSampledTrace;
+import org.ballerinalang.jvm.observability.tracer.TailSampler;
+import org.ballerinalang.jvm.observability.tracer.TraceSampler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test cases for head based sampling with {@link TraceSampler} and tail based sampling with {@link TailSampler}.
+ */
+public class TraceSamplingTests {
+
+    @Test
+    void testConstSampler() {
+        Assert.assertTrue(TraceSampler.create("const", 1).sample());
+        Assert.assertFalse(TraceSampler.create("const", 0).sample());
+    }
+
+    @Test
+    void testProbabilisticSampler() {
+        TraceSampler sampler = TraceSampler.create("probabilistic", 0.25);
+        int sampled = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+        Assert.assertTrue(sampled > 2000 && sampled < 3000, "sampled " + sampled + " of 10000 traces");
+        Assert.assertFalse(TraceSampler.create("probabilistic", 0).sample());
+    }
+
+    @Test
+    void testRateLimitingSampler() {
+        TraceSampler sampler = TraceSampler.create("ratelimiting", 10);
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+        // Up to a second worth of traces are allowed in a burst
+        Assert.assertTrue(sampled >= 10 && sampled <= 11, "sampled " + sampled + " traces");
+        Assert.assertFalse(TraceSampler.create("ratelimiting", 0).sample());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testInvalidSamplerType() {
+        TraceSampler.create("remote", 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testInvalidProbability() {
+        TraceSampler.create("probabilistic", 1.5);
+    }
+
+    @Test
+    void testTraceIsDroppedWithoutErrors() {
+        TailSampler tailSampler = new TailSampler(60000, 10);
+        List<String> finished = new CopyOnWriteArrayList<>();
+        ObserverContext rootContext = new ObserverContext();
+        TailSampledTrace trace = tailSampler.newTrace(rootContext);
+        BSpan root = createSpan(rootContext, "root", finished);
+        BSpan child = createSpan(new ObserverContext(), "child", finished);
+
+        trace.finishSpan(child);
+        Assert.assertEquals(tailSampler.getBufferedSpans(), 1);
+        Assert.assertFalse(trace.finishTrace(root));
+        Assert.assertTrue(finished.isEmpty());
+        Assert.assertEquals(tailSampler.getBufferedSpans(), 0);
+
+        // Spans finishing after the trace is dropped are not reported either
+        trace.finishSpan(createSpan(new ObserverContext(), "late", finished));
+        Assert.assertTrue(finished.isEmpty());
+    }
+
+    @Test
+    void testTraceIsKeptOnError() {
+        TailSampler tailSampler = new TailSampler(60000, 10);
+        List<String> finished = new CopyOnWriteArrayList<>();
+        ObserverContext rootContext = new ObserverContext();
+        TailSampledTrace trace = tailSampler.newTrace(rootContext);
+        BSpan root = createSpan(rootContext, "root", finished);
+        BSpan child = createSpan(new ObserverContext(), "child", finished);
+        child.logError(Collections.singletonMap("message", "failed"));
+
+        trace.finishSpan(child);
+        Assert.assertTrue(finished.isEmpty());
+        Assert.assertTrue(trace.finishTrace(root));
+        Assert.assertEquals(finished, Arrays.asList("child", "root"));
+        Assert.assertTrue(child.getFinishTimestampMicros() >= child.getStartTimestampMicros());
+
+        // Spans finishing after the trace is kept are reported right away
+        trace.finishSpan(createSpan(new ObserverContext(), "late", finished));
+        Assert.assertEquals(finished.get(2), "late");
+    }
+
+    @Test
+    void testSlowTraceIsKept() {
+        TailSampler tailSampler = new TailSampler(0, 10);
+        List<String> finished = new CopyOnWriteArrayList<>();
+        ObserverContext rootContext = new ObserverContext();
+        TailSampledTrace trace = tailSampler.newTrace(rootContext);
+        Assert.assertTrue(trace.isRoot(rootContext));
+        Assert.assertTrue(trace.finishTrace(createSpan(rootContext, "root", finished)));
+        Assert.assertEquals(finished, Collections.singletonList("root"));
+    }
+
+    @Test
+    void testBufferedSpansAreBounded() {
+        TailSampler tailSampler = new TailSampler(0, 1);
+        List<String> finished = new CopyOnWriteArrayList<>();
+        ObserverContext rootContext = new ObserverContext();
+        TailSampledTrace trace = tailSampler.newTrace(rootContext);
+        BSpan root = createSpan(rootContext, "root", finished);
+
+        trace.finishSpan(createSpan(new ObserverContext(), "first", finished));
+        trace.finishSpan(createSpan(new ObserverContext(), "second", finished));
+        Assert.assertEquals(tailSampler.getBufferedSpans(), 1);
+        Assert.assertTrue(trace.finishTrace(root));
+        Assert.assertEquals(finished, Arrays.asList("first", "root"));
+        Assert.assertEquals(tailSampler.getBufferedSpans(), 0);
+    }
+
+    private static BSpan createSpan(ObserverContext observerContext, String name, List<String> finished) {
+        BSpan bSpan = new BSpan(observerContext, false);
+        bSpan.setStartTimestamp();
+        bSpan.setSpan((Span) Proxy.newProxyInstance(Span.class.getClassLoader(), new Class[]{Span.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("finish")) {
+                        finished.add(name);
+                    }
+                    return method.getReturnType().isInstance(proxy) ? proxy : null;
+                }));
+        return bSpan;
+    }
+}
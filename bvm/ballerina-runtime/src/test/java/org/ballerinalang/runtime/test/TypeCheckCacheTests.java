@@ -0,0 +1,98 @@
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeCheckCache;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeCheckCache} and the caching of subtype checks in {@link TypeChecker}.
+ */
+public class TypeCheckCacheTests {
+
+    private static final BPackage PKG = new BPackage("test", "types", "0.1.0");
+
+    @Test
+    void testGetAndPut() {
+        TypeCheckCache cache = new TypeCheckCache(16);
+        BType person = record("Person", BTypes.typeString);
+        BType employee = record("Employee", BTypes.typeString);
+
+        Assert.assertNull(cache.get(person, employee));
+        // Both pairs can map to the same slot, so each entry is read before the next one is put.
+        cache.put(person, employee, true);
+        Assert.assertEquals(cache.get(person, employee), Boolean.TRUE);
+        cache.put(employee, person, false);
+        Assert.assertEquals(cache.get(employee, person), Boolean.FALSE);
+        // Entries are matched on the identity of the types, not on their structure.
+        Assert.assertNull(cache.get(record("Person", BTypes.typeString), employee));
+
+        Assert.assertEquals(cache.getHits(), 2);
+        Assert.assertEquals(cache.getMisses(), 2);
+        cache.clear();
+        Assert.assertNull(cache.get(person, employee));
+        Assert.assertEquals(cache.getHits(), 0);
+        Assert.assertEquals(cache.getMisses(), 1);
+    }
+
+    @Test
+    void testBoundedSize() {
+        TypeCheckCache cache = new TypeCheckCache(100);
+        Assert.assertEquals(cache.getSize(), 128);
+
+        BType target = record("Target", BTypes.typeInt);
+        BType[] sources = new BType[1000];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = record("Source" + i, BTypes.typeInt);
+            cache.put(sources[i], target, true);
+        }
+        int cached = 0;
+        for (BType source : sources) {
+            if (cache.get(source, target) != null) {
+                cached++;
+            }
+        }
+        Assert.assertTrue(cached > 0 && cached <= cache.getSize());
+    }
+
+    @Test
+    void testCheckIsTypeUsesCache() {
+        TypeCheckCache cache = TypeChecker.getTypeCheckCache();
+        BType person = record("Person", BTypes.typeString);
+        BType name = record("Name", BTypes.typeString);
+        BType age = record("Age", BTypes.typeInt);
+        BType union = new BUnionType(Arrays.asList(BTypes.typeInt, name, BTypes.typeNull));
+
+        Assert.assertTrue(TypeChecker.checkIsType(person, union));
+        long hits = cache.getHits();
+        Assert.assertTrue(TypeChecker.checkIsType(person, union));
+        Assert.assertEquals(cache.getHits(), hits + 1);
+
+        Assert.assertFalse(TypeChecker.checkIsType(age, union));
+        hits = cache.getHits();
+        Assert.assertFalse(TypeChecker.checkIsType(age, union));
+        Assert.assertEquals(cache.getHits(), hits + 1);
+
+        BType personArray = new BArrayType(person);
+        Assert.assertTrue(TypeChecker.checkIsType(personArray, new BArrayType(name)));
+        Assert.assertFalse(TypeChecker.checkIsType(personArray, new BArrayType(age)));
+    }
+
+    private static BRecordType record(String typeName, BType fieldType) {
+        Map<String, BField> fields = new HashMap<>();
+        fields.put("value", new BField(fieldType, "value", Flags.REQUIRED));
+        return new BRecordType(typeName, PKG, 0, fields, null, true, 0);
+    }
+}
@@ -58,9 +58,12 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_COVERAGE;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BUILD_TIME;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.INCREMENTAL_BUILD;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
@@ -150,6 +153,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--dump-build-time", hidden = true)
+    private boolean dumpBuildTime;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -168,6 +174,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--new-parser", description = "Enable new parser.", hidden = true)
     private boolean newParserEnabled;
 
+    @CommandLine.Option(names = "--incremental", description = "Reuse the compiled modules of the previous build " +
+                                                               "whose sources are unchanged.")
+    private boolean incremental;
+
     private static final String buildCmd = "ballerina build [-o <output>] [--sourceroot] [--offline] [--skip-tests]\n" +
             "                    [--skip-lock] {<ballerina-file | module-name> | -a | --all} [--] [(--key=value)...]";
 
@@ -384,12 +394,15 @@ public class BuildCommand implements BLauncherCmd {
         CompilerOptions options = CompilerOptions.getInstance(compilerContext);
         options.put(PROJECT_DIR, this.sourceRootPath.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
+        options.put(DUMP_BUILD_TIME, Boolean.toString(dumpBuildTime));
+        options.put(INCREMENTAL_BUILD, Boolean.toString(this.incremental));
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(LOCK_ENABLED, Boolean.toString(!this.skipLock));
         options.put(SKIP_TESTS, Boolean.toString(this.skipTests));
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
+        options.put(CODE_COVERAGE, Boolean.toString(this.coverage));
         options.put(PRESERVE_WHITESPACE, "true");
         options.put(NEW_PARSER_ENABLED, Boolean.toString(this.newParserEnabled));
         // create builder context
@@ -22,6 +22,7 @@ import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.writer.BirFileWriter;
+import org.wso2.ballerinalang.compiler.ModuleBuildCache;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -49,6 +50,7 @@ public class CreateBirTask implements Task {
         String balHomePath = buildContext.get(BuildContextField.HOME_REPO).toString();
         // generate bir for modules
         BirFileWriter birFileWriter = BirFileWriter.getInstance(context);
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(context);
         List<BLangPackage> modules = buildContext.getModules();
         for (BLangPackage module : modules) {
             birFileWriter.write(module, buildContext.getBirPathFromTargetCache(module.packageID));
@@ -66,6 +68,8 @@ public class CreateBirTask implements Task {
                 bLangPackage.getTestablePkgs().forEach(testablePackage -> writeImportBir(buildContext,
                         testablePackage.symbol.imports, sourceRootPath, birFileWriter, balHomePath));
             }
+            // record the source hashes of the written bir(s) so that the next build can reuse them
+            moduleBuildCache.update(bLangPackage.symbol);
         }
     }
 
@@ -58,7 +58,17 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    INCREMENTAL_BUILD("incrementalBuild"),
+
+    CODE_COVERAGE("codeCoverage"),
+
+    DUMP_BUILD_TIME("dumpBuildTime"),
+
+    QUERY_FUSION("queryFusion"),
+
+    QUERY_PARALLELISM("parallelQueries");
 
     public final String name;
 
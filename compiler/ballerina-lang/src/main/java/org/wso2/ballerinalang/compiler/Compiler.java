@@ -46,6 +46,8 @@ public class Compiler {
     private final DependencyTree dependencyTree;
     private final BLangDiagnosticLogHelper dlog;
     private final PackageLoader pkgLoader;
+    private final ModuleBuildCache moduleBuildCache;
+    private final ModuleCompileTimes moduleCompileTimes;
     private final Manifest manifest;
     private boolean langLibsLoaded;
     private PrintStream outStream;
@@ -58,6 +60,8 @@ public class Compiler {
         this.dependencyTree = DependencyTree.getInstance(context);
         this.dlog = BLangDiagnosticLogHelper.getInstance(context);
         this.pkgLoader = PackageLoader.getInstance(context);
+        this.moduleBuildCache = ModuleBuildCache.getInstance(context);
+        this.moduleCompileTimes = ModuleCompileTimes.getInstance(context);
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
         this.outStream = System.out;
         this.langLibsLoaded = false;
@@ -149,6 +153,10 @@ public class Compiler {
             this.langLibsLoaded = true;
         }
 
+        // Modules being built are always compiled from source. Unchanged project modules they import can be
+        // loaded from the BIR cache of a previous build.
+        this.moduleBuildCache.addEntryModules(pkgIdList);
+
         // 1) Load all source packages. i.e. source-code -> BLangPackageNode
         // 2) Define all package level symbols for all the packages including imported packages in the AST
         List<BLangPackage> packages = new ArrayList<>();
@@ -167,6 +175,7 @@ public class Compiler {
                 dlog.resetErrorCount();
             }
         }
+        this.moduleCompileTimes.print(this.outStream);
         return packages;
     }
 
@@ -43,6 +43,7 @@ import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
@@ -95,6 +96,7 @@ public class CompilerDriver {
     private final CodeGenerator codeGenerator;
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
+    private final ModuleCompileTimes moduleCompileTimes;
     private boolean isToolingCompilation;
 
 
@@ -127,6 +129,7 @@ public class CompilerDriver {
         this.codeGenerator = CodeGenerator.getInstance(context);
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
+        this.moduleCompileTimes = ModuleCompileTimes.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -236,52 +239,62 @@ public class CompilerDriver {
             return;
         }
 
-        typeCheck(pkgNode);
+        runPhase(pkgNode, CompilerPhase.TYPE_CHECK, this::typeCheck);
         if (this.stopCompilation(pkgNode, CompilerPhase.CODE_ANALYZE)) {
             return;
         }
 
-        codeAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CODE_ANALYZE, this::codeAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DATAFLOW_ANALYZE)) {
             return;
         }
 
-        dataflowAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DATAFLOW_ANALYZE, this::dataflowAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE)) {
             return;
         }
 
-        documentationAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE, this::documentationAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE)) {
             return;
         }
 
-        taintAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.TAINT_ANALYZE, this::taintAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.CONSTANT_PROPAGATION)) {
             return;
         }
 
-        propagateConstants(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CONSTANT_PROPAGATION, this::propagateConstants);
         if (this.stopCompilation(pkgNode, CompilerPhase.COMPILER_PLUGIN)) {
             return;
         }
 
-        annotationProcess(pkgNode);
+        runPhase(pkgNode, CompilerPhase.COMPILER_PLUGIN, this::annotationProcess);
         if (this.stopCompilation(pkgNode, CompilerPhase.DESUGAR)) {
             return;
         }
 
-        desugar(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DESUGAR, this::desugar);
         if (this.stopCompilation(pkgNode, CompilerPhase.BIR_GEN)) {
             return;
         }
 
-        birGen(pkgNode);
+        runPhase(pkgNode, CompilerPhase.BIR_GEN, this::birGen);
         if (this.stopCompilation(pkgNode, CompilerPhase.CODE_GEN)) {
             return;
         }
 
-        codeGen(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CODE_GEN, this::codeGen);
+    }
+
+    private void runPhase(BLangPackage pkgNode, CompilerPhase phase, Function<BLangPackage, BLangPackage> action) {
+        if (!this.moduleCompileTimes.isEnabled()) {
+            action.apply(pkgNode);
+            return;
+        }
+        long startTime = System.nanoTime();
+        action.apply(pkgNode);
+        this.moduleCompileTimes.record(pkgNode.packageID, phase.toString(), System.nanoTime() - startTime);
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_COVERAGE;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.INCREMENTAL_BUILD;
+import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.QUERY_FUSION;
+import static org.ballerinalang.compiler.CompilerOptionName.QUERY_PARALLELISM;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
+import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT;
+
+/**
+ * Keeps track of the BIR of project modules written to the target cache, keyed by a hash of the module sources.
+ * <p>
+ * Next to each cached BIR file a {@code .hash} file records the source hash of the module together with the
+ * project modules it imported. The hash of a module covers its own sources, the manifest and lock files, the
+ * compiler version, the compiler options that change the generated code and the hashes of the project modules it
+ * imports, so a change in a module invalidates every module that depends on it. A module whose hash still matches
+ * is loaded from the cached BIR instead of being compiled from source again. The cache is only used when
+ * incremental builds are enabled.
+ *
+ * @since 2.0.0
+ */
+public class ModuleBuildCache {
+
+    private static final CompilerContext.Key<ModuleBuildCache> MODULE_BUILD_CACHE_KEY =
+            new CompilerContext.Key<>();
+
+    private static final String HASH_FILE_EXT = ".hash";
+    private static final String IMPORT_SEPARATOR = " ";
+
+    // Options that change what is compiled or how, a module built with different values is compiled again.
+    private static final CompilerOptionName[] KEYED_OPTIONS = {
+            EXPERIMENTAL_FEATURES_ENABLED,
+            SKIP_TESTS,
+            TEST_ENABLED,
+            CODE_COVERAGE,
+            LOCK_ENABLED,
+            NEW_PARSER_ENABLED,
+            QUERY_FUSION,
+            QUERY_PARALLELISM
+    };
+
+    private final boolean enabled;
+    private final String buildKey;
+    private final Path projectDir;
+    private final Path birCacheDir;
+    private final Path jarCacheDir;
+    private final Set<String> entryModules = new HashSet<>();
+    private final Map<String, String> sourceHashes = new HashMap<>();
+
+    public static ModuleBuildCache getInstance(CompilerContext context) {
+        ModuleBuildCache moduleBuildCache = context.get(MODULE_BUILD_CACHE_KEY);
+        if (moduleBuildCache == null) {
+            moduleBuildCache = new ModuleBuildCache(context);
+        }
+        return moduleBuildCache;
+    }
+
+    private ModuleBuildCache(CompilerContext context) {
+        context.put(MODULE_BUILD_CACHE_KEY, this);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        String projectDirOption = options.get(PROJECT_DIR);
+        this.projectDir = projectDirOption == null ? null : Paths.get(projectDirOption);
+        this.enabled = this.projectDir != null && Boolean.parseBoolean(options.get(INCREMENTAL_BUILD)) &&
+                RepoUtils.isBallerinaProject(this.projectDir);
+        Path cachesDir = this.projectDir == null ? null : this.projectDir
+                .resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.CACHES_DIR_NAME);
+        this.buildKey = computeBuildKey(options);
+        this.birCacheDir = cachesDir == null ? null : cachesDir.resolve(ProjectDirConstants.BIR_CACHE_DIR_NAME);
+        this.jarCacheDir = cachesDir == null ? null : cachesDir.resolve(ProjectDirConstants.JAR_CACHE_DIR_NAME);
+    }
+
+    /**
+     * Marks the modules that are being built from source in the current compilation. These are never served from
+     * the cache, since the build needs their syntax trees.
+     *
+     * @param pkgIdList entry modules of the compilation
+     */
+    public void addEntryModules(List<PackageID> pkgIdList) {
+        for (PackageID pkgId : pkgIdList) {
+            this.entryModules.add(pkgId.name.value);
+        }
+    }
+
+    /**
+     * Returns the cached BIR of a project module if the module and all the project modules it depends on are
+     * unchanged since the BIR was written.
+     *
+     * @param pkgId module ID
+     * @return BIR content or null if the module has to be compiled from source
+     */
+    public byte[] getCachedBIR(PackageID pkgId) {
+        if (!isCacheable(pkgId)) {
+            return null;
+        }
+
+        Path birPath = getBirPath(pkgId.orgName.value, pkgId.name.value, pkgId.version.value);
+        Path jarPath = getJarPath(pkgId.orgName.value, pkgId.name.value, pkgId.version.value);
+        if (!Files.exists(birPath) || !Files.exists(jarPath)) {
+            return null;
+        }
+
+        try {
+            String expectedHash = computeHashFromRecord(pkgId.orgName.value, pkgId.name.value, pkgId.version.value,
+                                                        new HashMap<>());
+            if (expectedHash == null) {
+                return null;
+            }
+            return Files.readAllBytes(birPath);
+        } catch (IOException e) {
+            // A broken cache entry is not an error, the module is simply compiled again.
+            return null;
+        }
+    }
+
+    /**
+     * Records the source hash of a module whose BIR has been written to the target cache, along with the project
+     * modules it imports.
+     *
+     * @param pkgSymbol symbol of the module
+     */
+    public void update(BPackageSymbol pkgSymbol) {
+        if (!isProjectModule(pkgSymbol.pkgID)) {
+            return;
+        }
+        try {
+            updateRecord(pkgSymbol, new HashMap<>());
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing build cache of module '" + pkgSymbol.pkgID + "': " +
+                                                     e.getMessage());
+        }
+    }
+
+    private String updateRecord(BPackageSymbol pkgSymbol, Map<String, String> moduleHashes) throws IOException {
+        PackageID pkgId = pkgSymbol.pkgID;
+        String org = pkgId.orgName.value;
+        String name = pkgId.name.value;
+        String version = pkgId.version.value;
+        String hash = moduleHashes.get(name);
+        if (hash != null) {
+            return hash;
+        }
+
+        List<String> imports = new ArrayList<>();
+        List<String> importHashes = new ArrayList<>();
+        for (BPackageSymbol importSymbol : pkgSymbol.imports) {
+            if (!isProjectModule(importSymbol.pkgID)) {
+                continue;
+            }
+            imports.add(String.join(IMPORT_SEPARATOR, importSymbol.pkgID.orgName.value,
+                                    importSymbol.pkgID.name.value, importSymbol.pkgID.version.value));
+            importHashes.add(updateRecord(importSymbol, moduleHashes));
+        }
+
+        hash = combine(computeSourceHash(name), importHashes);
+        Path hashPath = getHashPath(org, name, version);
+        Files.createDirectories(hashPath.getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add(hash);
+        lines.addAll(imports);
+        Files.write(hashPath, lines, StandardCharsets.UTF_8);
+        moduleHashes.put(name, hash);
+        return hash;
+    }
+
+    private String computeHashFromRecord(String org, String name, String version, Map<String, String> moduleHashes)
+            throws IOException {
+        if (moduleHashes.containsKey(name)) {
+            return moduleHashes.get(name);
+        }
+        Path hashPath = getHashPath(org, name, version);
+        if (!Files.exists(hashPath) || !ProjectDirs.isModuleExist(this.projectDir, name)) {
+            return null;
+        }
+
+        List<String> lines = Files.readAllLines(hashPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return null;
+        }
+
+        List<String> importHashes = new ArrayList<>();
+        for (String importLine : lines.subList(1, lines.size())) {
+            String[] parts = importLine.split(IMPORT_SEPARATOR);
+            if (parts.length != 3) {
+                return null;
+            }
+            String importHash = computeHashFromRecord(parts[0], parts[1], parts[2], moduleHashes);
+            if (importHash == null) {
+                return null;
+            }
+            importHashes.add(importHash);
+        }
+
+        String hash = combine(computeSourceHash(name), importHashes);
+        if (!hash.equals(lines.get(0))) {
+            hash = null;
+        }
+        moduleHashes.put(name, hash);
+        return hash;
+    }
+
+    private String computeSourceHash(String moduleName) throws IOException {
+        String hash = this.sourceHashes.get(moduleName);
+        if (hash != null) {
+            return hash;
+        }
+
+        MessageDigest digest = newDigest();
+        digest.update(this.buildKey.getBytes(StandardCharsets.UTF_8));
+        updateDigest(digest, this.projectDir.resolve(ProjectDirConstants.MANIFEST_FILE_NAME));
+        updateDigest(digest, this.projectDir.resolve(ProjectDirConstants.LOCK_FILE_NAME));
+
+        Path moduleDir = this.projectDir.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleName);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            digest.update(moduleDir.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            updateDigest(digest, file);
+        }
+
+        hash = toHex(digest.digest());
+        this.sourceHashes.put(moduleName, hash);
+        return hash;
+    }
+
+    private static String computeBuildKey(CompilerOptions options) {
+        StringBuilder key = new StringBuilder(RepoUtils.getBallerinaVersion());
+        for (CompilerOptionName optionName : KEYED_OPTIONS) {
+            key.append('\n').append(optionName).append('=').append(options.get(optionName));
+        }
+        return key.toString();
+    }
+
+    private static String combine(String sourceHash, List<String> importHashes) {
+        if (importHashes.isEmpty()) {
+            return sourceHash;
+        }
+        MessageDigest digest = newDigest();
+        digest.update(sourceHash.getBytes(StandardCharsets.UTF_8));
+        for (String importHash : importHashes) {
+            digest.update(importHash.getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void updateDigest(MessageDigest digest, Path file) throws IOException {
+        if (Files.exists(file)) {
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unable to compute module hash: " + e.getMessage());
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private boolean isCacheable(PackageID pkgId) {
+        return isProjectModule(pkgId) && !isEntryModule(pkgId);
+    }
+
+    private boolean isEntryModule(PackageID pkgId) {
+        return this.entryModules.contains(pkgId.name.value);
+    }
+
+    private boolean isProjectModule(PackageID pkgId) {
+        return this.enabled && !pkgId.isUnnamed && !pkgId.version.value.isEmpty() &&
+                ProjectDirs.isModuleExist(this.projectDir, pkgId.name.value);
+    }
+
+    private Path getBirPath(String org, String name, String version) {
+        return this.birCacheDir.resolve(org).resolve(name).resolve(version).resolve(name + BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    private Path getHashPath(String org, String name, String version) {
+        return this.birCacheDir.resolve(org).resolve(name).resolve(version).resolve(name + HASH_FILE_EXT);
+    }
+
+    private Path getJarPath(String org, String name, String version) {
+        return this.jarCacheDir.resolve(org).resolve(name).resolve(version)
+                .resolve(org + "-" + name + "-" + version + BLANG_COMPILED_JAR_EXT);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BUILD_TIME;
+
+/**
+ * Records the time spent in each compiler phase per module, when build time dumping is enabled.
+ *
+ * @since 2.0.0
+ */
+public class ModuleCompileTimes {
+
+    private static final CompilerContext.Key<ModuleCompileTimes> MODULE_COMPILE_TIMES_KEY =
+            new CompilerContext.Key<>();
+
+    private final boolean enabled;
+    private final Map<String, Map<String, Long>> moduleTimes = new LinkedHashMap<>();
+
+    public static ModuleCompileTimes getInstance(CompilerContext context) {
+        ModuleCompileTimes moduleCompileTimes = context.get(MODULE_COMPILE_TIMES_KEY);
+        if (moduleCompileTimes == null) {
+            moduleCompileTimes = new ModuleCompileTimes(context);
+        }
+        return moduleCompileTimes;
+    }
+
+    private ModuleCompileTimes(CompilerContext context) {
+        context.put(MODULE_COMPILE_TIMES_KEY, this);
+        this.enabled = Boolean.parseBoolean(CompilerOptions.getInstance(context).get(DUMP_BUILD_TIME));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(PackageID pkgId, String stage, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        moduleTimes.computeIfAbsent(getModuleName(pkgId), k -> new LinkedHashMap<>())
+                .merge(stage, nanos, Long::sum);
+    }
+
+    public void print(PrintStream out) {
+        if (!enabled || moduleTimes.isEmpty()) {
+            return;
+        }
+        out.println("Build time breakdown (ms)");
+        for (Map.Entry<String, Map<String, Long>> module : moduleTimes.entrySet()) {
+            long total = 0;
+            StringBuilder stages = new StringBuilder();
+            for (Map.Entry<String, Long> stage : module.getValue().entrySet()) {
+                total += stage.getValue();
+                if (stages.length() > 0) {
+                    stages.append(", ");
+                }
+                stages.append(stage.getKey()).append(' ').append(toMillis(stage.getValue()));
+            }
+            out.println("\t" + module.getKey() + ": " + toMillis(total) + " [" + stages + "]");
+        }
+        moduleTimes.clear();
+    }
+
+    private static String getModuleName(PackageID pkgId) {
+        return pkgId.isUnnamed ? pkgId.sourceFileName.value : pkgId.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
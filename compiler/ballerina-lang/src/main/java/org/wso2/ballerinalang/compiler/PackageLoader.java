@@ -119,6 +119,8 @@ public class PackageLoader {
     private final BIRPackageSymbolEnter birPackageSymbolEnter;
     private final Names names;
     private final BLangDiagnosticLogHelper dlog;
+    private final ModuleBuildCache moduleBuildCache;
+    private final ModuleCompileTimes moduleCompileTimes;
     private static final boolean shouldReadBalo = true;
     private final CompilerPhase compilerPhase;
     
@@ -152,6 +154,8 @@ public class PackageLoader {
         this.birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(context);
         this.names = Names.getInstance(context);
         this.dlog = BLangDiagnosticLogHelper.getInstance(context);
+        this.moduleBuildCache = ModuleBuildCache.getInstance(context);
+        this.moduleCompileTimes = ModuleCompileTimes.getInstance(context);
         this.offline = Boolean.parseBoolean(options.get(OFFLINE));
         this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
         this.lockEnabled = Boolean.parseBoolean(options.get(LOCK_ENABLED));
@@ -438,6 +442,11 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
+            // An unchanged project module can be loaded from the BIR written by a previous build.
+            byte[] cachedBIR = this.moduleBuildCache.getCachedBIR(pkgEntity.getPackageId());
+            if (cachedBIR != null) {
+                return loadCachedPackageAndDefine(packageId, pkgEntity.getRepoHierarchy(), cachedBIR);
+            }
             return parseAndDefine(packageId, (PackageSource) pkgEntity);
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
@@ -471,7 +480,10 @@ public class PackageLoader {
 
     private BPackageSymbol define(BLangPackage pkgNode) {
         // 2) Define all package-level symbols
+        long startTime = System.nanoTime();
         this.symbolEnter.definePackage(pkgNode);
+        this.moduleCompileTimes.record(pkgNode.packageID, CompilerPhase.DEFINE.toString(),
+                                       System.nanoTime() - startTime);
         this.packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
 
         // 3) Create the compiledPackage structure
@@ -494,6 +506,7 @@ public class PackageLoader {
     }
 
     private BLangPackage parse(PackageID pkgId, PackageSource pkgSource) {
+        long startTime = System.nanoTime();
         BLangPackage packageNode;
         if (this.newParserEnabled) {
             packageNode = this.parser.parseNew(pkgSource, this.sourceDirectory.getPath());
@@ -504,6 +517,7 @@ public class PackageLoader {
         // Set the same packageId to the testable node
         packageNode.getTestablePkgs().forEach(testablePkg -> testablePkg.packageID = pkgId);
         this.packageCache.put(pkgId, packageNode);
+        this.moduleCompileTimes.record(pkgId, "parse", System.nanoTime() - startTime);
         return packageNode;
     }
 
@@ -517,6 +531,15 @@ public class PackageLoader {
         return pkgSymbol;
     }
 
+    private BPackageSymbol loadCachedPackageAndDefine(PackageID pkgId, RepoHierarchy repoHierarchy,
+                                                      byte[] birContent) {
+        long startTime = System.nanoTime();
+        BPackageSymbol pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, repoHierarchy, birContent);
+        this.packageCache.putSymbol(pkgSymbol.pkgID, pkgSymbol);
+        this.moduleCompileTimes.record(pkgId, "loadCachedBIR", System.nanoTime() - startTime);
+        return pkgSymbol;
+    }
+
     private CompiledPackage createInMemoryCompiledPackage(BLangPackage pkgNode) {
         PackageID packageID = pkgNode.packageID;
         InMemoryCompiledPackage compiledPackage = new InMemoryCompiledPackage(packageID);
@@ -1554,19 +1554,25 @@ public class JvmMethodGen {
         returnVarRefIndex = indexMap.getIndex(varDcl);
         genDefaultValue(mv, retType, returnVarRefIndex);
 
-        BIRVariableDcl stateVar = new BIRVariableDcl(symbolTable.stringType, //should  be javaInt
-                new Name("state"), null, VarKind.TEMP);
-        int stateVarIndex = indexMap.getIndex(stateVar);
-        mv.visitInsn(ICONST_0);
-        mv.visitVarInsn(ISTORE, stateVarIndex);
+        // functions that never yield are never resumed, hence they do not need to track their state
+        int stateVarIndex = -1;
+        Label resumeLable = null;
+        Label varinitLable = null;
+        if (!func.nonYielding) {
+            BIRVariableDcl stateVar = new BIRVariableDcl(symbolTable.stringType, //should  be javaInt
+                    new Name("state"), null, VarKind.TEMP);
+            stateVarIndex = indexMap.getIndex(stateVar);
+            mv.visitInsn(ICONST_0);
+            mv.visitVarInsn(ISTORE, stateVarIndex);
 
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-        Label resumeLable = labelGen.getLabel(funcName + "resume");
-        mv.visitJumpInsn(IFGT, resumeLable);
+            mv.visitVarInsn(ALOAD, localVarOffset);
+            mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+            resumeLable = labelGen.getLabel(funcName + "resume");
+            mv.visitJumpInsn(IFGT, resumeLable);
 
-        Label varinitLable = labelGen.getLabel(funcName + "varinit");
-        mv.visitLabel(varinitLable);
+            varinitLable = labelGen.getLabel(funcName + "varinit");
+            mv.visitLabel(varinitLable);
+        }
 
         // uncomment to test yield
         // mv.visitFieldInsn(GETSTATIC, className, "i", "I");
@@ -1609,59 +1615,20 @@ public class JvmMethodGen {
         // termGen.genReturnTerm({kind:"RETURN"}, returnVarRefIndex, func);
         // mv.visitLabel(l0);
 
-        mv.visitVarInsn(ILOAD, stateVarIndex);
         Label yieldLable = labelGen.getLabel(funcName + "yield");
-        mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), lables.toArray(new Label[0]));
+        if (!func.nonYielding) {
+            mv.visitVarInsn(ILOAD, stateVarIndex);
+            mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), lables.toArray(new Label[0]));
+        }
 
         generateBasicBlocks(mv, basicBlocks, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex,
                 stateVarIndex, localVarOffset, false, module, attachedType, isObserved, isService,
                 serviceName, lambdaMetadata);
 
-        String frameName = getFrameClassName(currentPackageName, funcName, attachedType);
-        mv.visitLabel(resumeLable);
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitInsn(DUP);
-        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-        mv.visitInsn(ICONST_1);
-        mv.visitInsn(ISUB);
-        mv.visitInsn(DUP_X1);
-        mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-        mv.visitInsn(AALOAD);
-        mv.visitTypeInsn(CHECKCAST, frameName);
-
-        generateFrameClassFieldLoad(localVars, mv, indexMap, frameName);
-        mv.visitFieldInsn(GETFIELD, frameName, "state", "I");
-        mv.visitVarInsn(ISTORE, stateVarIndex);
-        mv.visitJumpInsn(GOTO, varinitLable);
-
-        mv.visitLabel(yieldLable);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, "<init>", "()V", false);
-
-        generateFrameClassFieldUpdate(localVars, mv, indexMap, frameName);
-
-        mv.visitInsn(DUP);
-        mv.visitVarInsn(ILOAD, stateVarIndex);
-        mv.visitFieldInsn(PUTFIELD, frameName, "state", "I");
-
-        BIRVariableDcl frameVar = new BIRVariableDcl(symbolTable.stringType, new Name("frame"), null, VarKind.TEMP);
-        int frameVarIndex = indexMap.getIndex(frameVar);
-        mv.visitVarInsn(ASTORE, frameVarIndex);
-
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitInsn(DUP);
-        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-        mv.visitInsn(DUP_X1);
-        mv.visitInsn(ICONST_1);
-        mv.visitInsn(IADD);
-        mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-        mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitInsn(AASTORE);
+        if (!func.nonYielding) {
+            genResumeAndYield(func, mv, indexMap, currentPackageName, funcName, attachedType, localVarOffset,
+                    stateVarIndex, resumeLable, varinitLable, yieldLable);
+        }
 
         Label methodEndLabel = new Label();
         // generate the try catch finally to stop observing if an error occurs.
@@ -1758,6 +1725,60 @@ public class JvmMethodGen {
                 START_FUNCTION_SUFFIX)));
     }
 
+    private void genResumeAndYield(BIRFunction func, MethodVisitor mv, BIRVarToJVMIndexMap indexMap,
+                                   String currentPackageName, String funcName, BType attachedType,
+                                   int localVarOffset, int stateVarIndex, Label resumeLable, Label varinitLable,
+                                   Label yieldLable) {
+
+        List<BIRVariableDcl> localVars = func.localVars;
+        String frameName = getFrameClassName(currentPackageName, funcName, attachedType);
+        mv.visitLabel(resumeLable);
+
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitInsn(DUP);
+        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(ISUB);
+        mv.visitInsn(DUP_X1);
+        mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+        mv.visitInsn(AALOAD);
+        mv.visitTypeInsn(CHECKCAST, frameName);
+
+        generateFrameClassFieldLoad(localVars, mv, indexMap, frameName);
+        mv.visitFieldInsn(GETFIELD, frameName, "state", "I");
+        mv.visitVarInsn(ISTORE, stateVarIndex);
+        mv.visitJumpInsn(GOTO, varinitLable);
+
+        mv.visitLabel(yieldLable);
+        mv.visitTypeInsn(NEW, frameName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, frameName, "<init>", "()V", false);
+
+        generateFrameClassFieldUpdate(localVars, mv, indexMap, frameName);
+
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ILOAD, stateVarIndex);
+        mv.visitFieldInsn(PUTFIELD, frameName, "state", "I");
+
+        BIRVariableDcl frameVar = new BIRVariableDcl(symbolTable.stringType, new Name("frame"), null, VarKind.TEMP);
+        int frameVarIndex = indexMap.getIndex(frameVar);
+        mv.visitVarInsn(ASTORE, frameVarIndex);
+
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitInsn(DUP);
+        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+        mv.visitInsn(DUP_X1);
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(IADD);
+        mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+        mv.visitVarInsn(ALOAD, frameVarIndex);
+        mv.visitInsn(AASTORE);
+    }
+
     public void generateBasicBlocks(MethodVisitor mv, List<BIRBasicBlock> basicBlocks,
                                     LabelGenerator labelGen, JvmErrorGen errorGen,
                                     JvmInstructionGen instGen, JvmTerminatorGen termGen,
@@ -1770,6 +1791,7 @@ public class JvmMethodGen {
         String funcName = cleanupFunctionName(func.name.value);
 
         int caseIndex = 0;
+        boolean trackState = !isArg && !func.nonYielding;
 
         while (j < basicBlocks.size()) {
             BIRBasicBlock bb = getBasicBlock(basicBlocks.get(j));
@@ -1778,7 +1800,7 @@ public class JvmMethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (j == 0 && !isArg) {
+            if (j == 0 && trackState) {
                 // SIPUSH range is (-32768 to 32767) so if the state index goes beyond that, need to use visitLdcInsn
                 mv.visitIntInsn(SIPUSH, caseIndex);
                 mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -1942,7 +1964,7 @@ public class JvmMethodGen {
             mv.visitLabel(bbEndLable);
 
             BIRTerminator terminator = bb.terminator;
-            if (!isArg) {
+            if (trackState) {
                 // SIPUSH range is (-32768 to 32767) so if the state index goes beyond that, need to use visitLdcInsn
                 mv.visitIntInsn(SIPUSH, caseIndex);
                 mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -1971,7 +1993,11 @@ public class JvmMethodGen {
 
             BIRBasicBlock thenBB = terminator.thenBB;
             if (thenBB != null) {
-                genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                if (jvmPackageGen.yieldAnalyzer.canYield(terminator)) {
+                    genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                } else {
+                    mv.visitJumpInsn(GOTO, termGen.getLabelGenerator().getLabel(funcName + thenBB.id.value));
+                }
             }
             j += 1;
         }
@@ -2691,7 +2717,9 @@ public class JvmMethodGen {
     void generateFrameClasses(BIRPackage pkg, Map<String, byte[]> pkgEntries) {
 
         pkg.functions.parallelStream().forEach(func -> {
-            generateFrameClassForFunction(pkg, func, pkgEntries, null);
+            if (!func.nonYielding) {
+                generateFrameClassForFunction(pkg, func, pkgEntries, null);
+            }
         });
 
         for (BIRTypeDefinition typeDef : pkg.typeDefs) {
@@ -2706,7 +2734,9 @@ public class JvmMethodGen {
                     attachedType = typeDef.type;
                 }
                 attachedFuncs.parallelStream().forEach(func -> {
-                    generateFrameClassForFunction(pkg, func, pkgEntries, attachedType);
+                    if (!func.nonYielding) {
+                        generateFrameClassForFunction(pkg, func, pkgEntries, attachedType);
+                    }
                 });
             }
         }
@@ -134,6 +134,7 @@ public class JvmPackageGen {
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final JvmMethodGen jvmMethodGen;
+    final JvmYieldAnalyzer yieldAnalyzer;
     private Map<String, BIRFunctionWrapper> birFunctionMap;
     private Map<String, String> externClassMap;
     private Map<String, String> globalVarClassMap;
@@ -150,6 +151,7 @@ public class JvmPackageGen {
         this.packageCache = packageCache;
         this.dlog = dlog;
         jvmMethodGen = new JvmMethodGen(this);
+        yieldAnalyzer = new JvmYieldAnalyzer(this);
         typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
@@ -470,6 +472,9 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // identify the functions which never yield, these are generated without frames
+        yieldAnalyzer.analyze(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, jvmMethodGen);
         valueGen.generateValueClasses(jarEntries);
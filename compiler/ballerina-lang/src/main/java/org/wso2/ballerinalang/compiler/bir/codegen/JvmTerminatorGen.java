@@ -205,7 +205,13 @@ public class JvmTerminatorGen {
                 mv.visitInsn(ICONST_0);
             }
 
-            mv.visitMethodInsn(INVOKESPECIAL, CHANNEL_DETAILS, "<init>", String.format("(L%s;ZZ)V", STRING_VALUE),
+            if (ch.isSPSC) {
+                mv.visitInsn(ICONST_1);
+            } else {
+                mv.visitInsn(ICONST_0);
+            }
+
+            mv.visitMethodInsn(INVOKESPECIAL, CHANNEL_DETAILS, "<init>", String.format("(L%s;ZZZ)V", STRING_VALUE),
                     false);
             mv.visitInsn(AASTORE);
         }
@@ -235,7 +241,7 @@ public class JvmTerminatorGen {
                 this.genLockTerm((BIRTerminator.Lock) terminator, funcName, localVarOffset);
                 return;
             case UNLOCK:
-                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName, attachedType);
+                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName, localVarOffset);
                 return;
             case GOTO:
                 this.genGoToTerm((BIRTerminator.GOTO) terminator, funcName);
@@ -309,13 +315,15 @@ public class JvmTerminatorGen {
         this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
                 String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", String.format("(L%s;)Z", STRAND), false);
+        // Locked regions that only read the guarded variables share the lock with other readers.
+        String lockMethod = lockIns.isReadOnly ? "lockRead" : "lock";
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockMethod, String.format("(L%s;)Z", STRAND), false);
         this.mv.visitInsn(POP);
         genYieldCheckForLock(this.mv, this.labelGen, funcName, localVarOffset);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
 
-    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName, BType attachedType) {
+    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + unlockIns.unlockBB.id.value);
 
@@ -327,7 +335,13 @@ public class JvmTerminatorGen {
         this.mv.visitLdcInsn(lockName);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap", String.format("(L%s;)L%s;",
                 STRING_VALUE, LOCK_VALUE), false);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        if (unlockIns.relatedLock.isReadOnly) {
+            this.mv.visitVarInsn(ALOAD, localVarOffset);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlockRead", String.format("(L%s;)V", STRAND),
+                    false);
+        } else {
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        }
 
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
@@ -1029,8 +1043,8 @@ public class JvmTerminatorGen {
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND, "wdChannels", String.format("L%s;", WD_CHANNELS));
         this.mv.visitLdcInsn(ins.channel.value);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
-                STRING_VALUE, WORKER_DATA_CHANNEL), false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, getWorkerDataChannelMethod(ins.isSPSC),
+                String.format("(L%s;)L%s;", STRING_VALUE, WORKER_DATA_CHANNEL), false);
         this.loadVar(ins.data.variableDcl);
         JvmInstructionGen.addBoxInsn(this.mv, ins.data.variableDcl.type);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1056,8 +1070,8 @@ public class JvmTerminatorGen {
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND, "wdChannels", String.format("L%s;", WD_CHANNELS));
         this.mv.visitLdcInsn(ins.workerName.value);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
-                STRING_VALUE, WORKER_DATA_CHANNEL), false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, getWorkerDataChannelMethod(ins.isSPSC),
+                String.format("(L%s;)L%s;", STRING_VALUE, WORKER_DATA_CHANNEL), false);
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WORKER_DATA_CHANNEL, "tryTakeData", String.format("(L%s;)L%s;",
@@ -1081,6 +1095,11 @@ public class JvmTerminatorGen {
         this.mv.visitLabel(jumpAfterReceive);
     }
 
+    private static String getWorkerDataChannelMethod(boolean isSPSC) {
+
+        return isSPSC ? "getSPSCWorkerDataChannel" : "getWorkerDataChannel";
+    }
+
     private void genFlushIns(BIRTerminator.Flush ins, String funcName, int localVarOffset) {
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
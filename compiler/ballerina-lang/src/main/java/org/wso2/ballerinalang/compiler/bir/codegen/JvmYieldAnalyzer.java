@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmMethodGen.isExternFunc;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.getPackageName;
+
+/**
+ * Identifies the functions of a module which can never yield the strand they run on. A function can yield if it
+ * has a worker interaction, a wait, a lock, an async call, a function pointer call, a platform call or a call to a
+ * function that can yield. Calls are resolved the same way they are generated, so calls to functions of other
+ * modules only count as non yielding if those modules were analyzed in the same compilation.
+ * <p>
+ * Methods of non yielding functions are generated without the frame save and resume logic, and call sites of such
+ * functions are generated without the yield check.
+ *
+ * @since 2.0.0
+ */
+class JvmYieldAnalyzer {
+
+    private final JvmPackageGen jvmPackageGen;
+
+    JvmYieldAnalyzer(JvmPackageGen jvmPackageGen) {
+        this.jvmPackageGen = jvmPackageGen;
+    }
+
+    void analyze(BIRPackage module) {
+        List<BIRFunction> functions = new ArrayList<>(module.functions);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                functions.addAll(typeDef.attachedFuncs);
+            }
+        }
+
+        Set<BIRFunction> moduleFuncs = new HashSet<>(functions);
+        for (BIRFunction func : functions) {
+            func.nonYielding = false;
+        }
+
+        // Start by assuming every function that has no yielding terminator of its own is non yielding, and then
+        // remove the callers of the ones that turn out to yield until nothing changes.
+        Set<BIRFunction> nonYieldingFuncs = new HashSet<>();
+        Map<BIRFunction, List<BIRFunction>> callers = new HashMap<>();
+        for (BIRFunction func : functions) {
+            if (!isExternFunc(func) && addCallees(func, moduleFuncs, callers)) {
+                nonYieldingFuncs.add(func);
+            }
+        }
+
+        Deque<BIRFunction> worklist = new ArrayDeque<>();
+        for (BIRFunction func : functions) {
+            if (!nonYieldingFuncs.contains(func)) {
+                worklist.push(func);
+            }
+        }
+        while (!worklist.isEmpty()) {
+            List<BIRFunction> funcCallers = callers.remove(worklist.pop());
+            if (funcCallers == null) {
+                continue;
+            }
+            for (BIRFunction caller : funcCallers) {
+                if (nonYieldingFuncs.remove(caller)) {
+                    worklist.push(caller);
+                }
+            }
+        }
+
+        for (BIRFunction func : nonYieldingFuncs) {
+            func.nonYielding = true;
+        }
+    }
+
+    /**
+     * Records the given function as a caller of each function of the module it calls.
+     *
+     * @param func        function to analyze
+     * @param moduleFuncs functions of the module being analyzed
+     * @param callers     callers of each function of the module
+     * @return false if the function has a terminator that can yield regardless of the functions of the module
+     */
+    private boolean addCallees(BIRFunction func, Set<BIRFunction> moduleFuncs,
+                               Map<BIRFunction, List<BIRFunction>> callers) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(func.basicBlocks);
+        func.parameters.values().forEach(basicBlocks::addAll);
+        for (BIRBasicBlock bb : basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                case CALL:
+                    BIRFunction callee = getCallee((BIRTerminator.Call) terminator);
+                    if (callee == null) {
+                        return false;
+                    }
+                    if (!moduleFuncs.contains(callee)) {
+                        // Functions of other modules have already been analyzed, if at all
+                        if (!callee.nonYielding) {
+                            return false;
+                        }
+                        break;
+                    }
+                    callers.computeIfAbsent(callee, k -> new ArrayList<>()).add(func);
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the strand has to be checked for a yield once the given terminator completes.
+     *
+     * @param terminator terminator of a basic block
+     * @return true unless the terminator is a call to a function which is known not to yield
+     */
+    boolean canYield(BIRTerminator terminator) {
+        if (terminator.kind != InstructionKind.CALL) {
+            return true;
+        }
+        BIRFunction callee = getCallee((BIRTerminator.Call) terminator);
+        return callee == null || !callee.nonYielding;
+    }
+
+    private BIRFunction getCallee(BIRTerminator.Call call) {
+        if (call.isVirtual) {
+            return null;
+        }
+        String lookupKey = getPackageName(call.calleePkg.orgName.value, call.calleePkg.name.value,
+                                          call.calleePkg.version.value) + call.name.value;
+        BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(lookupKey);
+        return functionWrapper != null ? functionWrapper.func : null;
+    }
+}
@@ -324,6 +324,11 @@ public abstract class BIRNode {
 
         public List<BIRAnnotationAttachment> annotAttachments;
 
+        /**
+         * Whether the function can never yield the strand it runs on.
+         */
+        public boolean nonYielding;
+
         public BIRFunction(DiagnosticPos pos, Name name, int flags, BInvokableType type, Name workerName,
                 int sendInsCount, TaintTable taintTable) {
             super(pos);
@@ -355,6 +360,7 @@ public abstract class BIRNode {
             f.errorTable = errorTable;
             f.workerChannels = workerChannels;
             f.annotAttachments = annotAttachments;
+            f.nonYielding = nonYielding;
             return f;
 
         }
@@ -491,6 +497,7 @@ public abstract class BIRNode {
         public String name;
         public boolean channelInSameStrand;
         public boolean send;
+        public boolean isSPSC;
 
         public ChannelDetails(String name, boolean channelInSameStrand, boolean send) {
             this.name = name;
@@ -236,6 +236,8 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        public boolean isReadOnly;
+
         public Lock(DiagnosticPos pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -373,6 +375,7 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
     public static class WorkerReceive extends BIRTerminator {
         public Name workerName;
         public boolean isSameStrand;
+        public boolean isSPSC;
 
         public WorkerReceive(DiagnosticPos pos, Name workerName, BIROperand lhsOp,
                              boolean isSameStrand, BIRBasicBlock thenBB) {
@@ -401,6 +404,7 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
         public BIROperand data;
         public boolean isSameStrand;
         public boolean isSync;
+        public boolean isSPSC;
 
         public WorkerSend(DiagnosticPos pos, Name workerName, BIROperand data, boolean isSameStrand, boolean isSync,
                           BIROperand lhsOp, BIRBasicBlock thenBB) {
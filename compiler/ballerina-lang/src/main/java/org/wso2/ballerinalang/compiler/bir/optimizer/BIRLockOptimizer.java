@@ -18,11 +18,17 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +57,82 @@ public class BIRLockOptimizer extends BIRVisitor {
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
+        markReadOnlyLocks();
+    }
+
+    private void markReadOnlyLocks() {
+        for (BIRTerminator.Lock lock : lockList) {
+            lock.isReadOnly = isReadOnlyRegion(lock);
+        }
+    }
+
+    /**
+     * Checks whether the region guarded by the given lock only reads state. The region is every basic block
+     * reachable from the locked block without passing an unlock of the same lock. Calls of any kind are treated
+     * as writes, since the callee may update the guarded variables or take the same lock again.
+     *
+     * @param lock lock to check
+     * @return true if the locked region does not write any state
+     */
+    private boolean isReadOnlyRegion(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.push(lock.lockedBB);
+        while (!worklist.isEmpty()) {
+            BIRNode.BIRBasicBlock bb = worklist.pop();
+            if (!visited.add(bb)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (isWrite(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                    worklist.push(((BIRTerminator.GOTO) terminator).targetBB);
+                    break;
+                case BRANCH:
+                    worklist.push(((BIRTerminator.Branch) terminator).trueBB);
+                    worklist.push(((BIRTerminator.Branch) terminator).falseBB);
+                    break;
+                case LOCK:
+                    worklist.push(((BIRTerminator.Lock) terminator).lockedBB);
+                    break;
+                case UNLOCK:
+                    BIRTerminator.Unlock unlock = (BIRTerminator.Unlock) terminator;
+                    if (unlock.relatedLock != lock) {
+                        worklist.push(unlock.unlockBB);
+                    }
+                    break;
+                case RETURN:
+                case PANIC:
+                    break;
+                default:
+                    // Calls, worker interactions and waits may write state or yield while holding the lock.
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isWrite(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+            case TABLE_STORE:
+            case PLATFORM:
+                return true;
+            default:
+                BIROperand lhsOp = instruction.lhsOp;
+                return lhsOp != null && lhsOp.variableDcl.kind == VarKind.GLOBAL;
+        }
     }
 
     private void propagateLocks() {
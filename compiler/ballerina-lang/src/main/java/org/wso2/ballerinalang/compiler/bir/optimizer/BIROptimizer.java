@@ -52,6 +52,7 @@ public class BIROptimizer {
     private RHSTempVarOptimizer rhsTempVarOptimizer;
     private LHSTempVarOptimizer lhsTempVarOptimizer;
     private BIRLockOptimizer lockOptimizer;
+    private BIRWorkerChannelOptimizer workerChannelOptimizer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -67,6 +68,7 @@ public class BIROptimizer {
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
+        this.workerChannelOptimizer = new BIRWorkerChannelOptimizer();
     }
 
     public void optimizePackage(BIRPackage pkg) {
@@ -78,6 +80,9 @@ public class BIROptimizer {
 
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
+
+        // Identify lock free worker channels
+        this.workerChannelOptimizer.optimizeNode(pkg);
     }
 
     /**
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Identify worker channels that can use the lock free single producer single consumer channel implementation.
+ * A channel always has a single sending worker and a single receiving worker. It qualifies if none of the workers of
+ * the module use it with a sync send or a flush. The lock free channel supports those as well, but they make the two
+ * sides wait on each other, which the locked channel handles with less overhead.
+ *
+ * @since 2.0.0
+ */
+public class BIRWorkerChannelOptimizer extends BIRVisitor {
+
+    private List<BIRTerminator.WorkerSend> sends = new ArrayList<>();
+    private List<BIRTerminator.WorkerReceive> receives = new ArrayList<>();
+    private List<BIRNode.ChannelDetails> channelDetails = new ArrayList<>();
+    private Set<String> lockedChannels = new HashSet<>();
+
+    public void optimizeNode(BIRNode node) {
+        // Collect worker interactions
+        node.accept(this);
+
+        // Mark the channels that are only used with async sends
+        for (BIRTerminator.WorkerSend send : sends) {
+            send.isSPSC = !lockedChannels.contains(send.channel.value);
+        }
+        for (BIRTerminator.WorkerReceive receive : receives) {
+            receive.isSPSC = !lockedChannels.contains(receive.workerName.value);
+        }
+        for (BIRNode.ChannelDetails channel : channelDetails) {
+            channel.isSPSC = !lockedChannels.contains(channel.name);
+        }
+
+        sends.clear();
+        receives.clear();
+        channelDetails.clear();
+        lockedChannels.clear();
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRFunction birFunction) {
+        for (BIRNode.ChannelDetails channel : birFunction.workerChannels) {
+            if (channel != null) {
+                channelDetails.add(channel);
+            }
+        }
+        birFunction.parameters.values().forEach(paramBBs -> paramBBs.forEach(bb -> bb.accept(this)));
+        birFunction.basicBlocks.forEach(bb -> bb.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRBasicBlock birBasicBlock) {
+        BIRTerminator terminator = birBasicBlock.terminator;
+        if (terminator != null) {
+            terminator.accept(this);
+        }
+    }
+
+    @Override
+    public void visit(BIRTerminator.GOTO birGoto) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Call birCall) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.AsyncCall birCall) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Return birReturn) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Branch birBranch) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.FPCall fpCall) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Lock lock) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.FieldLock lock) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Unlock unlock) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Panic birPanic) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Wait birWait) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.WaitAll waitAll) {
+        // Do nothing
+    }
+
+    @Override
+    public void visit(BIRTerminator.Flush birFlush) {
+        for (BIRNode.ChannelDetails channel : birFlush.channels) {
+            lockedChannels.add(channel.name);
+            channelDetails.add(channel);
+        }
+    }
+
+    @Override
+    public void visit(BIRTerminator.WorkerReceive workerReceive) {
+        receives.add(workerReceive);
+    }
+
+    @Override
+    public void visit(BIRTerminator.WorkerSend workerSend) {
+        if (workerSend.isSync) {
+            lockedChannels.add(workerSend.channel.value);
+        }
+        sends.add(workerSend);
+    }
+}
@@ -16,8 +16,11 @@
  */
 package org.wso2.ballerinalang.compiler.desugar;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -27,6 +30,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
@@ -34,6 +38,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -154,12 +159,15 @@ import org.wso2.ballerinalang.compiler.tree.statements.BLangTupleVariableDef;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangWhile;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangWorkerSend;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangXMLNSStatement;
+import org.wso2.ballerinalang.compiler.tree.types.BLangArrayType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangErrorType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -167,10 +175,13 @@ import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Class responsible for desugar query pipeline into actual Ballerina code.
@@ -183,6 +194,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_JOIN_FUNCTION = new Name("createJoinFunction");
+    private static final Name QUERY_CREATE_HASH_JOIN_FUNCTION = new Name("createHashJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_JOIN_FUNCTION = new Name("createIndexedJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -194,7 +207,14 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_LOOKUP_FUNCTION = new Name("lookup");
+    private static final Name QUERY_CHECK_LIMIT_FUNCTION = new Name("checkLimit");
+    private static final Name QUERY_PARALLEL_MAP_FUNCTION = new Name("parallelMap");
+    private static final Name QUERY_ADD_ALL_TO_TABLE_FUNCTION = new Name("addAllToTable");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final String PARTITION_PARAMETER_NAME = "$partition$";
+    private static final Set<Name> PURE_LANG_LIB_MODULES = new HashSet<>(Arrays.asList(PackageID.INT.name,
+            PackageID.FLOAT.name, PackageID.DECIMAL.name, PackageID.STRING.name, PackageID.BOOLEAN.name));
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
     private BVarSymbol currentFrameSymbol;
@@ -206,6 +226,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final boolean queryFusionEnabled;
+    private final boolean queryParallelismEnabled;
     private SymbolEnv env;
 
     private QueryDesugar(CompilerContext context) {
@@ -215,6 +237,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.queryFusionEnabled = !Boolean.FALSE.toString().equals(
+                CompilerOptions.getInstance(context).get(CompilerOptionName.QUERY_FUSION));
+        this.queryParallelismEnabled = Boolean.parseBoolean(
+                CompilerOptions.getInstance(context).get(CompilerOptionName.QUERY_PARALLELISM));
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -236,6 +262,16 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         DiagnosticPos pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        List<BLangSimpleVarRef> capturedVarRefs = new ArrayList<>();
+        if (queryParallelismEnabled && isParallelizable(queryExpr, env, capturedVarRefs)) {
+            return buildParallelLoop(queryExpr, capturedVarRefs, env, queryBlock);
+        }
+        if (queryFusionEnabled && isFusible(queryExpr, env)) {
+            BLangVariableReference resultRef = buildLoop(clauses, (BArrayType) queryExpr.type, env, queryBlock);
+            BLangStatementExpression loopStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, resultRef);
+            loopStmtExpr.type = resultRef.type;
+            return loopStmtExpr;
+        }
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
@@ -297,11 +333,21 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        int clauseIndex = 1;
+        BLangExpression initCollection = initFromClause.collection;
+        // A stream is consumed lazily, so the rows are filtered as they are read rather than looked up upfront.
+        if (resultType.tag != TypeTags.STREAM && clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE
+                && isIndexableFilter(clauses, initFromClause, (BLangWhereClause) clauses.get(1))) {
+            // The where clause is replaced by a lookup of the matching rows.
+            initCollection = addLookup(block, initFromClause, (BLangWhereClause) clauses.get(1));
+            clauseIndex++;
+        }
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initCollection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (; clauseIndex < clauses.size(); clauseIndex++) {
+            BLangNode clause = clauses.get(clauseIndex);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -312,6 +358,17 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    BLangOnClause onClause = clauseIndex + 1 < clauses.size()
+                            && clauses.get(clauseIndex + 1).getKind() == NodeKind.ON
+                            ? (BLangOnClause) clauses.get(clauseIndex + 1) : null;
+                    if (onClause != null && isHashJoin(joinClause, onClause)) {
+                        // The on clause is checked by the hash join itself.
+                        BLangVariableReference hashJoinFunc = addHashJoinFunction(block, joinClause, onClause,
+                                resultType);
+                        addStreamFunction(block, initPipeline, hashJoinFunc);
+                        clauseIndex++;
+                        break;
+                    }
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
                             joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
@@ -352,6 +409,241 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    /**
+     * Write the query as a single loop to the given `block` and return the reference to the resulting array.
+     * Variables introduced by the clauses become locals of the loop instead of `_Frame` entries.
+     * int[] $result$ = [];
+     * foreach int x in xs {
+     *     int y = x * 2;
+     *     if (y > 4) {
+     *         $result$[$size$] = y;
+     *         $size$ = $size$ + 1;
+     *     }
+     * }
+     *
+     * @param clauses    list of query clauses.
+     * @param resultType array type of the query output.
+     * @param env        symbol env.
+     * @param block      parent block to write to.
+     * @return variableReference to the resulting array.
+     */
+    BLangVariableReference buildLoop(List<BLangNode> clauses, BArrayType resultType, SymbolEnv env,
+                                     BLangBlockStmt block) {
+        this.env = env;
+        return buildLoop(clauses, null, resultType, block);
+    }
+
+    /**
+     * Write the query as a single loop to the given `block` and return the reference to the resulting array.
+     *
+     * @param clauses    list of query clauses.
+     * @param partition  values to iterate instead of the collection of the first from clause, or null.
+     * @param resultType array type of the query output.
+     * @param block      parent block to write to.
+     * @return variableReference to the resulting array.
+     */
+    private BLangVariableReference buildLoop(List<BLangNode> clauses, BLangExpression partition,
+                                             BArrayType resultType, BLangBlockStmt block) {
+        DiagnosticPos pos = clauses.get(0).pos;
+        BVarSymbol resultSymbol = defineVariable(block, pos, ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType));
+        BVarSymbol sizeSymbol = defineVariable(block, pos, createIntLiteral(pos, 0));
+        BVarSymbol limitSymbol = null;
+        BVarSymbol countSymbol = null;
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.LIMIT) {
+                BLangLimitClause limitClause = (BLangLimitClause) clause;
+                // int $limit$ = checkLimit(expr);, the limit is evaluated once, before the first iteration.
+                limitSymbol = defineVariable(block, limitClause.pos, createQueryLibInvocation(
+                        QUERY_CHECK_LIMIT_FUNCTION, Lists.of(limitClause.expression), limitClause.pos));
+                countSymbol = defineVariable(block, limitClause.pos, createIntLiteral(limitClause.pos, 0));
+            }
+        }
+
+        BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        int clauseIndex = 1;
+        BLangExpression initCollection = initFromClause.collection;
+        if (partition != null) {
+            initCollection = partition;
+        } else if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE
+                && isIndexableFilter(clauses, initFromClause, (BLangWhereClause) clauses.get(1))) {
+            // The where clause is replaced by a lookup of the matching rows.
+            initCollection = addLookup(block, initFromClause, (BLangWhereClause) clauses.get(1));
+            clauseIndex++;
+        }
+        BLangBlockStmt body = addLoop(block, initFromClause, initCollection, countSymbol, limitSymbol);
+        for (; clauseIndex < clauses.size(); clauseIndex++) {
+            BLangNode clause = clauses.get(clauseIndex);
+            switch (clause.getKind()) {
+                case FROM:
+                    BLangFromClause fromClause = (BLangFromClause) clause;
+                    body = addLoop(body, fromClause, fromClause.collection, countSymbol, limitSymbol);
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangBlockStmt thenBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos, whereClause.expression,
+                            thenBody, null));
+                    body = thenBody;
+                    break;
+                case LIMIT:
+                    body.addStatement(createIncrementStmt(clause.pos, countSymbol));
+                    break;
+                case SELECT:
+                    // $result$[$size$] = select-expr;
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangIndexBasedAccess elementAccess = ASTBuilderUtil.createIndexBasesAccessExpr(
+                            selectClause.pos, resultType.eType, resultSymbol,
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, sizeSymbol));
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, elementAccess,
+                            desugar.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+                    body.addStatement(createIncrementStmt(selectClause.pos, sizeSymbol));
+                    break;
+            }
+        }
+        return ASTBuilderUtil.createVariableRef(pos, resultSymbol);
+    }
+
+    /**
+     * Write a loop over the collection of the input clause to the given `block` and return the body of the loop.
+     * Arrays are iterated by index, and other collections with a foreach.
+     * int[] $data$ = xs;
+     * int $index$ = 0;
+     * int $length$ = $data$.length();
+     * while ($index$ < $length$) {
+     *     int x = $data$[$index$];
+     *     $index$ = $index$ + 1;
+     * }
+     *
+     * @param block       parent block to write to.
+     * @param inputClause input clause to be desugared.
+     * @param collection  collection to iterate.
+     * @param countSymbol number of values passed the limit clause, if there is one.
+     * @param limitSymbol value of the limit clause, if there is one.
+     * @return body of the created loop.
+     */
+    private BLangBlockStmt addLoop(BLangBlockStmt block, BLangInputClause inputClause, BLangExpression collection,
+                                   BVarSymbol countSymbol, BVarSymbol limitSymbol) {
+        DiagnosticPos pos = inputClause.pos;
+        BLangBlockStmt loopBody = ASTBuilderUtil.createBlockStmt(pos);
+        if (limitSymbol != null) {
+            // if ($count$ >= $limit$) { break; }
+            BLangBlockStmt breakBody = ASTBuilderUtil.createBlockStmt(pos);
+            breakBody.addStatement((BLangBreak) TreeBuilder.createBreakNode());
+            loopBody.addStatement(ASTBuilderUtil.createIfElseStmt(pos, createIntComparison(pos,
+                    OperatorKind.GREATER_EQUAL, countSymbol, limitSymbol), breakBody, null));
+        }
+        BLangVariable variable = (BLangVariable) inputClause.variableDefinitionNode.getVariable();
+        if (collection.type.tag == TypeTags.ARRAY) {
+            BVarSymbol dataSymbol = defineVariable(block, pos, collection);
+            BVarSymbol indexSymbol = defineVariable(block, pos, createIntLiteral(pos, 0));
+            BVarSymbol lengthSymbol = defineVariable(block, pos,
+                    desugar.createLengthInvocation(pos, ASTBuilderUtil.createVariableRef(pos, dataSymbol)));
+            BLangWhile whileNode = (BLangWhile) TreeBuilder.createWhileNode();
+            whileNode.pos = pos;
+            whileNode.expr = createIntComparison(pos, OperatorKind.LESS_THAN, indexSymbol, lengthSymbol);
+            whileNode.body = loopBody;
+            BLangIndexBasedAccess elementAccess = ASTBuilderUtil.createIndexBasesAccessExpr(pos,
+                    ((BArrayType) collection.type).eType, dataSymbol, ASTBuilderUtil.createVariableRef(pos,
+                            indexSymbol));
+            variable.setInitialExpression(desugar.addConversionExprIfRequired(elementAccess, inputClause.varType));
+            loopBody.addStatement((BLangStatement) inputClause.variableDefinitionNode);
+            loopBody.addStatement(createIncrementStmt(pos, indexSymbol));
+            block.addStatement(whileNode);
+        } else {
+            BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+            foreach.pos = pos;
+            foreach.collection = collection;
+            foreach.variableDefinitionNode = inputClause.variableDefinitionNode;
+            foreach.varType = inputClause.varType;
+            foreach.resultType = inputClause.resultType;
+            foreach.nillableResultType = inputClause.nillableResultType;
+            foreach.isDeclaredWithVar = inputClause.isDeclaredWithVar;
+            foreach.body = loopBody;
+            block.addStatement(foreach);
+        }
+        return loopBody;
+    }
+
+    /**
+     * Write the query as a loop over partitions of its collection, which are run on separate strands, to the given
+     * `block` and return the statement expression of the result. The values selected for each partition are merged
+     * in the order of the partitions, so the result is in the same order as the sequential query.
+     * int[] $result$ = parallelMap(xs, function(any[] $partition$) returns any[] {
+     *     any[] $result$ = [];
+     *     ...
+     *     return $result$;
+     * }, typedesc<int>);
+     *
+     * @param queryExpr       query expression to be desugared.
+     * @param capturedVarRefs references to variables of the enclosing function used within the clauses.
+     * @param env             symbol env.
+     * @param block           parent block to write to.
+     * @return statement expression of the query result.
+     */
+    private BLangStatementExpression buildParallelLoop(BLangQueryExpr queryExpr,
+                                                       List<BLangSimpleVarRef> capturedVarRefs, SymbolEnv env,
+                                                       BLangBlockStmt block) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = fromClause.pos;
+        for (BLangSimpleVarRef varRef : capturedVarRefs) {
+            BSymbol resolvedSymbol = symResolver.lookupClosureVarSymbol(env,
+                    names.fromIdNode(varRef.variableName), SymTag.VARIABLE);
+            if (resolvedSymbol != symTable.notFoundSymbol) {
+                resolvedSymbol.closure = true;
+            }
+        }
+
+        // function(any[] $partition$) returns any[] {...}
+        BArrayType partitionType = new BArrayType(symTable.anyType);
+        BVarSymbol partitionSymbol = new BVarSymbol(0, names.fromString(PARTITION_PARAMETER_NAME),
+                env.scope.owner.pkgID, partitionType, env.scope.owner);
+        BLangSimpleVariable partitionVariable = ASTBuilderUtil.createVariable(pos, null, partitionType, null,
+                partitionSymbol);
+        BLangBlockStmt loopBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BLangVariableReference partitionResult = buildLoop(clauses,
+                ASTBuilderUtil.createVariableRef(pos, partitionSymbol), partitionType, loopBlock);
+        BLangBlockFunctionBody body = ASTBuilderUtil.createBlockFunctionBody(pos, loopBlock.stmts);
+        ASTBuilderUtil.createReturnStmt(pos, body).expr = partitionResult;
+        BLangArrayType returnType = (BLangArrayType) TreeBuilder.createArrayTypeNode();
+        returnType.elemtype = getAnyTypeNode();
+        returnType.dimensions = 1;
+        returnType.type = partitionType;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, Lists.of(partitionVariable), returnType, body);
+
+        BType tableType = queryExpr.isTable ? getTableType(queryExpr.type) : null;
+        BType elementType = queryExpr.isTable ? ((BTableType) tableType).constraint
+                : ((BArrayType) queryExpr.type).eType;
+        BLangTypedescExpr typedescExpr = new BLangTypedescExpr();
+        typedescExpr.resolvedType = elementType;
+        typedescExpr.type = new BTypedescType(elementType, symTable.typeDesc.tsymbol);
+        BLangVariableReference valuesRef = getStreamFunctionVariableRef(block, QUERY_PARALLEL_MAP_FUNCTION,
+                new BArrayType(elementType), Lists.of(fromClause.collection, lambda, typedescExpr), pos);
+        if (!queryExpr.isTable) {
+            BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(block, valuesRef);
+            stmtExpr.type = valuesRef.type;
+            return stmtExpr;
+        }
+        BLangExpression onConflict = ASTBuilderUtil.createLiteral(pos, symTable.nilType, Names.NIL_VALUE);
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.ON_CONFLICT) {
+                onConflict = ((BLangOnConflictClause) clause).expression;
+            }
+        }
+        BLangVariableReference tableRef = addTableConstructor(queryExpr, block);
+        BLangVariableReference result = getStreamFunctionVariableRef(block, QUERY_ADD_ALL_TO_TABLE_FUNCTION,
+                Lists.of(valuesRef, tableRef, onConflict), pos);
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(block, result);
+        stmtExpr.type = tableRef.type;
+        return stmtExpr;
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -472,6 +764,78 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(joinPipeline), joinPipeline.pos);
     }
 
+    /**
+     * Desugar a join clause with an equality on clause to below and return a reference to created join
+     * _StreamFunction. When joining a table on one of its fields, the index of the table over the field is probed
+     * if it has one.
+     * _StreamFunction joinFunc = createHashJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? { return person.deptId; },
+     *      function(_Frame frame) returns any|error? { return dept.id; });
+     * _StreamFunction joinFunc = createIndexedJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? { return person.deptId; },
+     *      function(_Frame frame) returns any|error? { return dept.id; }, deptTable, "id");
+     *
+     * @param blockStmt  parent block to write to.
+     * @param joinClause join clause to be desugared.
+     * @param onClause   on clause of the join.
+     * @param resultType result type of the query output.
+     * @return variableReference to created join _StreamFunction.
+     */
+    BLangVariableReference addHashJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                               BLangOnClause onClause, BType resultType) {
+        DiagnosticPos pos = joinClause.pos;
+        BLangBinaryExpr equality = (BLangBinaryExpr) onClause.expression;
+        String indexedField = getIndexedField(joinClause, equality.rhsExpr);
+        BLangExpression collection = joinClause.collection;
+        BVarSymbol tableSymbol = null;
+        if (indexedField != null) {
+            tableSymbol = defineVariable(blockStmt, pos, collection);
+            collection = ASTBuilderUtil.createVariableRef(pos, tableSymbol);
+        }
+
+        BLangVariableReference joinPipeline = addPipeline(blockStmt, pos, collection, resultType);
+        BLangVariableReference joinInputFunc = addInputFunction(blockStmt, joinClause);
+        addStreamFunction(blockStmt, joinPipeline, joinInputFunc);
+        BLangLambdaFunction lhsKeyFunc = createKeyLambda(onClause.pos, equality.lhsExpr);
+        BLangLambdaFunction rhsKeyFunc = createKeyLambda(onClause.pos, equality.rhsExpr);
+        if (indexedField == null) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_HASH_JOIN_FUNCTION,
+                    Lists.of(joinPipeline, lhsKeyFunc, rhsKeyFunc), pos);
+        }
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_JOIN_FUNCTION,
+                Lists.of(joinPipeline, lhsKeyFunc, rhsKeyFunc, ASTBuilderUtil.createVariableRef(pos, tableSymbol),
+                        ASTBuilderUtil.createLiteral(pos, symTable.stringType, indexedField)), pos);
+    }
+
+    /**
+     * Desugar a where clause comparing a field of the rows of a table to a fixed value, to a lookup of the matching
+     * rows. The lookup probes the index of the table over the field if it has one.
+     * Person[] matches = lookup(personTable, "age", 70);
+     *
+     * @param blockStmt   parent block to write to.
+     * @param fromClause  from clause over the table.
+     * @param whereClause where clause to be desugared.
+     * @return variableReference to the matching rows.
+     */
+    BLangVariableReference addLookup(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                     BLangWhereClause whereClause) {
+        DiagnosticPos pos = whereClause.pos;
+        BLangBinaryExpr equality = (BLangBinaryExpr) whereClause.expression;
+        BLangFieldBasedAccess fieldAccess;
+        BLangExpression value;
+        if (isFieldOf(equality.lhsExpr, fromClause)) {
+            fieldAccess = (BLangFieldBasedAccess) equality.lhsExpr;
+            value = equality.rhsExpr;
+        } else {
+            fieldAccess = (BLangFieldBasedAccess) equality.rhsExpr;
+            value = equality.lhsExpr;
+        }
+        return getStreamFunctionVariableRef(blockStmt, QUERY_LOOKUP_FUNCTION,
+                Lists.of(fromClause.collection, ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                        fieldAccess.field.value), desugar.addConversionExprIfRequired(value, symTable.anydataType)),
+                pos);
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
@@ -654,14 +1018,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference addTableConstructor(BLangQueryExpr queryExpr, BLangBlockStmt queryBlock) {
         // desugar `table<Customer> key(id, name) tab = table key(id, name);`
         DiagnosticPos pos = queryExpr.pos;
-        final BType type = queryExpr.type;
         String name = getNewVarName();
-        BType tableType = type;
-        if (type.tag == TypeTags.UNION) {
-            tableType = ((BUnionType) type).getMemberTypes()
-                    .stream().filter(m -> m.tag == TypeTags.TABLE)
-                    .findFirst().orElse(symTable.tableType);
-        }
+        BType tableType = getTableType(queryExpr.type);
         final List<BLangIdentifier> keyFieldIdentifiers = queryExpr.fieldNameIdentifierList;
         BLangTableConstructorExpr tableConstructorExpr = (BLangTableConstructorExpr)
                 TreeBuilder.createTableConstructorExpressionNode();
@@ -699,6 +1057,39 @@ public class QueryDesugar extends BLangNodeVisitor {
         return createLambdaFunction(pos, returnType, returnNode, true);
     }
 
+    /**
+     * Create and return a lambda `function(_Frame frame) returns any|error? { return keyExpr; }`.
+     *
+     * @param pos     of the lambda.
+     * @param keyExpr key expression to return.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createKeyLambda(DiagnosticPos pos, BLangExpression keyExpr) {
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.expr = keyExpr;
+        returnNode.pos = pos;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, getAnyErrorNilTypeNode(), returnNode, false);
+        lambda.accept(this);
+        return lambda;
+    }
+
+    /**
+     * Defines a variable initialized with the given expression.
+     *
+     * @param blockStmt parent block to write the varDef into.
+     * @param pos       diagnostic pos.
+     * @param expr      initial value of the variable.
+     * @return symbol of the variable.
+     */
+    private BVarSymbol defineVariable(BLangBlockStmt blockStmt, DiagnosticPos pos, BLangExpression expr) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, expr.type,
+                this.env.scope.owner);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, expr.type, expr, symbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
     /**
      * Create and return a lambda `function(_Frame frame) returns boolean {...}`.
      *
@@ -880,6 +1271,355 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Checks whether the where clause right after the initial from clause compares a field of the rows of a table
+     * to a literal, a constant or a local variable, so that it can be replaced by a lookup of the matching rows.
+     *
+     * @param clauses     clauses of the query.
+     * @param fromClause  initial from clause.
+     * @param whereClause where clause following the from clause.
+     * @return true if the where clause can be replaced by a lookup.
+     */
+    private boolean isIndexableFilter(List<BLangNode> clauses, BLangFromClause fromClause,
+                                      BLangWhereClause whereClause) {
+        if (fromClause.collection.type.tag != TypeTags.TABLE
+                || whereClause.expression.getKind() != NodeKind.BINARY_EXPR) {
+            return false;
+        }
+        BLangBinaryExpr equality = (BLangBinaryExpr) whereClause.expression;
+        if (equality.opKind != OperatorKind.EQUAL || !isSameKeyType(equality.lhsExpr.type, equality.rhsExpr.type)) {
+            return false;
+        }
+        // The value is read once before going through the rows, a do clause could update it in between.
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.DO) {
+                return false;
+            }
+        }
+        if (isFieldOf(equality.lhsExpr, fromClause)) {
+            return isFixedValue(equality.rhsExpr);
+        }
+        return isFieldOf(equality.rhsExpr, fromClause) && isFixedValue(equality.lhsExpr);
+    }
+
+    /**
+     * Checks whether the on clause of a join is an equality between a key of the frames before the join and a key
+     * of the joined collection, so that the join can match frames through a hash index on the key.
+     *
+     * @param joinClause join clause.
+     * @param onClause   on clause of the join.
+     * @return true if the join can be desugared to a hash join.
+     */
+    private boolean isHashJoin(BLangJoinClause joinClause, BLangOnClause onClause) {
+        if (joinClause.isOuterJoin() || onClause.expression.getKind() != NodeKind.BINARY_EXPR) {
+            return false;
+        }
+        BLangBinaryExpr equality = (BLangBinaryExpr) onClause.expression;
+        if (equality.opKind != OperatorKind.EQUALS || !isSameKeyType(equality.lhsExpr.type, equality.rhsExpr.type)) {
+            return false;
+        }
+        List<BVarSymbol> joinSymbols = getIntroducedSymbols((BLangVariable)
+                joinClause.variableDefinitionNode.getVariable());
+        BSymbol lhsRoot = getKeyRoot(equality.lhsExpr);
+        BSymbol rhsRoot = getKeyRoot(equality.rhsExpr);
+        return lhsRoot != null && rhsRoot != null && !joinSymbols.contains(lhsRoot) && joinSymbols.contains(rhsRoot);
+    }
+
+    /**
+     * Returns the name of the field of the joined table the join key reads, if the join is over a table.
+     *
+     * @param joinClause join clause.
+     * @param rhsExpr    join key of the joined collection.
+     * @return field name, or null if the key is not a field of the rows of a table.
+     */
+    private String getIndexedField(BLangJoinClause joinClause, BLangExpression rhsExpr) {
+        if (joinClause.collection.type.tag != TypeTags.TABLE || !isFieldOf(rhsExpr, joinClause)) {
+            return null;
+        }
+        return ((BLangFieldBasedAccess) rhsExpr).field.value;
+    }
+
+    private boolean isFieldOf(BLangExpression expr, BLangInputClause inputClause) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        BLangVariable variable = (BLangVariable) inputClause.variableDefinitionNode.getVariable();
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.type.tag == TypeTags.RECORD
+                && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && variable.getKind() == NodeKind.VARIABLE
+                && ((BLangSimpleVarRef) fieldAccess.expr).symbol == variable.symbol;
+    }
+
+    private boolean isFixedValue(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                // Module level variables and captured locals could be updated by a function called in the query.
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                return symbol != null && ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT
+                        || ((symbol.owner.tag & SymTag.INVOKABLE) == SymTag.INVOKABLE && !symbol.closure));
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the variable a key made of field accesses starts from.
+     *
+     * @param expr key expression.
+     * @return symbol of the variable, or null if the key is any other expression.
+     */
+    private BSymbol getKeyRoot(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+            if (fieldAccess.optionalFieldAccess || fieldAccess.expr.type.tag != TypeTags.RECORD) {
+                return null;
+            }
+            expr = fieldAccess.expr;
+        }
+        return expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF ? ((BLangSimpleVarRef) expr).symbol : null;
+    }
+
+    /**
+     * Keys are matched by hash, which agrees with `==` only for values of the same basic type among these.
+     *
+     * @param lhsType type of the left key.
+     * @param rhsType type of the right key.
+     * @return true if both keys can be matched by hash.
+     */
+    private boolean isSameKeyType(BType lhsType, BType rhsType) {
+        switch (lhsType.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return lhsType.tag == rhsType.tag;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Check whether the query can be written as a single loop. The pipeline is kept for queries which produce
+     * streams or tables, iterate streams, join collections, or contain check expressions, as a check within the
+     * clauses completes the query rather than the enclosing function. Queries outside functions are kept as well,
+     * since the variables of the clauses can only be locals of a function.
+     *
+     * @param queryExpr query expression.
+     * @param env       symbol env.
+     * @return true if the query can be written as a loop.
+     */
+    private boolean isFusible(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (env.enclInvokable == null || queryExpr.isStream || queryExpr.isTable || queryExpr.containsCheckExpr
+                || queryExpr.type.tag != TypeTags.ARRAY
+                || ((BArrayType) queryExpr.type).state != BArrayState.UNSEALED) {
+            return false;
+        }
+        for (BLangNode clause : queryExpr.getQueryClauses()) {
+            switch (clause.getKind()) {
+                case FROM:
+                    if (((BLangFromClause) clause).collection.type.tag == TypeTags.STREAM) {
+                        return false;
+                    }
+                    break;
+                case LET_CLAUSE:
+                case WHERE:
+                case LIMIT:
+                case SELECT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the query can be run on partitions of its collection in parallel. Only a single from clause over
+     * an array or a table, followed by let, where and select clauses, is split, as later from and limit clauses
+     * depend on the values of the preceding partitions. The clauses must not read module level variables or call
+     * functions which could have side effects, since the partitions run concurrently; calls are limited to the
+     * lang library functions of simple values.
+     *
+     * @param queryExpr       query expression.
+     * @param env             symbol env.
+     * @param capturedVarRefs list to add references to variables of the enclosing function to.
+     * @return true if the query can be run in parallel.
+     */
+    private boolean isParallelizable(BLangQueryExpr queryExpr, SymbolEnv env,
+                                     List<BLangSimpleVarRef> capturedVarRefs) {
+        if (env.enclInvokable == null || queryExpr.isStream || queryExpr.containsCheckExpr) {
+            return false;
+        }
+        if (!queryExpr.isTable && (queryExpr.type.tag != TypeTags.ARRAY
+                || ((BArrayType) queryExpr.type).state != BArrayState.UNSEALED)) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        int collectionTag = ((BLangFromClause) clauses.get(0)).collection.type.tag;
+        if (collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TABLE) {
+            return false;
+        }
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangVariable variable = (BLangVariable) letVariable.definitionNode.getVariable();
+                        if (!isPure(variable.expr, capturedVarRefs)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isPure(((BLangWhereClause) clause).expression, capturedVarRefs)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isPure(((BLangSelectClause) clause).expression, capturedVarRefs)) {
+                        return false;
+                    }
+                    break;
+                case ON_CONFLICT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isPure(BLangExpression expr, List<BLangSimpleVarRef> capturedVarRefs) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                BSymbol symbol = varRef.symbol;
+                if (symbol == null) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                // Module level variables could be updated by other strands while the partitions run.
+                if ((symbol.owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE) {
+                    return false;
+                }
+                capturedVarRefs.add(varRef);
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return isPure(((BLangFieldBasedAccess) expr).expr, capturedVarRefs);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccess = (BLangIndexBasedAccess) expr;
+                return isPure(indexAccess.expr, capturedVarRefs) && isPure(indexAccess.indexExpr, capturedVarRefs);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isPure(binaryExpr.lhsExpr, capturedVarRefs) && isPure(binaryExpr.rhsExpr, capturedVarRefs);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isPure(elvisExpr.lhsExpr, capturedVarRefs) && isPure(elvisExpr.rhsExpr, capturedVarRefs);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isPure(ternaryExpr.expr, capturedVarRefs) && isPure(ternaryExpr.thenExpr, capturedVarRefs)
+                        && isPure(ternaryExpr.elseExpr, capturedVarRefs);
+            case UNARY_EXPR:
+                return isPure(((BLangUnaryExpr) expr).expr, capturedVarRefs);
+            case GROUP_EXPR:
+                return isPure(((BLangGroupExpr) expr).expression, capturedVarRefs);
+            case TYPE_CONVERSION_EXPR:
+                return isPure(((BLangTypeConversionExpr) expr).expr, capturedVarRefs);
+            case TYPE_TEST_EXPR:
+                return isPure(((BLangTypeTestExpr) expr).expr, capturedVarRefs);
+            case NAMED_ARGS_EXPR:
+                return isPure(((BLangNamedArgsExpression) expr).expr, capturedVarRefs);
+            case REST_ARGS_EXPR:
+                return isPure(((BLangRestArgsExpression) expr).expr, capturedVarRefs);
+            case STRING_TEMPLATE_LITERAL:
+                return isPure(((BLangStringTemplateLiteral) expr).exprs, capturedVarRefs);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return isPure(((BLangListConstructorExpr) expr).exprs, capturedVarRefs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                        if ((keyValueField.key.computedKey && !isPure(keyValueField.key.expr, capturedVarRefs))
+                                || !isPure(keyValueField.valueExpr, capturedVarRefs)) {
+                            return false;
+                        }
+                    } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP) {
+                        if (!isPure(((BLangRecordSpreadOperatorField) field).expr, capturedVarRefs)) {
+                            return false;
+                        }
+                    } else if (!isPure((BLangExpression) field, capturedVarRefs)) {
+                        return false;
+                    }
+                }
+                return true;
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                BSymbol functionSymbol = invocation.symbol;
+                if (invocation.async || functionSymbol == null
+                        || (functionSymbol.tag & SymTag.FUNCTION) != SymTag.FUNCTION
+                        || !Names.BALLERINA_ORG.equals(functionSymbol.pkgID.orgName)
+                        || !PURE_LANG_LIB_MODULES.contains(functionSymbol.pkgID.name)) {
+                    return false;
+                }
+                return (invocation.expr == null || isPure(invocation.expr, capturedVarRefs))
+                        && isPure(invocation.requiredArgs, capturedVarRefs)
+                        && isPure(invocation.restArgs, capturedVarRefs);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isPure(List<BLangExpression> exprs, List<BLangSimpleVarRef> capturedVarRefs) {
+        for (BLangExpression expr : exprs) {
+            if (!isPure(expr, capturedVarRefs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BType getTableType(BType type) {
+        if (type.tag == TypeTags.UNION) {
+            return ((BUnionType) type).getMemberTypes()
+                    .stream().filter(m -> m.tag == TypeTags.TABLE)
+                    .findFirst().orElse(symTable.tableType);
+        }
+        return type;
+    }
+
+    private BLangLiteral createIntLiteral(DiagnosticPos pos, long value) {
+        return ASTBuilderUtil.createLiteral(pos, symTable.intType, value);
+    }
+
+    private BLangBinaryExpr createIntComparison(DiagnosticPos pos, OperatorKind opKind, BVarSymbol lhsSymbol,
+                                                BVarSymbol rhsSymbol) {
+        return ASTBuilderUtil.createBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, lhsSymbol),
+                ASTBuilderUtil.createVariableRef(pos, rhsSymbol), symTable.booleanType, opKind,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(opKind, symTable.intType, symTable.intType));
+    }
+
+    private BLangStatement createIncrementStmt(DiagnosticPos pos, BVarSymbol symbol) {
+        // x = x + 1;
+        BLangBinaryExpr addExpr = ASTBuilderUtil.createBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, symbol),
+                createIntLiteral(pos, 1), symTable.intType, OperatorKind.ADD,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD, symTable.intType,
+                        symTable.intType));
+        return ASTBuilderUtil.createAssignmentStmt(pos, ASTBuilderUtil.createVariableRef(pos, symbol), addExpr);
+    }
+
     private List<BVarSymbol> getIntroducedSymbols(BLangLetClause letClause) {
         List<BVarSymbol> symbols = new ArrayList<>();
         for (BLangLetVariable letVariable : letClause.letVarDeclarations) {
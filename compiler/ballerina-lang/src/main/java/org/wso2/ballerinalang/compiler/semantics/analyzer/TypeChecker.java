@@ -228,6 +228,7 @@ public class TypeChecker extends BLangNodeVisitor {
     private int letCount = 0;
     private SymbolEnv narrowedQueryEnv;
     private BLangSelectClause selectClause;
+    private BLangQueryExpr enclQueryExpr;
     private BLangMissingNodesHelper missingNodesHelper;
 
     /**
@@ -3677,6 +3678,8 @@ public class TypeChecker extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
+        BLangQueryExpr prevQueryExpr = enclQueryExpr;
+        enclQueryExpr = queryExpr;
         selectClause = queryExpr.getSelectClause();
         narrowedQueryEnv = env;
         List<BLangNode> clauses = queryExpr.getQueryClauses();
@@ -3684,6 +3687,7 @@ public class TypeChecker extends BLangNodeVisitor {
         clauses.forEach(clause -> clause.accept(this));
         BType actualType = findAssignableType(narrowedQueryEnv, selectClause.expression, collectionNode.type,
                 expType, queryExpr);
+        enclQueryExpr = prevQueryExpr;
         if (actualType != symTable.semanticError) {
             resultType = types.checkType(queryExpr.pos, actualType, expType, DiagnosticCode.INCOMPATIBLE_TYPES);
         } else {
@@ -3899,6 +3903,10 @@ public class TypeChecker extends BLangNodeVisitor {
 
     private void visitCheckAndCheckPanicExpr(BLangCheckedExpr checkedExpr) {
         String operatorType = checkedExpr.getKind() == NodeKind.CHECK_EXPR ? "check" : "checkpanic";
+        if (enclQueryExpr != null && checkedExpr.getKind() == NodeKind.CHECK_EXPR) {
+            // A check within the clauses returns from the stream functions, not from the enclosing function.
+            enclQueryExpr.containsCheckExpr = true;
+        }
         boolean firstVisit = checkedExpr.expr.type == null;
         BType exprExpType;
         if (expType == symTable.noType) {
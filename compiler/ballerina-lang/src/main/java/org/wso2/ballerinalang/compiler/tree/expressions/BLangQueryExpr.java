@@ -39,6 +39,7 @@ public class BLangQueryExpr extends BLangExpression implements QueryExpressionNo
     public List<BLangIdentifier> fieldNameIdentifierList = new ArrayList<>();
     public boolean isStream = false;
     public boolean isTable = false;
+    public boolean containsCheckExpr = false;
 
     @Override
     public BLangSelectClause getSelectClause() {
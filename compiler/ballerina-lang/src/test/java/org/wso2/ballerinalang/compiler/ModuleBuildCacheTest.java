@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link ModuleBuildCache} class.
+ *
+ * @since 2.0.0
+ */
+public class ModuleBuildCacheTest {
+
+    private static final byte[] BIR_CONTENT = {1, 2, 3};
+
+    private Path projectDir;
+    private PackageID fooId;
+    private PackageID barId;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        projectDir = Files.createTempDirectory("module-build-cache");
+        Files.write(projectDir.resolve("Ballerina.toml"),
+                    "[project]\norg-name = \"abc\"\nversion = \"0.1.0\"\n".getBytes(StandardCharsets.UTF_8));
+        fooId = new PackageID(new Name("abc"), new Name("foo"), new Name("0.1.0"));
+        barId = new PackageID(new Name("abc"), new Name("bar"), new Name("0.1.0"));
+        writeSource("foo", "import abc/bar;\npublic function foo() { bar:bar(); }\n");
+        writeSource("bar", "public function bar() {}\n");
+        writeCachedBinaries(fooId);
+        writeCachedBinaries(barId);
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(projectDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Unchanged modules are served from the cache")
+    public void testUnchangedModulesAreCached() {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(createContext());
+        Assert.assertEquals(moduleBuildCache.getCachedBIR(barId), BIR_CONTENT);
+        Assert.assertEquals(moduleBuildCache.getCachedBIR(fooId), BIR_CONTENT);
+    }
+
+    @Test(description = "A source change invalidates the module and the modules depending on it")
+    public void testChangedImportInvalidatesDependents() throws IOException {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+        writeSource("bar", "public function bar() { int i = 0; }\n");
+
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(createContext());
+        Assert.assertNull(moduleBuildCache.getCachedBIR(barId));
+        Assert.assertNull(moduleBuildCache.getCachedBIR(fooId));
+    }
+
+    @Test(description = "A source change does not invalidate the modules it depends on")
+    public void testChangedModuleKeepsImportsCached() throws IOException {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+        writeSource("foo", "import abc/bar;\npublic function foo() { }\n");
+
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(createContext());
+        Assert.assertEquals(moduleBuildCache.getCachedBIR(barId), BIR_CONTENT);
+        Assert.assertNull(moduleBuildCache.getCachedBIR(fooId));
+    }
+
+    @Test(description = "Modules being built are never served from the cache")
+    public void testEntryModulesAreNotCached() {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(createContext());
+        moduleBuildCache.addEntryModules(Collections.singletonList(barId));
+        Assert.assertNull(moduleBuildCache.getCachedBIR(barId));
+    }
+
+    @Test(description = "A module without a cached jar is compiled again")
+    public void testMissingJarInvalidatesModule() throws IOException {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+        Files.delete(getCacheDir("jar_cache", barId).resolve("abc-bar-0.1.0.jar"));
+
+        Assert.assertNull(ModuleBuildCache.getInstance(createContext()).getCachedBIR(barId));
+    }
+
+    @Test(description = "Modules built with different compiler options are compiled again")
+    public void testChangedOptionsInvalidateModules() {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+
+        CompilerContext context = createContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED, "true");
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(context);
+        Assert.assertNull(moduleBuildCache.getCachedBIR(barId));
+        Assert.assertNull(moduleBuildCache.getCachedBIR(fooId));
+    }
+
+    @Test(description = "The cache is not used unless incremental builds are enabled")
+    public void testCacheIsDisabledByDefault() {
+        ModuleBuildCache.getInstance(createContext()).update(createFooSymbol());
+
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROJECT_DIR, projectDir.toString());
+        Assert.assertNull(ModuleBuildCache.getInstance(context).getCachedBIR(barId));
+    }
+
+    private CompilerContext createContext() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.PROJECT_DIR, projectDir.toString());
+        options.put(CompilerOptionName.INCREMENTAL_BUILD, "true");
+        return context;
+    }
+
+    private BPackageSymbol createFooSymbol() {
+        BPackageSymbol foo = new BPackageSymbol(fooId, null);
+        foo.imports.add(new BPackageSymbol(barId, null));
+        return foo;
+    }
+
+    private void writeSource(String module, String content) throws IOException {
+        Path moduleDir = Files.createDirectories(projectDir.resolve("src").resolve(module));
+        Files.write(moduleDir.resolve(module + ".bal"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeCachedBinaries(PackageID pkgId) throws IOException {
+        Path birDir = Files.createDirectories(getCacheDir("bir_cache", pkgId));
+        Files.write(birDir.resolve(pkgId.name.value + ".bir"), BIR_CONTENT);
+        Path jarDir = Files.createDirectories(getCacheDir("jar_cache", pkgId));
+        Files.write(jarDir.resolve("abc-" + pkgId.name.value + "-0.1.0.jar"), BIR_CONTENT);
+    }
+
+    private Path getCacheDir(String cacheName, PackageID pkgId) {
+        return projectDir.resolve("target").resolve("caches").resolve(cacheName).resolve(pkgId.orgName.value)
+                .resolve(pkgId.name.value).resolve(pkgId.version.value);
+    }
+}
@@ -155,11 +155,22 @@ public function reverse(Type[] arr) returns Type[] = external;
 # Sorts an array using a comparator function.
 # The comparator function must return a value less than, equal to or greater than zero
 # according as its first argument is to be ordered before, equal to or after its second argument.
+# If no comparator function is given, the members must all be ints, all floats, all decimals, all strings,
+# all booleans or all bytes, and are sorted in ascending order.
 #
 # + arr - the array to be sorted
-# + func - comparator function
+# + func - comparator function, or `()` to sort in ascending order
 # + return - `arr` with its members sorted
-public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
+public function sort(Type[] arr, (function(Type val1, Type val2) returns int)? func = ()) returns Type[] = external;
+
+# Sorts an array in ascending order of a key computed for each member.
+# The key function is called once for each member, and members with equal keys keep their relative order.
+# All the keys must be of the same basic type.
+#
+# + arr - the array to be sorted
+# + key - function that returns the key of a member
+# + return - `arr` with its members sorted
+public function sortBy(Type[] arr, function(Type val) returns int|float|decimal|string key) returns Type[] = external;
 
 // Stack-like methods (JavaScript, Perl)
 // panic on fixed-length array
@@ -19,7 +19,6 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
@@ -29,30 +28,47 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.createOpNotSupportedError;
 import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
 
 /**
- * Native implementation of lang.array:sort((any|error)[], function).
+ * Native implementation of lang.array:sort((any|error)[], function?).
  *
  * @since 1.0
  */
 @BallerinaFunction(
         orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sort",
-        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.UNION)},
         returnType = {@ReturnType(type = TypeKind.ARRAY)},
         isPublic = true
 )
 public class Sort {
 
-    public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
+    @SuppressWarnings("unchecked")
+    public static ArrayValue sort(Strand strand, ArrayValue arr, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        if (func == null) {
+            if (!((ArrayValueImpl) arr).sort()) {
+                throw createOpNotSupportedError(arr.getType(), "sort() without a comparator");
+            }
+            return arr;
+        }
+
+        // The members are sorted in a plain array, so that they are boxed and type checked only once.
+        int size = arr.size();
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        mergesort(values, new Object[size], 0, size - 1, strand, (FPValue<Object, Long>) func);
+        for (int i = 0; i < size; i++) {
+            arr.add(i, values[i]);
+        }
         return arr;
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
+    private static void mergesort(Object[] input, Object[] aux, int lo, int hi, Strand strand,
                                   FPValue<Object, Long> comparator) {
         if (hi <= lo) {
             return;
@@ -63,28 +79,31 @@ public class Sort {
         mergesort(input, aux, lo, mid, strand, comparator);
         mergesort(input, aux, mid + 1, hi, strand, comparator);
 
+        // The halves are already in order, so the merge can be skipped.
+        if (compare(input[mid], input[mid + 1], strand, comparator) <= 0) {
+            return;
+        }
         merge(input, aux, lo, mid, hi, strand, comparator);
     }
 
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
+    private static void merge(Object[] input, Object[] aux, int lo, int mid, int hi, Strand strand,
                               FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            aux.add(i, input.get(i));
-        }
+        System.arraycopy(input, lo, aux, lo, hi - lo + 1);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
-                input.add(k, aux.get(j++));
+                input[k] = aux[j++];
             } else if (j > hi) {
-                input.add(k, aux.get(i++));
-            } else if (comparator.call(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                input.add(k, aux.get(j++));
+                input[k] = aux[i++];
+            } else if (compare(aux[j], aux[i], strand, comparator) < 0) {
+                input[k] = aux[j++];
             } else {
-                input.add(k, aux.get(i++));
+                input[k] = aux[i++];
             }
         }
     }
 
+    private static long compare(Object lhs, Object rhs, Strand strand, FPValue<Object, Long> comparator) {
+        return comparator.call(new Object[]{strand, lhs, true, rhs, true});
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Native implementation of lang.array:sortBy((any|error)[], function).
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sortBy",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "key", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class SortBy {
+
+    private static final Comparator<Object[]> KEY_COMPARATOR =
+            (lhs, rhs) -> ArrayUtils.compareOrdered(lhs[0], rhs[0]);
+
+    public static ArrayValue sortBy(Strand strand, ArrayValue arr, FPValue<Object, Object> key) {
+        checkIsArrayOnlyOperation(arr.getType(), "sortBy()");
+        int size = arr.size();
+        Object[] keys = new Object[size];
+        Object[][] entries = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            Object value = arr.get(i);
+            keys[i] = key.call(new Object[]{strand, value, true});
+            entries[i] = new Object[]{keys[i], value};
+        }
+
+        if (!ArrayUtils.isOrdered(keys, size)) {
+            throw BallerinaErrors.createError(getModulePrefixedReason(ARRAY_LANG_LIB,
+                                                                      OPERATION_NOT_SUPPORTED_IDENTIFIER),
+                                              "sortBy() requires all keys to be of the same ordered type");
+        }
+
+        // Both sorts are stable, so members with equal keys keep their relative order.
+        if (size >= ArrayUtils.PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(entries, KEY_COMPARATOR);
+        } else {
+            Arrays.sort(entries, KEY_COMPARATOR);
+        }
+
+        for (int i = 0; i < size; i++) {
+            arr.add(i, entries[i][1]);
+        }
+        return arr;
+    }
+}
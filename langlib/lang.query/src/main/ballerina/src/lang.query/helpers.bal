@@ -42,6 +42,21 @@ public function createJoinFunction(_StreamPipeline joinedPipeline)
     return new _JoinFunction(joinedPipeline);
 }
 
+public function createHashJoinFunction(_StreamPipeline joinedPipeline,
+        function(_Frame _frame) returns any|error? lhsKeyFunc,
+        function(_Frame _frame) returns any|error? rhsKeyFunc)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc, (), "");
+}
+
+public function createIndexedJoinFunction(_StreamPipeline joinedPipeline,
+        function(_Frame _frame) returns any|error? lhsKeyFunc,
+        function(_Frame _frame) returns any|error? rhsKeyFunc,
+        table<map<Type>> indexedTable, string indexedField)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc, indexedTable, indexedField);
+}
+
 public function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -60,6 +75,18 @@ public function createLimitFunction(int lmt) returns _StreamFunction {
     return new _LimitFunction(lmt);
 }
 
+# Applies `partitionFunc` to consecutive partitions of `collection` on separate strands, which can run on
+# different threads, and returns the values returned for the partitions, in the order of the partitions.
+public function parallelMap(any[]|table<map<any>> collection, function(any[] partition) returns any[] partitionFunc,
+        typedesc<Type> resType) returns Type[] = external;
+
+public function checkLimit(int lmt) returns int {
+    if (lmt < 0) {
+        panic error("Unable to assign limit", message = "limit cannot be < 0.");
+    }
+    return lmt;
+}
+
 public function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -125,6 +152,19 @@ public function addToTable(stream<Type, error?> strm, table<map<Type>> tbl, erro
     return tbl;
 }
 
+public function addAllToTable(Type[] values, table<map<Type>> tbl, error? err) returns table<map<Type>>|error {
+    foreach var v in values {
+        error? e = trap tbl.add(<map<Type>> v);
+        if (e is error) {
+            if (err is error) {
+                return err;
+            }
+            return e;
+        }
+    }
+    return tbl;
+}
+
 public function consumeStream(stream<Type, error?> strm) returns error? {
     any|error? v = strm.next();
     while (!(v is () || v is error)) {
@@ -138,3 +178,9 @@ public function consumeStream(stream<Type, error?> strm) returns error? {
 // TODO: This for debugging purposes, remove once completed.
 public function print(any|error? data) = external;
 
+# Returns whether table `t` has an index over field `fieldName`.
+public function hasIndex(table<map<Type>> t, string fieldName) returns boolean = external;
+
+# Returns the members of table `t` whose `fieldName` field is equal to `value`, probing the index
+# over the field when there is one.
+public function lookup(table<map<Type>> t, string fieldName, anydata value) returns map<Type>[] = external;
@@ -54,12 +54,14 @@ public type _Frame record{|
 
 public type _StreamPipeline object {
     _StreamFunction streamFunction;
+    _InitFunction initFunction;
     typedesc<Type> resType;
 
     public function init(
             (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection,
             typedesc<Type> resType) {
-        self.streamFunction = new _InitFunction(collection);
+        self.initFunction = new _InitFunction(collection);
+        self.streamFunction = self.initFunction;
         self.resType = resType;
     }
 
@@ -73,6 +75,15 @@ public type _StreamPipeline object {
         sf.reset();
     }
 
+    # Reset the pipeline to run over the given collection instead of the one it was created with.
+    public function resetWith(
+            (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection) {
+        _InitFunction initFunc = self.initFunction;
+        initFunc.collection = collection;
+        initFunc.resettable = true;
+        self.reset();
+    }
+
     public function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
         streamFunction.prevFunc = existingFunc;
@@ -361,6 +372,151 @@ public type _JoinFunction object {
     }
 };
 
+public type _HashJoinFunction object {
+    *_StreamFunction;
+
+    _StreamPipeline pipelineToJoin;
+    function(_Frame _frame) returns any|error? lhsKeyFunc;
+    function(_Frame _frame) returns any|error? rhsKeyFunc;
+    table<map<Type>>? indexedTable;
+    string indexedField;
+    map<_Frame[]>? joinIndex;
+    _Frame? currentFrame;
+    _Frame[] matches;
+    int matchIndex;
+
+    public function init(_StreamPipeline pipelineToJoin,
+            function(_Frame _frame) returns any|error? lhsKeyFunc,
+            function(_Frame _frame) returns any|error? rhsKeyFunc,
+            table<map<Type>>? indexedTable, string indexedField) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunc = lhsKeyFunc;
+        self.rhsKeyFunc = rhsKeyFunc;
+        self.indexedTable = indexedTable;
+        self.indexedField = indexedField;
+        self.prevFunc = ();
+        self.joinIndex = ();
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var ... in listB on keyA equals keyB
+    # Frames of listB are looked up by keyA instead of going through listB for each frame of listA.
+    # When listB is a table with an index over the joined field, the index is probed, otherwise
+    # frames of listB are grouped by keyB the first time they are needed.
+    # The keys are of the same basic type, which is one of int, byte, string or boolean.
+    # + return - merged two frames { ...frameA, ...frameB }
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        _Frame? cf = self.currentFrame;
+        while (cf is () || self.matchIndex >= self.matches.length()) {
+            _Frame|error? pFrame = pf.process();
+            if (pFrame is _Frame) {
+                _Frame[]|error m = self.getMatches(pFrame);
+                if (m is error) {
+                    return m;
+                }
+                self.currentFrame = pFrame;
+                self.matches = m;
+                self.matchIndex = 0;
+                cf = pFrame;
+            } else {
+                self.currentFrame = ();
+                return pFrame;
+            }
+        }
+        _Frame f = self.matches[self.matchIndex];
+        self.matchIndex += 1;
+        _Frame jf = {...f, ...<_Frame> cf};
+        return jf;
+    }
+
+    function getMatches(_Frame lhsFrame) returns _Frame[]|error {
+        function(_Frame _frame) returns any|error? lhsKeyFunc = self.lhsKeyFunc;
+        any|error? lhsKey = lhsKeyFunc(lhsFrame);
+        if (lhsKey is error) {
+            return lhsKey;
+        }
+
+        table<map<Type>>? indexedTable = self.indexedTable;
+        if (indexedTable is table<map<Type>> && hasIndex(indexedTable, self.indexedField)) {
+            _StreamPipeline j = self.pipelineToJoin;
+            j.resetWith(lookup(indexedTable, self.indexedField, <anydata> lhsKey));
+            _Frame[] frames = [];
+            _Frame|error? f = j.next();
+            while (f is _Frame) {
+                frames.push(f);
+                f = j.next();
+            }
+            if (f is error) {
+                return f;
+            }
+            return frames;
+        }
+
+        map<_Frame[]>|error joinIndex = self.getJoinIndex();
+        if (joinIndex is error) {
+            return joinIndex;
+        }
+        _Frame[]? frames = joinIndex[lhsKey.toString()];
+        if (frames is _Frame[]) {
+            return frames;
+        }
+        return [];
+    }
+
+    function getJoinIndex() returns map<_Frame[]>|error {
+        map<_Frame[]>? existingIndex = self.joinIndex;
+        if (existingIndex is map<_Frame[]>) {
+            return existingIndex;
+        }
+
+        // Keys are all of the same basic type, so their string forms are equal only when the keys are.
+        map<_Frame[]> joinIndex = {};
+        function(_Frame _frame) returns any|error? rhsKeyFunc = self.rhsKeyFunc;
+        _StreamPipeline j = self.pipelineToJoin;
+        _Frame|error? f = j.next();
+        while (f is _Frame) {
+            any|error? rhsKey = rhsKeyFunc(f);
+            if (rhsKey is error) {
+                return rhsKey;
+            }
+            string k = rhsKey.toString();
+            _Frame[]? frames = joinIndex[k];
+            if (frames is _Frame[]) {
+                frames.push(f);
+            } else {
+                joinIndex[k] = [f];
+            }
+            f = j.next();
+        }
+        if (f is error) {
+            return f;
+        }
+        self.joinIndex = joinIndex;
+        return joinIndex;
+    }
+
+    public function reset() {
+        // Reset the state of currentFrame and drop the index, the joined collection may have changed since
+        // it was built. The joined pipeline is rewound so that the index is rebuilt from it when needed.
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+        if (self.joinIndex is map<_Frame[]>) {
+            self.joinIndex = ();
+            _StreamPipeline j = self.pipelineToJoin;
+            j.reset();
+        }
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+};
+
 public type _FilterFunction object {
     *_StreamFunction;
 
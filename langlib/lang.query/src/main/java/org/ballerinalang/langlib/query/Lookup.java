@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.List;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Returns the rows of a table that have a given value for a field, using the index over the field when the table
+ * has one.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "lookup",
+        args = {@Argument(name = "t", type = TypeKind.TABLE), @Argument(name = "fieldName", type = TypeKind.STRING),
+                @Argument(name = "value", type = TypeKind.ANYDATA)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)}
+)
+public class Lookup {
+
+    public static ArrayValue lookup(Strand strand, TableValueImpl t, BString fieldName, Object value) {
+        List<?> rows = t.lookup(fieldName, value);
+        ArrayValue result = new ArrayValueImpl(new BArrayType(((BTableType) t.getType()).getConstrainedType()));
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(i, rows.get(i));
+        }
+        return result;
+    }
+}
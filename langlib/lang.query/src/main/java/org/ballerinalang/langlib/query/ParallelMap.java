@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.BRuntime;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.TypedescValue;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.Arrays;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Applies a function to consecutive partitions of an array or a table on separate strands, and returns the values
+ * returned by the function in the order of the partitions. If the function fails on more than one partition, the
+ * failure of the first of those partitions is reported, as it would be by a sequential run over the collection.
+ * A collection which is too small to be split is passed to the function as it is, on the current strand.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "parallelMap",
+        args = {@Argument(name = "collection", type = TypeKind.UNION),
+                @Argument(name = "partitionFunc", type = TypeKind.FUNCTION),
+                @Argument(name = "resType", type = TypeKind.TYPEDESC)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)}
+)
+public class ParallelMap {
+
+    // Smaller partitions cost more to schedule than they save.
+    static final int MIN_PARTITION_SIZE = 1024;
+
+    public static ArrayValue parallelMap(Strand strand, Object collection, FPValue<Object, Object> partitionFunc,
+                                         TypedescValue resType) {
+        ArrayValue result = (ArrayValue) BValueCreator.createArrayValue(new BArrayType(resType.getDescribingType()));
+        int size = getSize(collection);
+        int partitionCount = getPartitionCount(size, strand.scheduler.getNumThreads());
+        if (partitionCount == 0) {
+            return result;
+        }
+        if (partitionCount == 1) {
+            // The query runs as a single loop on the current strand, as the partition function does not yield.
+            ArrayValue values = collection instanceof ArrayValue ? (ArrayValue) collection
+                    : createPartition(getValues(collection), 0, size);
+            appendAll(result, (ArrayValue) partitionFunc.call(new Object[]{strand, values, true}));
+            return result;
+        }
+        Object[] values = getValues(collection);
+        int partitionSize = (values.length + partitionCount - 1) / partitionCount;
+        ArrayValue[] partitionResults = new ArrayValue[partitionCount];
+        BRuntime.getCurrentRuntime().invokeFunctionPointerAsyncConcurrently(partitionFunc, partitionCount,
+                index -> new Object[]{strand, createPartition(values, index * partitionSize,
+                        Math.min(values.length, (index + 1) * partitionSize)), true},
+                (partitionResult, index) -> partitionResults[index] = (ArrayValue) partitionResult,
+                () -> {
+                    for (ArrayValue partitionResult : partitionResults) {
+                        appendAll(result, partitionResult);
+                    }
+                    return result;
+                });
+        return result;
+    }
+
+    /**
+     * Returns the number of partitions to split a collection of the given size into. A collection which is too small
+     * to be split is a single partition, which is not scheduled on a separate strand.
+     */
+    static int getPartitionCount(int size, int workerCount) {
+        if (size == 0) {
+            return 0;
+        }
+        if (size < 2 * MIN_PARTITION_SIZE) {
+            return 1;
+        }
+        return Math.max(1, Math.min(workerCount, size / MIN_PARTITION_SIZE));
+    }
+
+    private static int getSize(Object collection) {
+        if (collection instanceof TableValueImpl) {
+            return ((TableValueImpl<?, ?>) collection).size();
+        }
+        return ((ArrayValue) collection).size();
+    }
+
+    private static void appendAll(ArrayValue result, ArrayValue values) {
+        for (int i = 0; i < values.size(); i++) {
+            result.append(values.get(i));
+        }
+    }
+
+    private static Object[] getValues(Object collection) {
+        if (collection instanceof TableValueImpl) {
+            return ((TableValueImpl<?, ?>) collection).values().toArray();
+        }
+        ArrayValue array = (ArrayValue) collection;
+        Object[] values = new Object[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i);
+        }
+        return values;
+    }
+
+    private static ArrayValue createPartition(Object[] values, int from, int to) {
+        return (ArrayValue) BValueCreator.createArrayValue(Arrays.copyOfRange(values, from, to),
+                new BArrayType(BTypes.typeAny));
+    }
+}
@@ -168,3 +168,12 @@ public function toArray(table<Type> t) returns Type[] = external;
 # XXX should it be 0, if the maximum used key value is < 0?
 # Provides similar functionality to auto-increment
 public function nextKey(table<any|error> key<int> t) returns int = external;
+
+# Adds a hash index over each of the given fields of the members of table `t`.
+# The indexes are used to find the members that have a given value for a field,
+# for example when a query joins `t` on one of the indexed fields.
+# Only readonly fields can be indexed.
+#
+# + t - the table
+# + fieldNames - names of the fields to index
+public function addIndex(table<map<any|error>> t, string... fieldNames) = external;
@@ -129,6 +129,17 @@ public function toJsonString(json v) returns string = external;
 # + return - `str` parsed to json or error
 public function fromJsonString(string str) returns json|error = external;
 
+# Parses a string in JSON format directly into a value of a specified type.
+# The value is constructed as the string is read, so no intermediate json value is created.
+# Numbers are read into the int, float, decimal or byte representation required by `t`,
+# and a record type descriptor supplies default values for any missing members.
+# Returns an error if the string cannot be parsed, or if it does not represent a value that belongs to `t`.
+#
+# + str - string representation of json
+# + t - the type of the value to be constructed
+# + return - `str` parsed to a value of type `t`, or an error
+public function fromJsonStringWithType(string str, typedesc<AnydataType> t) returns AnydataType|error = external;
+
 # Merges two json values.
 #
 # + j1 - json value
@@ -227,6 +227,73 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortWithoutComparator() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortWithoutComparator");
+
+        BValueArray ints = (BValueArray) returns[0];
+        assertEquals(ints.size(), 8);
+        for (int i = 1; i < ints.size(); i++) {
+            assertTrue(ints.getInt(i) >= ints.getInt(i - 1));
+        }
+        assertEquals(ints.getInt(0), -44);
+
+        BValueArray floats = (BValueArray) returns[1];
+        assertEquals(floats.getFloat(0), -3.75);
+        assertEquals(floats.getFloat(1), -1.0);
+        assertEquals(floats.getFloat(2), 2.5);
+        assertEquals(floats.getFloat(3), Double.POSITIVE_INFINITY);
+        assertTrue(Double.isNaN(floats.getFloat(4)));
+
+        BValueArray strings = (BValueArray) returns[2];
+        assertEquals(strings.getString(0), "");
+        assertEquals(strings.getString(1), "Banana");
+        assertEquals(strings.getString(2), "apple");
+        assertEquals(strings.getString(3), "apple pie");
+        assertEquals(strings.getString(4), "pear");
+
+        BValueArray booleans = (BValueArray) returns[3];
+        assertEquals(booleans.getBoolean(0), 0);
+        assertEquals(booleans.getBoolean(1), 0);
+        assertEquals(booleans.getBoolean(2), 1);
+        assertEquals(booleans.getBoolean(3), 1);
+
+        BValueArray bytes = (BValueArray) returns[4];
+        assertEquals(bytes.getByte(0), 0);
+        assertEquals(bytes.getByte(1), 3);
+        assertEquals(Byte.toUnsignedInt(bytes.getByte(2)), 128);
+        assertEquals(Byte.toUnsignedInt(bytes.getByte(3)), 200);
+        assertEquals(Byte.toUnsignedInt(bytes.getByte(4)), 255);
+    }
+
+    @Test
+    public void testSortDecimalsWithoutComparator() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortDecimalsWithoutComparator");
+        assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.array\\}OperationNotSupported " +
+                    "message=sort\\(\\) without a comparator not supported on type '\\(int\\|string\\)\\[\\]'.*")
+    public void testSortMixedTypesWithoutComparator() {
+        BRunUtil.invoke(compileResult, "testSortMixedTypesWithoutComparator");
+        Assert.fail();
+    }
+
+    @Test
+    public void testSortBy() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortBy");
+
+        BValueArray names = (BValueArray) returns[0];
+        assertEquals(names.size(), 5);
+        assertEquals(names.getString(0), "Dan");
+        assertEquals(names.getString(1), "Bob");
+        assertEquals(names.getString(2), "Eve");
+        assertEquals(names.getString(3), "Anne");
+        assertEquals(names.getString(4), "Carl");
+        assertEquals(((BInteger) returns[1]).intValue(), 5);
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
@@ -211,4 +211,18 @@ public class LangLibValueTest {
                 { "testCloneWithTypeNumeric7" }
         };
     }
+
+    @Test(dataProvider = "fromJsonStringWithTypeFunctions")
+    public void testFromJsonStringWithType(String function) {
+        BRunUtil.invoke(compileResult, function);
+    }
+
+    @DataProvider(name = "fromJsonStringWithTypeFunctions")
+    public Object[][] fromJsonStringWithTypeFunctions() {
+        return new Object[][] {
+                { "testFromJsonStringWithTypeRecord" },
+                { "testFromJsonStringWithTypeList" },
+                { "testFromJsonStringWithTypeMismatch" }
+        };
+    }
 }
@@ -375,6 +375,45 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+function testSortWithoutComparator() returns [int[], float[], string[], boolean[], byte[]] {
+    int[] ints = [98, 34, -44, 87, 13, 2, 1, 13];
+    float[] floats = [2.5, -1.0, 0.0 / 0.0, 1.0 / 0.0, -3.75];
+    string[] strings = ["pear", "apple", "Banana", "apple pie", ""];
+    boolean[] booleans = [true, false, true, false];
+    byte[] bytes = [200, 3, 255, 0, 128];
+    return [ints.sort(), floats.sort(), strings.sort(), booleans.sort(), bytes.sort()];
+}
+
+function testSortDecimalsWithoutComparator() returns boolean {
+    decimal[] decimals = [1.5, -2.25, 100, 0.001];
+    decimal[] expected = [-2.25, 0.001, 1.5, 100];
+    return decimals.sort() == expected;
+}
+
+function testSortMixedTypesWithoutComparator() {
+    (int|string)[] arr = [3, "two", 1];
+    _ = arr.sort();
+}
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+int keyCalls = 0;
+
+function testSortBy() returns [string[], int] {
+    Person[] people = [{name: "Anne", age: 34}, {name: "Bob", age: 21}, {name: "Carl", age: 34},
+                       {name: "Dan", age: 5}, {name: "Eve", age: 21}];
+    Person[] sorted = people.sortBy(function (Person p) returns int {
+        keyCalls += 1;
+        return p.age;
+    });
+    return [sorted.'map(function (Person p) returns string {
+        return p.name;
+    }), keyCalls];
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
@@ -515,6 +515,39 @@ function testCloneWithTypeNumeric7() {
     assert(a2d[2], <decimal> 3);
 }
 
+function testFromJsonStringWithTypeRecord() {
+    string s = "{\"a\": 21, \"b\": \"Alice\", \"c\": 1000, \"d\": 2.5}";
+    Y|error ye = s.fromJsonStringWithType(Y);
+    assert(ye is Y, true);
+
+    Y y = <Y> ye;
+    assert(y.a, 21.0);
+    assert(y.b, "Alice");
+    assert(y["c"], <decimal> 1000);
+    assert(y["d"], <decimal> 2.5);
+}
+
+function testFromJsonStringWithTypeList() {
+    string s = "[{\"a\": 1, \"b\": \"x\", \"c\": 1.5}, {\"a\": 2, \"b\": \"y\", \"c\": 3}]";
+    X[]|error xe = s.fromJsonStringWithType(X[]);
+    assert(xe is X[], true);
+
+    X[] x = <X[]> xe;
+    assert(x.length(), 2);
+    assert(x[1].a, 2);
+    assert(x[1].c, 3.0);
+}
+
+function testFromJsonStringWithTypeMismatch() {
+    string s = "{\"a\": 21, \"b\": \"Alice\", \"c\": \"1000\"}";
+    X|error xe = s.fromJsonStringWithType(X);
+    assert(xe is error, true);
+
+    error e = <error> xe;
+    assert(e.reason(), "{ballerina/lang.typedesc}ConversionError");
+    assert(e.detail()?.message, "'string' value cannot be converted to 'float' at '$.c'");
+}
+
 function assert(anydata actual, anydata expected) {
     if (expected != actual) {
         typedesc<anydata> expT = typeof expected;
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.MetricHandles;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.Tags;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for {@link MetricHandles}.
+ */
+public class MetricHandlesTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void init() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricRegistry = new MetricRegistry(metricProvider);
+    }
+
+    @Test
+    public void testHandlesAreRegistered() {
+        MetricHandles metricHandles = new MetricHandles(metricRegistry, new StatisticConfig[]{StatisticConfig.DEFAULT},
+                "test_handles", "resource", "hello");
+        metricHandles.getInprogressGauge().increment();
+
+        Set<Tag> mainTags = new HashSet<>();
+        Tags.tags(mainTags, "resource", "hello");
+        Assert.assertEquals(metricRegistry.gauge(new MetricId("test_handles_inprogress_requests", "", mainTags))
+                .getValue(), 1.0);
+
+        Map<String, String> tags = new HashMap<>();
+        tags.put("http.method", "GET");
+        metricHandles.getTaggedMetrics(tags).getRequestsCounter().increment();
+        metricHandles.getTaggedMetrics(tags).getFailedRequestsCounter().increment();
+
+        Set<Tag> allTags = new HashSet<>(mainTags);
+        Tags.tags(allTags, tags);
+        Assert.assertEquals(metricRegistry.counter(new MetricId("test_handles_requests_total", "", allTags))
+                .getValue(), 1L);
+        Assert.assertEquals(metricRegistry.counter(new MetricId("test_handles_failed_requests_total", "", allTags))
+                .getValue(), 1L);
+    }
+
+    @Test
+    public void testTaggedMetricsAreReused() {
+        MetricHandles metricHandles = new MetricHandles(metricRegistry, new StatisticConfig[]{StatisticConfig.DEFAULT},
+                "test_tagged", "action", "get");
+        Map<String, String> tags = new HashMap<>();
+        tags.put("http.method", "GET");
+        MetricHandles.TaggedMetrics taggedMetrics = metricHandles.getTaggedMetrics(tags);
+        Assert.assertSame(metricHandles.getTaggedMetrics(new HashMap<>(tags)), taggedMetrics);
+
+        // The cached metrics must not change when the map they were looked up with changes
+        tags.put("http.method", "POST");
+        MetricHandles.TaggedMetrics postMetrics = metricHandles.getTaggedMetrics(tags);
+        Assert.assertNotSame(postMetrics, taggedMetrics);
+        tags.put("http.method", "GET");
+        Assert.assertSame(metricHandles.getTaggedMetrics(tags), taggedMetrics);
+    }
+
+    @Test
+    public void testHttpStatusCodeCounters() {
+        MetricHandles metricHandles = new MetricHandles(metricRegistry, new StatisticConfig[]{StatisticConfig.DEFAULT},
+                "test_status", "action", "get");
+        Assert.assertNull(metricHandles.getHttpStatusCodeCounter(0));
+        Assert.assertNull(metricHandles.getHttpStatusCodeCounter(600));
+        metricHandles.getHttpStatusCodeCounter(404).increment();
+        Assert.assertSame(metricHandles.getHttpStatusCodeCounter(401), metricHandles.getHttpStatusCodeCounter(404));
+
+        Set<Tag> mainTags = new HashSet<>();
+        Tags.tags(mainTags, "action", "get");
+        Counter clientErrors = metricRegistry.counter(new MetricId("test_status_4XX_requests_total", "", mainTags));
+        Assert.assertEquals(clientErrors.getValue(), 1L);
+        // All status code classes are registered, even the ones without any requests
+        Assert.assertNotNull(metricRegistry.lookup(new MetricId("test_status_2XX_requests_total", "", mainTags)));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testNullMainTag() {
+        new MetricHandles(metricRegistry, new StatisticConfig[]{StatisticConfig.DEFAULT}, "test_null", "action",
+                null);
+    }
+}
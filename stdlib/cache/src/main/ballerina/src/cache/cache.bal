@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/task;
 import ballerina/time;
 
@@ -57,6 +58,16 @@ service cleanupService = service {
     }
 };
 
+// Returned by the native `get` when there is no entry for the given key.
+final handle ENTRY_NOT_FOUND = externGetEntryNotFoundMarker();
+
+// Cleanup service which removes the expired entries of a natively backed cache periodically.
+service nativeCleanupService = service {
+    resource function onTrigger(Cache cache) {
+        externCleanup(cache);
+    }
+};
+
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
 # as the value of the cache since it doesn't make any sense to cache a nil.
 public type Cache object {
@@ -69,6 +80,10 @@ public type Cache object {
     private int defaultMaxAgeInSeconds;
     private map<Node> entries = {};
     private LinkedList list;
+    // Caches using the default LRU eviction policy are backed by a concurrent Java implementation, which does not
+    // need the `lock` blocks below. Custom eviction policies operate on the linked list and use the Ballerina
+    // implementation.
+    private boolean nativeCache = false;
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -97,6 +112,10 @@ public type Cache object {
             head: (),
             tail: ()
         };
+        self.nativeCache = externIsLruEvictionPolicy(self.evictionPolicy);
+        if (self.nativeCache) {
+            externInit(self, self.capacity, self.evictionFactor, self.defaultMaxAgeInSeconds);
+        }
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
             task:TimerConfiguration timerConfiguration = {
@@ -104,8 +123,12 @@ public type Cache object {
                 initialDelayInMillis: cleanupIntervalInSeconds
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self.entries, self.list,
-                                                                  self.evictionPolicy);
+            task:SchedulerError? result;
+            if (self.nativeCache) {
+                result = cleanupScheduler.attach(nativeCleanupService, self);
+            } else {
+                result = cleanupScheduler.attach(cleanupService, self.entries, self.list, self.evictionPolicy);
+            }
             if (result is task:SchedulerError) {
                 panic prepareError("Failed to create the cache cleanup task.", result);
             }
@@ -125,6 +148,13 @@ public type Cache object {
     #                     valid forever.
     # + return - `()` if successfully added to the cache or `Error` if a `()` value is inserted to the cache.
     public function put(string key, any value, int maxAgeInSeconds = -1) returns Error? {
+        if (self.nativeCache) {
+            if (value is ()) {
+                return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
+            }
+            externPut(self, key, value, maxAgeInSeconds);
+            return;
+        }
         lock {
             if (value is ()) {
                 return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
@@ -168,6 +198,13 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
+        if (self.nativeCache) {
+            any value = externGet(self, key);
+            if (value === ENTRY_NOT_FOUND) {
+                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+            }
+            return value;
+        }
         lock {
             if (!self.hasKey(key)) {
                 return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
@@ -195,6 +232,12 @@ public type Cache object {
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache or if any error occurred while discarding the value from the cache.
     public function invalidate(string key) returns Error? {
+        if (self.nativeCache) {
+            if (!externInvalidate(self, key)) {
+                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+            }
+            return;
+        }
         lock {
             if (!self.hasKey(key)) {
                 return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
@@ -211,6 +254,10 @@ public type Cache object {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
+        if (self.nativeCache) {
+            externInvalidateAll(self);
+            return;
+        }
         lock {
             self.evictionPolicy.clear(self.list);
             return removeAllEntries(self.entries);
@@ -223,6 +270,9 @@ public type Cache object {
     # + return - `true` if a cached value is available for the provided key or `false` if there is no cached value
     #            associated for the given key
     public function hasKey(string key) returns boolean {
+        if (self.nativeCache) {
+            return externHasKey(self, key);
+        }
         return self.entries.hasKey(key);
     }
 
@@ -230,6 +280,9 @@ public type Cache object {
     #
     # + return - Array of all the keys from the cache
     public function keys() returns string[] {
+        if (self.nativeCache) {
+            return externKeys(self);
+        }
         return self.entries.keys();
     }
 
@@ -237,6 +290,9 @@ public type Cache object {
     #
     # + return - The size of the cache
     public function size() returns int {
+        if (self.nativeCache) {
+            return externSize(self);
+        }
         return self.entries.length();
     }
 
@@ -293,3 +349,58 @@ function removeAllEntries(map<Node> entries) returns Error? {
         return prepareErrorWithDebugLog("Error while removing all the entries from the map.", result);
     }
 }
+
+function externIsLruEvictionPolicy(AbstractEvictionPolicy evictionPolicy) returns boolean = @java:Method {
+    name: "isLruEvictionPolicy",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externInit(Cache cache, int capacity, float evictionFactor, int defaultMaxAgeInSeconds) = @java:Method {
+    name: "init",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externPut(Cache cache, string key, any value, int maxAgeInSeconds) = @java:Method {
+    name: "put",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGetEntryNotFoundMarker() returns handle = @java:Method {
+    name: "getEntryNotFoundMarker",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGet(Cache cache, string key) returns any = @java:Method {
+    name: "get",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externInvalidate(Cache cache, string key) returns boolean = @java:Method {
+    name: "invalidate",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externInvalidateAll(Cache cache) = @java:Method {
+    name: "invalidateAll",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externHasKey(Cache cache, string key) returns boolean = @java:Method {
+    name: "hasKey",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externKeys(Cache cache) returns string[] = @java:Method {
+    name: "keys",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externSize(Cache cache) returns int = @java:Method {
+    name: "size",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externCleanup(Cache cache) = @java:Method {
+    name: "cleanup",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counts of a {@code cache:Cache} object.
+ * <p>
+ * The counts are kept in {@link LongAdder}s so that recording them does not add contention to cache operations. They
+ * are also added to totals across all the caches of the program. When metrics are enabled, the totals are published
+ * to the default metric registry as polled gauges, registered once for the program, so that caches which are
+ * discarded do not leave metrics behind.
+ *
+ * @since 2.0.0
+ */
+public class CacheMetrics {
+
+    static final String METRIC_HITS = "cache_hits_total";
+    static final String METRIC_MISSES = "cache_misses_total";
+    static final String METRIC_EVICTIONS = "cache_evictions_total";
+
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalEvictions = new LongAdder();
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+        totalHits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+        totalMisses.increment();
+    }
+
+    void recordEvictions(int count) {
+        evictions.add(count);
+        totalEvictions.add(count);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public static long getTotalHitCount() {
+        return totalHits.sum();
+    }
+
+    public static long getTotalMissCount() {
+        return totalMisses.sum();
+    }
+
+    public static long getTotalEvictionCount() {
+        return totalEvictions.sum();
+    }
+
+    /**
+     * Publishes the totals of all the caches to the default metric registry, if metrics are enabled and they have not
+     * been published yet.
+     */
+    static void register() {
+        if (!ObserveUtils.isMetricsEnabled() || !registered.compareAndSet(false, true)) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        PolledGauge.builder(METRIC_HITS, totalHits, LongAdder::doubleValue)
+                .description("Number of cache lookups that found a value").register(registry);
+        PolledGauge.builder(METRIC_MISSES, totalMisses, LongAdder::doubleValue)
+                .description("Number of cache lookups that did not find a valid value").register(registry);
+        PolledGauge.builder(METRIC_EVICTIONS, totalEvictions, LongAdder::doubleValue)
+                .description("Number of entries evicted from the cache to free up capacity").register(registry);
+    }
+}
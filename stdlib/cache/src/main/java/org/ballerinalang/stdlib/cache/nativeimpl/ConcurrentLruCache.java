@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent cache with approximate LRU eviction and lazy expiry, backing the {@code cache:Cache} object.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so reads and writes of different keys do not contend. Instead of
+ * maintaining an access ordered list, every entry carries the value of a logical clock at its last access. The clock
+ * only advances on writes, which keeps reads free of shared writes; entries read between two writes share the same
+ * access stamp and are ordered by insertion. Once the cache is full, the least recently used entries are found by
+ * scanning the map under an eviction lock, which is taken only by writers that hit the capacity. Expired entries are
+ * removed when they are read or when {@link #cleanup()} runs.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentLruCache {
+
+    /**
+     * Returned by {@link #get(String)} for an entry that has expired.
+     */
+    public static final Object EXPIRED = new Object();
+
+    private static final Comparator<Node> ACCESS_ORDER = Comparator.<Node>comparingLong(node -> node.lastAccess)
+            .thenComparingLong(node -> node.insertionOrder);
+
+    private final ConcurrentHashMap<String, Node> entries;
+    private final int capacity;
+    private final int evictionCount;
+    private final long defaultMaxAgeInSeconds;
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    public ConcurrentLruCache(int capacity, double evictionFactor, long defaultMaxAgeInSeconds) {
+        this.entries = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) (capacity * evictionFactor));
+        this.defaultMaxAgeInSeconds = defaultMaxAgeInSeconds;
+    }
+
+    /**
+     * Adds or replaces an entry. A replaced entry keeps its insertion position.
+     *
+     * @param key             key of the entry
+     * @param value           value of the entry
+     * @param maxAgeInSeconds time in seconds during which the entry is valid, or -1 to use the default max age
+     */
+    public void put(String key, Object value, long maxAgeInSeconds) {
+        long expTime = getExpTime(maxAgeInSeconds);
+        if (entries.size() >= capacity && !entries.containsKey(key)) {
+            evict();
+        }
+        long stamp = clock.incrementAndGet();
+        entries.compute(key, (k, oldNode) -> new Node(key, value, expTime,
+                                                      oldNode == null ? stamp : oldNode.insertionOrder, stamp));
+    }
+
+    /**
+     * Returns the value of an entry.
+     *
+     * @param key key of the entry
+     * @return the value, null if there is no entry for the key or {@link #EXPIRED} if the entry has expired
+     */
+    public Object get(String key) {
+        Node node = entries.get(key);
+        if (node == null) {
+            metrics.recordMiss();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            entries.remove(key, node);
+            metrics.recordMiss();
+            return EXPIRED;
+        }
+        long now = clock.get();
+        if (node.lastAccess != now) {
+            node.lastAccess = now;
+        }
+        metrics.recordHit();
+        return node.value;
+    }
+
+    public boolean remove(String key) {
+        return entries.remove(key) != null;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the keys of the cache in insertion order.
+     *
+     * @return the keys
+     */
+    public String[] keys() {
+        List<Node> nodes = new ArrayList<>(entries.values());
+        nodes.sort(Comparator.comparingLong(node -> node.insertionOrder));
+        String[] keys = new String[nodes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = nodes.get(i).key;
+        }
+        return keys;
+    }
+
+    /**
+     * Removes all the expired entries.
+     */
+    public void cleanup() {
+        long now = System.nanoTime();
+        entries.values().removeIf(node -> node.isExpired(now));
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            int size = entries.size();
+            if (size < capacity) {
+                // Another writer evicted while this one was waiting.
+                return;
+            }
+            int count = Math.min(size, Math.max(evictionCount, size - capacity + 1));
+            // Max-heap holding the least recently used entries seen so far.
+            PriorityQueue<Node> victims = new PriorityQueue<>(count, ACCESS_ORDER.reversed());
+            for (Node node : entries.values()) {
+                if (victims.size() < count) {
+                    victims.add(node);
+                } else if (ACCESS_ORDER.compare(node, victims.peek()) < 0) {
+                    victims.poll();
+                    victims.add(node);
+                }
+            }
+            int evicted = 0;
+            for (Node victim : victims) {
+                if (entries.remove(victim.key, victim)) {
+                    evicted++;
+                }
+            }
+            metrics.recordEvictions(evicted);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private long getExpTime(long maxAgeInSeconds) {
+        long maxAge = maxAgeInSeconds > 0 ? maxAgeInSeconds : defaultMaxAgeInSeconds;
+        if (maxAge <= 0) {
+            return -1;
+        }
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAge);
+    }
+
+    /**
+     * Entry of the cache.
+     */
+    private static final class Node {
+
+        final String key;
+        final Object value;
+        final long expTime;
+        final long insertionOrder;
+        volatile long lastAccess;
+
+        Node(String key, Object value, long expTime, long insertionOrder, long lastAccess) {
+            this.key = key;
+            this.value = value;
+            this.expTime = expTime;
+            this.insertionOrder = insertionOrder;
+            this.lastAccess = lastAccess;
+        }
+
+        boolean isExpired(long now) {
+            return expTime != -1 && expTime - now < 0;
+        }
+    }
+}
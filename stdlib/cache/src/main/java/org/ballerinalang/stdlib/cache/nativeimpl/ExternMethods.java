@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.values.HandleValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BArray;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+
+/**
+ * Extern functions of the {@code cache:Cache} object, which delegate to a {@link ConcurrentLruCache} kept as native
+ * data of the object.
+ *
+ * @since 2.0.0
+ */
+public class ExternMethods {
+
+    private static final Object ENTRY_NOT_FOUND = new Object();
+    private static final String NATIVE_CACHE = "nativeCache";
+    private static final String CACHE_ORG = "ballerina";
+    private static final String CACHE_MODULE = "cache";
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+
+    private ExternMethods() {
+    }
+
+    public static boolean isLruEvictionPolicy(ObjectValue evictionPolicy) {
+        BPackage pkg = evictionPolicy.getType().getPackage();
+        return LRU_EVICTION_POLICY.equals(evictionPolicy.getType().getName()) && pkg != null &&
+                CACHE_ORG.equals(pkg.getOrg()) && CACHE_MODULE.equals(pkg.getName());
+    }
+
+    /**
+     * Returns the marker which {@link #get(ObjectValue, BString)} returns when there is no entry for the key. The
+     * error for a missing entry is created in Ballerina, so that it is a {@code cache:Error}.
+     *
+     * @return the marker of a missing entry
+     */
+    public static Object getEntryNotFoundMarker() {
+        return ENTRY_NOT_FOUND;
+    }
+
+    public static void init(ObjectValue cache, long capacity, double evictionFactor, long defaultMaxAgeInSeconds) {
+        ConcurrentLruCache nativeCache = new ConcurrentLruCache((int) capacity, evictionFactor,
+                                                                defaultMaxAgeInSeconds);
+        cache.addNativeData(NATIVE_CACHE, nativeCache);
+        CacheMetrics.register();
+    }
+
+    public static void put(ObjectValue cache, BString key, Object value, long maxAgeInSeconds) {
+        getNativeCache(cache).put(key.getValue(), value, maxAgeInSeconds);
+    }
+
+    public static Object get(ObjectValue cache, BString key) {
+        Object value = getNativeCache(cache).get(key.getValue());
+        if (value == ConcurrentLruCache.EXPIRED) {
+            return null;
+        }
+        if (value == null) {
+            return HandleValue.valueOfJ(ENTRY_NOT_FOUND);
+        }
+        return value;
+    }
+
+    public static boolean invalidate(ObjectValue cache, BString key) {
+        return getNativeCache(cache).remove(key.getValue());
+    }
+
+    public static void invalidateAll(ObjectValue cache) {
+        getNativeCache(cache).clear();
+    }
+
+    public static boolean hasKey(ObjectValue cache, BString key) {
+        return getNativeCache(cache).hasKey(key.getValue());
+    }
+
+    public static BArray keys(ObjectValue cache) {
+        String[] keys = getNativeCache(cache).keys();
+        BString[] keyValues = new BString[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyValues[i] = StringUtils.fromString(keys[i]);
+        }
+        return BValueCreator.createArrayValue(keyValues);
+    }
+
+    public static long size(ObjectValue cache) {
+        return getNativeCache(cache).size();
+    }
+
+    public static void cleanup(ObjectValue cache) {
+        getNativeCache(cache).cleanup();
+    }
+
+    private static ConcurrentLruCache getNativeCache(ObjectValue cache) {
+        return (ConcurrentLruCache) cache.getNativeData(NATIVE_CACHE);
+    }
+}
@@ -123,6 +123,14 @@ public class CacheTest {
         Assert.assertEquals(errMsg, "{message:\"Cache entry from the given key: " + key + ", is not available.\"}");
     }
 
+    @Test
+    public void testGetNonExistingValueIsCacheError() {
+        BValue[] args = new BValue[1];
+        args[0] = new BString("Hello");
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetNonExistingEntryIsCacheError", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
     @Test
     public void testGetExpiredValue() {
         String key = "Hello";
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.CacheMetrics;
+import org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentLruCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the Java implementation backing the cache object.
+ */
+public class ConcurrentLruCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        ConcurrentLruCache cache = new ConcurrentLruCache(4, 0.5, -1);
+        cache.put("A", 1L, -1);
+        cache.put("B", 2L, -1);
+        cache.put("C", 3L, -1);
+        cache.put("D", 4L, -1);
+        Assert.assertEquals(cache.get("A"), 1L);
+        cache.put("E", 5L, -1);
+        Assert.assertEquals(cache.keys(), new String[]{"A", "D", "E"});
+    }
+
+    @Test
+    public void testReplaceKeepsInsertionOrder() {
+        ConcurrentLruCache cache = new ConcurrentLruCache(4, 0.25, -1);
+        cache.put("A", 1L, -1);
+        cache.put("B", 2L, -1);
+        cache.put("A", 3L, -1);
+        Assert.assertEquals(cache.keys(), new String[]{"A", "B"});
+        Assert.assertEquals(cache.get("A"), 3L);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemovedLazily() throws InterruptedException {
+        ConcurrentLruCache cache = new ConcurrentLruCache(4, 0.25, -1);
+        cache.put("A", 1L, 1);
+        cache.put("B", 2L, -1);
+        Thread.sleep(1100);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertSame(cache.get("A"), ConcurrentLruCache.EXPIRED);
+        Assert.assertNull(cache.get("A"));
+        Assert.assertEquals(cache.get("B"), 2L);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testCleanup() throws InterruptedException {
+        ConcurrentLruCache cache = new ConcurrentLruCache(4, 0.25, 1);
+        cache.put("A", 1L, -1);
+        cache.put("B", 2L, 3600);
+        Thread.sleep(1100);
+        cache.cleanup();
+        Assert.assertEquals(cache.keys(), new String[]{"B"});
+    }
+
+    @Test
+    public void testMetrics() {
+        long totalHits = CacheMetrics.getTotalHitCount();
+        long totalMisses = CacheMetrics.getTotalMissCount();
+        ConcurrentLruCache cache = new ConcurrentLruCache(2, 0.5, -1);
+        ConcurrentLruCache other = new ConcurrentLruCache(2, 0.5, -1);
+        cache.put("A", 1L, -1);
+        cache.put("B", 2L, -1);
+        cache.get("A");
+        cache.get("C");
+        cache.put("C", 3L, -1);
+        other.get("A");
+        CacheMetrics metrics = cache.getMetrics();
+        Assert.assertEquals(metrics.getHitCount(), 1);
+        Assert.assertEquals(metrics.getMissCount(), 1);
+        Assert.assertEquals(metrics.getEvictionCount(), 1);
+        Assert.assertEquals(other.getMetrics().getHitCount(), 0);
+        Assert.assertEquals(other.getMetrics().getMissCount(), 1);
+        Assert.assertEquals(CacheMetrics.getTotalHitCount() - totalHits, 1);
+        Assert.assertEquals(CacheMetrics.getTotalMissCount() - totalMisses, 2);
+    }
+
+    @Test
+    public void testConcurrentAccessKeepsCapacity() throws Exception {
+        int capacity = 100;
+        int threads = 8;
+        ConcurrentLruCache cache = new ConcurrentLruCache(capacity, 0.25, -1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 10000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String key = Integer.toString(offset + i);
+                        cache.put(key, (long) i, -1);
+                        cache.get(key);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(cache.size() <= capacity + threads, "size: " + cache.size());
+    }
+}
@@ -81,6 +81,12 @@ function testGetNonExistingEntry(string key) returns any|cache:Error {
     return cache.get(key);
 }
 
+function testGetNonExistingEntryIsCacheError(string key) returns boolean {
+    cache:Cache cache = new;
+    any|error value = cache.get(key);
+    return value is cache:Error;
+}
+
 function testGetExpiredEntry(string key, string value) returns any|cache:Error {
     cache:CacheConfig config = {
         capacity: 10,
@@ -128,9 +128,12 @@ public type Client client object {
 # Provides a set of configuration related to database.
 # + datasourceName - The driver class name to be used to get the connection
 # + properties - the properties of the database which should be applied when getting the connection
+# + fetchSize - The number of rows fetched from the database at a time while iterating a query result, which allows
+#               large results to be streamed instead of being read at once. Default value 0 uses the driver default
 public type Options record {|
     string? datasourceName = ();
     map<anydata>? properties = ();
+    int fetchSize = 0;
 |};
 
 # Provides a set of configurations for the JDBC Client to be passed internally within the module.
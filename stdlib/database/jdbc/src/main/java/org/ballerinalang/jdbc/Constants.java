@@ -38,6 +38,7 @@ public final class Constants {
         static final BString CONNECTION_POOL_OPTIONS = StringUtils.fromString("connectionPool");
         static final BString OPTIONS = StringUtils.fromString("options");
         static final BString PROPERTIES = StringUtils.fromString("properties");
+        static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
     }
 
     public static final String CONNECT_TIMEOUT = ".*(connect).*(timeout).*";
@@ -48,8 +48,10 @@ public class NativeImpl {
         MapValue properties = null;
         String datasourceName = null;
         Properties poolProperties = null;
+        int fetchSize = 0;
         if (options != null) {
             properties = options.getMapValue(Constants.ClientConfiguration.PROPERTIES);
+            fetchSize = options.getIntValue(Constants.ClientConfiguration.FETCH_SIZE).intValue();
             BString dataSourceNamVal = options.getStringValue(Constants.ClientConfiguration.DATASOURCE_NAME);
             datasourceName = dataSourceNamVal == null ? null : dataSourceNamVal.getValue();
             if (properties != null) {
@@ -71,7 +73,8 @@ public class NativeImpl {
                 .setDatasourceName(datasourceName)
                 .setOptions(properties)
                 .setPoolProperties(poolProperties)
-                .setConnectionPool(connectionPool, globalPool);
+                .setConnectionPool(connectionPool, globalPool)
+                .setFetchSize(fetchSize);
         return ClientUtils.createClient(client, sqlDatasourceParams);
     }
 
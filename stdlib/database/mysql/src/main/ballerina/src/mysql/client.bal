@@ -157,11 +157,15 @@ type ClientConfiguration record {|
 # + connectTimeoutInSeconds - Timeout to be used when connecting to the mysql server
 # + socketTimeoutInSeconds - Socket timeout during the read/write operations with mysql server,
 #                            0 means no socket timeout
+# + fetchSize - The number of rows fetched from the mysql server at a time while iterating a query result. When set,
+#               the result is read through a server side cursor instead of being loaded at once. Default value 0
+#               reads the whole result at once
 public type Options record {|
     SSLConfig? ssl = {};
     boolean useXADatasource = false;
     decimal connectTimeoutInSeconds = 30;
     decimal socketTimeoutInSeconds = 0;
+    int fetchSize = 0;
 |};
 
 # Possible options for SSL Mode.
@@ -47,6 +47,7 @@ public final class Constants {
         static final BString USE_XA_DATASOURCE = StringUtils.fromString("useXADatasource");
         static final BString CONNECT_TIMEOUT_SECONDS = StringUtils.fromString("connectTimeoutInSeconds");
         static final BString SOCKET_TIMEOUT_SECONDS = StringUtils.fromString("socketTimeoutInSeconds");
+        static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
     }
 
     /**
@@ -74,6 +75,7 @@ public final class Constants {
 
         static final BString CONNECT_TIMEOUT = StringUtils.fromString("connectTimeout");
         static final BString SOCKET_TIMEOUT = StringUtils.fromString("socketTimeout");
+        static final BString USE_CURSOR_FETCH = StringUtils.fromString("useCursorFetch");
     }
 
     static final String MYSQL_DATASOURCE_NAME = "com.mysql.cj.jdbc.MysqlDataSource";
@@ -51,8 +51,10 @@ public class NativeImpl {
         MapValue options = clientConfig.getMapValue(Constants.ClientConfiguration.OPTIONS);
         MapValue properties = null;
         Properties poolProperties = null;
+        int fetchSize = 0;
         if (options != null) {
             properties = Utils.generateOptionsMap(options);
+            fetchSize = options.getIntValue(Constants.Options.FETCH_SIZE).intValue();
             Object connectTimeout = properties.get(Constants.DatabaseProps.CONNECT_TIMEOUT);
             if (connectTimeout != null) {
                 poolProperties = new Properties();
@@ -73,7 +75,8 @@ public class NativeImpl {
                 .setDatasourceName(datasourceName)
                 .setOptions(properties)
                 .setConnectionPool(connectionPool, globalPool)
-                .setPoolProperties(poolProperties);
+                .setPoolProperties(poolProperties)
+                .setFetchSize(fetchSize);
 
         return ClientUtils.createClient(client, sqlDatasourceParams);
     }
@@ -44,6 +44,11 @@ public class Utils {
             if (socketTimeout > 0) {
                 options.put(Constants.DatabaseProps.SOCKET_TIMEOUT, socketTimeout);
             }
+
+            // MySQL Connector/J ignores the fetch size and reads the whole result unless a cursor is used.
+            if (mysqlOptions.getIntValue(Constants.Options.FETCH_SIZE) > 0) {
+                options.put(Constants.DatabaseProps.USE_CURSOR_FETCH, true);
+            }
             return options;
         }
         return null;
@@ -30,11 +30,16 @@ import ballerina/java;
 # + minIdleConnections - The minimum number of idle connections that pool tries to maintain in the pool. Default
 #                        is the same as maxOpenConnections and it can be changed through the configuration
 #                        API with the key `b7a.sql.pool.minIdleConnections`.
+# + statementCacheSize - The maximum number of prepared statements cached for each connection of the pool, so that
+#                        running a query again on a connection does not prepare it again. Default value is 0, which
+#                        disables the cache, and it can be changed through the configuration API with the key
+#                        `b7a.sql.pool.statementCacheSize`.
 public type ConnectionPool record {|
     int maxOpenConnections = config:getAsInt("b7a.sql.pool.maxOpenConnections", 15);
     decimal maxConnectionLifeTimeInSeconds = <decimal>config:getAsFloat("b7a.sql.pool.maxConnectionLifeTimeInSeconds",
         1800.0);
     int minIdleConnections = config:getAsInt("b7a.sql.pool.minIdleConnections", 15);
+    int statementCacheSize = config:getAsInt("b7a.sql.pool.statementCacheSize", 0);
 |};
 
 // This is a container object that holds the global pool config and initializes the internal map of connection pools
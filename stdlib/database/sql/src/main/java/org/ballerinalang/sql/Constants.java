@@ -51,8 +51,8 @@ public final class Constants {
     public static final String RESULT_SET_NATIVE_DATA_FIELD = "ResultSet";
     public static final String CONNECTION_NATIVE_DATA_FIELD = "Connection";
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
-    public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
-    public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String COLUMN_MAPPING_DATA_FIELD = "ColumnMapping";
+    public static final String FETCH_SIZE = "FetchSize";
 
     public static final BString TIMEZONE_UTC = StringUtils.fromString("UTC");
 
@@ -71,6 +71,7 @@ public final class Constants {
         public static final BString MAX_CONNECTION_LIFE_TIME_SECONDS = StringUtils.fromString(
                 "maxConnectionLifeTimeInSeconds");
         public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+        public static final BString STATEMENT_CACHE_SIZE = StringUtils.fromString("statementCacheSize");
     }
 
     /**
@@ -19,13 +19,16 @@ package org.ballerinalang.sql.datasource;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.sql.Constants;
+import org.ballerinalang.sql.utils.ColumnMapping;
 import org.ballerinalang.sql.utils.ErrorGenerator;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Properties;
@@ -45,6 +48,11 @@ public class SQLDatasource {
     private AtomicInteger clientCounter = new AtomicInteger(0);
     private Lock mutex = new ReentrantLock();
     private boolean poolShutdown = false;
+    private StatementCache statementCache;
+    private final Map<QueryKey, ColumnMapping> columnMappings = new ConcurrentHashMap<>();
+
+    // Bounds the column mappings kept for queries which embed values in the sql text instead of parameters.
+    private static final int MAX_COLUMN_MAPPINGS = 512;
 
     private SQLDatasource(SQLDatasourceParams sqlDatasourceParams) {
         buildDataSource(sqlDatasourceParams);
@@ -106,6 +114,38 @@ public class SQLDatasource {
         return hikariDataSource.getConnection();
     }
 
+    /**
+     * Returns the cached prepared statement of the given query on the given connection, preparing it if needed.
+     *
+     * @param connection connection obtained from this datasource
+     * @param sqlQuery   the sql query of the statement
+     * @return the cached statement, or null if statement caching is not enabled for this datasource
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement getCachedStatement(Connection connection, String sqlQuery) throws SQLException {
+        if (statementCache == null) {
+            return null;
+        }
+        return statementCache.prepareStatement(connection, sqlQuery);
+    }
+
+    public void evictCachedStatement(Connection connection, String sqlQuery) {
+        if (statementCache != null) {
+            statementCache.evict(connection, sqlQuery);
+        }
+    }
+
+    public ColumnMapping getColumnMapping(String sqlQuery, BStructureType recordType) {
+        return columnMappings.get(new QueryKey(sqlQuery, recordType));
+    }
+
+    public void putColumnMapping(String sqlQuery, BStructureType recordType, ColumnMapping columnMapping) {
+        if (columnMappings.size() >= MAX_COLUMN_MAPPINGS) {
+            columnMappings.clear();
+        }
+        columnMappings.put(new QueryKey(sqlQuery, recordType), columnMapping);
+    }
+
     private void closeConnectionPool() {
         hikariDataSource.close();
         poolShutdown = true;
@@ -179,6 +219,12 @@ public class SQLDatasource {
                 if (minIdleConnections > 0) {
                     config.setMinimumIdle(minIdleConnections);
                 }
+
+                Object statementCacheSize = sqlDatasourceParams.connectionPool
+                        .get(Constants.ConnectionPool.STATEMENT_CACHE_SIZE);
+                if (statementCacheSize instanceof Long && (Long) statementCacheSize > 0) {
+                    statementCache = new StatementCache(((Long) statementCacheSize).intValue());
+                }
             }
             if (sqlDatasourceParams.options != null) {
                 MapValue<BString, Object> optionMap = (MapValue<BString, Object>) sqlDatasourceParams.options;
@@ -207,6 +253,33 @@ public class SQLDatasource {
         }
     }
 
+    /**
+     * Key of the column mapping of a query, the record type is compared by identity.
+     */
+    private static class QueryKey {
+        private final String sqlQuery;
+        private final BStructureType recordType;
+
+        QueryKey(String sqlQuery, BStructureType recordType) {
+            this.sqlQuery = sqlQuery;
+            this.recordType = recordType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) obj;
+            return recordType == other.recordType && sqlQuery.equals(other.sqlQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sqlQuery.hashCode() + System.identityHashCode(recordType);
+        }
+    }
+
     /**
      * This class encapsulates the parameters required for the initialization of {@code SQLDatasource} class.
      */
@@ -218,10 +291,15 @@ public class SQLDatasource {
         private MapValue connectionPool;
         private MapValue options;
         private Properties poolProperties;
+        private int fetchSize;
 
         public SQLDatasourceParams() {
         }
 
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
         public SQLDatasourceParams setConnectionPool(MapValue connectionPool, MapValue globalConnectionPool) {
             if (connectionPool != null) {
                 this.connectionPool = connectionPool;
@@ -260,5 +338,10 @@ public class SQLDatasource {
             this.poolProperties = properties;
             return this;
         }
+
+        public SQLDatasourceParams setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
     }
 }
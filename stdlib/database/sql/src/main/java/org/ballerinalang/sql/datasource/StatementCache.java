@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.sql.datasource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of the prepared statements of each physical connection in a pool.
+ * <p>
+ * HikariCP closes every statement created through a pooled connection when the connection is returned to the pool,
+ * therefore the cached statements are prepared on the underlying connection. A retired connection is closed by the
+ * pool, and its statements are released the next time the cache sees a connection it does not know yet, which is
+ * usually the one that replaced it.
+ *
+ * @since 2.0.0
+ */
+class StatementCache {
+
+    private final int maxStatementsPerConnection;
+    // Guarded by itself
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new HashMap<>();
+
+    StatementCache(int maxStatementsPerConnection) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    PreparedStatement prepareStatement(Connection connection, String sqlQuery) throws SQLException {
+        Connection physicalConnection = connection.unwrap(Connection.class);
+        Map<String, PreparedStatement> connectionStatements;
+        synchronized (statements) {
+            connectionStatements = statements.get(physicalConnection);
+            if (connectionStatements == null) {
+                releaseClosedConnections();
+                connectionStatements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() > maxStatementsPerConnection) {
+                            close(eldest.getValue());
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+                statements.put(physicalConnection, connectionStatements);
+            }
+        }
+        // A connection is only used by the client holding it, the lock just publishes the map between holders.
+        synchronized (connectionStatements) {
+            PreparedStatement statement = connectionStatements.get(sqlQuery);
+            if (statement != null && !statement.isClosed()) {
+                statement.clearParameters();
+                return statement;
+            }
+            statement = physicalConnection.prepareStatement(sqlQuery);
+            connectionStatements.put(sqlQuery, statement);
+            return statement;
+        }
+    }
+
+    void evict(Connection connection, String sqlQuery) {
+        Map<String, PreparedStatement> connectionStatements;
+        try {
+            Connection physicalConnection = connection.unwrap(Connection.class);
+            synchronized (statements) {
+                connectionStatements = statements.get(physicalConnection);
+            }
+        } catch (SQLException ignored) {
+            return;
+        }
+        if (connectionStatements != null) {
+            synchronized (connectionStatements) {
+                close(connectionStatements.remove(sqlQuery));
+            }
+        }
+    }
+
+    int getConnectionCount() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    private void releaseClosedConnections() {
+        Iterator<Map.Entry<Connection, Map<String, PreparedStatement>>> iterator = statements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Connection, Map<String, PreparedStatement>> entry = iterator.next();
+            if (isClosed(entry.getKey())) {
+                Map<String, PreparedStatement> connectionStatements = entry.getValue();
+                synchronized (connectionStatements) {
+                    connectionStatements.values().forEach(StatementCache::close);
+                    connectionStatements.clear();
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static void close(PreparedStatement statement) {
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.scheduling.BlockingOperationExecutor;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -39,10 +40,16 @@ public class ClientUtils {
     }
 
     public static Object createClient(ObjectValue client, SQLDatasource.SQLDatasourceParams sqlDatasourceParams) {
+        // Creating the pool opens a connection to validate the configuration.
+        return BlockingOperationExecutor.execute(() -> initClient(client, sqlDatasourceParams));
+    }
+
+    private static Object initClient(ObjectValue client, SQLDatasource.SQLDatasourceParams sqlDatasourceParams) {
         try {
             SQLDatasource sqlDatasource = SQLDatasource.retrieveDatasource(sqlDatasourceParams);
             client.addNativeData(Constants.DATABASE_CLIENT, sqlDatasource);
             client.addNativeData(Constants.CONNECTOR_ID_KEY, UUID.randomUUID().toString());
+            client.addNativeData(Constants.FETCH_SIZE, sqlDatasourceParams.getFetchSize());
             return null;
         } catch (ErrorValue errorValue) {
             return errorValue;
@@ -17,7 +17,9 @@
  */
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.api.BString;
 
 /**
  * This class provides the mapping of the sql columns, its names and types.
@@ -27,6 +29,7 @@ import org.ballerinalang.jvm.types.BType;
 public class ColumnDefinition {
     private String columnName;
     private String ballerinaFieldName;
+    private BString ballerinaFieldKey;
     private int sqlType;
     private String sqlName;
     private BType ballerinaType;
@@ -41,6 +44,7 @@ public class ColumnDefinition {
         } else {
             this.ballerinaFieldName = this.columnName;
         }
+        this.ballerinaFieldKey = StringUtils.fromString(this.ballerinaFieldName);
         this.sqlType = sqlType;
         this.ballerinaType = ballerinaType;
         this.isNullable = isNullable;
@@ -67,6 +71,10 @@ public class ColumnDefinition {
         return ballerinaFieldName;
     }
 
+    BString getBallerinaFieldKey() {
+        return ballerinaFieldKey;
+    }
+
     public String getSqlName() {
         return sqlName;
     }
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.types.BStructureType;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Mapping of the columns of a query result to the fields of the record type it is read into. The mapping is built
+ * once for a query and record type, and reused by later executions of the same query while the columns returned
+ * by the database stay the same.
+ *
+ * @since 2.0.0
+ */
+public class ColumnMapping {
+    private final String[] columnLabels;
+    private final int[] sqlTypes;
+    private final ColumnDefinition[] columnDefinitions;
+    private final BStructureType recordType;
+    private final BStreamType streamType;
+
+    ColumnMapping(String[] columnLabels, int[] sqlTypes, List<ColumnDefinition> columnDefinitions,
+                  BStructureType recordType) {
+        this.columnLabels = columnLabels;
+        this.sqlTypes = sqlTypes;
+        this.columnDefinitions = columnDefinitions.toArray(new ColumnDefinition[0]);
+        this.recordType = recordType;
+        this.streamType = new BStreamType(recordType);
+    }
+
+    boolean matches(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        if (columnCount != columnLabels.length) {
+            return false;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (metaData.getColumnType(i + 1) != sqlTypes[i] ||
+                    !columnLabels[i].equals(metaData.getColumnLabel(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    ColumnDefinition[] getColumnDefinitions() {
+        return columnDefinitions;
+    }
+
+    BStructureType getRecordType() {
+        return recordType;
+    }
+
+    BStreamType getStreamType() {
+        return streamType;
+    }
+}
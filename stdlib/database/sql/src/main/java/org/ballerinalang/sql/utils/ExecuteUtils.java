@@ -18,6 +18,7 @@
 package org.ballerinalang.sql.utils;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.scheduling.BlockingOperationExecutor;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.values.ArrayValue;
@@ -53,6 +54,10 @@ import java.util.Map;
 public class ExecuteUtils {
 
     public static Object nativeExecute(ObjectValue client, MapValue<BString, Object> paramSQLString) {
+        return BlockingOperationExecutor.execute(() -> execute(client, paramSQLString));
+    }
+
+    private static Object execute(ObjectValue client, MapValue<BString, Object> paramSQLString) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -95,6 +100,10 @@ public class ExecuteUtils {
 
     public static Object nativeBatchExecute(ObjectValue client, ArrayValue paramSQLStrings,
                                             boolean rollbackInFailure) {
+        return BlockingOperationExecutor.execute(() -> batchExecute(client, paramSQLStrings, rollbackInFailure));
+    }
+
+    private static Object batchExecute(ObjectValue client, ArrayValue paramSQLStrings, boolean rollbackInFailure) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
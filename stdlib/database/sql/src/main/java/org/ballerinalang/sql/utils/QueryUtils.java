@@ -18,6 +18,7 @@
 package org.ballerinalang.sql.utils;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.scheduling.BlockingOperationExecutor;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BPackage;
@@ -62,54 +63,57 @@ public class QueryUtils {
 
     public static StreamValue nativeQuery(ObjectValue client, MapValue<BString, Object> paramSQLString,
                                           Object recordType) {
+        return (StreamValue) BlockingOperationExecutor.execute(() -> query(client, paramSQLString, recordType));
+    }
+
+    private static StreamValue query(ObjectValue client, MapValue<BString, Object> paramSQLString,
+                                     Object recordType) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
             Connection connection = null;
             PreparedStatement statement = null;
+            boolean cachedStatement = false;
             ResultSet resultSet = null;
             String sqlQuery = null;
             try {
                 sqlQuery = Utils.getSqlQuery(paramSQLString);
                 connection = sqlDatasource.getSQLConnection();
-                statement = connection.prepareStatement(sqlQuery);
+                statement = sqlDatasource.getCachedStatement(connection, sqlQuery);
+                cachedStatement = statement != null;
+                if (!cachedStatement) {
+                    statement = connection.prepareStatement(sqlQuery);
+                }
+                int fetchSize = getFetchSize(client);
+                // A cached statement may still hold the fetch size of another client sharing the datasource.
+                if (fetchSize > 0 || cachedStatement) {
+                    statement.setFetchSize(fetchSize);
+                }
                 Utils.setParams(connection, statement, paramSQLString);
                 resultSet = statement.executeQuery();
-                List<ColumnDefinition> columnDefinitions;
-                BStructureType streamConstraint;
-                if (recordType == null) {
-                    columnDefinitions = getColumnDefinitions(resultSet, null);
-                    BRecordType defaultRecord = getDefaultStreamConstraint();
-                    Map<String, BField> fieldMap = new HashMap<>();
-                    for (ColumnDefinition column : columnDefinitions) {
-                        int flags = Flags.PUBLIC;
-                        if (column.isNullable()) {
-                            flags += Flags.OPTIONAL;
-                        } else {
-                            flags += Flags.REQUIRED;
-                        }
-                        fieldMap.put(column.getColumnName(), new BField(column.getBallerinaType(),
-                                column.getColumnName(), flags));
-                    }
-                    defaultRecord.setFields(fieldMap);
-                    streamConstraint = defaultRecord;
-                } else {
+                BStructureType streamConstraint = null;
+                if (recordType != null) {
                     streamConstraint = (BStructureType) ((TypedescValue) recordType).getDescribingType();
-                    columnDefinitions = getColumnDefinitions(resultSet, streamConstraint);
                 }
-                return new StreamValue(new BStreamType(streamConstraint), createRecordIterator(resultSet,
-                        statement, connection, columnDefinitions, streamConstraint));
+                ResultSetMetaData rsMetaData = resultSet.getMetaData();
+                ColumnMapping columnMapping = sqlDatasource.getColumnMapping(sqlQuery, streamConstraint);
+                if (columnMapping == null || !columnMapping.matches(rsMetaData)) {
+                    columnMapping = createColumnMapping(rsMetaData, streamConstraint);
+                    sqlDatasource.putColumnMapping(sqlQuery, streamConstraint, columnMapping);
+                }
+                return new StreamValue(columnMapping.getStreamType(), createRecordIterator(resultSet,
+                        cachedStatement ? null : statement, connection, columnMapping));
             } catch (SQLException e) {
-                Utils.closeResources(resultSet, statement, connection);
+                closeResources(sqlDatasource, sqlQuery, resultSet, statement, cachedStatement, connection);
                 ErrorValue errorValue = ErrorGenerator.getSQLDatabaseError(e,
                         "Error while executing sql query: " + sqlQuery + ". ");
                 return new StreamValue(new BStreamType(getDefaultStreamConstraint()), createRecordIterator(errorValue));
             } catch (ApplicationError applicationError) {
-                Utils.closeResources(resultSet, statement, connection);
+                closeResources(sqlDatasource, sqlQuery, resultSet, statement, cachedStatement, connection);
                 ErrorValue errorValue = ErrorGenerator.getSQLApplicationError(applicationError.getMessage());
                 return getErrorStream(recordType, errorValue);
             } catch (Throwable e) {
-                Utils.closeResources(resultSet, statement, connection);
+                closeResources(sqlDatasource, sqlQuery, resultSet, statement, cachedStatement, connection);
                 String message = e.getMessage();
                 if (message == null) {
                     message = e.getClass().getName();
@@ -125,6 +129,21 @@ public class QueryUtils {
         }
     }
 
+    private static int getFetchSize(ObjectValue client) {
+        Object fetchSize = client.getNativeData(Constants.FETCH_SIZE);
+        return fetchSize instanceof Integer ? (Integer) fetchSize : 0;
+    }
+
+    private static void closeResources(SQLDatasource sqlDatasource, String sqlQuery, ResultSet resultSet,
+                                       Statement statement, boolean cachedStatement, Connection connection) {
+        if (cachedStatement) {
+            // The failed statement is closed and dropped from the cache, so that the next execution prepares it again.
+            sqlDatasource.evictCachedStatement(connection, sqlQuery);
+            statement = null;
+        }
+        Utils.closeResources(resultSet, statement, connection);
+    }
+
     private static StreamValue getErrorStream(Object recordType, ErrorValue errorValue) {
         if (recordType == null) {
             return new StreamValue(new BStreamType(getDefaultStreamConstraint()), createRecordIterator(errorValue));
@@ -142,19 +161,22 @@ public class QueryUtils {
         return defaultRecord;
     }
 
-    private static List<ColumnDefinition> getColumnDefinitions(ResultSet resultSet, BStructureType streamConstraint)
+    private static ColumnMapping createColumnMapping(ResultSetMetaData rsMetaData, BStructureType streamConstraint)
             throws SQLException, ApplicationError {
         List<ColumnDefinition> columnDefs = new ArrayList<>();
         Set<String> columnNames = new HashSet<>();
-        ResultSetMetaData rsMetaData = resultSet.getMetaData();
         int cols = rsMetaData.getColumnCount();
+        String[] columnLabels = new String[cols];
+        int[] sqlTypes = new int[cols];
         for (int i = 1; i <= cols; i++) {
             String colName = rsMetaData.getColumnLabel(i);
+            columnLabels[i - 1] = colName;
             if (columnNames.contains(colName)) {
                 String tableName = rsMetaData.getTableName(i).toUpperCase(Locale.getDefault());
                 colName = tableName + "." + colName;
             }
             int sqlType = rsMetaData.getColumnType(i);
+            sqlTypes[i - 1] = sqlType;
             String sqlTypeName = rsMetaData.getColumnTypeName(i);
             boolean isNullable = true;
             if (rsMetaData.isNullable(i) == ResultSetMetaData.columnNoNulls) {
@@ -163,7 +185,23 @@ public class QueryUtils {
             columnDefs.add(generateColumnDefinition(colName, sqlType, sqlTypeName, streamConstraint, isNullable));
             columnNames.add(colName);
         }
-        return columnDefs;
+        if (streamConstraint == null) {
+            BRecordType defaultRecord = getDefaultStreamConstraint();
+            Map<String, BField> fieldMap = new HashMap<>();
+            for (ColumnDefinition column : columnDefs) {
+                int flags = Flags.PUBLIC;
+                if (column.isNullable()) {
+                    flags += Flags.OPTIONAL;
+                } else {
+                    flags += Flags.REQUIRED;
+                }
+                fieldMap.put(column.getColumnName(), new BField(column.getBallerinaType(),
+                        column.getColumnName(), flags));
+            }
+            defaultRecord.setFields(fieldMap);
+            streamConstraint = defaultRecord;
+        }
+        return new ColumnMapping(columnLabels, sqlTypes, columnDefs, streamConstraint);
     }
 
     private static ColumnDefinition generateColumnDefinition(String columnName, int sqlType, String sqlTypeName,
@@ -195,17 +233,14 @@ public class QueryUtils {
 
     }
 
-    private static ObjectValue createRecordIterator(ResultSet resultSet,
-                                                    Statement statement,
-                                                    Connection connection, List<ColumnDefinition> columnDefinitions,
-                                                    BStructureType streamConstraint) {
+    private static ObjectValue createRecordIterator(ResultSet resultSet, Statement statement,
+                                                    Connection connection, ColumnMapping columnMapping) {
         ObjectValue resultIterator = BallerinaValues.createObjectValue(Constants.SQL_PACKAGE_ID,
                 Constants.RESULT_ITERATOR_OBJECT, new Object[1]);
         resultIterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
         resultIterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
         resultIterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
-        resultIterator.addNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD, columnDefinitions);
-        resultIterator.addNativeData(Constants.RECORD_TYPE_DATA_FIELD, streamConstraint);
+        resultIterator.addNativeData(Constants.COLUMN_MAPPING_DATA_FIELD, columnMapping);
         return resultIterator;
     }
 
@@ -19,9 +19,7 @@ package org.ballerinalang.sql.utils;
 
 
 import org.ballerinalang.jvm.JSONParser;
-import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BArrayType;
-import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -49,7 +47,6 @@ import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.Calendar;
-import java.util.List;
 import java.util.TimeZone;
 
 /**
@@ -64,14 +61,13 @@ public class RecordItertorUtils {
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
         try {
             if (resultSet.next()) {
-                BStructureType streamConstraint = (BStructureType) recordIterator.
-                        getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
-                MapValue<BString, Object> bStruct = new MapValueImpl<>(streamConstraint);
-                List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
-                        .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
-                for (int i = 0; i < columnDefinitions.size(); i++) {
-                    ColumnDefinition columnDefinition = columnDefinitions.get(i);
-                    bStruct.put(StringUtils.fromString(columnDefinition.getBallerinaFieldName()),
+                ColumnMapping columnMapping = (ColumnMapping) recordIterator
+                        .getNativeData(Constants.COLUMN_MAPPING_DATA_FIELD);
+                MapValue<BString, Object> bStruct = new MapValueImpl<>(columnMapping.getRecordType());
+                ColumnDefinition[] columnDefinitions = columnMapping.getColumnDefinitions();
+                for (int i = 0; i < columnDefinitions.length; i++) {
+                    ColumnDefinition columnDefinition = columnDefinitions[i];
+                    bStruct.put(columnDefinition.getBallerinaFieldKey(),
                                 getResult(resultSet, i + 1, columnDefinition));
                 }
                 return bStruct;
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.ballerinalang.sql.utils.SQLDBUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This validates the prepared statement cache of a datasource.
+ *
+ * @since 2.0.0
+ */
+public class StatementCacheTest {
+    private static final String URL = SQLDBUtils.URL_PREFIX + "TEST_SQL_STATEMENT_CACHE";
+    private Connection connection;
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(URL, SQLDBUtils.DB_USER, SQLDBUtils.DB_PASSWORD);
+    }
+
+    @Test
+    public void testStatementIsReused() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))");
+        Assert.assertSame(cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))"), statement);
+        Assert.assertFalse(statement.isClosed());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsClosed() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        PreparedStatement first = cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))");
+        PreparedStatement second = cache.prepareStatement(connection, "SELECT 2 FROM (VALUES(0))");
+        Assert.assertSame(cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))"), first);
+        cache.prepareStatement(connection, "SELECT 3 FROM (VALUES(0))");
+        Assert.assertTrue(second.isClosed());
+        Assert.assertFalse(first.isClosed());
+    }
+
+    @Test
+    public void testEvictedStatementIsPreparedAgain() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))");
+        cache.evict(connection, "SELECT 1 FROM (VALUES(0))");
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertNotSame(cache.prepareStatement(connection, "SELECT 1 FROM (VALUES(0))"), statement);
+    }
+
+    @Test
+    public void testStatementsOfRetiredConnectionAreReleased() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(URL);
+        config.setUsername(SQLDBUtils.DB_USER);
+        config.setPassword(SQLDBUtils.DB_PASSWORD);
+        config.setMaximumPoolSize(1);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            StatementCache cache = new StatementCache(2);
+            Connection retiredConnection;
+            PreparedStatement statement;
+            try (Connection pooledConnection = dataSource.getConnection()) {
+                retiredConnection = pooledConnection.unwrap(Connection.class);
+                statement = cache.prepareStatement(pooledConnection, "SELECT 1 FROM (VALUES(0))");
+            }
+
+            // The pool closes the evicted connection on a background thread
+            dataSource.getHikariPoolMXBean().softEvictConnections();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!retiredConnection.isClosed()) {
+                Assert.assertTrue(System.nanoTime() < deadline, "connection was not retired");
+                Thread.sleep(10);
+            }
+
+            try (Connection pooledConnection = dataSource.getConnection()) {
+                Assert.assertNotSame(pooledConnection.unwrap(Connection.class), retiredConnection);
+                Assert.assertNotSame(cache.prepareStatement(pooledConnection, "SELECT 1 FROM (VALUES(0))"),
+                                     statement);
+            }
+            Assert.assertTrue(statement.isClosed());
+            Assert.assertEquals(cache.getConnectionCount(), 1);
+        }
+    }
+
+    @AfterClass
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+}
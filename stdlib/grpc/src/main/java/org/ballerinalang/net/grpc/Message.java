@@ -36,7 +36,6 @@ import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Generic Proto3 Message.
@@ -45,9 +44,12 @@ import java.util.Map;
  */
 public class Message {
 
-    private static final String GOOGLE_PROTOBUF_ANY = "google.protobuf.Any";
-    private static final String GOOGLE_PROTOBUF_ANY_VALUE = "google.protobuf.Any.value";
-    private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+    static final String GOOGLE_PROTOBUF_ANY = "google.protobuf.Any";
+    static final String GOOGLE_PROTOBUF_ANY_VALUE = "google.protobuf.Any.value";
+    static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+
+    // Marks a field that is not set in the record being encoded, as opposed to a field set to nil.
+    private static final Object ABSENT = new Object();
 
     private String messageName;
     private int memoizedSize = -1;
@@ -108,7 +110,7 @@ public class Message {
             String messageName,
             BType bType,
             com.google.protobuf.CodedInputStream input,
-            Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors)
+            MessageSchema schema)
             throws IOException {
         this(messageName);
 
@@ -135,22 +137,19 @@ public class Message {
 
         if (input == null) {
             if (bMapValue != null) {
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(entry.getValue().getName());
-                    if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
-                            !entry.getValue().isRepeated()) {
-                        bMapValue.put(bFieldName, null);
-                    } else if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
-                        bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils
-                                .fromString(entry.getValue().getEnumType().findValueByNumber(0).toString()));
+                for (MessageSchema.Field field : schema.getFieldsByTag().values()) {
+                    if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
+                            !field.repeated) {
+                        bMapValue.put(field.name, null);
+                    } else if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
+                        bMapValue.put(field.name, org.ballerinalang.jvm.StringUtils
+                                .fromString(field.descriptor.getEnumType().findValueByNumber(0).toString()));
                     }
                 }
             } else {
                 // Here fieldDescriptors map size should be one. Because the value can assign to one scalar field.
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    switch (entry.getValue().getType().toProto().getNumber()) {
+                for (MessageSchema.Field field : schema.getFieldsByTag().values()) {
+                    switch (field.type) {
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                             bMessage = (double) 0;
@@ -175,7 +174,7 @@ public class Message {
                         default: {
                             throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
                                     "message. Field type is not supported : " +
-                                    entry.getValue().getType()).asRuntimeException();
+                                    field.descriptor.getType()).asRuntimeException();
                         }
                     }
                 }
@@ -185,24 +184,24 @@ public class Message {
         boolean done = false;
         while (!done) {
             int tag = input.readTag();
+            MessageSchema.Field field = schema.getField(tag);
             if (tag == 0) {
                 done = true;
-            } else if (fieldDescriptors.containsKey(tag)) {
-                Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.get(tag);
-                BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-                switch (fieldDescriptor.getType().toProto().getNumber()) {
+            } else if (field != null) {
+                Descriptors.FieldDescriptor fieldDescriptor = field.descriptor;
+                BString bFieldName = field.name;
+                switch (field.type) {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    floatArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue floatArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (floatArray == null) {
+                                    floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
                                     bMapValue.put(bFieldName, floatArray);
                                 }
                                 floatArray.add(floatArray.size(), input.readDouble());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readDouble());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readDouble());
                             } else {
                                 bMapValue.put(bFieldName, input.readDouble());
                             }
@@ -213,18 +212,17 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    floatArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue floatArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (floatArray == null) {
+                                    floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
                                     bMapValue.put(bFieldName, floatArray);
                                 }
                                 floatArray.add(floatArray.size(),
                                         Double.parseDouble(String.valueOf(input.readFloat())));
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
+                            } else if (field.oneof) {
                                 double bValue = Double.parseDouble(String.valueOf(input.readFloat()));
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                updateBMapValue(bMapValue, bFieldName, bValue);
                             } else {
                                 bMapValue.put(bFieldName, Double.parseDouble(String.valueOf(input.readFloat())));
                             }
@@ -235,16 +233,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue intArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (intArray == null) {
+                                    intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt64());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readInt64());
                             } else {
                                 bMapValue.put(bFieldName, input.readInt64());
                             }
@@ -255,16 +252,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue intArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (intArray == null) {
+                                    intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readUInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readUInt64());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readUInt64());
                             } else {
                                 bMapValue.put(bFieldName, input.readUInt64());
                             }
@@ -275,16 +271,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue intArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (intArray == null) {
+                                    intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readInt32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt32());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readInt32());
                             } else {
                                 bMapValue.put(bFieldName, input.readInt32());
                             }
@@ -295,16 +290,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue intArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (intArray == null) {
+                                    intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readFixed64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed64());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readFixed64());
                             } else {
                                 bMapValue.put(bFieldName, input.readFixed64());
                             }
@@ -315,16 +309,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue intArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (intArray == null) {
+                                    intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readFixed32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed32());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readFixed32());
                             } else {
                                 bMapValue.put(bFieldName, input.readFixed32());
                             }
@@ -335,16 +328,15 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue booleanArray = (ArrayValue) BValueCreator.createArrayValue(booleanArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    booleanArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue booleanArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (booleanArray == null) {
+                                    booleanArray = (ArrayValue) BValueCreator.createArrayValue(booleanArrayType);
                                     bMapValue.put(bFieldName, booleanArray);
                                 }
                                 booleanArray.add(booleanArray.size(), input.readBool());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readBool());
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName, input.readBool());
                             } else {
                                 bMapValue.put(bFieldName, input.readBool());
                             }
@@ -355,44 +347,40 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    stringArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue stringArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (stringArray == null) {
+                                    stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
                                     bMapValue.put(bFieldName, stringArray);
                                 }
                                 stringArray.add(stringArray.size(),
                                         org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
-                                bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor,
+                            } else if (field.oneof) {
+                                updateBMapValue(bMapValue, bFieldName,
                                         org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
                             } else {
                                 bMapValue.put(bFieldName,
                                         org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
                             }
-                        } else if (!fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
+                        } else if (!field.anyTypeUrl) {
                             bMessage = org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8());
                         }
                         break;
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    stringArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
+                            if (field.repeated) {
+                                ArrayValue stringArray = (ArrayValue) bMapValue.get(bFieldName);
+                                if (stringArray == null) {
+                                    stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
                                     bMapValue.put(bFieldName, stringArray);
                                 }
                                 stringArray.add(stringArray.size(), org.ballerinalang.jvm.StringUtils.fromString(
                                         fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString()));
-                                bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
+                            } else if (field.oneof) {
                                 String bValue = fieldDescriptor.getEnumType().findValueByNumber(input
                                         .readEnum()).toString();
-                                updateBMapValue(bMapValue, fieldDescriptor,
+                                updateBMapValue(bMapValue, bFieldName,
                                         org.ballerinalang.jvm.StringUtils.fromString(bValue));
                             } else {
                                 bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils.fromString(
@@ -406,9 +394,9 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
                         if (bMapValue != null) {
-                             if (fieldDescriptor.getContainingOneof() != null) {
+                             if (field.oneof) {
                                 Object bValue = BValueCreator.createArrayValue(input.readByteArray());
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                updateBMapValue(bMapValue, bFieldName, bValue);
                              } else {
                                  bMapValue.put(bFieldName, BValueCreator.createArrayValue(input.readByteArray()));
                              }
@@ -427,26 +415,25 @@ public class Message {
                                     fieldDescriptor.getType()).asRuntimeException();
                         }
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue structArray = bMapValue.get(bFieldName) != null ?
-                                        (ArrayValue) bMapValue.get(bFieldName) : null;
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
+                            if (field.repeated) {
+                                ArrayValue structArray = (ArrayValue) bMapValue.get(bFieldName);
+                                BType fieldType = field.getRecordFieldType(recordType);
                                 if (structArray == null || structArray.size() == 0) {
                                     structArray = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
                                     bMapValue.put(bFieldName, structArray);
                                 }
                                 structArray.add(structArray.size(), readMessage(fieldDescriptor,
                                         ((BArrayType) fieldType).getElementType(), input).bMessage);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
+                            } else if (field.oneof) {
+                                BType fieldType = field.getRecordFieldType(recordType);
                                 Object bValue = readMessage(fieldDescriptor, fieldType, input).bMessage;
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                updateBMapValue(bMapValue, bFieldName, bValue);
                             } else {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
+                                BType fieldType = field.getRecordFieldType(recordType);
                                 bMapValue.put(bFieldName, readMessage(fieldDescriptor, fieldType, input).bMessage);
                             }
                         } else {
-                            BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
+                            BType fieldType = field.getRecordFieldType(recordType);
                             bMessage = readMessage(fieldDescriptor, fieldType, input).bMessage;
                         }
                         break;
@@ -460,9 +447,8 @@ public class Message {
         }
     }
 
-    private void updateBMapValue(BMap<BString, Object> bMapValue,
-                                 Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
-        bMapValue.put(org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName()), bValue);
+    private void updateBMapValue(BMap<BString, Object> bMapValue, BString bFieldName, Object bValue) {
+        bMapValue.put(bFieldName, bValue);
     }
 
     public com.google.protobuf.Descriptors.Descriptor getDescriptor() {
@@ -490,174 +476,170 @@ public class Message {
         if (bMessage instanceof MapValue) {
             bMapValue = (MapValue<BString, Object>) bMessage;
         }
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
+        for (MessageSchema.Field field : MessageSchema.of(messageDescriptor).getFields()) {
+            Descriptors.FieldDescriptor fieldDescriptor = field.descriptor;
+            switch (field.type) {
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeDouble(fieldDescriptor.getNumber(), valueArray.getFloat(i));
+                                output.writeDouble(field.number, valueArray.getFloat(i));
                             }
                         } else {
-                            output.writeDouble(fieldDescriptor.getNumber(), (Double) bValue);
+                            output.writeDouble(field.number, (Double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        output.writeDouble(fieldDescriptor.getNumber(), (Double) bMessage);
+                        output.writeDouble(field.number, (Double) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                        (valueArray.getFloat(i))));
+                                output.writeFloat(field.number, (float) valueArray.getFloat(i));
                             }
                         } else {
-                            output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
+                            output.writeFloat(field.number, (float) (double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                (bMessage)));
+                        output.writeFloat(field.number, (float) (double) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeInt64(field.number, valueArray.getInt(i));
                             }
                         } else {
-                            output.writeInt64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeInt64(field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeInt64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeInt64(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeUInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeUInt64(field.number, valueArray.getInt(i));
                             }
                         } else {
-                            output.writeUInt64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeUInt64(field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeUInt64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeUInt64(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt32(fieldDescriptor.getNumber(),
+                                output.writeInt32(field.number,
                                                   getIntValue(valueArray.getInt(i)));
                             }
                         } else {
-                            output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bValue));
+                            output.writeInt32(field.number, getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bMessage));
+                        output.writeInt32(field.number, getIntValue(bMessage));
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeFixed64(field.number, valueArray.getInt(i));
                             }
                         } else {
-                            output.writeFixed64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeFixed64(field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeFixed64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeFixed64(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed32(fieldDescriptor.getNumber(),
+                                output.writeFixed32(field.number,
                                                     getIntValue(valueArray.getInt(i)));
                             }
                         } else {
-                            output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bValue));
+                            output.writeFixed32(field.number, getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bMessage));
+                        output.writeFixed32(field.number, getIntValue(bMessage));
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeBool(fieldDescriptor.getNumber(), valueArray.getBoolean(i));
+                                output.writeBool(field.number, valueArray.getBoolean(i));
                             }
                         } else {
-                            output.writeBool(fieldDescriptor.getNumber(), ((boolean) bValue));
+                            output.writeBool(field.number, ((boolean) bValue));
                         }
                     } else if (bMessage instanceof Boolean) {
-                        output.writeBool(fieldDescriptor.getNumber(), (boolean) bMessage);
+                        output.writeBool(field.number, (boolean) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeString(fieldDescriptor.getNumber(), valueArray.getBString(i).getValue());
+                                output.writeString(field.number, valueArray.getBString(i).getValue());
                             }
                         } else {
-                            output.writeString(fieldDescriptor.getNumber(), ((BString) bValue).getValue());
+                            output.writeString(field.number, ((BString) bValue).getValue());
                         }
-                    } else if (bMessage instanceof BString
-                            && !fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
-                        output.writeString(fieldDescriptor.getNumber(), ((BString) bMessage).getValue());
+                    } else if (bMessage instanceof BString && !field.anyTypeUrl) {
+                        output.writeString(field.number, ((BString) bMessage).getValue());
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY_VALUE)) {
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
+                        if (bValue instanceof ArrayValue && !field.anyValueMessage) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 Message message = new Message(fieldDescriptor.getMessageType(),
                                                               valueArray.getRefValue(i));
-                                output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                                output.writeTag(field.number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
                                 output.writeUInt32NoTag(message.getSerializedSize());
                                 message.writeTo(output);
                             }
                         } else {
                             Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                            output.writeTag(field.number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
                             message.writeTo(output);
                         }
@@ -665,23 +647,23 @@ public class Message {
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        output.writeEnum(fieldDescriptor.getNumber(), fieldDescriptor.getEnumType()
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
+                        output.writeEnum(field.number, fieldDescriptor.getEnumType()
                                 .findValueByName(((BString) bValue).getValue()).getNumber());
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
-                            output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
+                            output.writeByteArray(field.number, valueArray.getBytes());
                         }
                     } else if (bMessage instanceof ArrayValue) {
                         ArrayValue valueArray = (ArrayValue) bMessage;
-                        output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
+                        output.writeByteArray(field.number, valueArray.getBytes());
                     }
                     break;
                 }
@@ -716,222 +698,215 @@ public class Message {
             bMapValue = (MapValue<BString, Object>) bMessage;
         }
 
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
+        for (MessageSchema.Field field : MessageSchema.of(messageDescriptor).getFields()) {
+            Descriptors.FieldDescriptor fieldDescriptor = field.descriptor;
+            switch (field.type) {
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeDoubleSize(
-                                        fieldDescriptor.getNumber(), valueArray.getFloat(i));
+                                        field.number, valueArray.getFloat(i));
                             }
                         } else {
-                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
+                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(field.number,
                                                                                             (double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
+                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(field.number,
                                 ((double) bMessage));
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                        fieldDescriptor.getNumber(),
-                                        Float.parseFloat(String.valueOf(valueArray.getFloat(i))));
+                                        field.number, (float) valueArray.getFloat(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                    fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
+                                    field.number, (float) (double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
-                                .getNumber(), Float.parseFloat(String.valueOf(bMessage)));
+                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(field.number,
+                                (float) (double) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.number, valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
+                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.number, valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
+                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
+                                        field.number, getIntValue(valueArray.getInt(i)));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
+                                    field.number, getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
+                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(field.number,
+                                getIntValue(bMessage));
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.number, valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.number, (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
+                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(field.number, (long) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
+                                        field.number, getIntValue(valueArray.getInt(i)));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
+                                    field.number, getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
+                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(field.number,
+                                getIntValue(bMessage));
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                        fieldDescriptor.getNumber(), valueArray.getBoolean(i));
+                                        field.number, valueArray.getBoolean(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                    fieldDescriptor.getNumber(), (boolean) bValue);
+                                    field.number, (boolean) bValue);
                         }
                     } else if (bMessage instanceof Boolean) {
-                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
-                                .getNumber(), (boolean) bMessage);
+                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(field.number, (boolean) bMessage);
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), valueArray
+                                size += CodedOutputStream.computeStringSize(field.number, valueArray
                                         .getBString(i).getValue());
                             }
                         } else {
-                            size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
+                            size += CodedOutputStream.computeStringSize(field.number,
                                     ((BString) bValue).getValue());
                         }
                     } else if (bMessage instanceof BString) {
-                        size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
+                        size += CodedOutputStream.computeStringSize(field.number,
                                 ((BString) bMessage).getValue());
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY)) {
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
+                        if (bValue instanceof ArrayValue && !field.anyMessage) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 MapValue<BString, Object> value = (MapValue<BString, Object>) valueArray.getRefValue(i);
                                 Message message = new Message(fieldDescriptor.getMessageType(), value);
-                                size += computeMessageSize(fieldDescriptor, message);
+                                size += computeMessageSize(field, message);
                             }
                         } else {
                             Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            size += computeMessageSize(fieldDescriptor, message);
+                            size += computeMessageSize(field, message);
                         }
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         size += com.google.protobuf.CodedOutputStream.computeEnumSize(
-                                fieldDescriptor.getNumber(),
+                                field.number,
                                 fieldDescriptor.getEnumType().findValueByName(((BString) bValue).getValue())
                                         .getNumber());
                     }
                     break;
                 }
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
+                    Object bValue = getFieldValue(bMapValue, field.name);
+                    if (bValue != ABSENT) {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             size += com.google.protobuf.CodedOutputStream
-                                    .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
+                                    .computeByteArraySize(field.number, valueArray.getBytes());
                         }
                     } else if (bMessage instanceof ArrayValue) {
                         ArrayValue valueArray = (ArrayValue) bMessage;
                         size += com.google.protobuf.CodedOutputStream
-                                .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
+                                .computeByteArraySize(field.number, valueArray.getBytes());
                     }
                     break;
                 }
@@ -946,9 +921,8 @@ public class Message {
         return size;
     }
 
-    private int computeMessageSize(Descriptors.FieldDescriptor fieldDescriptor, Message message) {
-        return CodedOutputStream.computeTagSize(fieldDescriptor
-                .getNumber()) + CodedOutputStream.computeUInt32SizeNoTag
+    private int computeMessageSize(MessageSchema.Field field, Message message) {
+        return CodedOutputStream.computeTagSize(field.number) + CodedOutputStream.computeUInt32SizeNoTag
                 (message.getSerializedSize()) + message.getSerializedSize();
     }
 
@@ -966,6 +940,17 @@ public class Message {
     }
 
 
+    private static Object getFieldValue(MapValue<BString, Object> bMapValue, BString bFieldName) {
+        if (bMapValue == null) {
+            return ABSENT;
+        }
+        Object bValue = bMapValue.get(bFieldName);
+        if (bValue == null && !bMapValue.containsKey(bFieldName)) {
+            return ABSENT;
+        }
+        return bValue;
+    }
+
     private Message readMessage(final Descriptors.FieldDescriptor fieldDescriptor, final BType bType,
                                 final CodedInputStream in) throws IOException {
         int length = in.readRawVarint32();
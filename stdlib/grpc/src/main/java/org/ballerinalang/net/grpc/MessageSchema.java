@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field layout of a proto message, computed once per message descriptor. Encoding and decoding a message go through
+ * it, instead of looking up the name, type and wire tag of every field of every message.
+ * <p>
+ * Schemas are cached in a direct mapped table keyed on the identity of the descriptor: a schema replaces whatever
+ * schema was in its slot before, so the schemas of descriptors that are no longer used do not pile up when services
+ * are registered again. Schemas are immutable, which lets strands read and replace them concurrently without locks.
+ *
+ * @since 2.0.0
+ */
+public class MessageSchema {
+
+    static final int CACHE_SIZE = 1024;
+
+    private static final MessageSchema[] SCHEMAS = new MessageSchema[CACHE_SIZE];
+
+    private final Descriptors.Descriptor descriptor;
+    private final Field[] fields;
+    private final Map<Integer, Field> fieldsByTag;
+
+    private MessageSchema(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+        this.fields = new Field[fieldDescriptors.size()];
+        Map<Integer, Field> fieldsByTag = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.get(i);
+            fields[i] = new Field(fieldDescriptor);
+            int tag = (fieldDescriptor.getNumber() << 3) + MessageUtils.getFieldWireType(fieldDescriptor.getType());
+            fieldsByTag.put(tag, fields[i]);
+        }
+        this.fieldsByTag = Collections.unmodifiableMap(fieldsByTag);
+    }
+
+    /**
+     * Returns the schema of the given message, computing it on first use.
+     *
+     * @param descriptor message descriptor
+     * @return schema of the message
+     */
+    public static MessageSchema of(Descriptors.Descriptor descriptor) {
+        int slot = slot(descriptor);
+        MessageSchema schema = SCHEMAS[slot];
+        if (schema == null || schema.descriptor != descriptor) {
+            schema = new MessageSchema(descriptor);
+            SCHEMAS[slot] = schema;
+        }
+        return schema;
+    }
+
+    static int getCachedSchemaCount() {
+        int count = 0;
+        for (MessageSchema schema : SCHEMAS) {
+            if (schema != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int slot(Descriptors.Descriptor descriptor) {
+        int hash = System.identityHashCode(descriptor);
+        return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    }
+
+    /**
+     * Returns the fields of the message, in declaration order.
+     *
+     * @return message fields
+     */
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field identified by a wire tag.
+     *
+     * @param tag wire tag, which is the field number followed by the wire type
+     * @return field, or null if the message has no field with the given tag
+     */
+    Field getField(int tag) {
+        return fieldsByTag.get(tag);
+    }
+
+    Map<Integer, Field> getFieldsByTag() {
+        return fieldsByTag;
+    }
+
+    /**
+     * A message field, with the values that encoding and decoding need for it.
+     */
+    static class Field {
+
+        final Descriptors.FieldDescriptor descriptor;
+        final BString name;
+        final int number;
+        final int type;
+        final boolean repeated;
+        final boolean oneof;
+        final boolean anyTypeUrl;
+        final boolean anyMessage;
+        final boolean anyValueMessage;
+
+        // Decoding reads the type of the matching record field. A message is almost always decoded into the same
+        // record type, so the last lookup is kept.
+        private volatile RecordField lastRecordField;
+
+        private Field(Descriptors.FieldDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.name = StringUtils.fromString(descriptor.getName());
+            this.number = descriptor.getNumber();
+            this.type = descriptor.getType().toProto().getNumber();
+            this.repeated = descriptor.isRepeated();
+            this.oneof = descriptor.getContainingOneof() != null;
+            this.anyTypeUrl = descriptor.getFullName().equals(Message.GOOGLE_PROTOBUF_ANY_TYPE_URL);
+            String messageTypeName = descriptor.getType() == Descriptors.FieldDescriptor.Type.MESSAGE ?
+                    descriptor.getMessageType().getFullName() : null;
+            this.anyMessage = Message.GOOGLE_PROTOBUF_ANY.equals(messageTypeName);
+            this.anyValueMessage = Message.GOOGLE_PROTOBUF_ANY_VALUE.equals(messageTypeName);
+        }
+
+        /**
+         * Returns the type of the field with the same name in the given record type.
+         *
+         * @param recordType record type the message is decoded into
+         * @return type of the record field
+         */
+        BType getRecordFieldType(BRecordType recordType) {
+            RecordField recordField = lastRecordField;
+            if (recordField == null || recordField.recordType != recordType) {
+                BField field = recordType.getFields().get(name.getValue());
+                recordField = new RecordField(recordType, field.getFieldType());
+                lastRecordField = recordField;
+            }
+            return recordField.fieldType;
+        }
+    }
+
+    private static class RecordField {
+
+        private final BRecordType recordType;
+        private final BType fieldType;
+
+        private RecordField(BRecordType recordType, BType fieldType) {
+            this.recordType = recordType;
+            this.fieldType = fieldType;
+        }
+    }
+}
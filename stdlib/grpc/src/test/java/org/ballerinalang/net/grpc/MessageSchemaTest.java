@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test class for encoding and decoding messages through {@link MessageSchema}.
+ *
+ * @since 2.0.0
+ */
+public class MessageSchemaTest {
+
+    private static final BPackage PKG = new BPackage("grpc", "schema_test", "0.1.0");
+
+    private Descriptors.Descriptor descriptor;
+    private BRecordType recordType;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.DescriptorProto message = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("Order")
+                .addField(field("id", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, false))
+                .addField(field("name", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                .addField(field("price", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT, false))
+                .addField(field("tags", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, true))
+                .build();
+        DescriptorProtos.FileDescriptorProto file = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("order.proto")
+                .setSyntax("proto3")
+                .addMessageType(message)
+                .build();
+        descriptor = Descriptors.FileDescriptor.buildFrom(file, new Descriptors.FileDescriptor[0])
+                .findMessageTypeByName("Order");
+
+        recordType = new BRecordType("Order", PKG, 0, true, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("price", new BField(BTypes.typeFloat, "price", Flags.REQUIRED));
+        fields.put("tags", new BField(new BArrayType(BTypes.typeString), "tags", Flags.REQUIRED));
+        recordType.setFields(fields);
+        ValueCreator.addValueCreator(PKG.getOrg(), PKG.getName(), PKG.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordType);
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test(description = "Test case for looking up fields by wire tag")
+    public void testFieldLookup() {
+        MessageSchema schema = MessageSchema.of(descriptor);
+        Assert.assertSame(MessageSchema.of(descriptor), schema);
+        Assert.assertEquals(schema.getFields().length, 4);
+        Assert.assertEquals(schema.getField((1 << 3)).name.getValue(), "id");
+        Assert.assertEquals(schema.getField((4 << 3) + 2).name.getValue(), "tags");
+        Assert.assertNull(schema.getField((5 << 3)));
+    }
+
+    @Test(description = "Test case for the number of cached schemas staying bounded")
+    public void testSchemaCacheIsBounded() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.FileDescriptorProto.Builder file = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("generated.proto")
+                .setSyntax("proto3");
+        int messageCount = 2 * MessageSchema.CACHE_SIZE;
+        for (int i = 0; i < messageCount; i++) {
+            file.addMessageType(DescriptorProtos.DescriptorProto.newBuilder()
+                    .setName("Message" + i)
+                    .addField(field("id", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, false)));
+        }
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(file.build(),
+                new Descriptors.FileDescriptor[0]);
+        for (Descriptors.Descriptor messageDescriptor : fileDescriptor.getMessageTypes()) {
+            Assert.assertEquals(MessageSchema.of(messageDescriptor).getFields().length, 1);
+        }
+        Assert.assertTrue(MessageSchema.getCachedSchemaCount() <= MessageSchema.CACHE_SIZE);
+    }
+
+    @Test(description = "Test case for encoding a record and decoding it back")
+    public void testRoundTrip() throws Exception {
+        MapValue<BString, Object> order = new MapValueImpl<>(recordType);
+        order.put(StringUtils.fromString("id"), 42L);
+        order.put(StringUtils.fromString("name"), StringUtils.fromString("coffee"));
+        order.put(StringUtils.fromString("price"), 2.75);
+        order.put(StringUtils.fromString("tags"), new ArrayValueImpl(new String[]{"hot", "large"}));
+
+        byte[] bytes = new Message(descriptor, order).toByteArray();
+        Message decoded = new MessageParser(descriptor, recordType).parseFrom(CodedInputStream.newInstance(bytes));
+
+        @SuppressWarnings("unchecked")
+        MapValue<BString, Object> result = (MapValue<BString, Object>) decoded.getbMessage();
+        Assert.assertEquals(result.get(StringUtils.fromString("id")), 42L);
+        Assert.assertEquals(result.get(StringUtils.fromString("name")).toString(), "coffee");
+        Assert.assertEquals(result.get(StringUtils.fromString("price")), 2.75);
+        ArrayValue tags = (ArrayValue) result.get(StringUtils.fromString("tags"));
+        Assert.assertEquals(tags.size(), 2);
+        Assert.assertEquals(tags.getBString(0).getValue(), "hot");
+        Assert.assertEquals(tags.getBString(1).getValue(), "large");
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(String name, int number,
+                                                               DescriptorProtos.FieldDescriptorProto.Type type,
+                                                               boolean repeated) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(repeated ? DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED :
+                                  DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+}
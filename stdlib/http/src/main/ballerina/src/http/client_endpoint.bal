@@ -454,12 +454,6 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
 
         time:Time circuitStartTime = time:currentTime();
         int numberOfBuckets = (cbConfig.rollingWindow.timeWindowInMillis / cbConfig.rollingWindow.bucketSizeInMillis);
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while (bucketIndex < numberOfBuckets) {
-            bucketArray[bucketIndex] = {};
-            bucketIndex = bucketIndex + 1;
-        }
 
         CircuitBreakerInferredConfig circuitBreakerInferredConfig = {
             failureThreshold: cbConfig.failureThreshold,
@@ -470,10 +464,8 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
         };
         CircuitHealth circuitHealth = {
             startTime: circuitStartTime,
-            lastRequestTime: circuitStartTime,
             lastErrorTime: circuitStartTime,
-            lastForcedOpenTime: circuitStartTime,
-            totalBuckets: bucketArray
+            lastForcedOpenTime: circuitStartTime
         };
         return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient, circuitHealth);
     } else {
@@ -235,6 +235,31 @@ public type Request object {
         }
     }
 
+    # Extracts the `json` payload from the request directly into a value of the given type, without building an
+    # intermediate `json` value. If the content type is not JSON, or the payload does not belong to the type, an
+    # `http:ClientError` is returned.
+    #
+    # + targetType - The type of the value to be constructed from the payload
+    # + return - A value of `targetType` or `http:ClientError` in case of errors
+    public function getJsonPayloadWithType(typedesc<anydata> targetType) returns @tainted anydata|ClientError {
+        var result = self.getEntity();
+        if (result is error) {
+            return result;
+        } else {
+            var payload = result.getJsonWithType(targetType);
+            if (payload is mime:Error) {
+                if (payload.detail()?.cause is mime:NoContentError) {
+                    return createErrorForNoPayload(payload);
+                } else {
+                    string message = "Error occurred while retrieving the json payload from the request";
+                    return getGenericClientError(message, payload);
+               }
+            } else {
+                return payload;
+            }
+        }
+    }
+
     # Extracts `xml` payload from the request. If the content type is not XML, an `http:ClientError` is returned.
     #
     # + return - The `xml` payload or `http:ClientError` in case of errors
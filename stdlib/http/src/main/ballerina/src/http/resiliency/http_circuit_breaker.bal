@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/log;
 import ballerina/time;
 
@@ -37,16 +38,21 @@ public const CB_HALF_OPEN_STATE = "HALF_OPEN";
 # will trip and move to the `OPEN` state.
 public const CB_CLOSED_STATE = "CLOSED";
 
-# Maintains the health of the Circuit Breaker.
+# Maintains the health of the Circuit Breaker. The values given here are the initial state of the circuit. Once the
+# `CircuitBreakerClient` is initialized, the health is tracked with native counters and this record is not updated.
 #
 # + lastRequestSuccess - Whether last request is success or not
-# + totalRequestCount - Total request count received within the `RollingWindow`
-# + lastUsedBucketId - ID of the last bucket used in Circuit Breaker calculations
+# + totalRequestCount - Deprecated, not used
+# + lastUsedBucketId - Deprecated, not used
 # + startTime - Circuit Breaker start time
-# + lastRequestTime - The time that the last request received
+# + lastRequestTime - Deprecated, not used
 # + lastErrorTime - The time that the last error occurred
 # + lastForcedOpenTime - The time that circuit forcefully opened at last
-# + totalBuckets - The discrete time buckets into which the time window is divided
+# + totalBuckets - Deprecated, not used
+#
+# # Deprecated
+# The `totalRequestCount`, `lastUsedBucketId`, `lastRequestTime` and `totalBuckets` fields are ignored, as the request
+# counts of the rolling window are not kept in this record.
 public type CircuitHealth record {|
     boolean lastRequestSuccess = false;
     int totalRequestCount = 0;
@@ -150,6 +156,7 @@ public type CircuitBreakerClient client object {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        externInitCircuitHealth(circuitHealth, circuitBreakerInferredConfig);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `CircuitBreakerClient.post()`
@@ -422,7 +429,7 @@ public type CircuitBreakerClient client object {
     # until `resetTimeInMillis` interval exceeds.
     public function forceOpen() {
         self.currentCircuitState = CB_OPEN_STATE;
-        self.circuitHealth.lastForcedOpenTime = time:currentTime();
+        externForceOpen(self.circuitHealth);
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
@@ -442,47 +449,11 @@ public type CircuitBreakerClient client object {
 # + return - State of the circuit
 function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
                             CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
-            } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
-            }
-        } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-        }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
+    CircuitState currentState = externUpdateCircuitState(circuitHealth, currentStateValue);
+    if (currentState != currentStateValue) {
+        logCircuitStateChange(currentStateValue, currentState);
     }
+    return currentState;
 }
 
 function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
@@ -501,50 +472,18 @@ function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, Cir
 
 function updateCircuitHealthFailure(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    externUpdateCircuitHealthFailure(circuitHealth);
 }
 
 function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    externUpdateCircuitHealthSuccess(circuitHealth);
 }
 
 // Handles open circuit state.
 function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
              returns (ClientError) {
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-    int timeDif = time:currentTime().time - effectiveErrorTime.time;
-    int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+    int timeRemaining = externUpdateRejectedRequestCount(circuitHealth);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     UpstreamServiceUnavailableError httpConnectorErr = error(UPSTREAM_SERVICE_UNAVAILABLE, message = errorMessage);
@@ -562,176 +501,52 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
+# Logs the transition of the circuit from one state to another.
 #
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
-function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
-    time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
-    time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
-    if (lastErrorTime is time:Time && lastForcedOpenTime is time:Time) {
-     return (lastErrorTime.time > lastForcedOpenTime.time)
-        ? lastErrorTime : lastForcedOpenTime;
-    }
-    //TODO:What to send?
-    return time:currentTime();
-}
-
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
+# + previousState - State of the circuit before the transition
+# + currentState - State of the circuit after the transition
+function logCircuitStateChange(CircuitState previousState, CircuitState currentState) {
+    if (previousState == CB_OPEN_STATE) {
+        log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+    } else if (previousState == CB_HALF_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
+            log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
         } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
+            log:printInfo("CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
         }
+    } else {
+        log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
     }
 }
 
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
-# Switches circuit state from open to half open state when reset time exceeded.
-#
-# + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-# + circuitHealth - Circuit Breaker health status
-# + currentState - current state of the circuit
-# + return - Calculated state value of the circuit
-function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                        CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-    CircuitState currentCircuitState = currentState;
-    if (currentState == CB_OPEN_STATE) {
-        time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-        int elapsedTime = time:currentTime().time - effectiveErrorTime.time;
-        if (elapsedTime > circuitBreakerInferredConfig.resetTimeInMillis) {
-            currentCircuitState = CB_HALF_OPEN_STATE;
-            log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-        }
-    }
-    return currentCircuitState;
-}
+function externInitCircuitHealth(CircuitHealth circuitHealth,
+                                 CircuitBreakerInferredConfig circuitBreakerInferredConfig) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "initCircuitHealth"
+} external;
+
+function externUpdateCircuitState(CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState =
+@java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "updateCircuitState"
+} external;
+
+function externUpdateCircuitHealthFailure(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "updateCircuitHealthFailure"
+} external;
+
+function externUpdateCircuitHealthSuccess(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "updateCircuitHealthSuccess"
+} external;
+
+function externUpdateRejectedRequestCount(CircuitHealth circuitHealth) returns int = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "updateRejectedRequestCount"
+} external;
+
+function externForceOpen(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "forceOpen"
+} external;
@@ -14,29 +14,39 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
+
 # Implementation of round robin load balancing strategy.
 #
-# + index - Keep tracks the current point of the Client[]
+# + index - The point of the Client[] to start from. The current point is tracked with a native counter once the
+#           rule is initialized, and this field is not updated
 public type LoadBalancerRoundRobinRule object {
 
     public int index = 0;
 
+    public function init() {
+        externInitRoundRobinRule(self, self.index);
+    }
+
     # Provides an HTTP client, which is chosen according to the round robin algorithm.
     #
     # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
     # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-        }
-        return httpClient;
+        int noOfClients = loadBalanceCallerActionsArray.length();
+        int currentIndex = externGetNextRoundRobinIndex(self, noOfClients);
+        return <Client>loadBalanceCallerActionsArray[currentIndex];
     }
 };
+
+function externInitRoundRobinRule(LoadBalancerRoundRobinRule roundRobinRule, int index) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternRoundRobinRule",
+    name: "init"
+} external;
+
+function externGetNextRoundRobinIndex(LoadBalancerRoundRobinRule roundRobinRule, int noOfClients) returns int =
+@java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternRoundRobinRule",
+    name: "getNextIndex"
+} external;
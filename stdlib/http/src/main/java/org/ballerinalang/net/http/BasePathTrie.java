@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie of the service base paths of a host, used to find the most specific base path of a request
+ * without allocating.
+ * <p>
+ * Characters are keyed in lower case. A base path matches when the request path equals it ignoring case, or when the
+ * request path starts with the base path followed by a '/', which is matched with case. The deepest match along the
+ * request path is the most specific base path.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private final TrieNode root;
+
+    /**
+     * Builds the trie. When several base paths only differ by case, the one that comes first in the given list is
+     * preferred for a case insensitive match.
+     *
+     * @param basePaths registered base paths
+     */
+    public BasePathTrie(List<String> basePaths) {
+        MutableNode mutableRoot = new MutableNode();
+        for (String basePath : basePaths) {
+            MutableNode node = mutableRoot;
+            for (int i = 0; i < basePath.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toLowerCase(basePath.charAt(i)),
+                                                     key -> new MutableNode());
+            }
+            node.basePaths.add(basePath);
+        }
+        this.root = mutableRoot.freeze();
+    }
+
+    /**
+     * Finds the most specific base path for the request path.
+     *
+     * @param requestPath raw path of the request
+     * @return the matching base path or null if there is none
+     */
+    public String findMostSpecificBasePath(String requestPath) {
+        String basePath = null;
+        TrieNode node = root;
+        int length = requestPath.length();
+        for (int i = 0; ; i++) {
+            if (node.basePaths != null) {
+                if (i == length) {
+                    return node.basePaths[0];
+                }
+                if (requestPath.charAt(i) == '/') {
+                    for (String candidate : node.basePaths) {
+                        if (requestPath.startsWith(candidate)) {
+                            basePath = candidate;
+                            break;
+                        }
+                    }
+                }
+            }
+            if (i == length) {
+                return basePath;
+            }
+            node = node.getChild(Character.toLowerCase(requestPath.charAt(i)));
+            if (node == null) {
+                return basePath;
+            }
+        }
+    }
+
+    private static class TrieNode {
+
+        private final char[] keys;
+        private final TrieNode[] children;
+        private final String[] basePaths;
+
+        TrieNode(char[] keys, TrieNode[] children, String[] basePaths) {
+            this.keys = keys;
+            this.children = children;
+            this.basePaths = basePaths;
+        }
+
+        TrieNode getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static class MutableNode {
+
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private final List<String> basePaths = new ArrayList<>(1);
+
+        TrieNode freeze() {
+            char[] keys = new char[children.size()];
+            TrieNode[] frozenChildren = new TrieNode[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                keys[index] = entry.getKey();
+                frozenChildren[index] = entry.getValue().freeze();
+                index++;
+            }
+            return new TrieNode(keys, frozenChildren,
+                                basePaths.isEmpty() ? null : basePaths.toArray(new String[0]));
+        }
+    }
+}
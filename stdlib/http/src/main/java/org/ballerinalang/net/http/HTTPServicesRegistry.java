@@ -129,8 +129,7 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).addBasePath(basePath);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -164,20 +163,12 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        String basePath = servicesMapHolder.basePathTrie.findMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
+        if (servicesMapHolder.servicesByBasePath.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
         }
         return null;
@@ -192,15 +183,39 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds both serviceByBasePath map and sorted Service basePath list, along with the trie built from the list.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            this.basePathTrie = new BasePathTrie(sortedServiceURIs);
+        }
+
+        /**
+         * Adds a base path to the sorted list and rebuilds the trie used for dispatching.
+         *
+         * @param basePath base path of the registered service
+         */
+        public synchronized void addBasePath(String basePath) {
+            sortedServiceURIs.add(basePath);
+            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            basePathTrie = new BasePathTrie(sortedServiceURIs);
+        }
+
+        /**
+         * Removes a base path from the sorted list and rebuilds the trie used for dispatching.
+         *
+         * @param basePath base path of the unregistered service
+         */
+        public synchronized void removeBasePath(String basePath) {
+            sortedServiceURIs.remove(basePath);
+            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            basePathTrie = new BasePathTrie(sortedServiceURIs);
         }
     }
 
@@ -225,12 +240,11 @@ public class HTTPServicesRegistry {
                 continue;
             }
             servicesByBasePath.remove(basePath);
-            sortedServiceURIs.remove(basePath);
+            servicesMapHolder.removeBasePath(basePath);
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
             }
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
         }
     }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free health monitor of an {@code http:CircuitBreakerClient}.
+ * <p>
+ * The rolling window is kept as a ring of buckets, each tagged with the absolute number of the time slice it counts.
+ * A request that lands on a slot holding an older slice swaps in a fresh bucket with a single CAS, so stale buckets
+ * are reset lazily instead of under a lock, and buckets outside the window are skipped when the totals are summed.
+ * The window totals are summed in a single pass over the ring, which is small enough that keeping running totals
+ * would cost more than it saves.
+ *
+ * @since 2.0.0
+ */
+public class CircuitHealthMonitor {
+
+    static final long UNSET_TIME = -1;
+
+    /**
+     * States of the circuit.
+     */
+    public enum CircuitState {
+        OPEN, HALF_OPEN, CLOSED
+    }
+
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final int noOfBuckets;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final long resetTimeInMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private volatile boolean lastRequestSuccess = false;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    public CircuitHealthMonitor(long startTime, long bucketSizeInMillis, int noOfBuckets, long requestVolumeThreshold,
+                                double failureThreshold, long resetTimeInMillis) {
+        this.startTime = startTime;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.noOfBuckets = noOfBuckets;
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeInMillis = resetTimeInMillis;
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+    }
+
+    /**
+     * Calculates the state of the circuit for a new request and counts the request in the current bucket.
+     *
+     * @param currentState state of the circuit before the request
+     * @param now          request time in milliseconds
+     * @return state of the circuit for the request
+     */
+    public CircuitState updateState(CircuitState currentState, long now) {
+        long bucketId = getBucketId(now);
+        Bucket bucket = getBucket(bucketId);
+        long totalCount = 0;
+        long failureCount = 0;
+        long rejectedCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket windowBucket = buckets.get(i);
+            if (isInWindow(windowBucket, bucketId)) {
+                totalCount += windowBucket.totalCount.get();
+                failureCount += windowBucket.failureCount.get();
+                rejectedCount += windowBucket.rejectedCount.get();
+            }
+        }
+        CircuitState state = currentState;
+        if (totalCount >= requestVolumeThreshold) {
+            if (state == CircuitState.OPEN) {
+                state = switchOpenToHalfOpenOnResetTime(now);
+            } else if (state == CircuitState.HALF_OPEN) {
+                // The outcome of the trial run decides whether the circuit trips again or resets
+                state = lastRequestSuccess ? CircuitState.CLOSED : CircuitState.OPEN;
+            } else if (getFailureRatio(totalCount, failureCount, rejectedCount) > failureThreshold) {
+                state = CircuitState.OPEN;
+            }
+        } else if (state == CircuitState.OPEN) {
+            state = switchOpenToHalfOpenOnResetTime(now);
+        }
+        bucket.totalCount.incrementAndGet();
+        return state;
+    }
+
+    public void recordSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    public void recordFailure(long now) {
+        getBucket(getBucketId(now)).failureCount.incrementAndGet();
+        lastRequestSuccess = false;
+        lastErrorTime = now;
+    }
+
+    /**
+     * Counts a request rejected by the open circuit.
+     *
+     * @param now request time in milliseconds
+     * @return time in milliseconds until the circuit is allowed to move to the half open state
+     */
+    public long recordRejected(long now) {
+        getBucket(getBucketId(now)).rejectedCount.incrementAndGet();
+        return resetTimeInMillis - (now - getEffectiveErrorTime(now));
+    }
+
+    public void forceOpen(long now) {
+        lastForcedOpenTime = now;
+    }
+
+    public long getTotalRequestCount(long now) {
+        return sumRequestCount(getBucketId(now));
+    }
+
+    public double getFailureRatio(long now) {
+        return calculateFailureRatio(getBucketId(now));
+    }
+
+    public boolean isLastRequestSuccess() {
+        return lastRequestSuccess;
+    }
+
+    void setLastRequestSuccess(boolean lastRequestSuccess) {
+        this.lastRequestSuccess = lastRequestSuccess;
+    }
+
+    void setLastErrorTime(long lastErrorTime) {
+        this.lastErrorTime = lastErrorTime;
+    }
+
+    void setLastForcedOpenTime(long lastForcedOpenTime) {
+        this.lastForcedOpenTime = lastForcedOpenTime;
+    }
+
+    private CircuitState switchOpenToHalfOpenOnResetTime(long now) {
+        if (now - getEffectiveErrorTime(now) > resetTimeInMillis) {
+            return CircuitState.HALF_OPEN;
+        }
+        return CircuitState.OPEN;
+    }
+
+    private long getEffectiveErrorTime(long now) {
+        long errorTime = lastErrorTime;
+        long forcedOpenTime = lastForcedOpenTime;
+        if (errorTime == UNSET_TIME || forcedOpenTime == UNSET_TIME) {
+            return now;
+        }
+        return Math.max(errorTime, forcedOpenTime);
+    }
+
+    private long getBucketId(long now) {
+        return Math.floorDiv(now - startTime, bucketSizeInMillis);
+    }
+
+    private Bucket getBucket(long bucketId) {
+        int slot = (int) Math.floorMod(bucketId, (long) noOfBuckets);
+        Bucket bucket = buckets.get(slot);
+        // A strand with a slightly older clock reading than the one that rolled the slot over counts into the newer
+        // bucket rather than resurrecting an expired one.
+        while (bucket == null || bucket.id < bucketId) {
+            Bucket newBucket = new Bucket(bucketId);
+            if (buckets.compareAndSet(slot, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(slot);
+        }
+        return bucket;
+    }
+
+    private long sumRequestCount(long bucketId) {
+        long total = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, bucketId)) {
+                total += bucket.totalCount.get();
+            }
+        }
+        return total;
+    }
+
+    private double calculateFailureRatio(long bucketId) {
+        long total = 0;
+        long failures = 0;
+        long rejected = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, bucketId)) {
+                total += bucket.totalCount.get();
+                failures += bucket.failureCount.get();
+                rejected += bucket.rejectedCount.get();
+            }
+        }
+        return getFailureRatio(total, failures, rejected);
+    }
+
+    private static double getFailureRatio(long totalCount, long failureCount, long rejectedCount) {
+        // Rejected requests are counted in the total but are neither a success nor a failure
+        long count = totalCount - rejectedCount;
+        return count > 0 ? (double) failureCount / count : 0.0;
+    }
+
+    private boolean isInWindow(Bucket bucket, long bucketId) {
+        return bucket != null && bucket.id > bucketId - noOfBuckets && bucket.id <= bucketId;
+    }
+
+    private static class Bucket {
+
+        final long id;
+        final AtomicLong totalCount = new AtomicLong();
+        final AtomicLong failureCount = new AtomicLong();
+        final AtomicLong rejectedCount = new AtomicLong();
+
+        Bucket(long id) {
+            this.id = id;
+        }
+    }
+}
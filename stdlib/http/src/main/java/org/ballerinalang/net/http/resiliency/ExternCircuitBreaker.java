@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.net.http.resiliency.CircuitHealthMonitor.CircuitState;
+
+/**
+ * Extern functions of the {@code http:CircuitBreakerClient} which keep the circuit health in a
+ * {@link CircuitHealthMonitor} attached to the {@code http:CircuitHealth} record. The record only gives the initial
+ * state of the monitor and is not updated afterwards.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitBreaker {
+
+    private static final String CIRCUIT_HEALTH_MONITOR = "CircuitHealthMonitor";
+
+    private static final BString START_TIME_FIELD = StringUtils.fromString("startTime");
+    private static final BString LAST_REQUEST_SUCCESS_FIELD = StringUtils.fromString("lastRequestSuccess");
+    private static final BString LAST_ERROR_TIME_FIELD = StringUtils.fromString("lastErrorTime");
+    private static final BString LAST_FORCED_OPEN_TIME_FIELD = StringUtils.fromString("lastForcedOpenTime");
+    private static final BString TIME_FIELD = StringUtils.fromString("time");
+    private static final BString FAILURE_THRESHOLD_FIELD = StringUtils.fromString("failureThreshold");
+    private static final BString RESET_TIME_FIELD = StringUtils.fromString("resetTimeInMillis");
+    private static final BString NO_OF_BUCKETS_FIELD = StringUtils.fromString("noOfBuckets");
+    private static final BString ROLLING_WINDOW_FIELD = StringUtils.fromString("rollingWindow");
+    private static final BString REQUEST_VOLUME_THRESHOLD_FIELD = StringUtils.fromString("requestVolumeThreshold");
+    private static final BString BUCKET_SIZE_FIELD = StringUtils.fromString("bucketSizeInMillis");
+
+    private static final BString OPEN_STATE = StringUtils.fromString("OPEN");
+    private static final BString HALF_OPEN_STATE = StringUtils.fromString("HALF_OPEN");
+    private static final BString CLOSED_STATE = StringUtils.fromString("CLOSED");
+
+    public static void initCircuitHealth(MapValue<BString, Object> circuitHealth,
+                                         MapValue<BString, Object> circuitBreakerInferredConfig) {
+        MapValue<?, ?> rollingWindow = circuitBreakerInferredConfig.getMapValue(ROLLING_WINDOW_FIELD);
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(
+                getTime(circuitHealth, START_TIME_FIELD),
+                rollingWindow.getIntValue(BUCKET_SIZE_FIELD),
+                circuitBreakerInferredConfig.getIntValue(NO_OF_BUCKETS_FIELD).intValue(),
+                rollingWindow.getIntValue(REQUEST_VOLUME_THRESHOLD_FIELD),
+                circuitBreakerInferredConfig.getFloatValue(FAILURE_THRESHOLD_FIELD),
+                circuitBreakerInferredConfig.getIntValue(RESET_TIME_FIELD));
+        monitor.setLastRequestSuccess(circuitHealth.getBooleanValue(LAST_REQUEST_SUCCESS_FIELD));
+        monitor.setLastErrorTime(getTime(circuitHealth, LAST_ERROR_TIME_FIELD));
+        monitor.setLastForcedOpenTime(getTime(circuitHealth, LAST_FORCED_OPEN_TIME_FIELD));
+        circuitHealth.addNativeData(CIRCUIT_HEALTH_MONITOR, monitor);
+    }
+
+    public static BString updateCircuitState(MapValue<BString, Object> circuitHealth, BString currentState) {
+        CircuitState state = getMonitor(circuitHealth).updateState(toCircuitState(currentState),
+                                                                   System.currentTimeMillis());
+        return fromCircuitState(state);
+    }
+
+    public static void updateCircuitHealthSuccess(MapValue<BString, Object> circuitHealth) {
+        getMonitor(circuitHealth).recordSuccess();
+    }
+
+    public static void updateCircuitHealthFailure(MapValue<BString, Object> circuitHealth) {
+        getMonitor(circuitHealth).recordFailure(System.currentTimeMillis());
+    }
+
+    public static long updateRejectedRequestCount(MapValue<BString, Object> circuitHealth) {
+        return getMonitor(circuitHealth).recordRejected(System.currentTimeMillis());
+    }
+
+    public static void forceOpen(MapValue<BString, Object> circuitHealth) {
+        getMonitor(circuitHealth).forceOpen(System.currentTimeMillis());
+    }
+
+    private static CircuitHealthMonitor getMonitor(MapValue<BString, Object> circuitHealth) {
+        return (CircuitHealthMonitor) circuitHealth.getNativeData(CIRCUIT_HEALTH_MONITOR);
+    }
+
+    private static long getTime(MapValue<BString, Object> circuitHealth, BString field) {
+        MapValue<?, ?> time = circuitHealth.getMapValue(field);
+        return time == null ? CircuitHealthMonitor.UNSET_TIME : time.getIntValue(TIME_FIELD);
+    }
+
+    private static CircuitState toCircuitState(BString state) {
+        if (OPEN_STATE.getValue().equals(state.getValue())) {
+            return CircuitState.OPEN;
+        } else if (HALF_OPEN_STATE.getValue().equals(state.getValue())) {
+            return CircuitState.HALF_OPEN;
+        }
+        return CircuitState.CLOSED;
+    }
+
+    private static BString fromCircuitState(CircuitState state) {
+        switch (state) {
+            case OPEN:
+                return OPEN_STATE;
+            case HALF_OPEN:
+                return HALF_OPEN_STATE;
+            default:
+                return CLOSED_STATE;
+        }
+    }
+
+    private ExternCircuitBreaker() {
+    }
+}
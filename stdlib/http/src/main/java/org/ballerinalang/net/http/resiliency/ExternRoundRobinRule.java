@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extern functions of the {@code http:LoadBalancerRoundRobinRule} which advance the round robin position with an
+ * atomic counter instead of a lock.
+ *
+ * @since 2.0.0
+ */
+public class ExternRoundRobinRule {
+
+    private static final String ROUND_ROBIN_COUNTER = "RoundRobinCounter";
+
+    public static void init(ObjectValue roundRobinRule, long index) {
+        roundRobinRule.addNativeData(ROUND_ROBIN_COUNTER, new AtomicLong(index));
+    }
+
+    public static long getNextIndex(ObjectValue roundRobinRule, long noOfClients) {
+        AtomicLong counter = (AtomicLong) roundRobinRule.getNativeData(ROUND_ROBIN_COUNTER);
+        return Math.floorMod(counter.getAndIncrement(), noOfClients);
+    }
+
+    private ExternRoundRobinRule() {
+    }
+}
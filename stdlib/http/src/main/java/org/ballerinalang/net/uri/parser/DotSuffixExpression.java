@@ -39,45 +39,65 @@ public class DotSuffixExpression<DataType, InboundMsgType> extends SimpleStringE
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        String pathSegment = uriFragment;
-        if (uriFragment.contains(URIUtil.URI_PATH_DELIMITER)) {
-            pathSegment = uriFragment.substring(0, uriFragment.indexOf(URIUtil.URI_PATH_DELIMITER));
+    int match(String uri, int start, HttpResourceArguments variables) {
+        int length = uri.length();
+        int segmentEnd = uri.indexOf(URIUtil.URI_PATH_DELIMITER, start);
+        if (segmentEnd < 0) {
+            segmentEnd = length;
         }
-        String[] subSegments = pathSegment.split("\\.");
 
-        int endCharacterCount = subSegments.length - 1;
+        int endCharacterCount = countSubSegments(uri, start, segmentEnd) - 1;
         int dotSegmentCounter = 0;
-        int length = uriFragment.length();
 
-        for (int i = 0; i < length; i++) {
-            char ch = uriFragment.charAt(i);
+        for (int i = start; i < length; i++) {
+            char ch = uri.charAt(i);
             if (isEndCharacter(ch)) {
                 dotSegmentCounter++;
                 if (dotSegmentCounter != endCharacterCount) {
                     continue;
                 }
 
-                if (!setVariables(uriFragment.substring(0, i), variables)) {
+                if (!setVariables(uri.substring(start, i), variables)) {
                     return -1;
                 }
-                return i;
+                return i - start;
             } else if (i == length - 1) {
-                if (!setVariables(uriFragment, variables)) {
+                if (!setVariables(uri.substring(start), variables)) {
                     return -1;
                 }
-                return length;
+                return length - start;
             }
         }
         return 0;
     }
 
-    protected boolean isEndCharacter(Character endCharacter) {
-        for (Node childNode : childNodesList) {
+    protected boolean isEndCharacter(char endCharacter) {
+        for (Node childNode : childNodes) {
             if (endCharacter == childNode.getFirstCharacter() && endCharacter == URIUtil.DOT_SEGMENT) {
                 return true;
             }
         }
         return false;
     }
+
+    // Number of parts String.split("\\.") would give for the segment, which drops the trailing empty parts.
+    private static int countSubSegments(String uri, int start, int end) {
+        if (start == end) {
+            return 1;
+        }
+        int dots = 0;
+        int trailingDots = 0;
+        for (int i = start; i < end; i++) {
+            if (uri.charAt(i) == URIUtil.DOT_SEGMENT) {
+                dots++;
+                trailingDots++;
+            } else {
+                trailingDots = 0;
+            }
+        }
+        if (trailingDots == end - start) {
+            return 0;
+        }
+        return dots + 1 - trailingDots;
+    }
 }
@@ -81,6 +81,9 @@ public abstract class Expression<DataType, InboundMsgType> extends Node<DataType
     }
 
     protected String decodeValue(String value) {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
         try {
             return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
         } catch (UnsupportedEncodingException e) {
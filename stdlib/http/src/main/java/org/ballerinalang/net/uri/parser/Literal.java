@@ -48,40 +48,34 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
+    int match(String uri, int start, HttpResourceArguments variables) {
+        int fragmentLength = uri.length() - start;
         if (!token.endsWith("*")) {
-            if (uriFragment.length() < tokenLength) {
+            if (fragmentLength < tokenLength || !uri.startsWith(token, start)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (token.charAt(i) == '*' && i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
             //special case request urls which contains only the root("/") to be dispatched to default resource("/*").
-            if (uriFragment.equals("/") && uriFragment.equals(token) && !this.dataElement.hasData()) {
+            if (fragmentLength == 1 && "/".equals(token) && !this.dataElement.hasData()) {
                 return 0;
             }
             return tokenLength;
         } else {
-            if (uriFragment.length() < tokenLength - 1) {
+            if (fragmentLength < tokenLength - 1 || !uri.regionMatches(start, token, 0, tokenLength - 1)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength - 1; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
-            return uriFragment.length();
+            return fragmentLength;
         }
     }
 
+    boolean isWildcard() {
+        return tokenLength == 1 && token.charAt(0) == '*';
+    }
+
+    boolean isContainedIn(String uri, int start, int end) {
+        int index = uri.indexOf(token, start);
+        return index >= 0 && index + tokenLength <= end;
+    }
+
     @Override
     String getToken() {
         return token;
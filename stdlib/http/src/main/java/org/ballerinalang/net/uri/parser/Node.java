@@ -37,6 +37,10 @@ public abstract class Node<DataType, InboundMsgType> {
     protected String token;
     DataElement<DataType, InboundMsgType> dataElement;
     List<Node<DataType, InboundMsgType>> childNodesList = new LinkedList<>();
+    // Snapshot of childNodesList in dispatch order and an index of its full segment literals, rebuilt on every
+    // addChild so that matching does not iterate the list or allocate.
+    Node<DataType, InboundMsgType>[] childNodes = newNodeArray(0);
+    private SegmentLiteralIndex<DataType, InboundMsgType> segmentLiterals;
 
     protected Node(DataElement<DataType, InboundMsgType> dataElement, String token) {
         this.dataElement = dataElement;
@@ -58,54 +62,77 @@ public abstract class Node<DataType, InboundMsgType> {
         }
 
         childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
+        childNodes = childNodesList.toArray(newNodeArray(childNodesList.size()));
+        segmentLiterals = SegmentLiteralIndex.create(childNodes);
 
         return node;
     }
 
-    public boolean matchAll(String uriFragment, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
+    /**
+     * Matches the uri from the given offset against this node and its children.
+     *
+     * @param uri             request uri
+     * @param variables       path params resolved so far
+     * @param start           offset of the uri fragment this node should match
+     * @param inboundMsg      inbound message
+     * @param dataReturnAgent agent which holds the matched data
+     * @return true if a node which holds data matched the rest of the uri
+     */
+    public boolean matchAll(String uri, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
                             DataReturnAgent<DataType> dataReturnAgent) {
-        int matchLength = match(uriFragment, variables);
+        int matchLength = match(uri, start, variables);
         if (matchLength < 0) {
             return false;
         }
-        if (matchLength == uriFragment.length()) {
+        int fragmentLength = uri.length() - start;
+        if (matchLength == fragmentLength) {
             return dataElement.getData(inboundMsg, dataReturnAgent);
         }
-        if (matchLength >= uriFragment.length()) {
+        if (matchLength >= fragmentLength) {
             return false;
         }
-        String subUriFragment = nextURIFragment(uriFragment, matchLength);
-        String subPath = nextSubPath(subUriFragment);
+        int subFragmentStart = nextURIFragment(uri, start, matchLength);
+        int subPathEnd = uri.indexOf('/', subFragmentStart);
+        if (subPathEnd < 0) {
+            subPathEnd = uri.length();
+        }
+
+        // A literal equal to the whole segment is the longest literal the segment can contain, which is the child
+        // that would be tried first in dispatch order.
+        Node<DataType, InboundMsgType> segmentLiteral = null;
+        if (segmentLiterals != null) {
+            segmentLiteral = segmentLiterals.get(uri, subFragmentStart, subPathEnd);
+            if (segmentLiteral != null &&
+                    segmentLiteral.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+        }
 
         boolean isFound;
-        for (Node<DataType, InboundMsgType> childNode : childNodesList) {
+        for (Node<DataType, InboundMsgType> childNode : childNodes) {
+            if (childNode == segmentLiteral) {
+                continue;
+            }
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                                 dataReturnAgent);
+                Literal<DataType, InboundMsgType> literal = (Literal<DataType, InboundMsgType>) childNode;
+                if (literal.isWildcard()) {
+                    isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
                     if (isFound) {
-                        setUriPostFix(variables, subUriFragment);
+                        setUriPostFix(variables, uri, subFragmentStart);
                         return true;
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (!literal.isContainedIn(uri, subFragmentStart, subPathEnd)) {
                     continue;
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                             dataReturnAgent);
+                isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
                 if (isFound) {
                     return true;
                 }
                 continue;
             }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                         dataReturnAgent);
+            isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
             if (isFound) {
                 return true;
             }
@@ -117,13 +144,13 @@ public abstract class Node<DataType, InboundMsgType> {
         return dataElement != null && dataElement.hasData();
     }
 
-    private void setUriPostFix(HttpResourceArguments variables, String subUriFragment) {
-        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + subUriFragment);
+    private void setUriPostFix(HttpResourceArguments variables, String uri, int subFragmentStart) {
+        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + uri.substring(subFragmentStart));
     }
 
     abstract String expand(Map<String, String> variables);
 
-    abstract int match(String uriFragment, HttpResourceArguments variables);
+    abstract int match(String uri, int start, HttpResourceArguments variables);
 
     abstract String getToken();
 
@@ -177,29 +204,16 @@ public abstract class Node<DataType, InboundMsgType> {
         }
     }
 
-    private String nextURIFragment(String uri, int matchLength) {
-        String uriFragment = uri;
-        if (uriFragment.startsWith("/")) {
-            uriFragment = uriFragment.substring(matchLength);
-        } else if (uriFragment.contains("/")) {
-            if (uriFragment.charAt(matchLength) == '/') {
-                uriFragment = uriFragment.substring(matchLength + 1);
-            } else {
-                uriFragment = uriFragment.substring(matchLength);
-            }
-        } else {
-            uriFragment = uriFragment.substring(matchLength);
+    private int nextURIFragment(String uri, int start, int matchLength) {
+        int end = start + matchLength;
+        if (uri.charAt(start) != '/' && uri.charAt(end) == '/') {
+            return end + 1;
         }
-        return uriFragment;
+        return end;
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains("/")) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf("/"));
-        } else {
-            subPath = uriFragment;
-        }
-        return subPath;
+    @SuppressWarnings("unchecked")
+    private static <DataType, InboundMsgType> Node<DataType, InboundMsgType>[] newNodeArray(int size) {
+        return new Node[size];
     }
 }
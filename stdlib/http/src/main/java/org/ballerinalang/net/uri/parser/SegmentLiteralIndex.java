@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri.parser;
+
+/**
+ * Open addressing hash index of the literal children of a {@link Node}, looked up by a region of the request uri so
+ * that finding the literal equal to a path segment does not allocate a substring.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ *
+ * @since 2.0.0
+ */
+class SegmentLiteralIndex<DataType, InboundMsgType> {
+
+    private final String[] tokens;
+    private final Node<DataType, InboundMsgType>[] nodes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    private SegmentLiteralIndex(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.tokens = new String[capacity];
+        this.nodes = new Node[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates an index of the literals in the given children which can only match a whole path segment.
+     *
+     * @param childNodes children of a node
+     * @param <DataType> Type of data which should be stored in the node.
+     * @param <InboundMsgType> Inbound message type for additional checks.
+     * @return the index or null if there are no such literals
+     */
+    static <DataType, InboundMsgType> SegmentLiteralIndex<DataType, InboundMsgType> create(
+            Node<DataType, InboundMsgType>[] childNodes) {
+        int count = 0;
+        for (Node<DataType, InboundMsgType> childNode : childNodes) {
+            if (isSegmentLiteral(childNode)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        SegmentLiteralIndex<DataType, InboundMsgType> index = new SegmentLiteralIndex<>(count);
+        for (Node<DataType, InboundMsgType> childNode : childNodes) {
+            if (isSegmentLiteral(childNode)) {
+                index.put(childNode.getToken(), childNode);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the literal equal to the given region of the uri.
+     *
+     * @param uri   request uri
+     * @param start start of the region, inclusive
+     * @param end   end of the region, exclusive
+     * @return the matching literal node or null
+     */
+    Node<DataType, InboundMsgType> get(String uri, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + uri.charAt(i);
+        }
+        for (int slot = spread(hash) & mask; tokens[slot] != null; slot = (slot + 1) & mask) {
+            String token = tokens[slot];
+            if (token.length() == length && uri.regionMatches(start, token, 0, length)) {
+                return nodes[slot];
+            }
+        }
+        return null;
+    }
+
+    private void put(String token, Node<DataType, InboundMsgType> node) {
+        int slot = spread(token.hashCode()) & mask;
+        while (tokens[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        tokens[slot] = token;
+        nodes[slot] = node;
+    }
+
+    private static boolean isSegmentLiteral(Node<?, ?> node) {
+        return node instanceof Literal && !node.getToken().endsWith("*");
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
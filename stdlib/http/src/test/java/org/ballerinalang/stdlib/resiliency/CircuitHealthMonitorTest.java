@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealthMonitor;
+import org.ballerinalang.net.http.resiliency.CircuitHealthMonitor.CircuitState;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the rolling window kept by {@link CircuitHealthMonitor}.
+ */
+public class CircuitHealthMonitorTest {
+
+    private static final long START = 1_000_000L;
+
+    // 6 buckets of 1 second, tripping on a failure ratio above 0.5 once 4 requests are seen, reset after 2 seconds
+    private CircuitHealthMonitor createMonitor() {
+        return new CircuitHealthMonitor(START, 1000, 6, 4, 0.5, 2000);
+    }
+
+    @Test
+    public void testCountsWithinWindow() {
+        CircuitHealthMonitor monitor = createMonitor();
+        for (int i = 0; i < 4; i++) {
+            long now = START + i * 1000;
+            Assert.assertEquals(monitor.updateState(CircuitState.CLOSED, now), CircuitState.CLOSED);
+            if (i % 2 == 0) {
+                monitor.recordFailure(now);
+            } else {
+                monitor.recordSuccess();
+            }
+        }
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 3500), 4);
+        Assert.assertEquals(monitor.getFailureRatio(START + 3500), 0.5);
+        Assert.assertTrue(monitor.isLastRequestSuccess());
+    }
+
+    @Test
+    public void testBucketsOutsideWindowAreDropped() {
+        CircuitHealthMonitor monitor = createMonitor();
+        monitor.updateState(CircuitState.CLOSED, START);
+        monitor.recordFailure(START);
+        monitor.updateState(CircuitState.CLOSED, START + 2000);
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 5999), 2);
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 6000), 1);
+        Assert.assertEquals(monitor.getFailureRatio(START + 6000), 0.0);
+
+        // The slot of the first bucket is reused for a later time slice and starts from zero
+        monitor.updateState(CircuitState.CLOSED, START + 6500);
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 6500), 2);
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 20000), 0);
+    }
+
+    @Test
+    public void testCircuitTripsAndRecovers() {
+        CircuitHealthMonitor monitor = createMonitor();
+        long now = START;
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(monitor.updateState(CircuitState.CLOSED, now), CircuitState.CLOSED);
+            monitor.recordFailure(now);
+        }
+        Assert.assertEquals(monitor.updateState(CircuitState.CLOSED, now + 500), CircuitState.OPEN);
+        Assert.assertEquals(monitor.recordRejected(now + 500), 1500);
+        Assert.assertEquals(monitor.updateState(CircuitState.OPEN, now + 1000), CircuitState.OPEN);
+        monitor.recordRejected(now + 1000);
+
+        // Rejected requests do not count towards the failure ratio
+        Assert.assertEquals(monitor.getFailureRatio(now + 1000), 1.0);
+
+        Assert.assertEquals(monitor.updateState(CircuitState.OPEN, now + 2001), CircuitState.HALF_OPEN);
+        monitor.recordSuccess();
+        Assert.assertEquals(monitor.updateState(CircuitState.HALF_OPEN, now + 2100), CircuitState.CLOSED);
+    }
+
+    @Test
+    public void testFailedTrialRunTripsCircuit() {
+        CircuitHealthMonitor monitor = createMonitor();
+        for (int i = 0; i < 4; i++) {
+            monitor.updateState(CircuitState.CLOSED, START);
+        }
+        monitor.recordFailure(START + 100);
+        Assert.assertEquals(monitor.updateState(CircuitState.HALF_OPEN, START + 200), CircuitState.OPEN);
+    }
+
+    @Test
+    public void testForceOpenDelaysHalfOpen() {
+        CircuitHealthMonitor monitor = createMonitor();
+        monitor.forceOpen(START + 1000);
+        Assert.assertEquals(monitor.updateState(CircuitState.OPEN, START + 2500), CircuitState.OPEN);
+        Assert.assertEquals(monitor.updateState(CircuitState.OPEN, START + 3001), CircuitState.HALF_OPEN);
+    }
+
+    @Test
+    public void testConcurrentUpdatesAreNotLost() throws InterruptedException {
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(START, 60000, 1, Long.MAX_VALUE, 1.0, 1000);
+        int workers = 16;
+        int requests = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch latch = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < requests; j++) {
+                    monitor.updateState(CircuitState.CLOSED, START + 1);
+                    monitor.recordFailure(START + 1);
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertEquals(monitor.getTotalRequestCount(START + 1), workers * requests);
+        Assert.assertEquals(monitor.getFailureRatio(START + 1), 1.0);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for finding the most specific service base path with {@link BasePathTrie}.
+ */
+public class BasePathTrieTest {
+
+    private final BasePathTrie trie = new BasePathTrie(
+            Arrays.asList("/hello/world", "/Hello/World", "/hello/w", "/hello", "/echo", "/"));
+
+    @Test
+    public void testMostSpecificBasePath() {
+        Assert.assertEquals(trie.findMostSpecificBasePath("/hello/world/echo2"), "/hello/world");
+        Assert.assertEquals(trie.findMostSpecificBasePath("/hello/w/x"), "/hello/w");
+        Assert.assertEquals(trie.findMostSpecificBasePath("/hello/wo"), "/hello");
+        Assert.assertEquals(trie.findMostSpecificBasePath("/echo"), "/echo");
+        Assert.assertEquals(trie.findMostSpecificBasePath("/"), "/");
+    }
+
+    @Test
+    public void testBasePathMustEndAtSegmentBoundary() {
+        Assert.assertNull(trie.findMostSpecificBasePath("/echoes"));
+        Assert.assertNull(trie.findMostSpecificBasePath("/foo/hello"));
+    }
+
+    @Test
+    public void testCaseOfBasePath() {
+        // A request path equal to a base path matches ignoring case, preferring the base path registered first
+        Assert.assertEquals(trie.findMostSpecificBasePath("/HELLO/WORLD"), "/hello/world");
+        Assert.assertEquals(trie.findMostSpecificBasePath("/ECHO"), "/echo");
+        // A base path followed by more segments must match with case
+        Assert.assertEquals(trie.findMostSpecificBasePath("/Hello/World/echo"), "/Hello/World");
+        Assert.assertNull(trie.findMostSpecificBasePath("/ECHO/a"));
+    }
+
+    @Test
+    public void testEmptyTrie() {
+        Assert.assertNull(new BasePathTrie(Collections.emptyList()).findMostSpecificBasePath("/hello"));
+    }
+}
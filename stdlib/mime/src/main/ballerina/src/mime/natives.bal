@@ -306,6 +306,16 @@ public type Entity object {
         return externGetJson(self);
     }
 
+    # Extracts the JSON body from the entity directly into a value of the given type, without building an
+    # intermediate `json` value.
+    #
+    # + targetType - The type of the value to be constructed from the JSON body
+    # + return - A value of `targetType` extracted from the entity body or else an `mime:ParserError` if the entity
+    #            body is not a JSON or does not belong to `targetType`
+    public function getJsonWithType(typedesc<anydata> targetType) returns @tainted anydata|ParserError {
+        return externGetJsonWithType(self, targetType);
+    }
+
 # Sets the entity body with the given XML content. This method overrides any existing content-type headers
 # with the default content-type, which is `application/xml`. This default value can be overridden
 # by passing the content-type as an optional parameter.
@@ -518,6 +528,12 @@ function externGetJson(Entity entity) returns @tainted json|ParserError = @java:
     name: "getJson"
 } external;
 
+function externGetJsonWithType(Entity entity, typedesc<anydata> targetType) returns @tainted anydata|ParserError =
+@java:Method {
+    class: "org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder",
+    name: "getJsonWithType"
+} external;
+
 function externSetXml(Entity entity, xml xmlContent, string contentType) = @java:Method {
     class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
     name: "setXml"
@@ -19,6 +19,8 @@
 package org.ballerinalang.mime.nativeimpl;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
@@ -55,6 +57,11 @@ public abstract class AbstractGetPayloadHandler {
 
     public static void constructNonBlockingDataSource(NonBlockingCallback callback, ObjectValue entity,
                                                       SourceType sourceType) {
+        constructNonBlockingDataSource(callback, entity, sourceType, null);
+    }
+
+    public static void constructNonBlockingDataSource(NonBlockingCallback callback, ObjectValue entity,
+                                                      SourceType sourceType, BType targetType) {
         HttpCarbonMessage inboundMessage = extractTransportMessageFromEntity(entity);
         inboundMessage.getFullHttpCarbonMessage().addListener(new FullHttpMessageListener() {
             @Override
@@ -65,6 +72,14 @@ public abstract class AbstractGetPayloadHandler {
                 try {
                     switch (sourceType) {
                         case JSON:
+                            if (targetType != null) {
+                                // The payload is kept as the data source, the typed value is only returned
+                                ArrayValue payload = constructBlobDataSource(inputStream);
+                                updateDataSource(entity, payload);
+                                setReturnValuesAndNotify(callback, constructJsonDataSource(entity, payload,
+                                                                                           targetType));
+                                return;
+                            }
                             dataSource = constructJsonDataSource(entity, inputStream);
                             updateJsonDataSourceAndNotify(callback, entity, dataSource);
                             return;
@@ -24,11 +24,13 @@ import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypedescType;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.RefValue;
+import org.ballerinalang.jvm.values.TypedescValue;
 import org.ballerinalang.jvm.values.XMLValue;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
@@ -135,6 +137,47 @@ public class MimeDataSourceBuilder extends AbstractGetPayloadHandler {
         return result;
     }
 
+    public static Object getJsonWithType(ObjectValue entityObj, TypedescValue targetType) {
+        NonBlockingCallback callback = null;
+        Object result = null;
+        BType type = targetType.getDescribingType();
+        if (type.getTag() == org.ballerinalang.jvm.types.TypeTags.TYPEDESC_TAG) {
+            type = ((BTypedescType) type).getConstraint();
+        }
+        try {
+            Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
+            if (dataSource != null) {
+                // If the value is already a JSON of the type, then return as it is.
+                if (isJSON(dataSource) && TypeChecker.checkIsType(dataSource, type)) {
+                    return dataSource;
+                }
+                // Else, build the value from the string representation of the payload.
+                return JSONParser.parse(MimeUtil.getMessageAsString(dataSource), type);
+            }
+
+            if (isStreamingRequired(entityObj)) {
+                // The payload is kept rather than the typed value, which is not a json value that the other
+                // getters could return, nor one that could be read as another type.
+                ArrayValue payload = EntityBodyHandler.constructBlobDataSource(entityObj);
+                updateDataSource(entityObj, payload);
+                result = EntityBodyHandler.constructJsonDataSource(entityObj, payload, type);
+            } else {
+                callback = new NonBlockingCallback(Scheduler.getStrand());
+                constructNonBlockingDataSource(callback, entityObj, SourceType.JSON, type);
+            }
+        } catch (Exception ex) {
+            if (ex instanceof ErrorValue) {
+                return createParsingEntityBodyFailedErrorAndNotify(callback,
+                                                                   "Error occurred while extracting json data from " +
+                                                                           "entity", (ErrorValue) ex);
+            }
+            return createParsingEntityBodyFailedErrorAndNotify(callback,
+                                                               "Error occurred while extracting json data from " +
+                                                                       "entity: " + getErrorMsg(ex), null);
+        }
+        return result;
+    }
+
     private static boolean isJSON(Object value) {
         // If the value is string, it could represent any type of payload.
         // Therefore it needs to be parsed as JSON.
@@ -45,6 +45,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -62,6 +63,7 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
@@ -159,7 +161,7 @@ public class EntityBodyHandler {
             return new ArrayValueImpl(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            return constructBlobDataSource(byteChannel.getInputStream(), getContentLength(entityObj));
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -172,9 +174,21 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static ArrayValue constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, reading it straight into an array of the expected size
+     * when the content length is known.
+     *
+     * @param inputStream   Represent the input stream
+     * @param contentLength Expected length of the content or {@link MimeConstants#NO_CONTENT_LENGTH_FOUND}
+     * @return Data source for binary data which is kept in memory
+     */
+    public static ArrayValue constructBlobDataSource(InputStream inputStream, long contentLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, contentLength);
         } catch (IOException ex) {
             throw BallerinaErrors.createError("Error occurred while reading input stream :" + ex.getMessage());
         }
@@ -224,6 +238,39 @@ public class EntityBodyHandler {
         return jsonData;
     }
 
+    /**
+     * Construct a value of the given type from the given payload. The value is parsed directly from the JSON content
+     * without building an intermediate json value.
+     *
+     * @param entity     Represent an entity object
+     * @param payload    Content of the entity
+     * @param targetType Type of the value to be constructed
+     * @return value of the target type
+     */
+    public static Object constructJsonDataSource(ObjectValue entity, ArrayValue payload, BType targetType) {
+        return constructJsonDataSource(entity, new ByteArrayInputStream(payload.getBytes()), targetType);
+    }
+
+    /**
+     * Construct a value of the given type from the given input stream.
+     *
+     * @param entity      Represent an entity object
+     * @param inputStream Represent the input stream
+     * @param targetType  Type of the value to be constructed
+     * @return value of the target type which is kept in memory
+     */
+    public static Object constructJsonDataSource(ObjectValue entity, InputStream inputStream, BType targetType) {
+        String charsetValue = null;
+        String contentTypeValue = HeaderUtil.getHeaderValue(entity, HttpHeaderNames.CONTENT_TYPE.toString());
+        if (isNotNullAndEmpty(contentTypeValue)) {
+            charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
+        }
+        if (!isNotNullAndEmpty(charsetValue)) {
+            charsetValue = Charset.defaultCharset().name();
+        }
+        return JSONParser.parse(inputStream, charsetValue, targetType);
+    }
+
     /**
      * Construct XML data source from the underneath byte channel which is associated with the entity object.
      *
@@ -300,7 +347,8 @@ public class EntityBodyHandler {
         if (isNotNullAndEmpty(contentTypeValue)) {
             String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
             if (isNotNullAndEmpty(charsetValue)) {
-                textContent = StringUtils.getStringFromInputStream(inputStream, charsetValue);
+                textContent = StringUtils.getStringFromInputStream(inputStream, charsetValue,
+                                                                   getContentLength(entity));
             } else {
                 textContent = StringUtils.getStringFromInputStream(inputStream);
             }
@@ -310,6 +358,25 @@ public class EntityBodyHandler {
         return textContent;
     }
 
+    /**
+     * Get the length of the entity body as stated in the content-length header. Since the header is set by the
+     * sender, the value should only be used as a hint for sizing buffers.
+     *
+     * @param entityObj Represent an entity object
+     * @return the content length or {@link MimeConstants#NO_CONTENT_LENGTH_FOUND} if it is not available
+     */
+    private static long getContentLength(ObjectValue entityObj) {
+        String lengthValue = HeaderUtil.getHeaderValue(entityObj, HttpHeaderNames.CONTENT_LENGTH.toString());
+        if (lengthValue == null) {
+            return NO_CONTENT_LENGTH_FOUND;
+        }
+        try {
+            return Long.parseLong(lengthValue.trim());
+        } catch (NumberFormatException e) {
+            return NO_CONTENT_LENGTH_FOUND;
+        }
+    }
+
     /**
      * Check whether the entity body is present. Entity body can either be a byte channel, fully constructed
      * message data source or a set of body parts.
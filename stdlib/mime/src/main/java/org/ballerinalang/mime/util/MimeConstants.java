@@ -162,6 +162,8 @@ public class MimeConstants {
 
     public static final short ONE_BYTE = 1;
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
+    public static final int MAX_BODY_CHUNK_SIZE = 1048576; //1MB
+    public static final int MAX_PREALLOCATED_BODY_SIZE = 65536; //64KB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
 
     public static final String UTF_8 = "UTF-8";
@@ -37,12 +37,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.List;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParameterList;
@@ -63,6 +65,8 @@ import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_LENGTH;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_BODY_CHUNK_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_PREALLOCATED_BODY_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
@@ -378,13 +382,63 @@ public class MimeUtil {
      * @throws IOException In case an error occurs while reading input stream
      */
     public static byte[] getByteArray(InputStream input) throws IOException {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[READABLE_BUFFER_SIZE];
-            for (int len; (len = input.read(buffer)) != -1; ) {
-                output.write(buffer, 0, len);
+        return getByteArray(input, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Given an input stream and the expected length of its content, get a byte array. When the length is known and
+     * small the content is read straight into an array of that size, otherwise it is read into chunks that grow as
+     * the data arrives, which are copied into the resulting array once at the end.
+     *
+     * @param input    Represent an input stream
+     * @param sizeHint Expected length of the content or {@link MimeConstants#NO_CONTENT_LENGTH_FOUND} if not known
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long sizeHint) throws IOException {
+        // The hint comes from the sender, hence only a small array is allocated upfront and larger content is read
+        // into chunks that are allocated as the data actually arrives.
+        byte[] chunk = new byte[sizeHint >= 0 && sizeHint <= MAX_PREALLOCATED_BODY_SIZE ? (int) sizeHint :
+                READABLE_BUFFER_SIZE];
+        int position = 0;
+        long totalLength = 0;
+        List<byte[]> filledChunks = null;
+        while (true) {
+            if (position == chunk.length) {
+                int next = input.read();
+                if (next == -1) {
+                    break;
+                }
+                if (filledChunks == null) {
+                    filledChunks = new ArrayList<>();
+                }
+                filledChunks.add(chunk);
+                totalLength += chunk.length;
+                chunk = new byte[(int) Math.min(Math.max(totalLength, READABLE_BUFFER_SIZE), MAX_BODY_CHUNK_SIZE)];
+                chunk[0] = (byte) next;
+                position = 1;
+            }
+            int length = input.read(chunk, position, chunk.length - position);
+            if (length == -1) {
+                break;
             }
-            return output.toByteArray();
+            position += length;
+        }
+        if (filledChunks == null) {
+            return position == chunk.length ? chunk : Arrays.copyOf(chunk, position);
+        }
+        totalLength += position;
+        if (totalLength > Integer.MAX_VALUE - 8) {
+            throw new IOException("Content of " + totalLength + " bytes is too large to be read into a byte array");
+        }
+        byte[] content = new byte[(int) totalLength];
+        int offset = 0;
+        for (byte[] filledChunk : filledChunks) {
+            System.arraycopy(filledChunk, 0, content, offset, filledChunk.length);
+            offset += filledChunk.length;
         }
+        System.arraycopy(chunk, 0, content, offset, position);
+        return content;
     }
 
     /**
@@ -49,11 +49,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import javax.activation.MimeTypeParseException;
 
@@ -63,6 +66,7 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PARAMETER_MAP_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PARSING_ENTITY_BODY_FAILED;
 import static org.ballerinalang.mime.util.MimeConstants.PRIMARY_TYPE_FIELD;
@@ -768,6 +772,30 @@ public class MimeUtilityFunctionTest {
         }
     }
 
+    @Test(description = "Test reading a byte array from a stream with correct, incorrect and unknown content lengths")
+    public void testGetByteArrayWithContentLength() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 7];
+        new Random(7).nextBytes(content);
+        long[] contentLengths = {content.length, content.length - 100, content.length + 100, 0,
+                NO_CONTENT_LENGTH_FOUND, 64L * content.length};
+        for (long contentLength : contentLengths) {
+            InputStream inputStream = new ByteArrayInputStream(content) {
+                @Override
+                public synchronized int read(byte[] b, int off, int len) {
+                    // Return data in small slices, the way it arrives from the transport
+                    return super.read(b, off, Math.min(len, 1000));
+                }
+            };
+            Assert.assertEquals(MimeUtil.getByteArray(inputStream, contentLength), content,
+                                "Content mismatch for content length " + contentLength);
+        }
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(new byte[0]), 0), new byte[0]);
+        byte[] smallContent = Arrays.copyOf(content, 100);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(smallContent), 100), smallContent);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(smallContent), 64L * 1024 * 1024),
+                            smallContent);
+    }
+
     @SuppressWarnings("unchecked")
     private void assertErrorDetail(BValue error, String expectedMsg) {
         BMap<String, BValue> err = (BMap<String, BValue>) ((BError) error).getDetails();
@@ -148,8 +148,7 @@ public class WebSubServicesRegistry extends HTTPServicesRegistry {
         logger.info("Service deployed : " + service.getType().getName() + " with context " + httpService.getBasePath());
 
         //basePath will get cached after registering service
-        sortedServiceURIs.add(httpService.getBasePath());
-        sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapByHost.get(hostName).addBasePath(httpService.getBasePath());
 
         if (topicIdentifier != null) {
             // i.e., extension config exists
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for functions which are generated without yield checks since they never yield.
+ *
+ * @since 2.0.0
+ */
+public class YieldAnalysisTest {
+    private static final String[] NON_YIELDING_FUNCTIONS = {"fib", "testNonYieldingRecursion", "add", "identity"};
+    private static final String[] YIELDING_FUNCTIONS = {"addInWorker", "testNonYieldingCalleeOfYieldingFunction",
+            "increment", "incrementTwice", "testYieldingCallee", "isEven", "isOdd", "sleepAndReturn",
+            "testMutualRecursionWithYield", "apply", "testFunctionPointerCall"};
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/yield-analysis.bal");
+    }
+
+    @Test
+    public void testNonYieldingRecursion() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testNonYieldingRecursion");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 6765);
+    }
+
+    @Test
+    public void testNonYieldingCalleeOfYieldingFunction() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testNonYieldingCalleeOfYieldingFunction");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 55);
+    }
+
+    @Test
+    public void testYieldingCallee() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testYieldingCallee");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 6);
+    }
+
+    @Test
+    public void testMutualRecursionWithYield() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testMutualRecursionWithYield");
+        Assert.assertEquals(result.length, 2);
+        Assert.assertTrue(((BBoolean) result[0]).booleanValue());
+        Assert.assertTrue(((BBoolean) result[1]).booleanValue());
+    }
+
+    @Test
+    public void testFunctionPointerCall() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testFunctionPointerCall");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 45);
+    }
+
+    @Test
+    public void testNonYieldingFunctionsAreMarked() {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) compileResult.getAST()).symbol.bir;
+        Map<String, BIRNode.BIRFunction> functions = getFunctions(birPackage);
+        // 4 of the 15 functions of the module never yield
+        for (String functionName : NON_YIELDING_FUNCTIONS) {
+            Assert.assertTrue(getFunction(functions, functionName).nonYielding, functionName);
+        }
+        for (String functionName : YIELDING_FUNCTIONS) {
+            Assert.assertFalse(getFunction(functions, functionName).nonYielding, functionName);
+        }
+        assertNonYieldingFunctionsDoNotYield(birPackage);
+    }
+
+    @DataProvider
+    public Object[] corpusSources() {
+        return new Object[]{"test-src/jvm/types.bal", "test-src/jvm/objects.bal", "test-src/jvm/anon-funcs.bal",
+                "test-src/jvm/foreach-arrays.bal", "test-src/jvm/jBal-workers.bal"};
+    }
+
+    @Test(dataProvider = "corpusSources")
+    public void testNonYieldingFunctionsOfCorpus(String sourceFilePath) {
+        CompileResult result = BCompileUtil.compile(sourceFilePath);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        assertNonYieldingFunctionsDoNotYield(((BLangPackage) result.getAST()).symbol.bir);
+    }
+
+    /**
+     * Checks that each function marked as non yielding only ends its basic blocks with terminators that can not
+     * yield, and only calls functions of the module that are marked as non yielding too.
+     */
+    private static void assertNonYieldingFunctionsDoNotYield(BIRNode.BIRPackage birPackage) {
+        Map<String, BIRNode.BIRFunction> functions = getFunctions(birPackage);
+        for (BIRNode.BIRFunction function : functions.values()) {
+            if (!function.nonYielding) {
+                continue;
+            }
+            List<BIRNode.BIRBasicBlock> basicBlocks = new ArrayList<>(function.basicBlocks);
+            function.parameters.values().forEach(basicBlocks::addAll);
+            for (BIRNode.BIRBasicBlock basicBlock : basicBlocks) {
+                BIRTerminator terminator = basicBlock.terminator;
+                switch (terminator.kind) {
+                    case GOTO:
+                    case BRANCH:
+                    case RETURN:
+                    case PANIC:
+                        break;
+                    case CALL:
+                        BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+                        Assert.assertFalse(call.isVirtual, function.name.value);
+                        BIRNode.BIRFunction callee = functions.get(call.name.value);
+                        if (callee != null && isSameModule(birPackage, call)) {
+                            Assert.assertTrue(callee.nonYielding, function.name.value + " calls " + callee.name);
+                        }
+                        break;
+                    default:
+                        Assert.fail(function.name.value + " ends a basic block with " + terminator.kind);
+                }
+            }
+        }
+    }
+
+    private static boolean isSameModule(BIRNode.BIRPackage birPackage, BIRTerminator.Call call) {
+        return isSameName(birPackage.org, call.calleePkg.orgName) && isSameName(birPackage.name, call.calleePkg.name)
+                && isSameName(birPackage.version, call.calleePkg.version);
+    }
+
+    private static boolean isSameName(Name name, Name otherName) {
+        return name.value.equals(otherName.value);
+    }
+
+    private static Map<String, BIRNode.BIRFunction> getFunctions(BIRNode.BIRPackage birPackage) {
+        Map<String, BIRNode.BIRFunction> functions = new HashMap<>();
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            functions.put(function.name.value, function);
+        }
+        return functions;
+    }
+
+    private static BIRNode.BIRFunction getFunction(Map<String, BIRNode.BIRFunction> functions, String functionName) {
+        BIRNode.BIRFunction function = functions.get(functionName);
+        if (function == null) {
+            throw new AssertionError("function '" + functionName + "' not found");
+        }
+        return function;
+    }
+}
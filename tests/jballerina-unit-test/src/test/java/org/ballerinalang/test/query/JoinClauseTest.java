@@ -139,6 +139,30 @@ public class JoinClauseTest {
         Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Eng");
     }
 
+    @Test(description = "Test join clause on an indexed field of a table")
+    public void testJoinClauseOnIndexedTable() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseOnIndexedTable");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 3, "Expected events are not received");
+
+        BMap<String, BValue> deptPerson1 = (BMap<String, BValue>) values[0];
+        BMap<String, BValue> deptPerson2 = (BMap<String, BValue>) values[1];
+        BMap<String, BValue> deptPerson3 = (BMap<String, BValue>) values[2];
+
+        Assert.assertEquals(deptPerson1.get("fname").stringValue(), "Ranjan");
+        Assert.assertEquals(deptPerson1.get("dept").stringValue(), "HR");
+        Assert.assertEquals(deptPerson2.get("fname").stringValue(), "Alex");
+        Assert.assertEquals(deptPerson3.get("fname").stringValue(), "John");
+        Assert.assertEquals(deptPerson3.get("dept").stringValue(), "Operations");
+    }
+
+    @Test(description = "Test that the index of a hash join is rebuilt when the pipeline is reset")
+    public void testHashJoinIndexIsRebuiltOnReset() {
+        BValue[] values = BRunUtil.invoke(result, "testHashJoinIndexIsRebuiltOnReset", new BValue[]{});
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
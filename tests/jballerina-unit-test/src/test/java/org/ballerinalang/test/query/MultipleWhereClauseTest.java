@@ -18,6 +18,7 @@
 
 package org.ballerinalang.test.query;
 
+import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
@@ -87,4 +88,24 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals(person1.get("lastName").stringValue(), "Fonseka");
         Assert.assertEquals(((BFloat) person1.get("score")).floatValue(), 90.6);
     }
+
+    @Test(description = "Test where clause on an indexed field of a table")
+    public void testWhereClauseOnIndexedTable() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testWhereClauseOnIndexedTable");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertEquals(returnValues.length, 2, "Expected events are not received");
+
+        BMap<String, BValue> person1 = (BMap<String, BValue>) returnValues[0];
+        BMap<String, BValue> person2 = (BMap<String, BValue>) returnValues[1];
+
+        Assert.assertEquals(person1.get("firstName").stringValue(), "Alex");
+        Assert.assertEquals(person2.get("firstName").stringValue(), "John");
+    }
+
+    @Test(description = "Test where clause on an indexed field of a table in a stream query")
+    public void testWhereClauseOnTableWithStream() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testWhereClauseOnTableWithStream");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
 }
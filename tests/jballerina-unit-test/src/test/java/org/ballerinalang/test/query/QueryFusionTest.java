@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * This contains methods to test query expressions which are desugared to a single loop.
+ *
+ * @since 2.0.0
+ */
+public class QueryFusionTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/query-fusion.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test a loop produces the same values as the stream pipeline")
+    public void testFusedQueryMatchesPipeline() {
+        BValue[] values = BRunUtil.invoke(result, "testFusedQueryMatchesPipeline");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test limit clause stops the outer loop of multiple from clauses")
+    public void testFusedQueryWithNestedFromAndLimit() {
+        BValue[] values = BRunUtil.invoke(result, "testFusedQueryWithNestedFromAndLimit");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test
+    public void testFusedQueryWithZeroLimit() {
+        BValue[] values = BRunUtil.invoke(result, "testFusedQueryWithZeroLimit");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*limit cannot be < 0.*")
+    public void testFusedQueryWithNegativeLimit() {
+        BRunUtil.invoke(result, "testFusedQueryWithNegativeLimit");
+    }
+
+    @Test(description = "Test maps and ranges are iterated with a foreach")
+    public void testFusedQueryOverMapAndRange() {
+        BValue[] values = BRunUtil.invoke(result, "testFusedQueryOverMapAndRange");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test
+    public void testFusedQueryWithRecordBinding() {
+        BValue[] values = BRunUtil.invoke(result, "testFusedQueryWithRecordBinding");
+        Assert.assertEquals(values.length, 1);
+        Assert.assertEquals(values[0].stringValue(), "John");
+    }
+
+    @Test(description = "Test queries producing lists are lowered to loops instead of stream pipelines")
+    public void testFusedQueriesDoNotCreatePipelines() {
+        CompileResult birResult = BCompileUtil.compileAndGetBIR("test-src/query/query-fusion.bal");
+        Assert.assertEquals(birResult.getErrorCount(), 0);
+
+        BIRNode.BIRPackage birPackage = ((BLangPackage) birResult.getAST()).symbol.bir;
+        Assert.assertEquals(countPipelines(birPackage, "testFusedQueryWithZeroLimit"), 0);
+        Assert.assertEquals(countPipelines(birPackage, "testFusedQueryOverMapAndRange"), 0);
+        Assert.assertEquals(countPipelines(birPackage, "testFusedQueryWithRecordBinding"), 0);
+        // Only the stream query the fused query is compared against creates a pipeline.
+        Assert.assertEquals(countPipelines(birPackage, "testFusedQueryMatchesPipeline"), 1);
+    }
+
+    private static int countPipelines(BIRNode.BIRPackage birPackage, String functionName) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(birFunction -> birFunction.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("function '" + functionName + "' not found"));
+        int count = 0;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Call &&
+                    ((BIRTerminator.Call) basicBlock.terminator).name.value.equals("createPipeline")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
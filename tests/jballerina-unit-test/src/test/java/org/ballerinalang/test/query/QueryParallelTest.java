@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+
+/**
+ * This contains methods to test query expressions which are run on partitions of their collection in parallel.
+ *
+ * @since 2.0.0
+ */
+public class QueryParallelTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.QUERY_PARALLELISM, Boolean.TRUE.toString());
+        String sourceRoot = Paths.get("src/test/resources/test-src/query").toAbsolutePath().toString();
+        result = BCompileUtil.compileOnJBallerina(context, sourceRoot, "query-parallel.bal", false, true);
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test partitions of an array are merged in the order of the array")
+    public void testParallelQueryOverArray() {
+        BValue[] values = BRunUtil.invoke(result, "testParallelQueryOverArray");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test
+    public void testParallelQueryWithLangLibCall() {
+        BValue[] values = BRunUtil.invoke(result, "testParallelQueryWithLangLibCall");
+        Assert.assertEquals(values.length, 2);
+        Assert.assertEquals(((BInteger) values[0]).intValue(), 2002);
+        Assert.assertEquals(((BInteger) values[1]).intValue(), 2001);
+    }
+
+    @Test
+    public void testParallelQueryOverTable() {
+        BValue[] values = BRunUtil.invoke(result, "testParallelQueryOverTable");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test selected values are added to a table in the order of the collection")
+    public void testParallelQueryIntoTable() {
+        BValue[] values = BRunUtil.invoke(result, "testParallelQueryIntoTable");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test
+    public void testParallelQueryIntoTableWithConflict() {
+        BValue[] values = BRunUtil.invoke(result, "testParallelQueryIntoTableWithConflict");
+        Assert.assertTrue(values[0] instanceof BError);
+        Assert.assertEquals(((BError) values[0]).getReason(), "Duplicate item");
+    }
+
+    @Test(description = "Test the failure reported is the first one in the order of the collection",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*DivisionByZero.*")
+    public void testParallelQueryFailingOnMultiplePartitions() {
+        BRunUtil.invoke(result, "testParallelQueryFailingOnMultiplePartitions");
+    }
+
+    @Test(description = "Test queries reading module level variables are run sequentially")
+    public void testQueryReadingModuleVariable() {
+        BValue[] values = BRunUtil.invoke(result, "testQueryReadingModuleVariable");
+        Assert.assertEquals(values.length, 3);
+        Assert.assertEquals(((BInteger) values[0]).intValue(), 4);
+        Assert.assertEquals(((BInteger) values[2]).intValue(), 6);
+    }
+
+    @Test(description = "Test queries calling functions of the module are run sequentially")
+    public void testQueryCallingFunction() {
+        BValue[] values = BRunUtil.invoke(result, "testQueryCallingFunction");
+        Assert.assertEquals(values.length, 3);
+        Assert.assertEquals(((BInteger) values[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) values[2]).intValue(), 6);
+    }
+}
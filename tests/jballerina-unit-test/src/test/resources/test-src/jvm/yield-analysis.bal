@@ -0,0 +1,103 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+
+function fib(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function testNonYieldingRecursion() returns int {
+    return fib(20);
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function addInWorker(int a, int b) returns int {
+    worker w1 returns int {
+        return add(a, b);
+    }
+    return wait w1;
+}
+
+function testNonYieldingCalleeOfYieldingFunction() returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < 10) {
+        sum = addInWorker(sum, add(i, 1));
+        i += 1;
+    }
+    return sum;
+}
+
+function increment() {
+    lock {
+        counter = counter + 1;
+    }
+}
+
+function incrementTwice() returns int {
+    increment();
+    increment();
+    return counter;
+}
+
+function testYieldingCallee() returns int {
+    counter = 0;
+    future<int> f = start incrementTwice();
+    int result = wait f;
+    return result + incrementTwice();
+}
+
+function isEven(int n) returns boolean {
+    if (n == 0) {
+        return sleepAndReturn(true);
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if (n == 0) {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function sleepAndReturn(boolean value) returns boolean {
+    future<boolean> f = start identity(value);
+    return wait f;
+}
+
+function identity(boolean value) returns boolean {
+    return value;
+}
+
+function testMutualRecursionWithYield() returns [boolean, boolean] {
+    return [isEven(10), isOdd(7)];
+}
+
+function apply(function (int, int) returns int fn, int a, int b) returns int {
+    return fn(a, b);
+}
+
+function testFunctionPointerCall() returns int {
+    return apply(add, 20, 22) + apply(addInWorker, 1, 2);
+}
@@ -1,3 +1,5 @@
+import ballerina/lang.'query as lang_query;
+
 type DeptPerson record {|
    string fname;
    string lname;
@@ -203,3 +205,76 @@ function testSimpleOuterJoinClause() returns DeptPerson[]{
 
     return deptPersonList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly int deptId;
+    string name;
+|};
+
+function testJoinClauseOnIndexedTable() returns DeptPerson[] {
+    table<Employee> key(id) employees = table [
+        {id: 1, deptId: 2, name: "Alex"},
+        {id: 2, deptId: 1, name: "Ranjan"},
+        {id: 3, deptId: 2, name: "John"}
+    ];
+    employees.addIndex("deptId");
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department[] deptList = [d1, d2];
+
+    DeptPerson[] deptPersonList =
+       from var dept in deptList
+       join var employee in employees
+       on dept.id equals employee.deptId
+       select {
+           fname : employee.name,
+           lname : "",
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
+
+function testHashJoinIndexIsRebuiltOnReset() returns boolean {
+    Department[] deptList = [{id: 1, name: "HR"}, {id: 2, name: "Operations"}];
+    Person[] personList = [{id: 1, fname: "Alex", lname: "George"}];
+
+    lang_query:_StreamPipeline personPipeline = lang_query:createPipeline(personList, Person);
+    personPipeline.addStreamFunction(lang_query:createInputFunction(
+        function (lang_query:_Frame frame) returns lang_query:_Frame|error? {
+            frame["person"] = frame["value"];
+            return frame;
+        }));
+
+    lang_query:_StreamPipeline pipeline = lang_query:createPipeline(deptList, Department);
+    pipeline.addStreamFunction(lang_query:createInputFunction(
+        function (lang_query:_Frame frame) returns lang_query:_Frame|error? {
+            frame["dept"] = frame["value"];
+            return frame;
+        }));
+    pipeline.addStreamFunction(lang_query:createHashJoinFunction(personPipeline,
+        function (lang_query:_Frame frame) returns any|error? {
+            return (<Department> frame["dept"]).id;
+        },
+        function (lang_query:_Frame frame) returns any|error? {
+            return (<Person> frame["person"]).id;
+        }));
+
+    int joinedBeforeReset = countFrames(pipeline);
+    // The joined list is read again after the reset, so the new person is joined as well.
+    personList.push({id: 2, fname: "Ranjan", lname: "Fonseka"});
+    pipeline.reset();
+    return joinedBeforeReset == 1 && countFrames(pipeline) == 2;
+}
+
+function countFrames(lang_query:_StreamPipeline pipeline) returns int {
+    int count = 0;
+    lang_query:_Frame|error? frame = pipeline.next();
+    while (frame is lang_query:_Frame) {
+        count += 1;
+        frame = pipeline.next();
+    }
+    return count;
+}
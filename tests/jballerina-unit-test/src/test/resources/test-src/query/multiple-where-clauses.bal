@@ -84,3 +84,57 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string deptName;
+    string name;
+|};
+
+function testWhereClauseOnIndexedTable() returns Person[] {
+    table<Employee> key(id) employees = table [
+        {id: 1, deptName: "HR", name: "Alex"},
+        {id: 2, deptName: "Operations", name: "Ranjan"},
+        {id: 3, deptName: "HR", name: "John"}
+    ];
+    employees.addIndex("deptName");
+    string deptName = "HR";
+
+    Person[] outputPersonList =
+            from var employee in employees
+            where employee.deptName == deptName
+            select {
+                   firstName: employee.name,
+                   lastName: "",
+                   deptAccess: employee.deptName
+            };
+    return outputPersonList;
+}
+
+function testWhereClauseOnTableWithStream() returns boolean {
+    table<Employee> key(id) employees = table [
+        {id: 1, deptName: "HR", name: "Alex"},
+        {id: 2, deptName: "Operations", name: "Ranjan"}
+    ];
+    employees.addIndex("deptName");
+
+    stream<Person> outputPersonStream =
+            stream from var employee in employees
+            where employee.deptName == "HR"
+            select {
+                   firstName: employee.name,
+                   lastName: "",
+                   deptAccess: employee.deptName
+            };
+
+    // The rows are read as the stream is consumed, so a row added afterwards is part of the result.
+    employees.add({id: 3, deptName: "HR", name: "John"});
+
+    string[] names = [];
+    record {| Person value; |}|error? person = outputPersonStream.next();
+    while (person is record {| Person value; |}) {
+        names.push(person.value.firstName);
+        person = outputPersonStream.next();
+    }
+    return names == ["Alex", "John"];
+}
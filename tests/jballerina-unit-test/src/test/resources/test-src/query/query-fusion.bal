@@ -0,0 +1,76 @@
+type Person record {|
+    string name;
+    int age;
+|};
+
+function toArray(stream<int> strm) returns int[] {
+    int[] arr = [];
+    record {| int value; |}? v = strm.next();
+    while (v is record {| int value; |}) {
+        arr.push(v.value);
+        v = strm.next();
+    }
+    return arr;
+}
+
+function testFusedQueryMatchesPipeline() returns boolean {
+    int[] nums = [1, 2, 3, 4, 5, 6];
+    int[] fused = from var x in nums
+                  let int y = x * 10
+                  where x % 2 == 0
+                  select y + 1;
+    stream<int> pipeline = stream from var x in nums
+                           let int y = x * 10
+                           where x % 2 == 0
+                           select y + 1;
+    return fused == [21, 41, 61] && fused == toArray(pipeline);
+}
+
+function testFusedQueryWithNestedFromAndLimit() returns boolean {
+    int[] xs = [1, 2, 3];
+    int[] ys = [10, 20];
+    int[] fused = from var x in xs
+                  from var y in ys
+                  where y > x
+                  select x + y
+                  limit 3;
+    stream<int> pipeline = stream from var x in xs
+                           from var y in ys
+                           where y > x
+                           select x + y
+                           limit 3;
+    return fused == [11, 21, 12] && fused == toArray(pipeline);
+}
+
+function testFusedQueryWithZeroLimit() returns boolean {
+    int[] nums = [1, 2, 3];
+    int[] fused = from var x in nums
+                  select x
+                  limit 0;
+    return fused.length() == 0;
+}
+
+function testFusedQueryWithNegativeLimit() returns int[] {
+    int[] nums = [1, 2, 3];
+    int lmt = -1;
+    return from var x in nums
+           select x
+           limit lmt;
+}
+
+function testFusedQueryOverMapAndRange() returns boolean {
+    map<int> ages = {alex: 33, ranjan: 31, john: 35};
+    int[] overThirty = from var age in ages
+                       where age > 32
+                       select age;
+    int[] squares = from int i in 1 ... 4
+                    select i * i;
+    return overThirty == [33, 35] && squares == [1, 4, 9, 16];
+}
+
+function testFusedQueryWithRecordBinding() returns string[] {
+    Person[] people = [{name: "Alex", age: 33}, {name: "John", age: 35}];
+    return from var {name: personName, age: personAge} in people
+           where personAge > 34
+           select personName;
+}
@@ -0,0 +1,119 @@
+type Item record {|
+    readonly int id;
+    string name;
+    int quantity;
+|};
+
+type ItemTable table<Item> key(id);
+
+int offset = 3;
+
+function createNumbers(int count) returns int[] {
+    int[] nums = [];
+    int i = 0;
+    while (i < count) {
+        nums[i] = i;
+        i += 1;
+    }
+    return nums;
+}
+
+function createItems(int count) returns ItemTable {
+    ItemTable items = table [];
+    int i = 0;
+    while (i < count) {
+        items.add({id: i, name: "item" + i.toString(), quantity: i % 7});
+        i += 1;
+    }
+    return items;
+}
+
+function testParallelQueryOverArray() returns boolean {
+    int[] nums = createNumbers(5000);
+    int factor = 3;
+    int[] result = from var x in nums
+                   let int y = x * factor
+                   where y % 2 == 0
+                   select y + 1;
+    int[] expected = [];
+    foreach var x in nums {
+        int y = x * factor;
+        if (y % 2 == 0) {
+            expected.push(y + 1);
+        }
+    }
+    return result == expected;
+}
+
+function testParallelQueryWithLangLibCall() returns int[] {
+    int[] nums = createNumbers(3000);
+    return from var x in nums
+           where x >= 2998
+           select int:abs(x - 5000);
+}
+
+function testParallelQueryOverTable() returns boolean {
+    ItemTable items = createItems(4000);
+    string[] names = from var item in items
+                     where item.quantity == 0
+                     select item.name;
+    string[] expected = [];
+    foreach var item in items {
+        if (item.quantity == 0) {
+            expected.push(item.name);
+        }
+    }
+    return names == expected;
+}
+
+function testParallelQueryIntoTable() returns boolean {
+    ItemTable items = createItems(2500);
+    ItemTable result = table key(id) from var item in items
+                       where item.quantity > 5
+                       select {
+                           id: item.id,
+                           name: item.name,
+                           quantity: item.quantity * 2
+                       };
+    int[] ids = [];
+    foreach var item in result {
+        if (item.quantity != 12) {
+            return false;
+        }
+        ids.push(item.id);
+    }
+    return ids.length() == 357 && ids[0] == 6 && ids[1] == 13 && ids[356] == 2498;
+}
+
+function testParallelQueryIntoTableWithConflict() returns ItemTable|error {
+    Item[] items = [{id: 1, name: "a", quantity: 1}, {id: 1, name: "b", quantity: 2}];
+    error onConflictError = error("Duplicate item");
+    return table key(id) from var item in items
+           select item
+           on conflict onConflictError;
+}
+
+function testParallelQueryFailingOnMultiplePartitions() returns int[] {
+    int[] nums = createNumbers(5000);
+    int maxInt = 9223372036854775807;
+    // Fails at 1000 with a division by zero and at 4000, in a later partition, with an overflow
+    return from var x in nums
+           let int overflow = x == 4000 ? maxInt + x : 0
+           select 1000 / (x - 1000) + overflow;
+}
+
+function testQueryReadingModuleVariable() returns int[] {
+    int[] nums = [1, 2, 3];
+    return from var x in nums
+           select x + offset;
+}
+
+function testQueryCallingFunction() returns int[] {
+    int[] nums = [1, 2, 3];
+    return from var x in nums
+           select double(x);
+}
+
+function double(int x) returns int {
+    return x * 2;
+}